@@ -4,20 +4,25 @@
 mod types;
 
 use crate::cluster_scan_container::insert_cluster_scan_cursor;
+use crate::errors::circuit_open_error;
 use crate::scripts_container::get_script;
 use futures::FutureExt;
-use logger_core::log_info;
+use logger_core::{log_info, log_warn};
 use redis::aio::ConnectionLike;
 use redis::cluster_async::ClusterConnection;
-use redis::cluster_routing::{Routable, RoutingInfo, SingleNodeRoutingInfo};
+use redis::cluster_routing::{Routable, RoutingInfo, SingleNodeRoutingInfo, SlotAddr};
 use redis::{Cmd, ErrorKind, ObjectType, PushInfo, RedisError, RedisResult, ScanStateRC, Value};
 pub use standalone_client::StandaloneClient;
+use std::cell::RefCell;
 use std::io;
+use std::sync::Arc;
 use std::time::Duration;
 pub use types::*;
 
+use self::slot_map::SlotPrimaries;
 use self::value_conversion::{convert_to_expected_type, expected_type_for_cmd, get_value_type};
 mod reconnecting_connection;
+mod slot_map;
 mod standalone_client;
 mod value_conversion;
 use tokio::sync::mpsc;
@@ -30,6 +35,64 @@ pub const DEFAULT_PERIODIC_CHECKS_INTERVAL: Duration = Duration::from_secs(60);
 pub const INTERNAL_CONNECTION_TIMEOUT: Duration = Duration::from_millis(250);
 pub const FINISHED_SCAN_CURSOR: &str = "finished";
 
+tokio::task_local! {
+    /// The node which served the current request. Only set by clients which send the request to a
+    /// single known node: standalone clients, and cluster clients for requests routed by address,
+    /// or by slot to the slot's primary.
+    /// Only in scope for requests which report it, nothing is recorded for other requests.
+    pub static SERVED_BY: RefCell<ServedBy>;
+}
+
+/// How the current request was served, see [`SERVED_BY`].
+#[derive(Debug, Default)]
+pub struct ServedBy {
+    /// The address of the node which served the request, as `host:port`.
+    pub address: Option<Arc<str>>,
+    /// A duplicate of the request was sent to another node by the hedging policy.
+    pub hedge_sent: bool,
+    /// The duplicate's reply was used.
+    pub hedge_won: bool,
+}
+
+/// Report the node which serves the current request.
+pub(crate) fn report_served_by(address: &Arc<str>) {
+    let _ = SERVED_BY.try_with(|served_by| served_by.borrow_mut().address = Some(address.clone()));
+}
+
+/// Returns the address of the node a cluster request is sent to, if it can be told before sending
+/// it: requests routed by address, and requests routed by slot to the slot's primary. Cluster
+/// clients don't tell which node serves other requests.
+async fn cluster_route_address(
+    routing: &RoutingInfo,
+    client: &ClusterConnection,
+    slot_primaries: &Arc<SlotPrimaries>,
+    read_from_replicas: bool,
+) -> Option<Arc<str>> {
+    match routing {
+        RoutingInfo::SingleNode(SingleNodeRoutingInfo::ByAddress { host, port }) => {
+            Some(format!("{host}:{port}").into())
+        }
+        RoutingInfo::SingleNode(SingleNodeRoutingInfo::SpecificNode(route)) => {
+            match route.slot_addr() {
+                SlotAddr::Master => {}
+                SlotAddr::ReplicaOptional if !read_from_replicas => {}
+                _ => return None,
+            }
+            slot_primaries.primary(route.slot(), client).await
+        }
+        _ => None,
+    }
+}
+
+/// Report that the current request was hedged.
+pub(crate) fn report_hedge(won: bool) {
+    let _ = SERVED_BY.try_with(|served_by| {
+        let mut served_by = served_by.borrow_mut();
+        served_by.hedge_sent = true;
+        served_by.hedge_won = won;
+    });
+}
+
 pub(super) fn get_port(address: &NodeAddress) -> u16 {
     const DEFAULT_PORT: u16 = 6379;
     if address.port == 0 {
@@ -89,13 +152,20 @@ pub(super) fn get_connection_info(
 #[derive(Clone)]
 pub enum ClientWrapper {
     Standalone(StandaloneClient),
-    Cluster { client: ClusterConnection },
+    Cluster {
+        client: ClusterConnection,
+        slot_primaries: Arc<SlotPrimaries>,
+        /// Whether reads routed by slot may be sent to a replica.
+        read_from_replicas: bool,
+    },
 }
 
 #[derive(Clone)]
 pub struct Client {
     internal_client: ClientWrapper,
     request_timeout: Duration,
+    /// The nodes whose circuit breaker is open, see [`Client::with_open_circuit_nodes`].
+    open_circuit_nodes: Vec<String>,
 }
 
 async fn run_with_timeout<T>(
@@ -193,6 +263,19 @@ fn get_timeout_from_cmd_arg(
     }
 }
 
+/// Returns whether the command waits on the server until data arrives or its timeout expires.
+pub(crate) fn is_blocking_cmd(cmd: &Cmd) -> bool {
+    match cmd.command().unwrap_or_default().as_slice() {
+        b"BLPOP" | b"BRPOP" | b"BLMOVE" | b"BZPOPMAX" | b"BZPOPMIN" | b"BRPOPLPUSH" | b"BLMPOP"
+        | b"BZMPOP" | b"WAIT" => true,
+        // BLOCK is an option only before STREAMS, after it the arguments are keys and IDs
+        b"XREAD" | b"XREADGROUP" => cmd
+            .position(b"BLOCK")
+            .is_some_and(|block| !cmd.position(b"STREAMS").is_some_and(|streams| streams < block)),
+        _ => false,
+    }
+}
+
 fn get_request_timeout(cmd: &Cmd, default_timeout: Duration) -> RedisResult<Option<Duration>> {
     let command = cmd.command().unwrap_or_default();
     let timeout = match command.as_slice() {
@@ -218,6 +301,28 @@ fn get_request_timeout(cmd: &Cmd, default_timeout: Duration) -> RedisResult<Opti
 }
 
 impl Client {
+    /// Returns a client which sends requests with the given timeout instead of the configured one.
+    /// Blocking commands still wait for their own timeout.
+    pub fn with_request_timeout(mut self, request_timeout: Duration) -> Self {
+        self.request_timeout = request_timeout;
+        self
+    }
+
+    /// Returns a client which fails requests sent to one of the given nodes, as `host:port`,
+    /// without sending them. Only requests whose node is known before sending them fail.
+    pub fn with_open_circuit_nodes(mut self, open_circuit_nodes: Vec<String>) -> Self {
+        self.open_circuit_nodes = open_circuit_nodes;
+        self
+    }
+
+    /// Returns the number of hedged reads sent and won, or `None` if the client doesn't hedge reads.
+    pub fn hedge_statistics(&self) -> Option<(u64, u64)> {
+        match self.internal_client {
+            ClientWrapper::Standalone(ref client) => client.hedge_statistics(),
+            ClientWrapper::Cluster { .. } => None,
+        }
+    }
+
     pub fn send_command<'a>(
         &'a mut self,
         cmd: &'a Cmd,
@@ -234,10 +339,31 @@ impl Client {
             match self.internal_client {
                 ClientWrapper::Standalone(ref mut client) => client.send_command(cmd).await,
 
-                ClientWrapper::Cluster { ref mut client } => {
+                ClientWrapper::Cluster {
+                    ref mut client,
+                    ref slot_primaries,
+                    read_from_replicas,
+                } => {
                     let routing = routing
                         .or_else(|| RoutingInfo::for_routable(cmd))
                         .unwrap_or(RoutingInfo::SingleNode(SingleNodeRoutingInfo::Random));
+                    // the node is only looked up for requests which report it or may fail fast
+                    let reports_node = SERVED_BY.try_with(|_| ()).is_ok();
+                    if reports_node || !self.open_circuit_nodes.is_empty() {
+                        let address = cluster_route_address(
+                            &routing,
+                            client,
+                            slot_primaries,
+                            read_from_replicas,
+                        )
+                        .await;
+                        if let Some(address) = address {
+                            report_served_by(&address);
+                            if self.open_circuit_nodes.iter().any(|node| **node == *address) {
+                                return Err(circuit_open_error(&address));
+                            }
+                        }
+                    }
                     client.route_command(cmd, routing).await
                 }
             }
@@ -270,7 +396,7 @@ impl Client {
             ClientWrapper::Standalone(_) => {
                 unreachable!("Cluster scan is not supported in standalone mode")
             }
-            ClientWrapper::Cluster { ref mut client } => {
+            ClientWrapper::Cluster { ref mut client, .. } => {
                 let (cursor, keys) = match match_pattern {
                     Some(pattern) => {
                         client
@@ -367,7 +493,7 @@ impl Client {
                     client.send_pipeline(pipeline, offset, 1).await
                 }
 
-                ClientWrapper::Cluster { ref mut client } => match routing {
+                ClientWrapper::Cluster { ref mut client, .. } => match routing {
                     Some(RoutingInfo::SingleNode(route)) => {
                         client.route_pipeline(pipeline, offset, 1, route).await
                     }
@@ -388,20 +514,24 @@ impl Client {
         routing: Option<RoutingInfo>,
     ) -> redis::RedisResult<Value> {
         let eval = eval_cmd(hash, keys, args);
-        let result = self.send_command(&eval, routing.clone()).await;
-        let Err(err) = result else {
-            return result;
-        };
-        if err.kind() == ErrorKind::NoScriptError {
-            let Some(code) = get_script(hash) else {
-                return Err(err);
+        // The request timeout bounds the whole invocation, including loading a missing script
+        run_with_timeout(Some(self.request_timeout), async move {
+            let result = self.send_command(&eval, routing.clone()).await;
+            let Err(err) = result else {
+                return result;
             };
-            let load = load_cmd(&code);
-            self.send_command(&load, None).await?;
-            self.send_command(&eval, routing).await
-        } else {
-            Err(err)
-        }
+            if err.kind() == ErrorKind::NoScriptError {
+                let Some(code) = get_script(hash) else {
+                    return Err(err);
+                };
+                let load = load_cmd(&code);
+                self.send_command(&load, None).await?;
+                self.send_command(&eval, routing).await
+            } else {
+                Err(err)
+            }
+        })
+        .await
     }
 }
 
@@ -442,7 +572,21 @@ async fn create_cluster_client(
         .map(|address| get_connection_info(&address, tls_mode, redis_connection_info.clone()))
         .collect();
     let read_from = request.read_from.unwrap_or_default();
-    let read_from_replicas = !matches!(read_from, ReadFrom::Primary); // TODO - implement different read from replica strategies.
+    // TODO - implement latency and AZ aware replica selection in cluster mode. Until then, these
+    // strategies read from replicas in a round-robin manner, like `PreferReplica`.
+    let read_from_replicas = !matches!(read_from, ReadFrom::Primary);
+    if matches!(read_from, ReadFrom::LowestLatency | ReadFrom::AZAffinity) {
+        log_warn(
+            "client creation",
+            "LowestLatency and AZAffinity are not supported in cluster mode, using PreferReplica",
+        );
+    }
+    if request.hedging_policy.is_some() {
+        log_warn(
+            "client creation",
+            "Hedging is not supported in cluster mode, requests are not hedged",
+        );
+    }
     let periodic_checks = match request.periodic_checks {
         Some(PeriodicCheck::Disabled) => None,
         Some(PeriodicCheck::Enabled) => Some(DEFAULT_PERIODIC_CHECKS_INTERVAL),
@@ -549,10 +693,17 @@ fn sanitized_request_string(request: &ConnectionRequest) -> String {
                 match rfr {
                     ReadFrom::Primary => "Only primary",
                     ReadFrom::PreferReplica => "Prefer replica",
+                    ReadFrom::LowestLatency => "Lowest latency",
+                    ReadFrom::AZAffinity => "AZ affinity",
                 }
             )
         })
         .unwrap_or_default();
+    let client_az = request
+        .client_az
+        .as_ref()
+        .map(|client_az| format!("\nClient AZ: {client_az}"))
+        .unwrap_or_default();
     let connection_retry_strategy = request.connection_retry_strategy.as_ref().map(|strategy|
             format!("\nreconnect backoff strategy: number of increasing duration retries: {}, base: {}, factor: {}",
         strategy.number_of_retries, strategy.exponent_base, strategy.factor)).unwrap_or_default();
@@ -582,6 +733,12 @@ fn sanitized_request_string(request: &ConnectionRequest) -> String {
         String::new()
     };
 
+    let hedging_policy = request
+        .hedging_policy
+        .as_ref()
+        .map(|policy| format!("\nHedging policy: {policy:?}"))
+        .unwrap_or_default();
+
     let pubsub_subscriptions = request
         .pubsub_subscriptions
         .as_ref()
@@ -589,7 +746,7 @@ fn sanitized_request_string(request: &ConnectionRequest) -> String {
         .unwrap_or_default();
 
     format!(
-        "\nAddresses: {addresses}{tls_mode}{cluster_mode}{request_timeout}{rfr_strategy}{connection_retry_strategy}{database_id}{protocol}{client_name}{periodic_checks}{pubsub_subscriptions}",
+        "\nAddresses: {addresses}{tls_mode}{cluster_mode}{request_timeout}{rfr_strategy}{client_az}{connection_retry_strategy}{database_id}{protocol}{client_name}{periodic_checks}{hedging_policy}{pubsub_subscriptions}",
     )
 }
 
@@ -607,10 +764,15 @@ impl Client {
         let request_timeout = to_duration(request.request_timeout, DEFAULT_RESPONSE_TIMEOUT);
         tokio::time::timeout(DEFAULT_CLIENT_CREATION_TIMEOUT, async move {
             let internal_client = if request.cluster_mode_enabled {
+                let read_from_replicas = request.read_from.unwrap_or_default() != ReadFrom::Primary;
                 let client = create_cluster_client(request, push_sender)
                     .await
                     .map_err(ConnectionError::Cluster)?;
-                ClientWrapper::Cluster { client }
+                ClientWrapper::Cluster {
+                    client,
+                    slot_primaries: Default::default(),
+                    read_from_replicas,
+                }
             } else {
                 ClientWrapper::Standalone(
                     StandaloneClient::create_client(request, push_sender)
@@ -622,6 +784,7 @@ impl Client {
             Ok(Self {
                 internal_client,
                 request_timeout,
+                open_circuit_nodes: Vec::new(),
             })
         })
         .await
@@ -665,7 +828,8 @@ mod tests {
     use redis::Cmd;
 
     use crate::client::{
-        get_request_timeout, RequestTimeoutOption, TimeUnit, BLOCKING_CMD_TIMEOUT_EXTENSION,
+        get_request_timeout, is_blocking_cmd, RequestTimeoutOption, TimeUnit,
+        BLOCKING_CMD_TIMEOUT_EXTENSION,
     };
 
     use super::get_timeout_from_cmd_arg;
@@ -817,4 +981,24 @@ mod tests {
         assert!(result.is_ok());
         assert_eq!(result.unwrap(), Some(Duration::from_millis(100)));
     }
+
+    #[test]
+    fn test_is_blocking_cmd_reads_block_only_as_an_option() {
+        let mut cmd = Cmd::new();
+        cmd.arg("BLPOP").arg("key").arg("1");
+        assert!(is_blocking_cmd(&cmd));
+
+        let mut cmd = Cmd::new();
+        cmd.arg("XREAD").arg("BLOCK").arg("100").arg("STREAMS").arg("key").arg("0");
+        assert!(is_blocking_cmd(&cmd));
+
+        // a stream named BLOCK
+        let mut cmd = Cmd::new();
+        cmd.arg("XREAD").arg("STREAMS").arg("BLOCK").arg("0");
+        assert!(!is_blocking_cmd(&cmd));
+
+        let mut cmd = Cmd::new();
+        cmd.arg("GET").arg("BLOCK");
+        assert!(!is_blocking_cmd(&cmd));
+    }
 }
@@ -0,0 +1,184 @@
+/**
+ * Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0
+ */
+use logger_core::log_warn;
+use redis::cluster_async::ClusterConnection;
+use redis::cluster_routing::{RoutingInfo, SingleNodeRoutingInfo};
+use redis::Value;
+use std::sync::{Arc, Mutex, RwLock};
+use std::time::{Duration, Instant};
+use tokio::task;
+
+/// How long the slots are used before they're fetched again, in the background.
+const REFRESH_INTERVAL: Duration = Duration::from_secs(10);
+
+/// The first and last slot of a range, and the address of their primary as `host:port`.
+type SlotRange = (u16, u16, Arc<str>);
+
+/// The primary of every slot of a cluster, fetched with `CLUSTER SLOTS`, which tells the node a
+/// request routed by slot is sent to. After slots migrate the map may be out of date until it's
+/// fetched again.
+#[derive(Default)]
+pub struct SlotPrimaries {
+    /// Sorted by their first slot.
+    ranges: RwLock<Vec<SlotRange>>,
+    /// When the slots were last fetched, `None` before the first fetch.
+    fetched_at: Mutex<Option<Instant>>,
+}
+
+impl SlotPrimaries {
+    /// Returns the address of the slot's primary, if it's known. The first call waits for the
+    /// slots to be fetched, later calls fetch them again in the background once they're out of date.
+    pub(crate) async fn primary(
+        self: &Arc<Self>,
+        slot: u16,
+        client: &ClusterConnection,
+    ) -> Option<Arc<str>> {
+        // `Some(true)` if the request waits for the fetch
+        let fetch = {
+            let mut fetched_at = self.fetched_at.lock().unwrap();
+            let fetch = match *fetched_at {
+                None => Some(true),
+                Some(at) if at.elapsed() >= REFRESH_INTERVAL => Some(false),
+                Some(_) => None,
+            };
+            if fetch.is_some() {
+                *fetched_at = Some(Instant::now());
+            }
+            fetch
+        };
+        match fetch {
+            Some(true) => self.fetch(client.clone()).await,
+            Some(false) => {
+                let slot_primaries = self.clone();
+                let client = client.clone();
+                task::spawn(async move { slot_primaries.fetch(client).await });
+            }
+            None => {}
+        }
+        self.lookup(slot)
+    }
+
+    async fn fetch(&self, mut client: ClusterConnection) {
+        let mut cmd = redis::cmd("CLUSTER");
+        cmd.arg("SLOTS");
+        let routing = RoutingInfo::SingleNode(SingleNodeRoutingInfo::Random);
+        match client.route_command(&cmd, routing).await {
+            Ok(reply) => *self.ranges.write().unwrap() = parse_slot_ranges(reply),
+            Err(err) => log_warn("slot primaries", format!("Failed to fetch the slots: {err}")),
+        }
+    }
+
+    fn lookup(&self, slot: u16) -> Option<Arc<str>> {
+        let ranges = self.ranges.read().unwrap();
+        let index = ranges.partition_point(|(start, _, _)| *start <= slot);
+        let (_, end, address) = ranges.get(index.checked_sub(1)?)?;
+        (slot <= *end).then(|| address.clone())
+    }
+}
+
+/// Parses the reply of `CLUSTER SLOTS`: every range is an array of its first and last slot,
+/// followed by the `[host, port, ...]` arrays of its primary and replicas. Ranges whose primary's
+/// host is unknown are skipped.
+fn parse_slot_ranges(reply: Value) -> Vec<SlotRange> {
+    let Value::Array(ranges) = reply else {
+        return Vec::new();
+    };
+    let mut ranges: Vec<SlotRange> = ranges
+        .into_iter()
+        .filter_map(|range| {
+            let Value::Array(range) = range else {
+                return None;
+            };
+            let mut range = range.into_iter();
+            let (Some(Value::Int(start)), Some(Value::Int(end)), Some(Value::Array(primary))) =
+                (range.next(), range.next(), range.next())
+            else {
+                return None;
+            };
+            let mut primary = primary.into_iter();
+            let host = match primary.next()? {
+                Value::BulkString(host) => String::from_utf8(host).ok()?,
+                Value::SimpleString(host) => host,
+                _ => return None,
+            };
+            let Some(Value::Int(port)) = primary.next() else {
+                return None;
+            };
+            if host.is_empty() || host == "?" {
+                return None;
+            }
+            Some((
+                u16::try_from(start).ok()?,
+                u16::try_from(end).ok()?,
+                format!("{host}:{port}").into(),
+            ))
+        })
+        .collect();
+    ranges.sort_unstable_by_key(|(start, _, _)| *start);
+    ranges
+}
+
+#[cfg(test)]
+mod tests {
+    use super::*;
+
+    fn node(host: &str, port: i64) -> Value {
+        Value::Array(vec![
+            Value::BulkString(host.as_bytes().to_vec()),
+            Value::Int(port),
+            Value::BulkString(b"node-id".to_vec()),
+        ])
+    }
+
+    fn range(start: i64, end: i64, nodes: Vec<Value>) -> Value {
+        let mut range = vec![Value::Int(start), Value::Int(end)];
+        range.extend(nodes);
+        Value::Array(range)
+    }
+
+    fn slot_primaries(reply: Value) -> SlotPrimaries {
+        let slot_primaries = SlotPrimaries::default();
+        *slot_primaries.ranges.write().unwrap() = parse_slot_ranges(reply);
+        slot_primaries
+    }
+
+    #[test]
+    fn slots_are_looked_up_by_range() {
+        let slot_primaries = slot_primaries(Value::Array(vec![
+            range(8192, 16383, vec![node("10.0.0.2", 6379), node("10.0.0.4", 6379)]),
+            range(0, 8191, vec![node("10.0.0.1", 6380), node("10.0.0.3", 6379)]),
+        ]));
+
+        assert_eq!(slot_primaries.lookup(0).as_deref(), Some("10.0.0.1:6380"));
+        assert_eq!(slot_primaries.lookup(8191).as_deref(), Some("10.0.0.1:6380"));
+        assert_eq!(slot_primaries.lookup(8192).as_deref(), Some("10.0.0.2:6379"));
+        assert_eq!(slot_primaries.lookup(16383).as_deref(), Some("10.0.0.2:6379"));
+    }
+
+    #[test]
+    fn slots_without_a_known_primary_are_not_found() {
+        let slot_primaries = slot_primaries(Value::Array(vec![
+            range(0, 99, vec![node("10.0.0.1", 6379)]),
+            range(100, 199, vec![node("?", 6379)]),
+            range(300, 399, vec![node("10.0.0.3", 6379)]),
+        ]));
+
+        assert_eq!(slot_primaries.lookup(150), None);
+        assert_eq!(slot_primaries.lookup(250), None);
+        assert_eq!(slot_primaries.lookup(400), None);
+        assert_eq!(slot_primaries.lookup(300).as_deref(), Some("10.0.0.3:6379"));
+    }
+
+    #[test]
+    fn unexpected_replies_are_ignored() {
+        let slot_primaries = slot_primaries(Value::Array(vec![
+            Value::Int(0),
+            range(0, 99, vec![]),
+            range(100, 199, vec![Value::SimpleString("10.0.0.2".to_string())]),
+        ]));
+        assert_eq!(slot_primaries.lookup(50), None);
+        assert_eq!(slot_primaries.lookup(150), None);
+        assert!(parse_slot_ranges(Value::Nil).is_empty());
+    }
+}
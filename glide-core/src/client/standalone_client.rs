@@ -1,10 +1,11 @@
 /**
  * Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0
  */
-use super::get_redis_connection_info;
 use super::reconnecting_connection::ReconnectingConnection;
-use super::{ConnectionRequest, NodeAddress, TlsMode};
+use super::{get_redis_connection_info, is_blocking_cmd, report_hedge, report_served_by};
+use super::{ConnectionRequest, HedgingPolicy, NodeAddress, TlsMode};
 use crate::retry_strategies::RetryStrategy;
+use futures::future::Either;
 use futures::{future, stream, StreamExt};
 #[cfg(feature = "standalone_heartbeat")]
 use logger_core::log_debug;
@@ -12,18 +13,227 @@ use logger_core::log_warn;
 use rand::Rng;
 use redis::cluster_routing::{self, is_readonly_cmd, ResponsePolicy, Routable, RoutingInfo};
 use redis::{PushInfo, RedisError, RedisResult, Value};
-use std::sync::atomic::AtomicUsize;
-use std::sync::Arc;
+use std::collections::{HashMap, VecDeque};
+use std::sync::atomic::{AtomicU32, AtomicU64, AtomicUsize, Ordering};
+use std::sync::{Arc, Mutex};
+use std::time::{Duration, Instant};
 use tokio::sync::mpsc;
 #[cfg(feature = "standalone_heartbeat")]
 use tokio::task;
 
+/// Every `LATENCY_PROBE_INTERVAL` reads, `ReadFrom::LowestLatency` reads from the next replica in a
+/// round-robin manner instead, so that the latencies of all replicas stay up to date.
+const LATENCY_PROBE_INTERVAL: usize = 32;
+
+/// The number of recent read latencies which the hedging delay percentile is computed from.
+const HEDGE_LATENCY_SAMPLES: usize = 256;
+/// The hedging delay percentile is recomputed every `HEDGE_DELAY_UPDATE_INTERVAL` reads.
+const HEDGE_DELAY_UPDATE_INTERVAL: usize = 64;
+/// The hedge budget accrues up to this many hedges, so that a burst of slow reads after a quiet
+/// period can't exceed the extra load by much.
+const MAX_HEDGE_BURST: u64 = 10;
+/// Every consecutive failure of a node doubles its latency for `ReadFrom::LowestLatency`, up to
+/// this many times.
+const MAX_FAILURE_BACKOFF: u32 = 10;
+
 #[derive(Debug)]
 enum ReadFrom {
     Primary,
     PreferReplica {
         latest_read_replica_index: Arc<std::sync::atomic::AtomicUsize>,
     },
+    LowestLatency {
+        latest_read_replica_index: Arc<std::sync::atomic::AtomicUsize>,
+        read_count: AtomicUsize,
+    },
+    AZAffinity {
+        client_az: String,
+        latest_read_replica_index: Arc<std::sync::atomic::AtomicUsize>,
+    },
+}
+
+/// What the client knows about a node, in the same order as the connections.
+#[derive(Debug)]
+struct NodeInfo {
+    /// The address of the node, as `host:port`. Shared with the requests which report the node.
+    address: Arc<str>,
+    /// The availability zone of the node, if it was queried and the node has one.
+    availability_zone: Option<String>,
+    /// Moving average of the latency of the requests sent to the node, in microseconds. Zero until
+    /// the first request completes.
+    latency_micros: AtomicU64,
+    /// The number of requests which failed in a row on the node, without a reply from it.
+    consecutive_failures: AtomicU32,
+}
+
+impl NodeInfo {
+    fn new(address: String, availability_zone: Option<String>) -> Self {
+        Self {
+            address: address.into(),
+            availability_zone,
+            latency_micros: AtomicU64::new(0),
+            consecutive_failures: AtomicU32::new(0),
+        }
+    }
+
+    /// Returns the latency the node is ranked by: the average latency, doubled for every
+    /// consecutive failure, so that a node which fails fast doesn't look like the fastest one.
+    fn effective_latency_micros(&self) -> u64 {
+        let failures = self.consecutive_failures.load(Ordering::Relaxed);
+        self.latency_micros
+            .load(Ordering::Relaxed)
+            .saturating_mul(1 << failures)
+    }
+
+    fn record_reply(&self, latency: Duration) {
+        self.consecutive_failures.store(0, Ordering::Relaxed);
+        self.record_latency(latency);
+    }
+
+    fn record_failure(&self, latency: Duration) {
+        let _ = self.consecutive_failures.fetch_update(
+            Ordering::Relaxed,
+            Ordering::Relaxed,
+            |failures| (failures < MAX_FAILURE_BACKOFF).then_some(failures + 1),
+        );
+        self.record_latency(latency);
+    }
+
+    fn record_latency(&self, latency: Duration) {
+        let sample = (latency.as_micros() as u64).max(1);
+        let average = match self.latency_micros.load(Ordering::Relaxed) {
+            0 => sample,
+            // weight the latest sample by 1/8, so the average follows changes within a few reads
+            average => (average * 7 + sample) / 8,
+        };
+        self.latency_micros.store(average, Ordering::Relaxed);
+    }
+}
+
+/// Records the latency of a request sent to a node. A request which is dropped before it completes,
+/// because it timed out or another node replied first, waited at least the time until then, which
+/// is recorded as its latency.
+struct NodeRequest<'a> {
+    node_info: &'a NodeInfo,
+    start: Instant,
+    completed: bool,
+}
+
+impl<'a> NodeRequest<'a> {
+    fn start(node_info: &'a NodeInfo) -> Self {
+        Self {
+            node_info,
+            start: Instant::now(),
+            completed: false,
+        }
+    }
+
+    /// Records the latency of a reply, or a failure if the node didn't reply. Error replies of the
+    /// server are replies.
+    fn complete(mut self, result: &RedisResult<Value>) {
+        self.completed = true;
+        match result {
+            Err(err)
+                if err.is_timeout()
+                    || err.is_unrecoverable_error()
+                    || err.is_connection_dropped()
+                    || err.is_connection_refusal() =>
+            {
+                self.node_info.record_failure(self.start.elapsed())
+            }
+            _ => self.node_info.record_reply(self.start.elapsed()),
+        }
+    }
+}
+
+impl Drop for NodeRequest<'_> {
+    fn drop(&mut self) {
+        if !self.completed {
+            self.node_info.record_latency(self.start.elapsed());
+        }
+    }
+}
+
+#[derive(Debug, Default)]
+struct LatencySamples {
+    /// Latencies of recent reads, in microseconds.
+    latencies: VecDeque<u64>,
+    /// Reads recorded since the delay was last computed.
+    since_update: usize,
+}
+
+/// State of the hedging policy, see [`HedgingPolicy`].
+#[derive(Debug)]
+struct Hedging {
+    policy: HedgingPolicy,
+    /// The current delay before a duplicate is sent, in microseconds.
+    delay_micros: AtomicU64,
+    samples: Mutex<LatencySamples>,
+    /// Hedges which may be sent, in thousandths of a hedge. Every read adds its share of
+    /// `max_extra_load_percent`, and every hedge takes a whole one.
+    budget: AtomicU64,
+    hedges_sent: AtomicU64,
+    hedges_won: AtomicU64,
+}
+
+impl Hedging {
+    fn new(policy: HedgingPolicy) -> Self {
+        Self {
+            policy,
+            delay_micros: AtomicU64::new(policy.delay.as_micros() as u64),
+            samples: Default::default(),
+            budget: AtomicU64::new(0),
+            hedges_sent: AtomicU64::new(0),
+            hedges_won: AtomicU64::new(0),
+        }
+    }
+
+    fn delay(&self) -> Duration {
+        Duration::from_micros(self.delay_micros.load(Ordering::Relaxed))
+    }
+
+    /// Adds the share of a read to the budget.
+    fn start_read(&self) {
+        let share = u64::from(self.policy.max_extra_load_percent) * 10;
+        let _ = self.budget.fetch_update(Ordering::Relaxed, Ordering::Relaxed, |budget| {
+            Some((budget + share).min(MAX_HEDGE_BURST * 1000))
+        });
+    }
+
+    /// Takes a hedge from the budget, returns whether there was one left.
+    fn try_hedge(&self) -> bool {
+        let acquired = self
+            .budget
+            .fetch_update(Ordering::Relaxed, Ordering::Relaxed, |budget| {
+                budget.checked_sub(1000)
+            })
+            .is_ok();
+        if acquired {
+            self.hedges_sent.fetch_add(1, Ordering::Relaxed);
+        }
+        acquired
+    }
+
+    /// Records the latency of a successful read, and updates the delay if it follows a percentile.
+    fn record_latency(&self, latency: Duration) {
+        let Some(percentile) = self.policy.delay_percentile else {
+            return;
+        };
+        let mut samples = self.samples.lock().unwrap();
+        if samples.latencies.len() == HEDGE_LATENCY_SAMPLES {
+            samples.latencies.pop_front();
+        }
+        samples.latencies.push_back(latency.as_micros() as u64);
+        samples.since_update += 1;
+        if samples.since_update < HEDGE_DELAY_UPDATE_INTERVAL {
+            return;
+        }
+        samples.since_update = 0;
+        let mut sorted: Vec<u64> = samples.latencies.iter().copied().collect();
+        sorted.sort_unstable();
+        let index = (sorted.len() * percentile.min(100) as usize / 100).min(sorted.len() - 1);
+        self.delay_micros.store(sorted[index], Ordering::Relaxed);
+    }
 }
 
 #[derive(Debug)]
@@ -31,7 +241,9 @@ struct DropWrapper {
     /// Connection to the primary node in the client.
     primary_index: usize,
     nodes: Vec<ReconnectingConnection>,
+    node_infos: Vec<NodeInfo>,
     read_from: ReadFrom,
+    hedging: Option<Hedging>,
 }
 
 impl Drop for DropWrapper {
@@ -113,8 +325,14 @@ impl StandaloneClient {
         // randomize pubsub nodes, maybe a batter option is to always use the primary
         let pubsub_node_index = rand::thread_rng().gen_range(0..node_count);
         let pubsub_addr = &connection_request.addresses[pubsub_node_index];
+        let read_from = get_read_from(
+            connection_request.read_from,
+            connection_request.client_az.clone(),
+        );
+        let query_availability_zone = matches!(read_from, ReadFrom::AZAffinity { .. });
         let mut stream = stream::iter(connection_request.addresses.iter())
             .map(|address| async {
+                let node_address = format!("{}:{}", address.host, address.port);
                 get_connection_and_replication_info(
                     address,
                     &retry_strategy,
@@ -125,19 +343,25 @@ impl StandaloneClient {
                     },
                     tls_mode.unwrap_or(TlsMode::NoTls),
                     &push_sender,
+                    query_availability_zone,
                 )
                 .await
-                .map_err(|err| (format!("{}:{}", address.host, address.port), err))
+                .map(|(connection, replication_status, availability_zone)| {
+                    (node_address.clone(), connection, replication_status, availability_zone)
+                })
+                .map_err(|err| (node_address, err))
             })
             .buffer_unordered(node_count);
 
         let mut nodes = Vec::with_capacity(node_count);
+        let mut node_infos = Vec::with_capacity(node_count);
         let mut addresses_and_errors = Vec::with_capacity(node_count);
         let mut primary_index = None;
         while let Some(result) = stream.next().await {
             match result {
-                Ok((connection, replication_status)) => {
+                Ok((address, connection, replication_status, availability_zone)) => {
                     nodes.push(connection);
+                    node_infos.push(NodeInfo::new(address, availability_zone));
                     if redis::from_owned_redis_value::<String>(replication_status)
                         .is_ok_and(|val| val.contains("role:master"))
                     {
@@ -156,6 +380,7 @@ impl StandaloneClient {
                 }
                 Err((address, (connection, err))) => {
                     nodes.push(connection);
+                    node_infos.push(NodeInfo::new(address.clone(), None));
                     addresses_and_errors.push((Some(address), err));
                 }
             }
@@ -183,8 +408,6 @@ impl StandaloneClient {
                 ),
             );
         }
-        let read_from = get_read_from(connection_request.read_from);
-
         #[cfg(feature = "standalone_heartbeat")]
         for node in nodes.iter() {
             Self::start_heartbeat(node.clone());
@@ -194,7 +417,9 @@ impl StandaloneClient {
             inner: Arc::new(DropWrapper {
                 primary_index,
                 nodes,
+                node_infos,
                 read_from,
+                hedging: connection_request.hedging_policy.map(Hedging::new),
             }),
         })
     }
@@ -203,10 +428,13 @@ impl StandaloneClient {
         self.inner.nodes.get(self.inner.primary_index).unwrap()
     }
 
+    /// Returns the index of the next connected replica which passes the filter, in a round-robin
+    /// manner, or `None` if there's no such replica.
     fn round_robin_read_from_replica(
         &self,
         latest_read_replica_index: &Arc<AtomicUsize>,
-    ) -> &ReconnectingConnection {
+        filter: impl Fn(&NodeInfo) -> bool,
+    ) -> Option<usize> {
         let initial_index = latest_read_replica_index.load(std::sync::atomic::Ordering::Relaxed);
         let mut check_count = 0;
         loop {
@@ -214,10 +442,10 @@ impl StandaloneClient {
 
             // Looped through all replicas, no connected replica was found.
             if check_count > self.inner.nodes.len() {
-                return self.get_primary_connection();
+                return None;
             }
             let index = (initial_index + check_count) % self.inner.nodes.len();
-            if index == self.inner.primary_index {
+            if index == self.inner.primary_index || !filter(&self.inner.node_infos[index]) {
                 continue;
             }
             let Some(connection) = self.inner.nodes.get(index) else {
@@ -230,22 +458,61 @@ impl StandaloneClient {
                     std::sync::atomic::Ordering::Relaxed,
                     std::sync::atomic::Ordering::Relaxed,
                 );
-                return connection;
+                return Some(index);
             }
         }
     }
 
-    fn get_connection(&self, readonly: bool) -> &ReconnectingConnection {
+    /// Returns the index of the connected replica with the lowest latency, or `None` if no replica
+    /// is connected. Replicas which haven't served a request yet come first, and replicas which
+    /// failed recently come after the ones which reply.
+    fn lowest_latency_replica(&self) -> Option<usize> {
+        self.inner
+            .nodes
+            .iter()
+            .enumerate()
+            .filter(|(index, connection)| {
+                *index != self.inner.primary_index && connection.is_connected()
+            })
+            .min_by_key(|(index, _)| {
+                self.inner.node_infos[*index].effective_latency_micros()
+            })
+            .map(|(index, _)| index)
+    }
+
+    fn get_connection_index(&self, readonly: bool) -> usize {
         if self.inner.nodes.len() == 1 || !readonly {
-            return self.get_primary_connection();
+            return self.inner.primary_index;
         }
 
-        match &self.inner.read_from {
-            ReadFrom::Primary => self.get_primary_connection(),
+        let replica_index = match &self.inner.read_from {
+            ReadFrom::Primary => None,
             ReadFrom::PreferReplica {
                 latest_read_replica_index,
-            } => self.round_robin_read_from_replica(latest_read_replica_index),
-        }
+            } => self.round_robin_read_from_replica(latest_read_replica_index, |_| true),
+            ReadFrom::LowestLatency {
+                latest_read_replica_index,
+                read_count,
+            } => {
+                if read_count.fetch_add(1, Ordering::Relaxed) % LATENCY_PROBE_INTERVAL == 0 {
+                    self.round_robin_read_from_replica(latest_read_replica_index, |_| true)
+                } else {
+                    self.lowest_latency_replica()
+                }
+            }
+            ReadFrom::AZAffinity {
+                client_az,
+                latest_read_replica_index,
+            } => self
+                .round_robin_read_from_replica(latest_read_replica_index, |node| {
+                    node.availability_zone.as_ref() == Some(client_az)
+                })
+                // no replica in the client's AZ is connected, read from any replica
+                .or_else(|| {
+                    self.round_robin_read_from_replica(latest_read_replica_index, |_| true)
+                }),
+        };
+        replica_index.unwrap_or(self.inner.primary_index)
     }
 
     async fn send_request(
@@ -325,8 +592,99 @@ impl StandaloneClient {
         cmd: &redis::Cmd,
         readonly: bool,
     ) -> RedisResult<Value> {
-        let reconnecting_connection = self.get_connection(readonly);
-        Self::send_request(cmd, reconnecting_connection).await
+        let index = self.get_connection_index(readonly);
+        match &self.inner.hedging {
+            // blocking reads wait for data rather than for a slow node, a duplicate would only wait too
+            Some(hedging)
+                if readonly
+                    && !matches!(self.inner.read_from, ReadFrom::Primary)
+                    && !is_blocking_cmd(cmd) =>
+            {
+                self.send_hedged_request(cmd, index, hedging).await
+            }
+            _ => self.send_request_to_node(cmd, index).await,
+        }
+    }
+
+    async fn send_request_to_node(&self, cmd: &redis::Cmd, index: usize) -> RedisResult<Value> {
+        let node_info = &self.inner.node_infos[index];
+        report_served_by(&node_info.address);
+        let request = NodeRequest::start(node_info);
+        let result = Self::send_request(cmd, &self.inner.nodes[index]).await;
+        request.complete(&result);
+        result
+    }
+
+    /// Returns the index of the node which a duplicate of a request sent to `index` goes to: the
+    /// next connected replica, or the primary if there's none.
+    fn hedge_connection_index(&self, index: usize) -> Option<usize> {
+        let node_count = self.inner.nodes.len();
+        (1..node_count)
+            .map(|offset| (index + offset) % node_count)
+            .find(|candidate| {
+                *candidate != self.inner.primary_index
+                    && self.inner.nodes[*candidate].is_connected()
+            })
+            .or_else(|| (index != self.inner.primary_index).then_some(self.inner.primary_index))
+    }
+
+    /// Sends the request to the node at `index`, and a duplicate to another node if the reply
+    /// doesn't arrive within the hedging delay and the budget allows it. The first successful
+    /// reply is returned, and the other request is dropped.
+    async fn send_hedged_request(
+        &self,
+        cmd: &redis::Cmd,
+        index: usize,
+        hedging: &Hedging,
+    ) -> RedisResult<Value> {
+        hedging.start_read();
+        let start = Instant::now();
+        let mut request = Box::pin(self.send_request_to_node(cmd, index));
+        if let Ok(result) = tokio::time::timeout(hedging.delay(), &mut request).await {
+            if result.is_ok() {
+                hedging.record_latency(start.elapsed());
+            }
+            return result;
+        }
+        let Some(hedge_index) = self
+            .hedge_connection_index(index)
+            .filter(|_| hedging.try_hedge())
+        else {
+            let result = request.await;
+            if result.is_ok() {
+                hedging.record_latency(start.elapsed());
+            }
+            return result;
+        };
+
+        let hedge = Box::pin(self.send_request_to_node(cmd, hedge_index));
+        let (result, won) = match future::select(request, hedge).await {
+            Either::Left((Ok(value), _)) => (Ok(value), false),
+            Either::Left((Err(_), hedge)) => (hedge.await, true),
+            Either::Right((Ok(value), _)) => (Ok(value), true),
+            Either::Right((Err(_), request)) => (request.await, false),
+        };
+        let won = won && result.is_ok();
+        if won {
+            hedging.hedges_won.fetch_add(1, Ordering::Relaxed);
+        }
+        if result.is_ok() {
+            hedging.record_latency(start.elapsed());
+        }
+        let served_by = if won { hedge_index } else { index };
+        report_served_by(&self.inner.node_infos[served_by].address);
+        report_hedge(won);
+        result
+    }
+
+    /// Returns the number of hedges sent and won, or `None` if the client doesn't hedge requests.
+    pub fn hedge_statistics(&self) -> Option<(u64, u64)> {
+        self.inner.hedging.as_ref().map(|hedging| {
+            (
+                hedging.hedges_sent.load(Ordering::Relaxed),
+                hedging.hedges_won.load(Ordering::Relaxed),
+            )
+        })
     }
 
     pub async fn send_command(&mut self, cmd: &redis::Cmd) -> RedisResult<Value> {
@@ -349,6 +707,7 @@ impl StandaloneClient {
         count: usize,
     ) -> RedisResult<Vec<Value>> {
         let reconnecting_connection = self.get_primary_connection();
+        report_served_by(&self.inner.node_infos[self.inner.primary_index].address);
         let mut connection = reconnecting_connection.get_connection().await?;
         let result = connection
             .send_packed_commands(pipeline, offset, count)
@@ -409,7 +768,11 @@ async fn get_connection_and_replication_info(
     connection_info: &redis::RedisConnectionInfo,
     tls_mode: TlsMode,
     push_sender: &Option<mpsc::UnboundedSender<PushInfo>>,
-) -> Result<(ReconnectingConnection, Value), (ReconnectingConnection, RedisError)> {
+    query_availability_zone: bool,
+) -> Result<
+    (ReconnectingConnection, Value, Option<String>),
+    (ReconnectingConnection, RedisError),
+> {
     let result = ReconnectingConnection::new(
         address,
         retry_strategy.clone(),
@@ -431,21 +794,115 @@ async fn get_connection_and_replication_info(
         }
     };
 
-    match multiplexed_connection
+    let replication_status = match multiplexed_connection
         .send_packed_command(redis::cmd("INFO").arg("REPLICATION"))
         .await
     {
-        Ok(replication_status) => Ok((reconnecting_connection, replication_status)),
-        Err(err) => Err((reconnecting_connection, err)),
+        Ok(replication_status) => replication_status,
+        Err(err) => return Err((reconnecting_connection, err)),
+    };
+
+    let availability_zone = if query_availability_zone {
+        get_availability_zone(&mut multiplexed_connection, address).await
+    } else {
+        None
+    };
+    Ok((reconnecting_connection, replication_status, availability_zone))
+}
+
+/// Get the availability zone of a node from its `availability-zone` configuration, which was added
+/// in Valkey 8.0. Returns `None` if the node doesn't support it or has none.
+async fn get_availability_zone(
+    connection: &mut redis::aio::MultiplexedConnection,
+    address: &NodeAddress,
+) -> Option<String> {
+    let result = connection
+        .send_packed_command(redis::cmd("CONFIG").arg("GET").arg("availability-zone"))
+        .await
+        .and_then(redis::from_owned_redis_value::<HashMap<String, String>>);
+    match result {
+        Ok(config) => config
+            .into_values()
+            .next()
+            .filter(|availability_zone| !availability_zone.is_empty()),
+        Err(err) => {
+            log_warn(
+                "client creation",
+                format!("Failed to get the availability zone of {address}: {err}"),
+            );
+            None
+        }
     }
 }
 
-fn get_read_from(read_from: Option<super::ReadFrom>) -> ReadFrom {
+fn get_read_from(read_from: Option<super::ReadFrom>, client_az: Option<String>) -> ReadFrom {
     match read_from {
         Some(super::ReadFrom::Primary) => ReadFrom::Primary,
         Some(super::ReadFrom::PreferReplica) => ReadFrom::PreferReplica {
             latest_read_replica_index: Default::default(),
         },
+        Some(super::ReadFrom::LowestLatency) => ReadFrom::LowestLatency {
+            latest_read_replica_index: Default::default(),
+            read_count: Default::default(),
+        },
+        Some(super::ReadFrom::AZAffinity) => match client_az {
+            Some(client_az) => ReadFrom::AZAffinity {
+                client_az,
+                latest_read_replica_index: Default::default(),
+            },
+            None => {
+                log_warn(
+                    "client creation",
+                    "AZAffinity requires a client AZ, using PreferReplica",
+                );
+                ReadFrom::PreferReplica {
+                    latest_read_replica_index: Default::default(),
+                }
+            }
+        },
         None => ReadFrom::Primary,
     }
 }
+
+#[cfg(test)]
+mod tests {
+    use super::*;
+
+    fn connection_refused() -> RedisResult<Value> {
+        Err(std::io::Error::from(std::io::ErrorKind::ConnectionRefused).into())
+    }
+
+    #[test]
+    fn test_failures_double_the_latency_until_the_node_replies() {
+        let node_info = NodeInfo::new("replica:6379".to_string(), None);
+        node_info.record_reply(Duration::from_micros(100));
+        assert_eq!(node_info.effective_latency_micros(), 100);
+
+        NodeRequest::start(&node_info).complete(&connection_refused());
+        NodeRequest::start(&node_info).complete(&connection_refused());
+        // the failures were fast, but each doubles the latency
+        assert!(node_info.effective_latency_micros() > 100);
+
+        NodeRequest::start(&node_info).complete(&Ok(Value::Okay));
+        assert!(node_info.effective_latency_micros() < 100);
+    }
+
+    #[test]
+    fn test_error_replies_are_not_failures() {
+        let node_info = NodeInfo::new("replica:6379".to_string(), None);
+        let error_reply: RedisResult<Value> =
+            Err((redis::ErrorKind::ResponseError, "WRONGTYPE").into());
+        NodeRequest::start(&node_info).complete(&error_reply);
+        assert_eq!(node_info.consecutive_failures.load(Ordering::Relaxed), 0);
+    }
+
+    #[test]
+    fn test_dropped_requests_record_the_time_they_waited() {
+        let node_info = NodeInfo::new("replica:6379".to_string(), None);
+        let request = NodeRequest::start(&node_info);
+        std::thread::sleep(Duration::from_millis(5));
+        drop(request);
+        assert!(node_info.effective_latency_micros() >= 5000);
+        assert_eq!(node_info.consecutive_failures.load(Ordering::Relaxed), 0);
+    }
+}
@@ -12,6 +12,7 @@ use crate::connection_request as protobuf;
 #[derive(Default)]
 pub struct ConnectionRequest {
     pub read_from: Option<ReadFrom>,
+    pub client_az: Option<String>,
     pub client_name: Option<String>,
     pub authentication_info: Option<AuthenticationInfo>,
     pub database_id: i64,
@@ -23,6 +24,7 @@ pub struct ConnectionRequest {
     pub connection_retry_strategy: Option<ConnectionRetryStrategy>,
     pub periodic_checks: Option<PeriodicCheck>,
     pub pubsub_subscriptions: Option<redis::PubSubSubscriptionInfo>,
+    pub hedging_policy: Option<HedgingPolicy>,
 }
 
 pub struct AuthenticationInfo {
@@ -55,6 +57,10 @@ pub enum ReadFrom {
     #[default]
     Primary,
     PreferReplica,
+    /// Read from the node with the lowest measured latency, replicas first.
+    LowestLatency,
+    /// Read from a replica in the same availability zone as the client, given by `client_az`.
+    AZAffinity,
 }
 
 #[derive(PartialEq, Eq, Clone, Copy, Default)]
@@ -71,6 +77,17 @@ pub struct ConnectionRetryStrategy {
     pub number_of_retries: u32,
 }
 
+/// Sends a duplicate of a slow read-only request to another node.
+#[derive(Clone, Copy, Debug)]
+pub struct HedgingPolicy {
+    /// Delay before the duplicate is sent, until enough latencies are tracked for `delay_percentile`.
+    pub delay: Duration,
+    /// If set, the delay is this percentile of the latencies of recent reads.
+    pub delay_percentile: Option<u32>,
+    /// Maximum duplicates, as a percentage of the reads.
+    pub max_extra_load_percent: u32,
+}
+
 #[cfg(feature = "socket-layer")]
 fn chars_to_string_option(chars: &::protobuf::Chars) -> Option<String> {
     if chars.is_empty() {
@@ -95,9 +112,10 @@ impl From<protobuf::ConnectionRequest> for ConnectionRequest {
         let read_from = value.read_from.enum_value().ok().map(|val| match val {
             protobuf::ReadFrom::Primary => ReadFrom::Primary,
             protobuf::ReadFrom::PreferReplica => ReadFrom::PreferReplica,
-            protobuf::ReadFrom::LowestLatency => todo!(),
-            protobuf::ReadFrom::AZAffinity => todo!(),
+            protobuf::ReadFrom::LowestLatency => ReadFrom::LowestLatency,
+            protobuf::ReadFrom::AZAffinity => ReadFrom::AZAffinity,
         });
+        let client_az = chars_to_string_option(&value.client_az);
 
         let client_name = chars_to_string_option(&value.client_name);
         let authentication_info = value.authentication_info.0.and_then(|authentication_info| {
@@ -153,6 +171,11 @@ impl From<protobuf::ConnectionRequest> for ConnectionRequest {
                     PeriodicCheck::Disabled
                 }
             });
+        let hedging_policy = value.hedging_policy.0.map(|policy| HedgingPolicy {
+            delay: Duration::from_millis(policy.delay_in_ms.into()),
+            delay_percentile: none_if_zero(policy.delay_percentile),
+            max_extra_load_percent: policy.max_extra_load_percent,
+        });
         let mut pubsub_subscriptions: Option<redis::PubSubSubscriptionInfo> = None;
         if let Some(protobuf_pubsub) = value.pubsub_subscriptions.0 {
             let mut redis_pubsub = redis::PubSubSubscriptionInfo::new();
@@ -189,6 +212,7 @@ impl From<protobuf::ConnectionRequest> for ConnectionRequest {
 
         ConnectionRequest {
             read_from,
+            client_az,
             client_name,
             authentication_info,
             database_id,
@@ -200,6 +224,7 @@ impl From<protobuf::ConnectionRequest> for ConnectionRequest {
             connection_retry_strategy,
             periodic_checks,
             pubsub_subscriptions,
+            hedging_policy,
         }
     }
 }
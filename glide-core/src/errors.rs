@@ -2,7 +2,11 @@
  * Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0
  */
 
-use redis::RedisError;
+use redis::{ErrorKind, RedisError};
+
+/// The description of errors of requests which weren't sent, as the circuit breaker of their node
+/// is open.
+const CIRCUIT_OPEN_ERROR: &str = "Circuit breaker open";
 
 #[repr(C)]
 pub enum RequestErrorType {
@@ -10,10 +14,19 @@ pub enum RequestErrorType {
     ExecAbort = 1,
     Timeout = 2,
     Disconnect = 3,
+    CircuitOpen = 4,
+}
+
+/// Returns the error of a request which wasn't sent to the node at `address`, as `host:port`, as
+/// its circuit breaker is open.
+pub fn circuit_open_error(address: &str) -> RedisError {
+    (ErrorKind::ClientError, CIRCUIT_OPEN_ERROR, address.to_string()).into()
 }
 
 pub fn error_type(error: &RedisError) -> RequestErrorType {
-    if error.is_timeout() {
+    if error.kind() == ErrorKind::ClientError && error.to_string().starts_with(CIRCUIT_OPEN_ERROR) {
+        RequestErrorType::CircuitOpen
+    } else if error.is_timeout() {
         RequestErrorType::Timeout
     } else if error.is_unrecoverable_error() {
         RequestErrorType::Disconnect
@@ -2,7 +2,7 @@
  * Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0
  */
 use super::rotating_buffer::RotatingBuffer;
-use crate::client::Client;
+use crate::client::{Client, ServedBy, SERVED_BY};
 use crate::cluster_scan_container::get_cluster_scan_cursor;
 use crate::command_request::{
     command, command_request, ClusterScan, Command, CommandRequest, Routes, SlotTypes, Transaction,
@@ -22,8 +22,10 @@ use redis::cluster_routing::{
 };
 use redis::cluster_routing::{ResponsePolicy, Routable};
 use redis::{Cmd, PushInfo, RedisError, ScanStateRC, Value};
-use std::cell::Cell;
+use std::cell::{Cell, RefCell};
 use std::rc::Rc;
+use std::sync::Arc;
+use std::time::{Duration, SystemTime, UNIX_EPOCH};
 use std::{env, str};
 use std::{io, thread};
 use thiserror::Error;
@@ -190,15 +192,69 @@ async fn write_closing_error(
     write_to_writer(response, writer).await
 }
 
-/// Create response and write it to the writer
+/// Timestamps of a request which asked for a latency breakdown via `collect_timings`.
+struct RequestTimestamps {
+    received_at: u64,
+    sent_at: Cell<u64>,
+}
+
+impl RequestTimestamps {
+    fn new() -> Self {
+        Self {
+            received_at: nanos_since_epoch(),
+            sent_at: Cell::new(0),
+        }
+    }
+
+    fn into_response_timings(self, served_by: ServedBy) -> response::ResponseTimings {
+        let replied_at = nanos_since_epoch();
+        let sent_at = match self.sent_at.get() {
+            // the request failed before it was sent
+            0 => replied_at,
+            sent_at => sent_at,
+        };
+        response::ResponseTimings {
+            received_at: self.received_at,
+            sent_at,
+            replied_at,
+            served_by: served_by
+                .address
+                .map(|address| address.as_ref().into())
+                .unwrap_or_default(),
+            hedge_sent: served_by.hedge_sent,
+            hedge_won: served_by.hedge_won,
+            ..Default::default()
+        }
+    }
+}
+
+/// Record the moment a request is handed over to the server connection, if timings were requested.
+fn mark_sent(timestamps: &Option<RequestTimestamps>) {
+    if let Some(timestamps) = timestamps {
+        timestamps.sent_at.set(nanos_since_epoch());
+    }
+}
+
+fn nanos_since_epoch() -> u64 {
+    SystemTime::now()
+        .duration_since(UNIX_EPOCH)
+        .map(|duration| duration.as_nanos() as u64)
+        .unwrap_or_default()
+}
+
+/// Create response and write it to the writer. `address` is the node the request was sent to,
+/// reported on request errors.
 async fn write_result(
     resp_result: ClientUsageResult<Value>,
     callback_index: u32,
+    timings: Option<response::ResponseTimings>,
+    address: Option<Arc<str>>,
     writer: &Rc<Writer>,
 ) -> Result<(), io::Error> {
     let mut response = Response::new();
     response.callback_idx = callback_index;
     response.is_push = false;
+    response.timings = timings.into();
     response.value = match resp_result {
         Ok(Value::Okay) => Some(response::response::Value::ConstantResponse(
             response::ConstantResponse::OK.into(),
@@ -239,9 +295,13 @@ async fn write_result(
                     RequestErrorType::ExecAbort => response::RequestErrorType::ExecAbort,
                     RequestErrorType::Timeout => response::RequestErrorType::Timeout,
                     RequestErrorType::Disconnect => response::RequestErrorType::Disconnect,
+                    RequestErrorType::CircuitOpen => response::RequestErrorType::CircuitOpen,
                 }
                 .into(),
                 message: error_message.into(),
+                address: address
+                    .map(|address| address.as_ref().into())
+                    .unwrap_or_default(),
                 ..Default::default()
             };
             Some(response::response::Value::RequestError(request_error))
@@ -476,71 +536,126 @@ fn get_route(
     }
 }
 
-fn handle_request(request: CommandRequest, client: Client, writer: Rc<Writer>) {
-    task::spawn_local(async move {
-        let result = match request.command {
-            Some(action) => match action {
-                command_request::Command::ClusterScan(cluster_scan_command) => {
-                    cluster_scan(cluster_scan_command, client).await
-                }
-                command_request::Command::SingleCommand(command) => {
-                    match get_redis_command(&command) {
-                        Ok(cmd) => match get_route(request.route.0, Some(&cmd)) {
-                            Ok(routes) => send_command(cmd, client, routes).await,
-                            Err(e) => Err(e),
-                        },
+async fn execute_request(
+    request: CommandRequest,
+    client: Client,
+    timestamps: &Option<RequestTimestamps>,
+) -> ClientUsageResult<Value> {
+    let client = match request.request_timeout {
+        0 => client,
+        request_timeout => {
+            client.with_request_timeout(Duration::from_millis(request_timeout.into()))
+        }
+    };
+    let client = if request.open_circuit_nodes.is_empty() {
+        client
+    } else {
+        client.with_open_circuit_nodes(
+            request
+                .open_circuit_nodes
+                .iter()
+                .map(|node| node.to_string())
+                .collect(),
+        )
+    };
+    match request.command {
+        Some(action) => match action {
+            command_request::Command::ClusterScan(cluster_scan_command) => {
+                mark_sent(timestamps);
+                cluster_scan(cluster_scan_command, client).await
+            }
+            command_request::Command::HedgeStatistics(_) => Ok(client
+                .hedge_statistics()
+                .map(|(sent, won)| {
+                    Value::Array(vec![Value::Int(sent as i64), Value::Int(won as i64)])
+                })
+                .unwrap_or(Value::Nil)),
+            command_request::Command::SingleCommand(command) => {
+                match get_redis_command(&command) {
+                    Ok(cmd) => match get_route(request.route.0, Some(&cmd)) {
+                        Ok(routes) => {
+                            mark_sent(timestamps);
+                            send_command(cmd, client, routes).await
+                        }
                         Err(e) => Err(e),
-                    }
+                    },
+                    Err(e) => Err(e),
                 }
-                command_request::Command::Transaction(transaction) => {
-                    match get_route(request.route.0, None) {
-                        Ok(routes) => send_transaction(transaction, client, routes).await,
-                        Err(e) => Err(e),
+            }
+            command_request::Command::Transaction(transaction) => {
+                match get_route(request.route.0, None) {
+                    Ok(routes) => {
+                        mark_sent(timestamps);
+                        send_transaction(transaction, client, routes).await
                     }
+                    Err(e) => Err(e),
                 }
-                command_request::Command::ScriptInvocation(script) => {
-                    match get_route(request.route.0, None) {
-                        Ok(routes) => {
-                            invoke_script(
-                                script.hash,
-                                Some(script.keys),
-                                Some(script.args),
-                                client,
-                                routes,
-                            )
-                            .await
-                        }
-                        Err(e) => Err(e),
+            }
+            command_request::Command::ScriptInvocation(script) => {
+                match get_route(request.route.0, None) {
+                    Ok(routes) => {
+                        mark_sent(timestamps);
+                        invoke_script(
+                            script.hash,
+                            Some(script.keys),
+                            Some(script.args),
+                            client,
+                            routes,
+                        )
+                        .await
                     }
+                    Err(e) => Err(e),
                 }
-                command_request::Command::ScriptInvocationPointers(script) => {
-                    let keys = script
-                        .keys_pointer
-                        .map(|pointer| *unsafe { Box::from_raw(pointer as *mut Vec<Bytes>) });
-                    let args = script
-                        .args_pointer
-                        .map(|pointer| *unsafe { Box::from_raw(pointer as *mut Vec<Bytes>) });
-                    match get_route(request.route.0, None) {
-                        Ok(routes) => invoke_script(script.hash, keys, args, client, routes).await,
-                        Err(e) => Err(e),
+            }
+            command_request::Command::ScriptInvocationPointers(script) => {
+                let keys = script
+                    .keys_pointer
+                    .map(|pointer| *unsafe { Box::from_raw(pointer as *mut Vec<Bytes>) });
+                let args = script
+                    .args_pointer
+                    .map(|pointer| *unsafe { Box::from_raw(pointer as *mut Vec<Bytes>) });
+                match get_route(request.route.0, None) {
+                    Ok(routes) => {
+                        mark_sent(timestamps);
+                        invoke_script(script.hash, keys, args, client, routes).await
                     }
+                    Err(e) => Err(e),
                 }
-            },
-            None => {
-                log_debug(
-                    "received error",
-                    format!(
-                        "Received empty request for callback {}",
-                        request.callback_idx
-                    ),
-                );
-                Err(ClientUsageError::Internal(
-                    "Received empty request".to_string(),
-                ))
             }
-        };
+        },
+        None => {
+            log_debug(
+                "received error",
+                format!("Received empty request for callback {}", request.callback_idx),
+            );
+            Err(ClientUsageError::Internal("Received empty request".to_string()))
+    }
+    }
+}
 
-        let _res = write_result(result, request.callback_idx, &writer).await;
+fn handle_request(request: CommandRequest, client: Client, writer: Rc<Writer>) {
+    let timestamps = request.collect_timings.then(RequestTimestamps::new);
+    task::spawn_local(async move {
+        let callback_idx = request.callback_idx;
+        // The node which served the request, if known, is reported in the timings and on errors.
+        // Requests which report neither run without the scope.
+        let (result, served_by) = if timestamps.is_some() || request.report_node {
+            SERVED_BY
+                .scope(RefCell::new(ServedBy::default()), async {
+                    let result = execute_request(request, client, &timestamps).await;
+                    (result, SERVED_BY.with(RefCell::take))
+                })
+                .await
+        } else {
+            let result = execute_request(request, client, &timestamps).await;
+            (result, ServedBy::default())
+        };
+        let address = match result {
+            Err(ClientUsageError::Redis(_)) => served_by.address.clone(),
+            _ => None,
+        };
+        let timings = timestamps.map(|timestamps| timestamps.into_response_timings(served_by));
+        let _res = write_result(result, callback_idx, timings, address, &writer).await;
     });
 }
 
@@ -570,7 +685,7 @@ async fn create_client(
         Ok(client) => client,
         Err(err) => return Err(ClientCreationError::ConnectionError(err)),
     };
-    write_result(Ok(Value::Okay), 0, writer).await?;
+    write_result(Ok(Value::Okay), 0, None, None, writer).await?;
     Ok(client)
 }
 
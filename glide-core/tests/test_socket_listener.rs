@@ -31,6 +31,7 @@ mod socket_listener {
     use redis::{Cmd, ConnectionAddr, FromRedisValue, Value};
     use rstest::rstest;
     use std::mem::size_of;
+    use std::time::Duration;
     use tokio::{net::UnixListener, runtime::Builder};
 
     /// An enum representing the values of the request type field for testing purposes
@@ -706,6 +707,54 @@ mod socket_listener {
         }
     }
 
+    #[rstest]
+    #[serial_test::serial]
+    #[timeout(SHORT_CLUSTER_TEST_TIMEOUT)]
+    fn test_socket_cluster_key_routed_request_to_open_circuit_node_is_not_sent() {
+        const CALLBACK_INDEX: u32 = 99;
+        let mut test_basics = setup_cluster_test_basics(Tls::NoTls, TestServer::Shared);
+        let key = generate_random_string(KEY_LENGTH);
+
+        // the primary of the key's slot is reported for a request routed by key
+        let mut request = get_command_request(
+            CALLBACK_INDEX,
+            vec![key.clone().into()],
+            RequestType::Get.into(),
+            false,
+        );
+        request.collect_timings = true;
+        let mut buffer = Vec::with_capacity(KEY_LENGTH * 2);
+        write_request(&mut buffer, &mut test_basics.socket, request);
+        let response = assert_response(
+            &mut buffer,
+            Some(&mut test_basics.socket),
+            CALLBACK_INDEX,
+            None,
+            ResponseType::Null,
+        );
+        let served_by = response.timings.served_by.to_string();
+        assert!(!served_by.is_empty());
+
+        let mut request =
+            get_command_request(CALLBACK_INDEX, vec![key.into()], RequestType::Get.into(), false);
+        request.report_node = true;
+        request.open_circuit_nodes = vec![served_by.clone().into()];
+        buffer.clear();
+        write_request(&mut buffer, &mut test_basics.socket, request);
+
+        let response = assert_error_response(
+            &mut buffer,
+            &mut test_basics.socket,
+            CALLBACK_INDEX,
+            ResponseType::RequestError,
+        );
+        assert_eq!(
+            response.request_error().type_.enum_value(),
+            Ok(glide_core::response::RequestErrorType::CircuitOpen)
+        );
+        assert_eq!(response.request_error().address, served_by);
+    }
+
     #[rstest]
     #[timeout(SHORT_CLUSTER_TEST_TIMEOUT)]
     fn test_socket_cluster_route_by_address_reaches_correct_node() {
@@ -800,6 +849,45 @@ mod socket_listener {
         assert_null_response(&mut buffer, &mut test_basics.socket, CALLBACK_INDEX);
     }
 
+    #[rstest]
+    #[timeout(SHORT_STANDALONE_TEST_TIMEOUT)]
+    fn test_socket_request_timeout_overrides_client_timeout() {
+        const CALLBACK_INDEX: u32 = 99;
+        let key = generate_random_string(KEY_LENGTH);
+        let mut expected_command = Cmd::new();
+        expected_command.arg("GET").arg(key.clone());
+        let mut test_basics = setup_mocked_test_basics(None);
+        // the client's request timeout is 10 seconds
+        test_basics.server_mock.add_delayed_response(
+            &expected_command,
+            "*-1\r\n".to_string(),
+            Duration::from_millis(500),
+        );
+
+        let mut request =
+            get_command_request(CALLBACK_INDEX, vec![key.into()], RequestType::Get.into(), false);
+        request.request_timeout = 20;
+        request.report_node = true;
+        let mut buffer = Vec::with_capacity(KEY_LENGTH * 2);
+        write_request(&mut buffer, &mut test_basics.socket, request);
+
+        let response = assert_error_response(
+            &mut buffer,
+            &mut test_basics.socket,
+            CALLBACK_INDEX,
+            ResponseType::RequestError,
+        );
+        assert_eq!(
+            response.request_error().type_.enum_value(),
+            Ok(glide_core::response::RequestErrorType::Timeout)
+        );
+        // the node the request was sent to is reported with the error
+        let ConnectionAddr::Tcp(host, port) = &test_basics.server_mock.get_addresses()[0] else {
+            panic!("The mock server listens on TCP");
+        };
+        assert_eq!(response.request_error().address, format!("{host}:{port}"));
+    }
+
     #[rstest]
     #[timeout(SHORT_STANDALONE_TEST_TIMEOUT)]
     fn test_socket_report_error() {
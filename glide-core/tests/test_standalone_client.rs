@@ -7,11 +7,12 @@ mod utilities;
 mod standalone_client_tests {
     use crate::utilities::mocks::{Mock, ServerMock};
     use std::collections::HashMap;
+    use std::time::Duration;
 
     use super::*;
     use glide_core::{
         client::{ConnectionError, StandaloneClient},
-        connection_request::ReadFrom,
+        connection_request::{HedgingPolicy, ReadFrom},
     };
     use redis::{FromRedisValue, Value};
     use rstest::rstest;
@@ -148,6 +149,39 @@ mod standalone_client_tests {
         mocks
     }
 
+    fn with_availability_zone(
+        mut responses: HashMap<String, Value>,
+        availability_zone: &str,
+    ) -> HashMap<String, Value> {
+        responses.insert(
+            "*3\r\n$6\r\nCONFIG\r\n$3\r\nGET\r\n$17\r\navailability-zone\r\n".to_string(),
+            Value::Array(vec![
+                Value::BulkString(b"availability-zone".to_vec()),
+                Value::BulkString(availability_zone.as_bytes().to_vec()),
+            ]),
+        );
+        responses
+    }
+
+    fn create_primary_mock_with_replicas_in_azs(replica_azs: &[&str]) -> Vec<ServerMock> {
+        let mut listeners: Vec<std::net::TcpListener> = (0..replica_azs.len() + 1)
+            .map(|_| get_listener_on_available_port())
+            .collect();
+        let primary = ServerMock::new_with_listener(
+            with_availability_zone(create_primary_responses(), "primary-az"),
+            listeners.pop().unwrap(),
+        );
+        let mut mocks = vec![primary];
+
+        mocks.extend(listeners.into_iter().zip(replica_azs).map(|(listener, az)| {
+            ServerMock::new_with_listener(
+                with_availability_zone(create_replica_response(), az),
+                listener,
+            )
+        }));
+        mocks
+    }
+
     struct ReadFromReplicaTestConfig {
         read_from: ReadFrom,
         expected_primary_reads: u16,
@@ -156,6 +190,9 @@ mod standalone_client_tests {
         number_of_missing_replicas: usize,
         number_of_replicas_dropped_after_connection: usize,
         number_of_requests_sent: usize,
+        /// If not empty, the availability zones of the replicas, which are then queried.
+        replica_azs: Vec<&'static str>,
+        client_az: Option<&'static str>,
     }
 
     impl Default for ReadFromReplicaTestConfig {
@@ -168,14 +205,20 @@ mod standalone_client_tests {
                 number_of_missing_replicas: 0,
                 number_of_replicas_dropped_after_connection: 0,
                 number_of_requests_sent: 3,
+                replica_azs: vec![],
+                client_az: None,
             }
         }
     }
 
     fn test_read_from_replica(config: ReadFromReplicaTestConfig) {
-        let mut mocks = create_primary_mock_with_replicas(
-            config.number_of_initial_replicas - config.number_of_missing_replicas,
-        );
+        let mut mocks = if config.replica_azs.is_empty() {
+            create_primary_mock_with_replicas(
+                config.number_of_initial_replicas - config.number_of_missing_replicas,
+            )
+        } else {
+            create_primary_mock_with_replicas_in_azs(&config.replica_azs)
+        };
         let mut cmd = redis::cmd("GET");
         cmd.arg("foo");
 
@@ -196,6 +239,9 @@ mod standalone_client_tests {
         let mut connection_request =
             create_connection_request(addresses.as_slice(), &Default::default());
         connection_request.read_from = config.read_from.into();
+        if let Some(client_az) = config.client_az {
+            connection_request.client_az = client_az.into();
+        }
 
         block_on_all(async {
             let mut client = StandaloneClient::create_client(connection_request.into(), None)
@@ -281,6 +327,61 @@ mod standalone_client_tests {
         });
     }
 
+    #[rstest]
+    #[serial_test::serial]
+    #[timeout(SHORT_STANDALONE_TEST_TIMEOUT)]
+    fn test_read_from_replica_lowest_latency_tries_every_replica() {
+        // Replicas which didn't serve a read yet have no latency and are picked first
+        test_read_from_replica(ReadFromReplicaTestConfig {
+            read_from: ReadFrom::LowestLatency,
+            expected_primary_reads: 0,
+            expected_replica_reads: vec![1, 1, 1],
+            ..Default::default()
+        });
+    }
+
+    #[rstest]
+    #[serial_test::serial]
+    #[timeout(SHORT_STANDALONE_TEST_TIMEOUT)]
+    fn test_read_from_replica_lowest_latency_read_from_primary_if_no_replica_is_connected() {
+        test_read_from_replica(ReadFromReplicaTestConfig {
+            read_from: ReadFrom::LowestLatency,
+            expected_primary_reads: 3,
+            expected_replica_reads: vec![],
+            number_of_missing_replicas: 3,
+            ..Default::default()
+        });
+    }
+
+    #[rstest]
+    #[serial_test::serial]
+    #[timeout(SHORT_STANDALONE_TEST_TIMEOUT)]
+    fn test_read_from_replica_az_affinity() {
+        test_read_from_replica(ReadFromReplicaTestConfig {
+            read_from: ReadFrom::AZAffinity,
+            expected_primary_reads: 0,
+            expected_replica_reads: vec![0, 2, 2],
+            number_of_requests_sent: 4,
+            replica_azs: vec!["az-1", "az-2", "az-2"],
+            client_az: Some("az-2"),
+            ..Default::default()
+        });
+    }
+
+    #[rstest]
+    #[serial_test::serial]
+    #[timeout(SHORT_STANDALONE_TEST_TIMEOUT)]
+    fn test_read_from_replica_az_affinity_falls_back_to_other_azs() {
+        test_read_from_replica(ReadFromReplicaTestConfig {
+            read_from: ReadFrom::AZAffinity,
+            expected_primary_reads: 0,
+            expected_replica_reads: vec![1, 1, 1],
+            replica_azs: vec!["az-1", "az-1", "az-1"],
+            client_az: Some("az-2"),
+            ..Default::default()
+        });
+    }
+
     #[rstest]
     #[serial_test::serial]
     #[timeout(SHORT_STANDALONE_TEST_TIMEOUT)]
@@ -295,6 +396,61 @@ mod standalone_client_tests {
         });
     }
 
+    /// Sends a read to a replica which replies after 200ms, with the given hedging budget, and
+    /// returns the hedge statistics and the reads received by the primary.
+    fn send_read_to_slow_replica(max_extra_load_percent: u32) -> ((u64, u64), u16) {
+        let mocks = create_primary_mock_with_replicas(1);
+        let mut cmd = redis::cmd("GET");
+        cmd.arg("foo");
+        mocks[0].add_response(&cmd, "$3\r\nbar\r\n".to_string());
+        mocks[1].add_delayed_response(
+            &cmd,
+            "$3\r\nbar\r\n".to_string(),
+            Duration::from_millis(200),
+        );
+
+        let addresses = get_mock_addresses(&mocks);
+        let mut connection_request =
+            create_connection_request(addresses.as_slice(), &Default::default());
+        connection_request.read_from = ReadFrom::PreferReplica.into();
+        connection_request.hedging_policy = Some(HedgingPolicy {
+            delay_in_ms: 20,
+            max_extra_load_percent,
+            ..Default::default()
+        })
+        .into();
+
+        block_on_all(async {
+            let mut client = StandaloneClient::create_client(connection_request.into(), None)
+                .await
+                .unwrap();
+            let result = client.send_command(&cmd).await.unwrap();
+            assert_eq!(result, Value::BulkString(b"bar".to_vec()));
+            (
+                client.hedge_statistics().unwrap(),
+                mocks[0].get_number_of_received_commands(),
+            )
+        })
+    }
+
+    #[rstest]
+    #[serial_test::serial]
+    #[timeout(SHORT_STANDALONE_TEST_TIMEOUT)]
+    fn test_hedged_read_is_served_by_another_node() {
+        let (statistics, primary_reads) = send_read_to_slow_replica(100);
+        assert_eq!(statistics, (1, 1));
+        assert_eq!(primary_reads, 1);
+    }
+
+    #[rstest]
+    #[serial_test::serial]
+    #[timeout(SHORT_STANDALONE_TEST_TIMEOUT)]
+    fn test_hedged_read_is_not_duplicated_over_budget() {
+        let (statistics, primary_reads) = send_read_to_slow_replica(0);
+        assert_eq!(statistics, (0, 0));
+        assert_eq!(primary_reads, 0);
+    }
+
     #[rstest]
     #[serial_test::serial]
     #[timeout(SHORT_STANDALONE_TEST_TIMEOUT)]
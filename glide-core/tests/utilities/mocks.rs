@@ -11,6 +11,7 @@ use std::sync::{
     atomic::{AtomicU16, Ordering},
     Arc,
 };
+use std::time::Duration;
 use tokio::io::AsyncWriteExt;
 use tokio::net::TcpStream;
 use tokio::sync::mpsc::UnboundedSender;
@@ -18,6 +19,8 @@ use tokio::sync::mpsc::UnboundedSender;
 pub struct MockedRequest {
     pub expected_message: String,
     pub response: String,
+    /// The time the mock waits before it responds.
+    pub delay: Duration,
 }
 
 pub struct ServerMock {
@@ -94,6 +97,7 @@ async fn receive_and_respond_to_next_message(
     };
     received_commands.fetch_add(1, Ordering::AcqRel);
     assert_eq!(message, request.expected_message);
+    tokio::time::sleep(request.delay).await;
     socket.write_all(request.response.as_bytes()).await.unwrap();
     true
 }
@@ -103,6 +107,8 @@ pub trait Mock {
 
     fn add_response(&self, request: &Cmd, response: String);
 
+    fn add_delayed_response(&self, request: &Cmd, response: String, delay: Duration);
+
     fn get_number_of_received_commands(&self) -> u16;
 }
 
@@ -171,10 +177,15 @@ impl Mock for ServerMock {
     }
 
     fn add_response(&self, request: &Cmd, response: String) {
+        self.add_delayed_response(request, response, Duration::ZERO);
+    }
+
+    fn add_delayed_response(&self, request: &Cmd, response: String, delay: Duration) {
         let expected_message = String::from_utf8(request.get_packed_command()).unwrap();
         let _ = self.request_sender.send(MockedRequest {
             expected_message,
             response,
+            delay,
         });
     }
 
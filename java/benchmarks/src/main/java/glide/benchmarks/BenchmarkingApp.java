@@ -6,8 +6,17 @@ import static glide.benchmarks.utils.Benchmarking.testClientSetGet;
 import glide.benchmarks.clients.glide.GlideAsyncClient;
 import glide.benchmarks.clients.jedis.JedisClient;
 import glide.benchmarks.clients.lettuce.LettuceAsyncClient;
+import glide.benchmarks.utils.BaselineComparison;
+import glide.benchmarks.utils.JsonWriter;
+import glide.benchmarks.utils.MockValkeyServer;
+import glide.benchmarks.workloads.Workload;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
 import java.util.stream.Stream;
 import org.apache.commons.cli.CommandLine;
 import org.apache.commons.cli.CommandLineParser;
@@ -21,7 +30,7 @@ import org.apache.commons.cli.ParseException;
 public class BenchmarkingApp {
 
     // main application entrypoint
-    public static void main(String[] args) {
+    public static void main(String[] args) throws Exception {
 
         // create the parser
         CommandLineParser parser = new DefaultParser();
@@ -44,21 +53,68 @@ public class BenchmarkingApp {
             System.err.println("Parsing failed. Reason: " + exp.getMessage());
         }
 
-        for (ClientName client : runConfiguration.clients) {
-            switch (client) {
-                case JEDIS:
-                    System.out.println("Run JEDIS sync client");
-                    testClientSetGet(JedisClient::new, runConfiguration, false);
-                    break;
-                case LETTUCE:
-                    System.out.println("Run LETTUCE async client");
-                    testClientSetGet(LettuceAsyncClient::new, runConfiguration, true);
-                    break;
-                case GLIDE:
-                    System.out.println("GLIDE for Redis async client");
-                    testClientSetGet(GlideAsyncClient::new, runConfiguration, true);
-                    break;
+        boolean passed;
+        if (runConfiguration.useMockServer) {
+            try (MockValkeyServer server = new MockValkeyServer()) {
+                System.out.printf("Started a mock server on port %d%n", server.getPort());
+                runConfiguration.host = server.getHost();
+                runConfiguration.port = server.getPort();
+                runConfiguration.mockServer = Optional.of(server);
+                passed = runBenchmarks(runConfiguration);
             }
+        } else {
+            passed = runBenchmarks(runConfiguration);
+        }
+        if (!passed) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Runs the configured benchmarks, or reruns the baseline if there is one.
+     *
+     * @return <code>false</code> if a regression from the baseline was found.
+     */
+    private static boolean runBenchmarks(RunConfiguration runConfiguration) throws IOException {
+        if (runConfiguration.baseline.isEmpty()) {
+            for (ClientName client : runConfiguration.clients) {
+                runClient(client, runConfiguration);
+            }
+            return true;
+        }
+
+        boolean regression = false;
+        for (JsonWriter.Measurements baseline : JsonWriter.Read(runConfiguration.baseline.get())) {
+            System.out.printf("Rerun baseline: %s%n", BaselineComparison.describe(baseline));
+            RunConfiguration rerun = runConfiguration.forBaseline(baseline);
+            List<JsonWriter.Measurements> results = runClient(rerun.clients[0], rerun);
+            var deltas =
+                    BaselineComparison.compare(
+                            baseline, results.get(0), runConfiguration.regressionThresholdPercent);
+            regression |=
+                    BaselineComparison.print(baseline, deltas, runConfiguration.regressionThresholdPercent);
+        }
+        System.out.println(
+                regression
+                        ? "Regressions from the baseline were found"
+                        : "No regressions from the baseline");
+        return !regression;
+    }
+
+    private static List<JsonWriter.Measurements> runClient(
+            ClientName client, RunConfiguration runConfiguration) {
+        switch (client) {
+            case JEDIS:
+                System.out.println("Run JEDIS sync client");
+                return testClientSetGet(JedisClient::new, runConfiguration, false);
+            case LETTUCE:
+                System.out.println("Run LETTUCE async client");
+                return testClientSetGet(LettuceAsyncClient::new, runConfiguration, true);
+            case GLIDE:
+                System.out.println("GLIDE for Redis async client");
+                return testClientSetGet(GlideAsyncClient::new, runConfiguration, true);
+            default:
+                throw new IllegalArgumentException("Unexpected client: " + client);
         }
     }
 
@@ -126,6 +182,54 @@ public class BenchmarkingApp {
                         .hasArg(false)
                         .desc("Verbose logs [false]")
                         .build());
+        options.addOption(
+                Option.builder()
+                        .longOpt("targetRate")
+                        .hasArg(true)
+                        .desc(
+                                "Run open-loop: start requests at this fixed total rate per second, and measure"
+                                        + " latency from the scheduled start. Requests are issued by the concurrent"
+                                        + " tasks, so use enough tasks to sustain the rate [closed-loop]")
+                        .build());
+        options.addOption(
+                Option.builder()
+                        .longOpt("reportInterval")
+                        .hasArg(true)
+                        .desc("Interval of the throughput and latency time series, in milliseconds [1000]")
+                        .build());
+        options.addOption(
+                Option.builder()
+                        .longOpt("mockServer")
+                        .hasArg(false)
+                        .desc(
+                                "Run against an in-process mock server instead of host and port, to measure the"
+                                        + " client side only [false]")
+                        .build());
+        options.addOption(
+                Option.builder()
+                        .longOpt("workload")
+                        .hasArg(true)
+                        .desc(
+                                "Workload to run, one of: "
+                                        + String.join("|", Workload.PRESETS)
+                                        + ", or the path of a workload JSON file [default]")
+                        .build());
+        options.addOption(
+                Option.builder()
+                        .longOpt("baseline")
+                        .hasArg(true)
+                        .desc(
+                                "Results file to compare with: rerun the configuration of every run in it, report"
+                                        + " the changes, and exit with status 1 if there's a regression []")
+                        .build());
+        options.addOption(
+                Option.builder()
+                        .longOpt("regressionThreshold")
+                        .hasArg(true)
+                        .desc(
+                                "Relative worsening from the baseline, in percent, which is a regression when"
+                                        + " it's beyond the measured noise [5]")
+                        .build());
 
         return options;
     }
@@ -184,10 +288,55 @@ public class BenchmarkingApp {
             runConfiguration.dataSize = parseIntListOption(line.getOptionValue("dataSize"));
         }
 
+        if (line.hasOption("targetRate")) {
+            double targetRate = parseDoubleOption(line.getOptionValue("targetRate"));
+            if (targetRate <= 0) {
+                throw new ParseException("Invalid target rate: " + targetRate);
+            }
+            runConfiguration.targetRate = OptionalDouble.of(targetRate);
+        }
+
+        if (line.hasOption("reportInterval")) {
+            runConfiguration.reportIntervalMillis =
+                    (long) parseDoubleOption(line.getOptionValue("reportInterval"));
+            if (runConfiguration.reportIntervalMillis <= 0) {
+                throw new ParseException(
+                        "Invalid report interval: " + runConfiguration.reportIntervalMillis);
+            }
+        }
+
+        if (line.hasOption("workload")) {
+            try {
+                runConfiguration.workload = Workload.load(line.getOptionValue("workload"));
+            } catch (IOException | IllegalArgumentException e) {
+                throw new ParseException("Invalid workload: " + e.getMessage());
+            }
+        }
+
+        if (line.hasOption("baseline")) {
+            runConfiguration.baseline = Optional.of(line.getOptionValue("baseline"));
+        }
+
+        if (line.hasOption("regressionThreshold")) {
+            runConfiguration.regressionThresholdPercent =
+                    parseDoubleOption(line.getOptionValue("regressionThreshold"));
+            if (runConfiguration.regressionThresholdPercent < 0) {
+                throw new ParseException(
+                        "Invalid regression threshold: " + runConfiguration.regressionThresholdPercent);
+            }
+        }
+
         runConfiguration.tls = line.hasOption("tls");
         runConfiguration.clusterModeEnabled = line.hasOption("clusterModeEnabled");
         runConfiguration.minimal = line.hasOption("minimal");
         runConfiguration.debugLogging = line.hasOption("debugLogging");
+        runConfiguration.useMockServer = line.hasOption("mockServer");
+        if (runConfiguration.useMockServer && runConfiguration.clusterModeEnabled) {
+            throw new ParseException("The mock server doesn't support cluster mode");
+        }
+        if (runConfiguration.useMockServer && runConfiguration.tls) {
+            throw new ParseException("The mock server doesn't support TLS");
+        }
 
         return runConfiguration;
     }
@@ -211,6 +360,14 @@ public class BenchmarkingApp {
         return Arrays.stream(lineValue.split("\\s+")).mapToInt(Integer::parseInt).toArray();
     }
 
+    private static double parseDoubleOption(String value) throws ParseException {
+        try {
+            return Double.parseDouble(value.trim());
+        } catch (NumberFormatException e) {
+            throw new ParseException("Invalid option: " + value);
+        }
+    }
+
     public enum ClientName {
         JEDIS("Jedis"), // sync
         LETTUCE("Lettuce"), // async
@@ -246,6 +403,14 @@ public class BenchmarkingApp {
         public boolean clusterModeEnabled;
         public boolean debugLogging = false;
         public boolean minimal = false;
+        public OptionalDouble targetRate = OptionalDouble.empty();
+        public long reportIntervalMillis = 1000;
+        public boolean useMockServer = false;
+        public Optional<MockValkeyServer> mockServer = Optional.empty();
+        public Workload workload;
+        public OptionalInt iterations = OptionalInt.empty();
+        public Optional<String> baseline = Optional.empty();
+        public double regressionThresholdPercent = 5;
 
         public RunConfiguration() {
             configuration = "Release";
@@ -262,6 +427,43 @@ public class BenchmarkingApp {
             tls = false;
             clusterModeEnabled = false;
             minimal = false;
+            try {
+                workload = Workload.load(Workload.DEFAULT_PRESET);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        /**
+         * Returns the configuration of a single run of the baseline, which keeps the server and the
+         * reporting settings of this configuration.
+         */
+        public RunConfiguration forBaseline(JsonWriter.Measurements run) throws IOException {
+            RunConfiguration rerun = new RunConfiguration();
+            rerun.configuration = configuration;
+            rerun.host = host;
+            rerun.port = port;
+            rerun.tls = tls;
+            rerun.debugLogging = debugLogging;
+            rerun.reportIntervalMillis = reportIntervalMillis;
+            rerun.useMockServer = useMockServer;
+            rerun.mockServer = mockServer;
+            rerun.resultsFile = resultsFile;
+
+            rerun.clients = new ClientName[] {ClientName.valueOf(run.client.toUpperCase())};
+            rerun.clientCount = new int[] {run.client_count};
+            rerun.concurrentTasks = new int[] {run.num_of_tasks};
+            rerun.dataSize = new int[] {run.data_size};
+            rerun.clusterModeEnabled = run.is_cluster;
+            rerun.targetRate =
+                    run.target_rate == null ? OptionalDouble.empty() : OptionalDouble.of(run.target_rate);
+            rerun.workload = Workload.load(run.workload == null ? Workload.DEFAULT_PRESET : run.workload);
+            if (run.iterations > 0) {
+                rerun.iterations = OptionalInt.of(run.iterations);
+            } else {
+                rerun.minimal = minimal;
+            }
+            return rerun;
         }
     }
 }
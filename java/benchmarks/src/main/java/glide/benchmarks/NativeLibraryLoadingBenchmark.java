@@ -0,0 +1,162 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.benchmarks;
+
+import glide.ffi.resolvers.NativeUtils;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Measures the startup cost of loading the Glide native library. Every iteration starts a new JVM,
+ * because the library can only be loaded once per process. Reports the time spent in {@link
+ * NativeUtils#loadGlideLib()} and the wall time of the whole process for each loading strategy.
+ *
+ * <p>Usage: <code>NativeLibraryLoadingBenchmark [iterations]</code>
+ */
+public class NativeLibraryLoadingBenchmark {
+
+    private static final String PROBE_ARGUMENT = "--probe";
+    private static final String RESULT_PREFIX = "load_nanos=";
+    private static final int DEFAULT_ITERATIONS = 10;
+
+    /** The loading strategies to compare. */
+    private enum Mode {
+        /** Extract to a new temporary directory on every start, as before the cache existed. */
+        NO_CACHE("no cache"),
+        /** Extract into an empty cache, which is what the first start on a host pays. */
+        COLD_CACHE("cold cache"),
+        /** Load the copy which a previous start left in the cache. */
+        WARM_CACHE("warm cache"),
+        /** Load the library from <code>java.library.path</code>. */
+        LIBRARY_PATH("java.library.path");
+
+        private final String description;
+
+        Mode(String description) {
+            this.description = description;
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length > 0 && args[0].equals(PROBE_ARGUMENT)) {
+            long start = System.nanoTime();
+            NativeUtils.loadGlideLib();
+            System.out.println(RESULT_PREFIX + (System.nanoTime() - start));
+            return;
+        }
+
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_ITERATIONS;
+        Path warmCacheDir = Files.createTempDirectory("glide-warm-cache");
+        try {
+            // Populate the warm cache
+            runProbe(List.of(cacheDirProperty(warmCacheDir)));
+
+            System.out.printf(
+                    "%-20s %15s %15s %15s %15s%n",
+                    "mode", "load avg (ms)", "load p50 (ms)", "process avg (ms)", "process p50 (ms)");
+            for (Mode mode : Mode.values()) {
+                long[] loadNanos = new long[iterations];
+                long[] processNanos = new long[iterations];
+                for (int i = 0; i < iterations; i++) {
+                    Path coldCacheDir = Files.createTempDirectory("glide-cold-cache");
+                    try {
+                        long start = System.nanoTime();
+                        loadNanos[i] = runProbe(propertiesFor(mode, warmCacheDir, coldCacheDir));
+                        processNanos[i] = System.nanoTime() - start;
+                    } finally {
+                        deleteRecursively(coldCacheDir);
+                    }
+                }
+                System.out.printf(
+                        "%-20s %15.3f %15.3f %15.3f %15.3f%n",
+                        mode.description,
+                        average(loadNanos),
+                        median(loadNanos),
+                        average(processNanos),
+                        median(processNanos));
+            }
+        } finally {
+            deleteRecursively(warmCacheDir);
+        }
+    }
+
+    private static List<String> propertiesFor(Mode mode, Path warmCacheDir, Path coldCacheDir) {
+        switch (mode) {
+            case NO_CACHE:
+                return List.of("-D" + NativeUtils.DISABLE_CACHE_PROPERTY + "=true");
+            case COLD_CACHE:
+                return List.of(cacheDirProperty(coldCacheDir));
+            case WARM_CACHE:
+                return List.of(cacheDirProperty(warmCacheDir));
+            case LIBRARY_PATH:
+                return List.of(
+                        "-D" + NativeUtils.USE_LIBRARY_PATH_PROPERTY + "=true",
+                        "-Djava.library.path=" + System.getProperty("java.library.path"));
+            default:
+                throw new IllegalArgumentException("Unknown mode " + mode);
+        }
+    }
+
+    private static String cacheDirProperty(Path cacheDir) {
+        return "-D" + NativeUtils.CACHE_DIR_PROPERTY + "=" + cacheDir;
+    }
+
+    /** Starts a new JVM which loads the library, and returns the load time it reported. */
+    private static long runProbe(List<String> properties) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(properties);
+        command.addAll(
+                Arrays.asList(
+                        "-cp",
+                        System.getProperty("java.class.path"),
+                        NativeLibraryLoadingBenchmark.class.getName(),
+                        PROBE_ARGUMENT));
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+
+        Long result = null;
+        StringBuilder output = new StringBuilder();
+        try (BufferedReader reader =
+                new BufferedReader(
+                        new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith(RESULT_PREFIX)) {
+                    result = Long.parseLong(line.substring(RESULT_PREFIX.length()));
+                } else {
+                    output.append(line).append(System.lineSeparator());
+                }
+            }
+        }
+        if (process.waitFor() != 0 || result == null) {
+            throw new IllegalStateException(
+                    "Loading the library failed:" + System.lineSeparator() + output);
+        }
+        return result;
+    }
+
+    private static double average(long[] nanos) {
+        return Arrays.stream(nanos).average().orElse(0) / 1_000_000.0;
+    }
+
+    private static double median(long[] nanos) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2] / 1_000_000.0;
+    }
+
+    private static void deleteRecursively(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+}
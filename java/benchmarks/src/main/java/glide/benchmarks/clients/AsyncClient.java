@@ -1,6 +1,7 @@
 /** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
 package glide.benchmarks.clients;
 
+import java.util.Map;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
@@ -15,6 +16,15 @@ public interface AsyncClient<T> extends Client {
 
     Future<String> asyncGet(String key);
 
+    Future<Long> asyncHset(String key, Map<String, String> fieldValueMap);
+
+    Future<Map<String, String>> asyncHgetall(String key);
+
+    Future<Long> asyncZadd(String key, Map<String, Double> membersScoresMap);
+
+    /** Returns the members in the range, in a representation specific to the client. */
+    Future<?> asyncZrange(String key, long start, long stop);
+
     default <T> T waitForResult(Future<T> future) {
         return waitForResult(future, DEFAULT_TIMEOUT_MILLISECOND);
     }
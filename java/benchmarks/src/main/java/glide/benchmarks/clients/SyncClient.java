@@ -1,9 +1,23 @@
 /** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
 package glide.benchmarks.clients;
 
+import java.util.List;
+import java.util.Map;
+
 /** A Redis client with sync capabilities */
 public interface SyncClient extends Client {
     void set(String key, String value);
 
     String get(String key);
+
+    /** Sends a <code>GET</code> of every key before reading any of the responses. */
+    List<String> pipelinedGet(List<String> keys);
+
+    long hset(String key, Map<String, String> fieldValueMap);
+
+    Map<String, String> hgetall(String key);
+
+    long zadd(String key, Map<String, Double> membersScoresMap);
+
+    List<String> zrange(String key, long start, long stop);
 }
@@ -6,11 +6,13 @@ import static java.util.concurrent.TimeUnit.SECONDS;
 import glide.api.BaseClient;
 import glide.api.GlideClient;
 import glide.api.GlideClusterClient;
+import glide.api.models.commands.RangeOptions.RangeByIndex;
 import glide.api.models.configuration.GlideClientConfiguration;
 import glide.api.models.configuration.GlideClusterClientConfiguration;
 import glide.api.models.configuration.NodeAddress;
 import glide.benchmarks.clients.AsyncClient;
 import glide.benchmarks.utils.ConnectionSettings;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeoutException;
@@ -67,6 +69,26 @@ public class GlideAsyncClient implements AsyncClient<String> {
         return glideClient.get(key);
     }
 
+    @Override
+    public CompletableFuture<Long> asyncHset(String key, Map<String, String> fieldValueMap) {
+        return glideClient.hset(key, fieldValueMap);
+    }
+
+    @Override
+    public CompletableFuture<Map<String, String>> asyncHgetall(String key) {
+        return glideClient.hgetall(key);
+    }
+
+    @Override
+    public CompletableFuture<Long> asyncZadd(String key, Map<String, Double> membersScoresMap) {
+        return glideClient.zadd(key, membersScoresMap);
+    }
+
+    @Override
+    public CompletableFuture<String[]> asyncZrange(String key, long start, long stop) {
+        return glideClient.zrange(key, new RangeByIndex(start, stop));
+    }
+
     @Override
     public void closeConnection() {
         try {
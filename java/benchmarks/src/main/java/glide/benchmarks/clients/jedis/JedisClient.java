@@ -3,12 +3,18 @@ package glide.benchmarks.clients.jedis;
 
 import glide.benchmarks.clients.SyncClient;
 import glide.benchmarks.utils.ConnectionSettings;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
+import redis.clients.jedis.ClusterPipeline;
 import redis.clients.jedis.DefaultJedisClientConfig;
 import redis.clients.jedis.HostAndPort;
 import redis.clients.jedis.Jedis;
 import redis.clients.jedis.JedisCluster;
 import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
 
 /** A Jedis client with sync capabilities. See: https://github.com/redis/jedis */
 public class JedisClient implements SyncClient {
@@ -67,4 +73,68 @@ public class JedisClient implements SyncClient {
             }
         }
     }
+
+    @Override
+    public List<String> pipelinedGet(List<String> keys) {
+        if (isClusterMode) {
+            try (ClusterPipeline pipeline = jedisCluster.pipelined()) {
+                List<Response<String>> responses =
+                        keys.stream().map(pipeline::get).collect(Collectors.toList());
+                pipeline.sync();
+                return responses.stream().map(Response::get).collect(Collectors.toList());
+            }
+        } else {
+            try (Jedis jedis = jedisStandalonePool.getResource()) {
+                Pipeline pipeline = jedis.pipelined();
+                List<Response<String>> responses =
+                        keys.stream().map(pipeline::get).collect(Collectors.toList());
+                pipeline.sync();
+                return responses.stream().map(Response::get).collect(Collectors.toList());
+            }
+        }
+    }
+
+    @Override
+    public long hset(String key, Map<String, String> fieldValueMap) {
+        if (isClusterMode) {
+            return jedisCluster.hset(key, fieldValueMap);
+        } else {
+            try (Jedis jedis = jedisStandalonePool.getResource()) {
+                return jedis.hset(key, fieldValueMap);
+            }
+        }
+    }
+
+    @Override
+    public Map<String, String> hgetall(String key) {
+        if (isClusterMode) {
+            return jedisCluster.hgetAll(key);
+        } else {
+            try (Jedis jedis = jedisStandalonePool.getResource()) {
+                return jedis.hgetAll(key);
+            }
+        }
+    }
+
+    @Override
+    public long zadd(String key, Map<String, Double> membersScoresMap) {
+        if (isClusterMode) {
+            return jedisCluster.zadd(key, membersScoresMap);
+        } else {
+            try (Jedis jedis = jedisStandalonePool.getResource()) {
+                return jedis.zadd(key, membersScoresMap);
+            }
+        }
+    }
+
+    @Override
+    public List<String> zrange(String key, long start, long stop) {
+        if (isClusterMode) {
+            return jedisCluster.zrange(key, start, stop);
+        } else {
+            try (Jedis jedis = jedisStandalonePool.getResource()) {
+                return jedis.zrange(key, start, stop);
+            }
+        }
+    }
 }
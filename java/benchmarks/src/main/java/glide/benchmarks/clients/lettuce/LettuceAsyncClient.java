@@ -7,19 +7,22 @@ import io.lettuce.core.AbstractRedisClient;
 import io.lettuce.core.RedisClient;
 import io.lettuce.core.RedisFuture;
 import io.lettuce.core.RedisURI;
+import io.lettuce.core.ScoredValue;
 import io.lettuce.core.api.StatefulConnection;
 import io.lettuce.core.api.StatefulRedisConnection;
-import io.lettuce.core.api.async.RedisStringAsyncCommands;
 import io.lettuce.core.cluster.RedisClusterClient;
 import io.lettuce.core.cluster.api.StatefulRedisClusterConnection;
+import io.lettuce.core.cluster.api.async.RedisClusterAsyncCommands;
 import java.time.Duration;
+import java.util.List;
+import java.util.Map;
 
 /** A Lettuce client with async capabilities see: https://lettuce.io/ */
 public class LettuceAsyncClient implements AsyncClient<String> {
     static final int ASYNC_OPERATION_TIMEOUT_SEC = 1;
 
     private AbstractRedisClient client;
-    private RedisStringAsyncCommands<String, String> asyncCommands;
+    private RedisClusterAsyncCommands<String, String> asyncCommands;
     private StatefulConnection<String, String> connection;
 
     @Override
@@ -52,6 +55,30 @@ public class LettuceAsyncClient implements AsyncClient<String> {
         return asyncCommands.get(key);
     }
 
+    @Override
+    public RedisFuture<Long> asyncHset(String key, Map<String, String> fieldValueMap) {
+        return asyncCommands.hset(key, fieldValueMap);
+    }
+
+    @Override
+    public RedisFuture<Map<String, String>> asyncHgetall(String key) {
+        return asyncCommands.hgetall(key);
+    }
+
+    @Override
+    public RedisFuture<Long> asyncZadd(String key, Map<String, Double> membersScoresMap) {
+        return asyncCommands.zadd(
+                key,
+                membersScoresMap.entrySet().stream()
+                        .map(e -> ScoredValue.just(e.getValue(), e.getKey()))
+                        .toArray(ScoredValue[]::new));
+    }
+
+    @Override
+    public RedisFuture<List<String>> asyncZrange(String key, long start, long stop) {
+        return asyncCommands.zrange(key, start, stop);
+    }
+
     @Override
     public void closeConnection() {
         connection.close();
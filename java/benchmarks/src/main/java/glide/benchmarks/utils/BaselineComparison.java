@@ -0,0 +1,222 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.benchmarks.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collectors;
+
+/**
+ * Compares the results of a run with the results of the same configuration in a baseline.
+ *
+ * <p>The noise of a metric is estimated from its spread over the reporting intervals of both runs:
+ * the noise bound is the half-width of the 95% confidence interval of the difference between the
+ * interval means. A change is a regression when it's worse than the threshold and larger than the
+ * noise bound. Metrics which are measured once per run, such as allocations, have no noise bound.
+ */
+public class BaselineComparison {
+    private static final double Z_95 = 1.96;
+
+    /** The comparison of a single metric. */
+    public static class Delta {
+        public final String metric;
+        public final double baseline;
+        public final double current;
+
+        /** The relative change from the baseline, in percent. */
+        public final double changePercent;
+
+        /** The relative noise bound of the change, in percent, or NaN if unknown. */
+        public final double noisePercent;
+
+        public final boolean regression;
+
+        Delta(
+                String metric,
+                double baseline,
+                double current,
+                double noisePercent,
+                boolean higherIsBetter,
+                double thresholdPercent) {
+            this.metric = metric;
+            this.baseline = baseline;
+            this.current = current;
+            this.changePercent = baseline == 0 ? 0 : (current - baseline) / baseline * 100;
+            this.noisePercent = noisePercent;
+            double worsening = higherIsBetter ? -changePercent : changePercent;
+            this.regression =
+                    worsening > thresholdPercent && (Double.isNaN(noisePercent) || worsening > noisePercent);
+        }
+    }
+
+    /** Returns a human-readable description of the configuration of a run. */
+    public static String describe(JsonWriter.Measurements run) {
+        return String.format(
+                "%s, %d clients, %d concurrent, %d data size, %s workload%s",
+                run.client,
+                run.client_count,
+                run.num_of_tasks,
+                run.data_size,
+                run.workload == null ? "default" : run.workload,
+                run.target_rate == null ? "" : String.format(", %.0f target rate", run.target_rate));
+    }
+
+    /**
+     * Compares the throughput, the latency percentiles of every operation, and the allocations of two
+     * runs.
+     *
+     * @param thresholdPercent The relative change, in percent, from which a worsening is a
+     *     regression.
+     */
+    public static List<Delta> compare(
+            JsonWriter.Measurements baseline, JsonWriter.Measurements current, double thresholdPercent) {
+        List<Delta> deltas = new ArrayList<>();
+        deltas.add(
+                new Delta(
+                        "TPS",
+                        baseline.tps,
+                        current.tps,
+                        noisePercent(intervalTps(baseline), intervalTps(current), baseline.tps),
+                        true,
+                        thresholdPercent));
+
+        if (baseline.operations != null && current.operations != null) {
+            for (Map.Entry<String, LatencyResults> entry : baseline.operations.entrySet()) {
+                String action = entry.getKey();
+                LatencyResults before = entry.getValue();
+                LatencyResults after = current.operations.get(action);
+                if (after == null) {
+                    continue;
+                }
+                deltas.add(
+                        latencyDelta(
+                                action + " p50 (ms)",
+                                before.p50Latency,
+                                after.p50Latency,
+                                intervalValues(baseline, action, i -> i.p50_latency),
+                                intervalValues(current, action, i -> i.p50_latency),
+                                thresholdPercent));
+                deltas.add(
+                        latencyDelta(
+                                action + " p99 (ms)",
+                                before.p99Latency,
+                                after.p99Latency,
+                                intervalValues(baseline, action, i -> i.p99_latency),
+                                intervalValues(current, action, i -> i.p99_latency),
+                                thresholdPercent));
+                deltas.add(
+                        latencyDelta(
+                                action + " p999 (ms)",
+                                before.p999Latency,
+                                after.p999Latency,
+                                intervalValues(baseline, action, i -> i.p999_latency),
+                                intervalValues(current, action, i -> i.p999_latency),
+                                thresholdPercent));
+            }
+        }
+
+        if (baseline.allocated_bytes_per_op > 0 && current.allocated_bytes_per_op >= 0) {
+            deltas.add(
+                    new Delta(
+                            "Allocated bytes per op",
+                            baseline.allocated_bytes_per_op,
+                            current.allocated_bytes_per_op,
+                            Double.NaN,
+                            false,
+                            thresholdPercent));
+        }
+        return deltas;
+    }
+
+    private static Delta latencyDelta(
+            String metric,
+            double baseline,
+            double current,
+            List<Double> baselineIntervals,
+            List<Double> currentIntervals,
+            double thresholdPercent) {
+        return new Delta(
+                metric,
+                baseline,
+                current,
+                noisePercent(baselineIntervals, currentIntervals, baseline),
+                false,
+                thresholdPercent);
+    }
+
+    /** Prints the deltas as a table, and returns whether any of them is a regression. */
+    public static boolean print(
+            JsonWriter.Measurements baseline, List<Delta> deltas, double thresholdPercent) {
+        System.out.printf(
+                "%n===> Comparison with baseline: %s, regression threshold %.1f%% <===%n",
+                describe(baseline), thresholdPercent);
+        System.out.printf(
+                "%-32s %14s %14s %10s %10s%n", "metric", "baseline", "current", "change", "noise");
+        boolean regression = false;
+        for (Delta delta : deltas) {
+            System.out.printf(
+                    "%-32s %14.3f %14.3f %+9.1f%% %10s%s%n",
+                    delta.metric,
+                    delta.baseline,
+                    delta.current,
+                    delta.changePercent,
+                    Double.isNaN(delta.noisePercent) ? "n/a" : String.format("+/-%.1f%%", delta.noisePercent),
+                    delta.regression ? "  REGRESSION" : "");
+            regression |= delta.regression;
+        }
+        return regression;
+    }
+
+    /** The throughput of every complete interval, summed over the actions. */
+    private static List<Double> intervalTps(JsonWriter.Measurements run) {
+        if (run.intervals == null) {
+            return List.of();
+        }
+        Map<Double, Double> tpsByInterval =
+                run.intervals.stream()
+                        .collect(
+                                Collectors.groupingBy(
+                                        i -> i.elapsed_seconds, TreeMap::new, Collectors.summingDouble(i -> i.tps)));
+        List<Double> values = new ArrayList<>(tpsByInterval.values());
+        // The last interval is cut short by the end of the run, and is ramping down
+        if (!values.isEmpty()) {
+            values.remove(values.size() - 1);
+        }
+        return values;
+    }
+
+    private static List<Double> intervalValues(
+            JsonWriter.Measurements run, String action, ToDoubleFunction<IntervalResults> metric) {
+        if (run.intervals == null) {
+            return List.of();
+        }
+        return run.intervals.stream()
+                .filter(i -> action.equals(i.action))
+                .map(metric::applyAsDouble)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the half-width of the 95% confidence interval of the difference between the means of
+     * two samples, relative to the reference value, in percent. NaN if a sample is too small.
+     */
+    static double noisePercent(List<Double> baseline, List<Double> current, double reference) {
+        if (baseline.size() < 2 || current.size() < 2 || reference == 0) {
+            return Double.NaN;
+        }
+        double standardError =
+                Math.sqrt(variance(baseline) / baseline.size() + variance(current) / current.size());
+        return Z_95 * standardError / Math.abs(reference) * 100;
+    }
+
+    private static double variance(List<Double> values) {
+        double mean = values.stream().mapToDouble(Double::doubleValue).average().orElse(0);
+        double sum = 0;
+        for (double value : values) {
+            sum += (value - mean) * (value - mean);
+        }
+        return sum / (values.size() - 1);
+    }
+}
@@ -5,57 +5,56 @@ import glide.benchmarks.BenchmarkingApp;
 import glide.benchmarks.clients.AsyncClient;
 import glide.benchmarks.clients.Client;
 import glide.benchmarks.clients.SyncClient;
+import glide.benchmarks.workloads.WorkloadGenerator;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.EnumMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.OptionalDouble;
+import java.util.OptionalLong;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
 import java.util.function.Supplier;
 import org.apache.commons.lang3.tuple.Pair;
 
 /** Class to calculate latency on client-actions */
 public class Benchmarking {
-    static final double PROB_GET = 0.8;
-    static final double PROB_GET_EXISTING_KEY = 0.8;
-    static final int SIZE_GET_KEYSPACE = 3750000;
-    static final int SIZE_SET_KEYSPACE = 3000000;
+    static final int LOAD_BATCH_SIZE = 1000;
     public static final double NANO_TO_SECONDS = 1e9;
 
-    private static ChosenAction randomAction() {
-        if (Math.random() > PROB_GET) {
-            return ChosenAction.SET;
-        }
-        if (Math.random() > PROB_GET_EXISTING_KEY) {
-            return ChosenAction.GET_NON_EXISTING;
-        }
-        return ChosenAction.GET_EXISTING;
-    }
-
-    public static String generateKeyGet() {
-        int range = SIZE_GET_KEYSPACE - SIZE_SET_KEYSPACE;
-        return Math.floor(Math.random() * range + SIZE_SET_KEYSPACE + 1) + "";
-    }
-
-    public static String generateKeySet() {
-        return (Math.floor(Math.random() * SIZE_SET_KEYSPACE) + 1) + "";
-    }
-
     public interface Operation {
         void go(Client client) throws InterruptedException, ExecutionException;
     }
 
     public static Pair<ChosenAction, Long> measurePerformance(
-            Client client, Map<ChosenAction, Operation> actions) {
-        var action = randomAction();
-        long before = System.nanoTime();
+            Client client, WorkloadGenerator generator, Map<ChosenAction, Operation> actions) {
+        return measurePerformance(client, generator, actions, OptionalLong.empty());
+    }
+
+    /**
+     * Runs a random action of the workload and measures its latency.
+     *
+     * @param intendedStart The time at which the action should have started according to the schedule
+     *     of an open-loop run. The latency is measured from this time rather than the actual start,
+     *     so that the time the action waited behind previous actions is accounted for.
+     */
+    public static Pair<ChosenAction, Long> measurePerformance(
+            Client client,
+            WorkloadGenerator generator,
+            Map<ChosenAction, Operation> actions,
+            OptionalLong intendedStart) {
+        var action = generator.nextAction();
+        long before = intendedStart.orElseGet(System::nanoTime);
         try {
             actions.get(action).go(client);
         } catch (ExecutionException e) {
@@ -71,22 +70,6 @@ public class Benchmarking {
         return Pair.of(action, after - before);
     }
 
-    public static Map<ChosenAction, LatencyResults> calculateResults(
-            Map<ChosenAction, List<Long>> actionLatencies) {
-        Map<ChosenAction, LatencyResults> results = new HashMap<>();
-
-        for (Map.Entry<ChosenAction, List<Long>> entry : actionLatencies.entrySet()) {
-            ChosenAction action = entry.getKey();
-            double[] latencies = entry.getValue().stream().mapToDouble(Long::doubleValue).toArray();
-
-            if (latencies.length != 0) {
-                results.put(action, new LatencyResults(latencies));
-            }
-        }
-
-        return results;
-    }
-
     public static void printResults(
             Map<ChosenAction, LatencyResults> resultsMap, double duration, int iterations) {
         System.out.printf("Runtime (sec): %.3f%n", duration);
@@ -109,8 +92,14 @@ public class Benchmarking {
         System.out.println("Total requests: " + totalRequests);
     }
 
-    public static void testClientSetGet(
+    /**
+     * Runs every combination of the configured concurrency, client count and data size.
+     *
+     * @return The results of every run.
+     */
+    public static List<JsonWriter.Measurements> testClientSetGet(
             Supplier<Client> clientCreator, BenchmarkingApp.RunConfiguration config, boolean async) {
+        List<JsonWriter.Measurements> results = new ArrayList<>();
         for (int concurrentNum : config.concurrentTasks) {
             // same as Executors.newCachedThreadPool() with a RejectedExecutionHandler for robustness
             ExecutorService executor =
@@ -130,7 +119,8 @@ public class Benchmarking {
                                 }
                             });
             int iterations =
-                    config.minimal ? 1000 : Math.min(Math.max(100000, concurrentNum * 10000), 10000000);
+                    config.iterations.orElse(
+                            config.minimal ? 1000 : Math.min(Math.max(100000, concurrentNum * 10000), 10000000));
             for (int clientCount : config.clientCount) {
                 for (int dataSize : config.dataSize) {
                     // create clients
@@ -146,13 +136,19 @@ public class Benchmarking {
                     var clientName = clients.get(0).getName();
 
                     System.out.printf(
-                            "%n =====> %s <===== %d clients %d concurrent %d data size %n%n",
-                            clientName, clientCount, concurrentNum, dataSize);
+                            "%n =====> %s <===== %d clients %d concurrent %d data size %s workload %n%n",
+                            clientName, clientCount, concurrentNum, dataSize, config.workload.name);
+                    var generator = new WorkloadGenerator(config.workload, dataSize);
+                    if (config.workload.load) {
+                        loadRecords(clients.get(0), generator, async);
+                    }
                     AtomicInteger iterationCounter = new AtomicInteger(0);
 
+                    ResourceUsage startedUsage = ResourceUsage.snapshot(config);
                     long started = System.nanoTime();
-                    List<CompletableFuture<Map<ChosenAction, ArrayList<Long>>>> asyncTasks =
-                            new ArrayList<>();
+                    LatencyRecorder recorder =
+                            new LatencyRecorder(config.reportIntervalMillis, config.targetRate.isPresent());
+                    List<CompletableFuture<Void>> asyncTasks = new ArrayList<>();
                     for (int taskNum = 0; taskNum < concurrentNum; taskNum++) {
                         final int taskNumDebugging = taskNum;
                         asyncTasks.add(
@@ -160,13 +156,16 @@ public class Benchmarking {
                                         async,
                                         concurrentNum,
                                         clientCount,
-                                        dataSize,
+                                        generator,
                                         iterationCounter,
                                         clients,
                                         taskNumDebugging,
                                         iterations,
                                         executor,
-                                        config.debugLogging));
+                                        config.debugLogging,
+                                        recorder,
+                                        started,
+                                        config.targetRate));
                     }
                     if (config.debugLogging) {
                         System.out.printf("%s client Benchmarking: %n", clientName);
@@ -176,79 +175,73 @@ public class Benchmarking {
                     }
 
                     // This will start execution of all the concurrent tasks asynchronously
-                    CompletableFuture<Map<ChosenAction, ArrayList<Long>>>[] completableAsyncTaskArray =
+                    CompletableFuture<Void>[] completableAsyncTaskArray =
                             asyncTasks.toArray(new CompletableFuture[asyncTasks.size()]);
                     try {
                         // wait for all futures to complete
                         CompletableFuture.allOf(completableAsyncTaskArray).get();
+                        recorder.close();
                     } catch (InterruptedException | ExecutionException e) {
                         e.printStackTrace();
                         throw new RuntimeException(e);
                     }
                     long after = System.nanoTime();
+                    ResourceUsage usage = ResourceUsage.snapshot(config).since(startedUsage);
 
-                    // Map to save latency results separately for each action
-                    Map<ChosenAction, List<Long>> actionResults =
-                            Map.of(
-                                    ChosenAction.GET_EXISTING, new ArrayList<>(),
-                                    ChosenAction.GET_NON_EXISTING, new ArrayList<>(),
-                                    ChosenAction.SET, new ArrayList<>());
-
-                    // for each task, call future.get() to retrieve & save the result in the map
-                    asyncTasks.forEach(
-                            future -> {
-                                try {
-                                    var futureResult = future.get();
-                                    futureResult.forEach(
-                                            (action, result) -> actionResults.get(action).addAll(result));
-                                } catch (Exception e) {
-                                    e.printStackTrace();
-                                }
-                            });
-                    var calculatedResults = calculateResults(actionResults);
+                    var calculatedResults = recorder.getResults();
 
                     clients.forEach(Client::closeConnection);
 
+                    int tps = (int) (iterationCounter.get() * NANO_TO_SECONDS / (after - started));
+                    var measurements =
+                            JsonWriter.createMeasurements(
+                                    calculatedResults,
+                                    config.clusterModeEnabled,
+                                    dataSize,
+                                    clientName,
+                                    clientCount,
+                                    concurrentNum,
+                                    tps,
+                                    config.targetRate,
+                                    recorder.getIntervals(),
+                                    config.workload.name,
+                                    usage,
+                                    iterations);
+                    results.add(measurements);
                     if (config.resultsFile.isPresent()) {
-                        int tps = (int) (iterationCounter.get() * NANO_TO_SECONDS / (after - started));
-                        JsonWriter.Write(
-                                calculatedResults,
-                                config.resultsFile.get(),
-                                config.clusterModeEnabled,
-                                dataSize,
-                                clientName,
-                                clientCount,
-                                concurrentNum,
-                                tps);
+                        JsonWriter.Write(measurements, config.resultsFile.get());
                     }
                     printResults(calculatedResults, (after - started) / NANO_TO_SECONDS, iterations);
+                    usage.print(iterations);
                 }
             }
             executor.shutdownNow();
         }
 
         System.out.println();
+        return results;
     }
 
-    private static CompletableFuture<Map<ChosenAction, ArrayList<Long>>> createTask(
+    private static CompletableFuture<Void> createTask(
             boolean async,
             int concurrentNum,
             int clientCount,
-            int dataSize,
+            WorkloadGenerator generator,
             AtomicInteger iterationCounter,
             List<Client> clients,
             int taskNumDebugging,
             int iterations,
             Executor executor,
-            boolean debugLogging) {
-        return CompletableFuture.supplyAsync(
+            boolean debugLogging,
+            LatencyRecorder recorder,
+            long started,
+            OptionalDouble targetRate) {
+        // In an open-loop run, request i is scheduled to start at started + i * interval
+        long intervalNanos =
+                targetRate.isPresent() ? (long) (NANO_TO_SECONDS / targetRate.getAsDouble()) : 0;
+        return CompletableFuture.runAsync(
                 () -> {
-                    var taskActionResults =
-                            Map.of(
-                                    ChosenAction.GET_EXISTING, new ArrayList<Long>(),
-                                    ChosenAction.GET_NON_EXISTING, new ArrayList<Long>(),
-                                    ChosenAction.SET, new ArrayList<Long>());
-                    var actions = getActionMap(dataSize, async);
+                    var actions = getActionMap(generator, async);
 
                     if (debugLogging) {
                         System.out.printf("%n concurrent = %d/%d%n", taskNumDebugging, concurrentNum);
@@ -263,42 +256,213 @@ public class Benchmarking {
                                     iterationIncrement + 1, iterations, clientIndex + 1, clientCount);
                         }
 
+                        OptionalLong intendedStart = OptionalLong.empty();
+                        if (targetRate.isPresent()) {
+                            long scheduled = started + iterationIncrement * intervalNanos;
+                            waitUntil(scheduled);
+                            intendedStart = OptionalLong.of(scheduled);
+                        }
+
                         // operate and calculate tik-tok
-                        Pair<ChosenAction, Long> result = measurePerformance(clients.get(clientIndex), actions);
-                        taskActionResults.get(result.getLeft()).add(result.getRight());
+                        Pair<ChosenAction, Long> result =
+                                measurePerformance(clients.get(clientIndex), generator, actions, intendedStart);
+                        recorder.record(result.getLeft(), result.getRight());
                     }
-                    return taskActionResults;
                 },
                 executor);
     }
 
-    public static Map<ChosenAction, Operation> getActionMap(int dataSize, boolean async) {
+    private static void waitUntil(long deadlineNanos) {
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
 
-        String value = "0".repeat(dataSize);
-        return Map.of(
+    public static Map<ChosenAction, Operation> getActionMap(
+            WorkloadGenerator generator, boolean async) {
+        Map<ChosenAction, Operation> actions = new EnumMap<>(ChosenAction.class);
+        actions.put(
                 ChosenAction.GET_EXISTING,
-                        (client) -> {
-                            if (async) {
-                                ((AsyncClient) client).asyncGet(generateKeySet()).get();
-                            } else {
-                                ((SyncClient) client).get(generateKeySet());
-                            }
-                        },
+                (client) -> {
+                    String key = generator.stringKey(generator.nextRecord());
+                    if (async) {
+                        ((AsyncClient<?>) client).asyncGet(key).get();
+                    } else {
+                        ((SyncClient) client).get(key);
+                    }
+                });
+        actions.put(
                 ChosenAction.GET_NON_EXISTING,
-                        (client) -> {
-                            if (async) {
-                                ((AsyncClient) client).asyncGet(generateKeyGet()).get();
-                            } else {
-                                ((SyncClient) client).get(generateKeyGet());
-                            }
-                        },
+                (client) -> {
+                    String key = generator.missingKey();
+                    if (async) {
+                        ((AsyncClient<?>) client).asyncGet(key).get();
+                    } else {
+                        ((SyncClient) client).get(key);
+                    }
+                });
+        actions.put(
                 ChosenAction.SET,
-                        (client) -> {
-                            if (async) {
-                                ((AsyncClient) client).asyncSet(generateKeySet(), value).get();
-                            } else {
-                                ((SyncClient) client).set(generateKeySet(), value);
+                (client) ->
+                        set(client, async, generator.stringKey(generator.nextRecord()), generator.nextValue()));
+        actions.put(
+                ChosenAction.INSERT,
+                (client) ->
+                        set(
+                                client,
+                                async,
+                                generator.stringKey(generator.nextInsertRecord()),
+                                generator.nextValue()));
+        actions.put(
+                ChosenAction.READ_MODIFY_WRITE,
+                (client) -> {
+                    String key = generator.stringKey(generator.nextRecord());
+                    if (async) {
+                        ((AsyncClient<?>) client).asyncGet(key).get();
+                    } else {
+                        ((SyncClient) client).get(key);
+                    }
+                    set(client, async, key, generator.nextValue());
+                });
+        actions.put(
+                ChosenAction.PIPELINED_GET,
+                (client) -> {
+                    List<String> keys = generator.nextStringKeys();
+                    if (async) {
+                        List<Future<String>> responses = new ArrayList<>(keys.size());
+                        for (String key : keys) {
+                            responses.add(((AsyncClient<?>) client).asyncGet(key));
+                        }
+                        for (Future<String> response : responses) {
+                            response.get();
+                        }
+                    } else {
+                        ((SyncClient) client).pipelinedGet(keys);
+                    }
+                });
+        actions.put(
+                ChosenAction.HSET,
+                (client) ->
+                        hset(client, async, generator.hashKey(generator.nextRecord()), generator.nextHash()));
+        actions.put(
+                ChosenAction.HGETALL,
+                (client) -> {
+                    String key = generator.hashKey(generator.nextRecord());
+                    if (async) {
+                        ((AsyncClient<?>) client).asyncHgetall(key).get();
+                    } else {
+                        ((SyncClient) client).hgetall(key);
+                    }
+                });
+        actions.put(
+                ChosenAction.ZADD,
+                (client) ->
+                        zadd(
+                                client,
+                                async,
+                                generator.sortedSetKey(generator.nextRecord()),
+                                generator.nextMember()));
+        actions.put(
+                ChosenAction.ZRANGE,
+                (client) -> {
+                    String key = generator.sortedSetKey(generator.nextRecord());
+                    int length = generator.nextRangeLength();
+                    if (async) {
+                        ((AsyncClient<?>) client).asyncZrange(key, 0, length - 1).get();
+                    } else {
+                        ((SyncClient) client).zrange(key, 0, length - 1);
+                    }
+                });
+        return actions;
+    }
+
+    private static void set(Client client, boolean async, String key, String value)
+            throws InterruptedException, ExecutionException {
+        if (async) {
+            ((AsyncClient<?>) client).asyncSet(key, value).get();
+        } else {
+            ((SyncClient) client).set(key, value);
+        }
+    }
+
+    private static void hset(Client client, boolean async, String key, Map<String, String> fields)
+            throws InterruptedException, ExecutionException {
+        if (async) {
+            ((AsyncClient<?>) client).asyncHset(key, fields).get();
+        } else {
+            ((SyncClient) client).hset(key, fields);
+        }
+    }
+
+    private static void zadd(Client client, boolean async, String key, Map<String, Double> members)
+            throws InterruptedException, ExecutionException {
+        if (async) {
+            ((AsyncClient<?>) client).asyncZadd(key, members).get();
+        } else {
+            ((SyncClient) client).zadd(key, members);
+        }
+    }
+
+    /**
+     * Writes every record of the workload, for each data type its operations use, so reads of the
+     * record set find a value. Async clients keep a batch of writes in flight.
+     */
+    public static void loadRecords(Client client, WorkloadGenerator generator, boolean async) {
+        long recordCount = generator.getWorkload().recordCount;
+        Set<ChosenAction.DataType> dataTypes = generator.getDataTypes();
+        System.out.printf("Loading %d records of %s%n", recordCount, dataTypes);
+        long started = System.nanoTime();
+        List<Future<?>> pending = new ArrayList<>(LOAD_BATCH_SIZE);
+        try {
+            for (long record = 0; record < recordCount; record++) {
+                for (ChosenAction.DataType dataType : dataTypes) {
+                    if (async) {
+                        var asyncClient = (AsyncClient<?>) client;
+                        switch (dataType) {
+                            case STRING:
+                                pending.add(
+                                        asyncClient.asyncSet(generator.stringKey(record), generator.nextValue()));
+                                break;
+                            case HASH:
+                                pending.add(asyncClient.asyncHset(generator.hashKey(record), generator.nextHash()));
+                                break;
+                            case SORTED_SET:
+                                pending.add(
+                                        asyncClient.asyncZadd(
+                                                generator.sortedSetKey(record), generator.initialSortedSet()));
+                                break;
+                        }
+                        if (pending.size() >= LOAD_BATCH_SIZE) {
+                            for (Future<?> future : pending) {
+                                future.get();
                             }
-                        });
+                            pending.clear();
+                        }
+                    } else {
+                        switch (dataType) {
+                            case STRING:
+                                set(client, false, generator.stringKey(record), generator.nextValue());
+                                break;
+                            case HASH:
+                                hset(client, false, generator.hashKey(record), generator.nextHash());
+                                break;
+                            case SORTED_SET:
+                                zadd(client, false, generator.sortedSetKey(record), generator.initialSortedSet());
+                                break;
+                        }
+                    }
+                }
+            }
+            for (Future<?> future : pending) {
+                future.get();
+            }
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Client error", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("The thread was interrupted", e);
+        }
+        System.out.printf("Loaded in (sec): %.3f%n", (System.nanoTime() - started) / NANO_TO_SECONDS);
     }
 }
@@ -1,8 +1,39 @@
 /** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
 package glide.benchmarks.utils;
 
+/** The operations a workload can be made of. */
 public enum ChosenAction {
-    GET_NON_EXISTING,
-    GET_EXISTING,
-    SET
+    /** <code>GET</code> of a key of the record set. */
+    GET_EXISTING(DataType.STRING),
+    /** <code>GET</code> of a key which was never written. */
+    GET_NON_EXISTING(DataType.STRING),
+    /** <code>SET</code> of a key of the record set. */
+    SET(DataType.STRING),
+    /** <code>SET</code> of a new key, which grows the record set. */
+    INSERT(DataType.STRING),
+    /** <code>GET</code> followed by a <code>SET</code> of the same key, measured together. */
+    READ_MODIFY_WRITE(DataType.STRING),
+    /** <code>GET</code> of several keys sent together, measured together. */
+    PIPELINED_GET(DataType.STRING),
+    /** <code>HSET</code> of all fields of a hash. */
+    HSET(DataType.HASH),
+    /** <code>HGETALL</code> of a hash. */
+    HGETALL(DataType.HASH),
+    /** <code>ZADD</code> of a single member to a sorted set. */
+    ZADD(DataType.SORTED_SET),
+    /** <code>ZRANGE</code> by index of a random number of members from the start of a sorted set. */
+    ZRANGE(DataType.SORTED_SET);
+
+    /** The type of the values an action operates on. */
+    public enum DataType {
+        STRING,
+        HASH,
+        SORTED_SET
+    }
+
+    public final DataType dataType;
+
+    ChosenAction(DataType dataType) {
+        this.dataType = dataType;
+    }
 }
@@ -0,0 +1,34 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.benchmarks.utils;
+
+import org.HdrHistogram.Histogram;
+
+/** Throughput and latency of one action during one reporting interval of a run. */
+public class IntervalResults {
+    public final String action;
+    public final double elapsed_seconds;
+    public final long requests;
+    public final double tps;
+    public final double p50_latency;
+    public final double p99_latency;
+    public final double p999_latency;
+    public final double max_latency;
+
+    /**
+     * @param action The action the latencies belong to.
+     * @param elapsedSeconds The time from the start of the run to the end of the interval.
+     * @param intervalSeconds The length of the interval.
+     * @param histogram Latencies recorded during the interval, in nanoseconds.
+     */
+    public IntervalResults(
+            String action, double elapsedSeconds, double intervalSeconds, Histogram histogram) {
+        this.action = action;
+        this.elapsed_seconds = elapsedSeconds;
+        this.requests = histogram.getTotalCount();
+        this.tps = requests / intervalSeconds;
+        this.p50_latency = LatencyResults.NANO_TO_MILLI * histogram.getValueAtPercentile(50);
+        this.p99_latency = LatencyResults.NANO_TO_MILLI * histogram.getValueAtPercentile(99);
+        this.p999_latency = LatencyResults.NANO_TO_MILLI * histogram.getValueAtPercentile(99.9);
+        this.max_latency = LatencyResults.NANO_TO_MILLI * histogram.getMaxValue();
+    }
+}
@@ -1,6 +1,7 @@
 /** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
 package glide.benchmarks.utils;
 
+import com.google.gson.FieldNamingPolicy;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.reflect.TypeToken;
@@ -9,57 +10,85 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
+import java.util.OptionalDouble;
+import java.util.TreeMap;
 
 public class JsonWriter {
 
-    public static void Write(
+    /** Summarizes the results of a run into a record of the results file. */
+    public static Measurements createMeasurements(
             Map<ChosenAction, LatencyResults> calculatedResults,
-            String resultsFile,
             boolean isCluster,
             int dataSize,
             String client,
             int clientCount,
             int numOfTasks,
-            double tps) {
+            double tps,
+            OptionalDouble targetRate,
+            List<IntervalResults> intervals,
+            String workload,
+            ResourceUsage usage,
+            int iterations) {
+        // Workloads without an action are reported with zero latencies for it
+        LatencyResults getExisting =
+                calculatedResults.getOrDefault(ChosenAction.GET_EXISTING, LatencyResults.EMPTY);
+        LatencyResults getNonExisting =
+                calculatedResults.getOrDefault(ChosenAction.GET_NON_EXISTING, LatencyResults.EMPTY);
+        LatencyResults set = calculatedResults.getOrDefault(ChosenAction.SET, LatencyResults.EMPTY);
+        var data =
+                new Measurements(
+                        client,
+                        clientCount,
+                        dataSize,
+                        isCluster,
+                        numOfTasks,
+                        getExisting.avgLatency,
+                        getExisting.p50Latency,
+                        getExisting.p90Latency,
+                        getExisting.p99Latency,
+                        getExisting.stdDeviation,
+                        getNonExisting.avgLatency,
+                        getNonExisting.p50Latency,
+                        getNonExisting.p90Latency,
+                        getNonExisting.p99Latency,
+                        getNonExisting.stdDeviation,
+                        set.avgLatency,
+                        set.p50Latency,
+                        set.p90Latency,
+                        set.p99Latency,
+                        set.stdDeviation,
+                        tps);
+        data.mode = targetRate.isPresent() ? "open-loop" : "closed-loop";
+        data.target_rate = targetRate.isPresent() ? targetRate.getAsDouble() : null;
+        data.get_existing_p999_latency = getExisting.p999Latency;
+        data.get_non_existing_p999_latency = getNonExisting.p999Latency;
+        data.set_p999_latency = set.p999Latency;
+        data.intervals = intervals;
+        data.workload = workload;
+        data.iterations = iterations;
+        data.cpu_time_per_op_ns = usage.cpuTimePerOpNanos(iterations);
+        data.allocated_bytes_per_op = usage.allocatedBytesPerOp(iterations);
+        data.gc_count = usage.gcCount;
+        data.gc_pause_ms = usage.gcPauseMillis;
+        data.operations = new TreeMap<>();
+        calculatedResults.forEach((action, results) -> data.operations.put(action.name(), results));
+        return data;
+    }
 
+    /** Appends the results of a run to the results file. */
+    public static void Write(Measurements data, String resultsFile) {
         try {
-            Gson gson = new GsonBuilder().setPrettyPrinting().serializeNulls().create();
             Collection<Measurements> recordings = new ArrayList<>();
 
             Path path = Path.of(resultsFile);
             if (Files.exists(path)) {
-                TypeToken<Collection<Measurements>> collectionType = new TypeToken<>() {};
-                var json = new String(Files.readAllBytes(path));
-                recordings = gson.fromJson(json, collectionType);
+                recordings = Read(resultsFile);
             }
-            var data =
-                    new Measurements(
-                            client,
-                            clientCount,
-                            dataSize,
-                            isCluster,
-                            numOfTasks,
-                            calculatedResults.get(ChosenAction.GET_EXISTING).avgLatency,
-                            calculatedResults.get(ChosenAction.GET_EXISTING).p50Latency,
-                            calculatedResults.get(ChosenAction.GET_EXISTING).p90Latency,
-                            calculatedResults.get(ChosenAction.GET_EXISTING).p99Latency,
-                            calculatedResults.get(ChosenAction.GET_EXISTING).stdDeviation,
-                            calculatedResults.get(ChosenAction.GET_NON_EXISTING).avgLatency,
-                            calculatedResults.get(ChosenAction.GET_NON_EXISTING).p50Latency,
-                            calculatedResults.get(ChosenAction.GET_NON_EXISTING).p90Latency,
-                            calculatedResults.get(ChosenAction.GET_NON_EXISTING).p99Latency,
-                            calculatedResults.get(ChosenAction.GET_NON_EXISTING).stdDeviation,
-                            calculatedResults.get(ChosenAction.SET).avgLatency,
-                            calculatedResults.get(ChosenAction.SET).p50Latency,
-                            calculatedResults.get(ChosenAction.SET).p90Latency,
-                            calculatedResults.get(ChosenAction.SET).p99Latency,
-                            calculatedResults.get(ChosenAction.SET).stdDeviation,
-                            tps);
-
             recordings.add(data);
 
-            Files.write(path, gson.toJson(recordings).getBytes());
+            Files.write(path, createGson().toJson(recordings).getBytes());
         } catch (IOException e) {
             System.out.printf(
                     "Failed to write measurement results into a file '%s': %s%n",
@@ -68,6 +97,22 @@ public class JsonWriter {
         }
     }
 
+    /** Reads all the runs of a results file. */
+    public static List<Measurements> Read(String resultsFile) throws IOException {
+        TypeToken<List<Measurements>> collectionType = new TypeToken<>() {};
+        var json = new String(Files.readAllBytes(Path.of(resultsFile)));
+        List<Measurements> recordings = createGson().fromJson(json, collectionType);
+        return recordings == null ? new ArrayList<>() : recordings;
+    }
+
+    private static Gson createGson() {
+        return new GsonBuilder()
+                .setPrettyPrinting()
+                .serializeNulls()
+                .setFieldNamingPolicy(FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES)
+                .create();
+    }
+
     public static class Measurements {
         public Measurements(
                 String client,
@@ -135,5 +180,39 @@ public class JsonWriter {
         public double set_p99_latency;
         public double set_std_dev;
         public double tps;
+
+        /** <code>closed-loop</code>, or <code>open-loop</code> when requests follow a fixed rate. */
+        public String mode;
+
+        /** The requested rate of an open-loop run, in requests per second. */
+        public Double target_rate;
+
+        public double get_existing_p999_latency;
+        public double get_non_existing_p999_latency;
+        public double set_p999_latency;
+
+        /** Throughput and latency of every action over time. */
+        public List<IntervalResults> intervals;
+
+        /** The name of the workload which was run. */
+        public String workload;
+
+        /** The number of operations of the run. */
+        public int iterations;
+
+        /** Client CPU time per operation, including the native threads of the process. */
+        public long cpu_time_per_op_ns;
+
+        /** Heap bytes allocated per operation by all Java threads, or -1 if unsupported. */
+        public long allocated_bytes_per_op;
+
+        /** The number of garbage collections during the run. */
+        public long gc_count;
+
+        /** The time the application was paused by garbage collections during the run. */
+        public long gc_pause_ms;
+
+        /** Latencies of every operation of the workload, by operation name. */
+        public Map<String, LatencyResults> operations;
     }
 }
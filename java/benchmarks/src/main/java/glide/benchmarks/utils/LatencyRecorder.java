@@ -0,0 +1,128 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.benchmarks.utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+/**
+ * Records latencies per action into HDR histograms, which keep a fixed memory footprint regardless
+ * of the length of the run. A background thread closes an interval every reporting period, and
+ * keeps the throughput and latency of each interval as a time series.
+ */
+public class LatencyRecorder implements AutoCloseable {
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Map<ChosenAction, Recorder> recorders = new EnumMap<>(ChosenAction.class);
+    private final Map<ChosenAction, Histogram> totals = new EnumMap<>(ChosenAction.class);
+    private final Map<ChosenAction, Histogram> intervalHistograms = new EnumMap<>(ChosenAction.class);
+    private final List<IntervalResults> intervals = Collections.synchronizedList(new ArrayList<>());
+    private final ScheduledExecutorService reporter;
+    private final boolean printIntervals;
+    private final long startedNanos;
+    private long lastIntervalNanos;
+    private boolean closed = false;
+
+    /**
+     * Creates a recorder and starts reporting intervals.
+     *
+     * @param reportIntervalMillis The length of a reporting interval.
+     * @param printIntervals Whether to print a summary of every interval to stdout.
+     */
+    public LatencyRecorder(long reportIntervalMillis, boolean printIntervals) {
+        for (ChosenAction action : ChosenAction.values()) {
+            recorders.put(action, new Recorder(SIGNIFICANT_DIGITS));
+            totals.put(action, new Histogram(SIGNIFICANT_DIGITS));
+        }
+        this.printIntervals = printIntervals;
+        startedNanos = System.nanoTime();
+        lastIntervalNanos = startedNanos;
+        reporter =
+                Executors.newSingleThreadScheduledExecutor(
+                        r -> {
+                            Thread thread = new Thread(r, "latency-reporter");
+                            thread.setDaemon(true);
+                            return thread;
+                        });
+        reporter.scheduleAtFixedRate(
+                this::closeInterval, reportIntervalMillis, reportIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Records the latency of a single request. Thread-safe and wait-free.
+     *
+     * @param action The action of the request.
+     * @param latencyNanos The time from the (intended) start of the request until its response.
+     */
+    public void record(ChosenAction action, long latencyNanos) {
+        recorders.get(action).recordValue(latencyNanos);
+    }
+
+    /** Stops reporting and closes the last, possibly partial, interval. */
+    @Override
+    public void close() throws InterruptedException {
+        reporter.shutdown();
+        reporter.awaitTermination(1, TimeUnit.MINUTES);
+        closeInterval();
+        synchronized (this) {
+            closed = true;
+        }
+    }
+
+    private synchronized void closeInterval() {
+        if (closed) {
+            return;
+        }
+        long now = System.nanoTime();
+        double elapsedSeconds = (now - startedNanos) / Benchmarking.NANO_TO_SECONDS;
+        double intervalSeconds = (now - lastIntervalNanos) / Benchmarking.NANO_TO_SECONDS;
+        lastIntervalNanos = now;
+        if (intervalSeconds <= 0) {
+            return;
+        }
+
+        long requests = 0;
+        long p99 = 0;
+        for (ChosenAction action : ChosenAction.values()) {
+            Histogram interval =
+                    recorders.get(action).getIntervalHistogram(intervalHistograms.get(action));
+            intervalHistograms.put(action, interval);
+            if (interval.getTotalCount() == 0) {
+                continue;
+            }
+            totals.get(action).add(interval);
+            intervals.add(new IntervalResults(action.name(), elapsedSeconds, intervalSeconds, interval));
+            requests += interval.getTotalCount();
+            p99 = Math.max(p99, interval.getValueAtPercentile(99));
+        }
+        if (printIntervals) {
+            System.out.printf(
+                    "[%7.1fs] TPS: %d, p99 latency (ms): %.3f%n",
+                    elapsedSeconds, (long) (requests / intervalSeconds), p99 * LatencyResults.NANO_TO_MILLI);
+        }
+    }
+
+    /** Returns the latency summary of each action which had requests. Call after {@link #close()}. */
+    public Map<ChosenAction, LatencyResults> getResults() {
+        Map<ChosenAction, LatencyResults> results = new EnumMap<>(ChosenAction.class);
+        totals.forEach(
+                (action, histogram) -> {
+                    if (histogram.getTotalCount() != 0) {
+                        results.put(action, new LatencyResults(histogram));
+                    }
+                });
+        return results;
+    }
+
+    /** Returns the time series of interval results. Call after {@link #close()}. */
+    public List<IntervalResults> getIntervals() {
+        return new ArrayList<>(intervals);
+    }
+}
@@ -1,9 +1,7 @@
 /** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
 package glide.benchmarks.utils;
 
-import java.util.Arrays;
-import org.apache.commons.math3.stat.descriptive.moment.StandardDeviation;
-import org.apache.commons.math3.stat.descriptive.rank.Percentile;
+import org.HdrHistogram.Histogram;
 
 /** Raw timing results in nanoseconds */
 public class LatencyResults {
@@ -14,23 +12,32 @@ public class LatencyResults {
     public final double p50Latency;
     public final double p90Latency;
     public final double p99Latency;
+    public final double p999Latency;
+    public final double maxLatency;
     public final double stdDeviation;
     public final int totalRequests;
 
-    private double TruncateDecimal(double number, int digits) {
+    /** Results of an action without requests. */
+    public static final LatencyResults EMPTY = new LatencyResults(new Histogram(3));
+
+    private static double TruncateDecimal(double number, int digits) {
         int stepper = (int) Math.pow((double) 10, (double) digits);
         return Math.floor(number * stepper) / stepper;
     }
 
-    public LatencyResults(double[] latencies) {
-        avgLatency =
-                TruncateDecimal((NANO_TO_MILLI * Arrays.stream(latencies).sum() / latencies.length), 3);
-        p50Latency = TruncateDecimal((NANO_TO_MILLI * new Percentile().evaluate(latencies, 50)), 3);
-        p90Latency = TruncateDecimal((NANO_TO_MILLI * new Percentile().evaluate(latencies, 90)), 3);
-        p99Latency = TruncateDecimal((NANO_TO_MILLI * new Percentile().evaluate(latencies, 99)), 3);
-        stdDeviation =
-                TruncateDecimal(
-                        (NANO_TO_MILLI * new StandardDeviation().evaluate(latencies, avgLatency)), 3);
-        totalRequests = latencies.length;
+    /**
+     * Summarizes latencies recorded into a histogram.
+     *
+     * @param histogram Latencies in nanoseconds.
+     */
+    public LatencyResults(Histogram histogram) {
+        avgLatency = TruncateDecimal(NANO_TO_MILLI * histogram.getMean(), 3);
+        p50Latency = TruncateDecimal(NANO_TO_MILLI * histogram.getValueAtPercentile(50), 3);
+        p90Latency = TruncateDecimal(NANO_TO_MILLI * histogram.getValueAtPercentile(90), 3);
+        p99Latency = TruncateDecimal(NANO_TO_MILLI * histogram.getValueAtPercentile(99), 3);
+        p999Latency = TruncateDecimal(NANO_TO_MILLI * histogram.getValueAtPercentile(99.9), 3);
+        maxLatency = TruncateDecimal(NANO_TO_MILLI * histogram.getMaxValue(), 3);
+        stdDeviation = TruncateDecimal(NANO_TO_MILLI * histogram.getStdDeviation(), 3);
+        totalRequests = (int) histogram.getTotalCount();
     }
 }
@@ -0,0 +1,405 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.benchmarks.utils;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * A minimal RESP server on the loopback interface, which stands in for Valkey when benchmarking the
+ * client side only. It answers the handshake of the benchmarked clients and a handful of data
+ * commands with canned replies, from a single thread.
+ *
+ * <p>The server doesn't store values. It remembers which keys were written in a hashed bit set, and
+ * answers <code>GET</code> of such keys with the value of the most recent <code>SET</code>, so the
+ * existing and non-existing key paths of the clients are both exercised. Likewise, <code>HGETALL
+ * </code> of a written hash returns a single field with the most recent value, and <code>ZRANGE
+ * </code> of a written sorted set returns as many members as requested, up to {@link
+ * #MAX_RANGE_LENGTH}.
+ */
+public class MockValkeyServer implements AutoCloseable {
+
+    private static final int KEY_BITS = 1 << 24;
+    private static final int MAX_RANGE_LENGTH = 1000;
+    private static final int INITIAL_BUFFER_SIZE = 64 * 1024;
+    private static final byte[] CRLF = {'\r', '\n'};
+
+    private final ServerSocketChannel serverChannel;
+    private final Selector selector;
+    private final Thread thread;
+    private final BitSet writtenKeys = new BitSet(KEY_BITS);
+    private byte[] lastValue = new byte[0];
+    private volatile boolean running = true;
+
+    /** Per connection state. */
+    private static class Connection {
+        ByteBuffer in = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+        ByteBuffer out = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+        boolean resp3 = false;
+    }
+
+    /** Starts the server on an ephemeral loopback port. */
+    public MockValkeyServer() throws IOException {
+        selector = Selector.open();
+        serverChannel = ServerSocketChannel.open();
+        serverChannel.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        serverChannel.configureBlocking(false);
+        serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+        thread = new Thread(this::run, "mock-valkey-server");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public String getHost() {
+        return InetAddress.getLoopbackAddress().getHostAddress();
+    }
+
+    public int getPort() {
+        return serverChannel.socket().getLocalPort();
+    }
+
+    /** Returns the id of the server thread, so its allocations can be excluded from client usage. */
+    public long getThreadId() {
+        return thread.getId();
+    }
+
+    /**
+     * Returns the CPU time consumed by the server thread, so it can be excluded from client usage.
+     */
+    public long getCpuTimeNanos() {
+        return ManagementFactory.getThreadMXBean().getThreadCpuTime(thread.getId());
+    }
+
+    @Override
+    public void close() throws IOException, InterruptedException {
+        running = false;
+        selector.wakeup();
+        thread.join();
+        for (SelectionKey key : selector.keys()) {
+            key.channel().close();
+        }
+        selector.close();
+    }
+
+    private void run() {
+        try {
+            while (running) {
+                selector.select();
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    try {
+                        if (key.isAcceptable()) {
+                            accept();
+                        } else {
+                            if (key.isReadable()) {
+                                read(key);
+                            }
+                            if (key.isValid() && key.isWritable()) {
+                                flush(key);
+                            }
+                        }
+                    } catch (IOException e) {
+                        // The client disconnected
+                        key.cancel();
+                        key.channel().close();
+                    }
+                }
+            }
+        } catch (IOException e) {
+            if (running) {
+                throw new RuntimeException("Mock server failed", e);
+            }
+        }
+    }
+
+    private void accept() throws IOException {
+        SocketChannel channel = serverChannel.accept();
+        if (channel == null) {
+            return;
+        }
+        channel.configureBlocking(false);
+        channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+        channel.register(selector, SelectionKey.OP_READ, new Connection());
+    }
+
+    private void read(SelectionKey key) throws IOException {
+        Connection connection = (Connection) key.attachment();
+        SocketChannel channel = (SocketChannel) key.channel();
+        if (!connection.in.hasRemaining()) {
+            connection.in = grow(connection.in, connection.in.capacity() * 2);
+        }
+        if (channel.read(connection.in) < 0) {
+            throw new IOException("Connection closed");
+        }
+
+        connection.in.flip();
+        while (true) {
+            int start = connection.in.position();
+            List<byte[]> command = parseCommand(connection.in);
+            if (command == null) {
+                connection.in.position(start);
+                break;
+            }
+            if (!command.isEmpty()) {
+                execute(connection, command);
+            }
+        }
+        connection.in.compact();
+        flush(key);
+    }
+
+    private void flush(SelectionKey key) throws IOException {
+        Connection connection = (Connection) key.attachment();
+        connection.out.flip();
+        ((SocketChannel) key.channel()).write(connection.out);
+        connection.out.compact();
+        int interest = SelectionKey.OP_READ;
+        if (connection.out.position() > 0) {
+            interest |= SelectionKey.OP_WRITE;
+        }
+        key.interestOps(interest);
+    }
+
+    /**
+     * Parses a RESP array of bulk strings.
+     *
+     * @return The command and its arguments, or <code>null</code> if the buffer doesn't hold a whole
+     *     command yet.
+     */
+    private static List<byte[]> parseCommand(ByteBuffer buffer) throws IOException {
+        if (!buffer.hasRemaining()) {
+            return null;
+        }
+        if (buffer.get() != '*') {
+            throw new IOException("Only RESP arrays are supported");
+        }
+        long count = parseNumber(buffer);
+        if (count < 0) {
+            return null;
+        }
+        List<byte[]> arguments = new ArrayList<>((int) count);
+        for (int i = 0; i < count; i++) {
+            if (!buffer.hasRemaining()) {
+                return null;
+            }
+            if (buffer.get() != '$') {
+                throw new IOException("Only bulk string arguments are supported");
+            }
+            long length = parseNumber(buffer);
+            if (length < 0 || buffer.remaining() < length + 2) {
+                return null;
+            }
+            byte[] argument = new byte[(int) length];
+            buffer.get(argument);
+            buffer.position(buffer.position() + 2);
+            arguments.add(argument);
+        }
+        return arguments;
+    }
+
+    /** Parses a number terminated by CRLF, or returns <code>-1</code> if it's incomplete. */
+    private static long parseNumber(ByteBuffer buffer) {
+        long value = 0;
+        while (buffer.hasRemaining()) {
+            byte b = buffer.get();
+            if (b == '\r') {
+                if (!buffer.hasRemaining()) {
+                    return -1;
+                }
+                buffer.get();
+                return value;
+            }
+            value = value * 10 + (b - '0');
+        }
+        return -1;
+    }
+
+    private void execute(Connection connection, List<byte[]> command) {
+        String name = new String(command.get(0), StandardCharsets.US_ASCII).toUpperCase();
+        switch (name) {
+            case "GET":
+                if (command.size() > 1 && writtenKeys.get(keyBit(command.get(1)))) {
+                    writeBulk(connection, lastValue);
+                } else {
+                    writeNull(connection);
+                }
+                break;
+            case "SET":
+                if (command.size() > 2) {
+                    writtenKeys.set(keyBit(command.get(1)));
+                    lastValue = command.get(2);
+                }
+                writeSimple(connection, "OK");
+                break;
+            case "HSET":
+                if (command.size() > 3) {
+                    writtenKeys.set(keyBit(command.get(1)));
+                    lastValue = command.get(3);
+                }
+                writeInteger(connection, (command.size() - 2) / 2);
+                break;
+            case "HGETALL":
+                if (command.size() > 1 && writtenKeys.get(keyBit(command.get(1)))) {
+                    write(connection, connection.resp3 ? "%1\r\n" : "*2\r\n");
+                    writeBulk(connection, "field0".getBytes(StandardCharsets.US_ASCII));
+                    writeBulk(connection, lastValue);
+                } else {
+                    write(connection, connection.resp3 ? "%0\r\n" : "*0\r\n");
+                }
+                break;
+            case "ZADD":
+                if (command.size() > 3) {
+                    writtenKeys.set(keyBit(command.get(1)));
+                }
+                writeInteger(connection, (command.size() - 2) / 2);
+                break;
+            case "ZRANGE":
+                zrange(connection, command);
+                break;
+            case "PING":
+                if (command.size() > 1) {
+                    writeBulk(connection, command.get(1));
+                } else {
+                    writeSimple(connection, "PONG");
+                }
+                break;
+            case "HELLO":
+                hello(connection, command);
+                break;
+            case "INFO":
+                writeBulk(
+                        connection,
+                        "# Server\r\nredis_version:7.2.0\r\n# Replication\r\nrole:master\r\n"
+                                .getBytes(StandardCharsets.US_ASCII));
+                break;
+            case "CLIENT":
+                if (command.size() > 1
+                        && new String(command.get(1), StandardCharsets.US_ASCII).equalsIgnoreCase("ID")) {
+                    writeInteger(connection, 1);
+                } else {
+                    writeSimple(connection, "OK");
+                }
+                break;
+            case "AUTH":
+            case "SELECT":
+            case "READONLY":
+                writeSimple(connection, "OK");
+                break;
+            case "COMMAND":
+            case "CONFIG":
+                write(connection, "*0\r\n");
+                break;
+            default:
+                write(connection, "-ERR unknown command '" + name + "'\r\n");
+        }
+    }
+
+    private void hello(Connection connection, List<byte[]> command) {
+        if (command.size() > 1) {
+            String protocol = new String(command.get(1), StandardCharsets.US_ASCII);
+            if (protocol.equals("3")) {
+                connection.resp3 = true;
+            } else if (protocol.equals("2")) {
+                connection.resp3 = false;
+            } else {
+                write(connection, "-NOPROTO unsupported protocol version\r\n");
+                return;
+            }
+        }
+        write(connection, (connection.resp3 ? "%" : "*") + (connection.resp3 ? 7 : 14) + "\r\n");
+        writeSimple(connection, "server");
+        writeSimple(connection, "redis");
+        writeSimple(connection, "version");
+        writeSimple(connection, "7.2.0");
+        writeSimple(connection, "proto");
+        writeInteger(connection, connection.resp3 ? 3 : 2);
+        writeSimple(connection, "id");
+        writeInteger(connection, 1);
+        writeSimple(connection, "mode");
+        writeSimple(connection, "standalone");
+        writeSimple(connection, "role");
+        writeSimple(connection, "master");
+        writeSimple(connection, "modules");
+        write(connection, "*0\r\n");
+    }
+
+    private void zrange(Connection connection, List<byte[]> command) {
+        long length = 0;
+        if (command.size() > 3 && writtenKeys.get(keyBit(command.get(1)))) {
+            try {
+                long start = Long.parseLong(new String(command.get(2), StandardCharsets.US_ASCII));
+                long stop = Long.parseLong(new String(command.get(3), StandardCharsets.US_ASCII));
+                length = Math.max(0, Math.min(stop - start + 1, MAX_RANGE_LENGTH));
+            } catch (NumberFormatException e) {
+                write(connection, "-ERR only ranges by index are supported\r\n");
+                return;
+            }
+        }
+        write(connection, "*" + length + "\r\n");
+        for (long i = 0; i < length; i++) {
+            writeBulk(connection, ("member:" + i).getBytes(StandardCharsets.US_ASCII));
+        }
+    }
+
+    private static int keyBit(byte[] key) {
+        int hash = 1;
+        for (byte b : key) {
+            hash = 31 * hash + b;
+        }
+        return (hash ^ (hash >>> 16)) & (KEY_BITS - 1);
+    }
+
+    private static void writeSimple(Connection connection, String value) {
+        write(connection, "+" + value + "\r\n");
+    }
+
+    private static void writeInteger(Connection connection, long value) {
+        write(connection, ":" + value + "\r\n");
+    }
+
+    private static void writeNull(Connection connection) {
+        write(connection, connection.resp3 ? "_\r\n" : "$-1\r\n");
+    }
+
+    private static void writeBulk(Connection connection, byte[] value) {
+        write(connection, "$" + value.length + "\r\n");
+        ensureCapacity(connection, value.length + CRLF.length);
+        connection.out.put(value).put(CRLF);
+    }
+
+    private static void write(Connection connection, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.US_ASCII);
+        ensureCapacity(connection, bytes.length);
+        connection.out.put(bytes);
+    }
+
+    private static void ensureCapacity(Connection connection, int length) {
+        if (connection.out.remaining() < length) {
+            connection.out =
+                    grow(
+                            connection.out,
+                            Math.max(connection.out.capacity() * 2, connection.out.position() + length));
+        }
+    }
+
+    private static ByteBuffer grow(ByteBuffer buffer, int capacity) {
+        ByteBuffer grown = ByteBuffer.allocate(capacity);
+        buffer.flip();
+        grown.put(buffer);
+        return grown;
+    }
+}
@@ -0,0 +1,133 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.benchmarks.utils;
+
+import glide.benchmarks.BenchmarkingApp;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The resources used by the benchmarked client: CPU time, heap allocations and garbage collections.
+ * Take a snapshot before and after a run, and subtract them with {@link #since(ResourceUsage)}.
+ *
+ * <p>The in-process mock server, if there is one, is excluded. Allocations are summed over all live
+ * Java threads, which covers the benchmark tasks as well as the event loop threads of the clients.
+ * Allocations of threads which terminate during a run, and native allocations such as those of the
+ * Glide core, are not accounted for.
+ */
+public class ResourceUsage {
+    /** The reported allocations when the JVM doesn't support measuring them. */
+    public static final long UNSUPPORTED = -1;
+
+    /** CPU time of the process, including native threads. */
+    public final long cpuTimeNanos;
+
+    /** Bytes allocated on the heap, or {@link #UNSUPPORTED}. */
+    public final long allocatedBytes;
+
+    /** The number of garbage collections. */
+    public final long gcCount;
+
+    /**
+     * The time spent in collections which pause the application. Cycles of concurrent collectors,
+     * which run alongside the application, are not counted.
+     */
+    public final long gcPauseMillis;
+
+    private final Map<Long, Long> allocatedBytesByThread;
+
+    private ResourceUsage(
+            long cpuTimeNanos,
+            long allocatedBytes,
+            long gcCount,
+            long gcPauseMillis,
+            Map<Long, Long> allocatedBytesByThread) {
+        this.cpuTimeNanos = cpuTimeNanos;
+        this.allocatedBytes = allocatedBytes;
+        this.gcCount = gcCount;
+        this.gcPauseMillis = gcPauseMillis;
+        this.allocatedBytesByThread = allocatedBytesByThread;
+    }
+
+    /** Takes a snapshot of the resources used by this process so far. */
+    public static ResourceUsage snapshot(BenchmarkingApp.RunConfiguration config) {
+        long cpuTime =
+                ((com.sun.management.OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean())
+                        .getProcessCpuTime();
+        cpuTime -= config.mockServer.map(MockValkeyServer::getCpuTimeNanos).orElse(0L);
+
+        Map<Long, Long> allocatedBytesByThread = new HashMap<>();
+        long allocatedBytes = UNSUPPORTED;
+        var threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        if (threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled()) {
+            long[] ids = threads.getAllThreadIds();
+            long[] bytes = threads.getThreadAllocatedBytes(ids);
+            long excluded = config.mockServer.map(MockValkeyServer::getThreadId).orElse(-1L);
+            allocatedBytes = 0;
+            for (int i = 0; i < ids.length; i++) {
+                // Threads which terminated in the meantime report -1
+                if (ids[i] != excluded && bytes[i] >= 0) {
+                    allocatedBytesByThread.put(ids[i], bytes[i]);
+                    allocatedBytes += bytes[i];
+                }
+            }
+        }
+
+        long gcCount = 0;
+        long gcPauseMillis = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            gcCount += Math.max(0, gc.getCollectionCount());
+            if (!isConcurrent(gc)) {
+                gcPauseMillis += Math.max(0, gc.getCollectionTime());
+            }
+        }
+        return new ResourceUsage(
+                cpuTime, allocatedBytes, gcCount, gcPauseMillis, allocatedBytesByThread);
+    }
+
+    /** Collectors which report concurrent cycles separately from their pauses. */
+    private static boolean isConcurrent(GarbageCollectorMXBean gc) {
+        return gc.getName().contains("Concurrent") || gc.getName().endsWith("Cycles");
+    }
+
+    /** Returns the resources used between an earlier snapshot and this one. */
+    public ResourceUsage since(ResourceUsage start) {
+        long allocated = UNSUPPORTED;
+        if (allocatedBytes != UNSUPPORTED && start.allocatedBytes != UNSUPPORTED) {
+            allocated = 0;
+            // Threads started during the run are counted from zero
+            for (Map.Entry<Long, Long> entry : allocatedBytesByThread.entrySet()) {
+                allocated +=
+                        entry.getValue() - start.allocatedBytesByThread.getOrDefault(entry.getKey(), 0L);
+            }
+        }
+        return new ResourceUsage(
+                cpuTimeNanos - start.cpuTimeNanos,
+                allocated,
+                gcCount - start.gcCount,
+                gcPauseMillis - start.gcPauseMillis,
+                Map.of());
+    }
+
+    public long cpuTimePerOpNanos(int iterations) {
+        return cpuTimeNanos / iterations;
+    }
+
+    /** Returns the bytes allocated per operation, or {@link #UNSUPPORTED}. */
+    public long allocatedBytesPerOp(int iterations) {
+        return allocatedBytes == UNSUPPORTED ? UNSUPPORTED : allocatedBytes / iterations;
+    }
+
+    public void print(int iterations) {
+        System.out.printf("Client CPU time per op (ns): %d%n", cpuTimePerOpNanos(iterations));
+        System.out.printf(
+                "Max TPS per core: %d%n",
+                (long) (iterations * Benchmarking.NANO_TO_SECONDS / cpuTimeNanos));
+        if (allocatedBytes != UNSUPPORTED) {
+            System.out.printf("Allocated bytes per op: %d%n", allocatedBytesPerOp(iterations));
+        }
+        System.out.printf("GC count: %d%n", gcCount);
+        System.out.printf("GC pause time (ms): %d%n", gcPauseMillis);
+    }
+}
@@ -0,0 +1,216 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.benchmarks.workloads;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.annotations.SerializedName;
+import glide.benchmarks.utils.ChosenAction;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A workload definition: the mix of operations, how keys and values are chosen, and the data set
+ * loaded before the run. Workloads are read from JSON, either one of the {@link #PRESETS} bundled
+ * with the benchmarks, or a file. For example:
+ *
+ * <pre>{@code
+ * {
+ *   "name": "read-heavy",
+ *   "operations": { "GET_EXISTING": 0.9, "SET": 0.1 },
+ *   "keyDistribution": { "type": "zipfian", "zipfianConstant": 0.99 },
+ *   "valueSize": { "type": "uniform", "min": 100, "max": 4000 },
+ *   "recordCount": 100000,
+ *   "load": true
+ * }
+ * }</pre>
+ */
+public class Workload {
+    /** Workloads bundled as resources of the benchmarks. */
+    public static final List<String> PRESETS =
+            List.of("default", "ycsb-a", "ycsb-b", "ycsb-c", "ycsb-d", "ycsb-e", "ycsb-f", "hashes");
+
+    public static final String DEFAULT_PRESET = "default";
+
+    private static final String PRESETS_FOLDER = "/workloads/";
+
+    public String name;
+
+    public String description = "";
+
+    /** The relative weight of each operation. Weights don't need to add up to 1. */
+    public Map<ChosenAction, Double> operations = new EnumMap<>(ChosenAction.class);
+
+    /** How keys of the record set are chosen by the operations. */
+    public KeyDistribution keyDistribution = new KeyDistribution();
+
+    /**
+     * The size of the values written by the operations. When absent, values have the size given by
+     * the <code>dataSize</code> option of the run.
+     */
+    public ValueSize valueSize;
+
+    /** The number of records, that is keys of each data type used by the operations. */
+    public long recordCount = 100000;
+
+    /**
+     * Whether to write all records before the run, so reads of the record set find a value. Otherwise
+     * reads only find the records written during the run.
+     */
+    public boolean load = false;
+
+    /** The number of fields of each hash. */
+    public int hashFields = 10;
+
+    /**
+     * The number of members of each sorted set after loading. <code>ZRANGE</code> reads between 1 and
+     * this number of members, and <code>ZADD</code> writes members up to twice this index.
+     */
+    public int sortedSetSize = 100;
+
+    /** The number of keys of each <code>PIPELINED_GET</code>. */
+    public int pipelineSize = 10;
+
+    public static class KeyDistribution {
+        public enum Type {
+            /** All records are equally likely. */
+            @SerializedName("uniform")
+            UNIFORM,
+            /** Few records are popular, and popular records are scattered over the key space. */
+            @SerializedName("zipfian")
+            ZIPFIAN,
+            /** The most recently inserted records are the most popular, with zipfian skew. */
+            @SerializedName("latest")
+            LATEST,
+            /** A fixed fraction of the records gets a fixed fraction of the operations. */
+            @SerializedName("hotspot")
+            HOTSPOT
+        }
+
+        public Type type = Type.UNIFORM;
+
+        /** The skew of <code>zipfian</code> and <code>latest</code>, between 0 and 1 exclusive. */
+        public double zipfianConstant = ZipfianGenerator.DEFAULT_CONSTANT;
+
+        /** The fraction of the records which are hot in <code>hotspot</code>. */
+        public double hotSetFraction = 0.2;
+
+        /** The fraction of the operations which go to the hot records in <code>hotspot</code>. */
+        public double hotOperationFraction = 0.8;
+    }
+
+    public static class ValueSize {
+        public enum Type {
+            /** Every value has <code>min</code> bytes. */
+            @SerializedName("constant")
+            CONSTANT,
+            /** Value sizes are spread evenly between <code>min</code> and <code>max</code> bytes. */
+            @SerializedName("uniform")
+            UNIFORM,
+            /** Value sizes are between <code>min</code> and <code>max</code>, mostly small. */
+            @SerializedName("zipfian")
+            ZIPFIAN
+        }
+
+        public Type type = Type.CONSTANT;
+        public int min = 100;
+        public int max = 100;
+    }
+
+    /**
+     * Reads a workload.
+     *
+     * @param nameOrPath The name of one of the {@link #PRESETS}, or the path of a JSON file.
+     * @throws IllegalArgumentException If the workload is malformed or invalid.
+     */
+    public static Workload load(String nameOrPath) throws IOException {
+        Workload workload;
+        if (PRESETS.contains(nameOrPath)) {
+            try (InputStream is =
+                    Workload.class.getResourceAsStream(PRESETS_FOLDER + nameOrPath + ".json")) {
+                if (is == null) {
+                    throw new IOException("Missing workload resource: " + nameOrPath);
+                }
+                workload = parse(new InputStreamReader(is, StandardCharsets.UTF_8));
+            }
+        } else {
+            try (Reader reader = Files.newBufferedReader(Path.of(nameOrPath))) {
+                workload = parse(reader);
+            }
+        }
+        if (workload.name == null) {
+            workload.name = nameOrPath;
+        }
+        workload.validate();
+        return workload;
+    }
+
+    private static Workload parse(Reader reader) {
+        try {
+            Workload workload = new Gson().fromJson(reader, Workload.class);
+            if (workload == null) {
+                throw new IllegalArgumentException("The workload is empty");
+            }
+            return workload;
+        } catch (JsonParseException e) {
+            throw new IllegalArgumentException("Malformed workload: " + e.getMessage(), e);
+        }
+    }
+
+    private void validate() {
+        if (operations == null || operations.isEmpty()) {
+            throw new IllegalArgumentException("The workload has no operations");
+        }
+        for (Map.Entry<ChosenAction, Double> entry : operations.entrySet()) {
+            if (entry.getKey() == null) {
+                throw new IllegalArgumentException("Unknown operation in workload " + name);
+            }
+            if (entry.getValue() == null || entry.getValue() < 0) {
+                throw new IllegalArgumentException("Invalid weight of operation " + entry.getKey());
+            }
+        }
+        if (operations.values().stream().mapToDouble(Double::doubleValue).sum() <= 0) {
+            throw new IllegalArgumentException("The weights of the operations add up to 0");
+        }
+        if (keyDistribution == null || keyDistribution.type == null) {
+            throw new IllegalArgumentException("Invalid key distribution");
+        }
+        if (keyDistribution.zipfianConstant <= 0 || keyDistribution.zipfianConstant >= 1) {
+            throw new IllegalArgumentException(
+                    "The zipfian constant must be between 0 and 1: " + keyDistribution.zipfianConstant);
+        }
+        if (keyDistribution.hotSetFraction <= 0 || keyDistribution.hotSetFraction > 1) {
+            throw new IllegalArgumentException(
+                    "The hot set fraction must be between 0 and 1: " + keyDistribution.hotSetFraction);
+        }
+        if (keyDistribution.hotOperationFraction < 0 || keyDistribution.hotOperationFraction > 1) {
+            throw new IllegalArgumentException(
+                    "The hot operation fraction must be between 0 and 1: "
+                            + keyDistribution.hotOperationFraction);
+        }
+        if (valueSize != null) {
+            if (valueSize.type == null) {
+                throw new IllegalArgumentException("Invalid value size distribution");
+            }
+            if (valueSize.min < 0
+                    || (valueSize.type != ValueSize.Type.CONSTANT && valueSize.max < valueSize.min)) {
+                throw new IllegalArgumentException(
+                        "Invalid value sizes: min " + valueSize.min + ", max " + valueSize.max);
+            }
+        }
+        if (recordCount <= 0) {
+            throw new IllegalArgumentException("The record count must be positive: " + recordCount);
+        }
+        if (hashFields <= 0 || sortedSetSize <= 0 || pipelineSize <= 0) {
+            throw new IllegalArgumentException(
+                    "The hash fields, sorted set size and pipeline size must be positive");
+        }
+    }
+}
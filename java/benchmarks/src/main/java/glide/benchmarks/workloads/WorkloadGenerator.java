@@ -0,0 +1,200 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.benchmarks.workloads;
+
+import glide.benchmarks.utils.ChosenAction;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Generates the operations, keys and values of one run of a {@link Workload}. One generator is
+ * shared by all tasks of the run, and is thread-safe.
+ */
+public class WorkloadGenerator {
+    private static final String STRING_KEY_PREFIX = "key:";
+    private static final String HASH_KEY_PREFIX = "hash:";
+    private static final String SORTED_SET_KEY_PREFIX = "zset:";
+    private static final String MISSING_KEY_PREFIX = "missing:";
+    private static final String FIELD_PREFIX = "field";
+    private static final String MEMBER_PREFIX = "member:";
+
+    private final Workload workload;
+    private final ChosenAction[] actions;
+    private final double[] cumulativeWeights;
+    private final AtomicLong recordCount;
+    private final ZipfianGenerator zipfian;
+    private final ZipfianGenerator valueSizeZipfian;
+    private final int minValueSize;
+    private final int maxValueSize;
+    private final String maxValue;
+
+    /**
+     * @param workload The workload to run.
+     * @param dataSize The size of the values if the workload doesn't define one.
+     */
+    public WorkloadGenerator(Workload workload, int dataSize) {
+        this.workload = workload;
+        actions = new ChosenAction[workload.operations.size()];
+        cumulativeWeights = new double[actions.length];
+        double total = 0;
+        int i = 0;
+        for (Map.Entry<ChosenAction, Double> entry : workload.operations.entrySet()) {
+            total += entry.getValue();
+            actions[i] = entry.getKey();
+            cumulativeWeights[i++] = total;
+        }
+        recordCount = new AtomicLong(workload.recordCount);
+
+        Workload.KeyDistribution keys = workload.keyDistribution;
+        zipfian =
+                keys.type == Workload.KeyDistribution.Type.ZIPFIAN
+                                || keys.type == Workload.KeyDistribution.Type.LATEST
+                        ? new ZipfianGenerator(workload.recordCount, keys.zipfianConstant)
+                        : null;
+
+        Workload.ValueSize sizes = workload.valueSize;
+        if (sizes == null) {
+            minValueSize = dataSize;
+            maxValueSize = dataSize;
+        } else {
+            minValueSize = sizes.min;
+            maxValueSize = sizes.type == Workload.ValueSize.Type.CONSTANT ? sizes.min : sizes.max;
+        }
+        valueSizeZipfian =
+                sizes != null && sizes.type == Workload.ValueSize.Type.ZIPFIAN
+                        ? new ZipfianGenerator(
+                                maxValueSize - minValueSize + 1, ZipfianGenerator.DEFAULT_CONSTANT)
+                        : null;
+        maxValue = "0".repeat(maxValueSize);
+    }
+
+    public Workload getWorkload() {
+        return workload;
+    }
+
+    /** Returns the data types of the records the operations of the workload use. */
+    public Set<ChosenAction.DataType> getDataTypes() {
+        return workload.operations.keySet().stream()
+                .map(action -> action.dataType)
+                .collect(Collectors.toSet());
+    }
+
+    /** Picks an operation according to the weights of the workload. */
+    public ChosenAction nextAction() {
+        double point =
+                ThreadLocalRandom.current().nextDouble() * cumulativeWeights[cumulativeWeights.length - 1];
+        for (int i = 0; i < cumulativeWeights.length - 1; i++) {
+            if (point < cumulativeWeights[i]) {
+                return actions[i];
+            }
+        }
+        return actions[actions.length - 1];
+    }
+
+    /** Picks a record according to the key distribution of the workload. */
+    public long nextRecord() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long count = recordCount.get();
+        Workload.KeyDistribution keys = workload.keyDistribution;
+        switch (keys.type) {
+            case ZIPFIAN:
+                // Scatter popular records, so they are not all neighbours or on the same node
+                return Math.floorMod(fnvHash(zipfian.next()), workload.recordCount);
+            case LATEST:
+                return Math.max(0, count - 1 - zipfian.next());
+            case HOTSPOT:
+                long hotRecords = Math.max(1, (long) (count * keys.hotSetFraction));
+                if (hotRecords == count || random.nextDouble() < keys.hotOperationFraction) {
+                    return random.nextLong(hotRecords);
+                }
+                return hotRecords + random.nextLong(count - hotRecords);
+            default:
+                return random.nextLong(count);
+        }
+    }
+
+    /** Reserves a new record for an insert. */
+    public long nextInsertRecord() {
+        return recordCount.getAndIncrement();
+    }
+
+    public String stringKey(long record) {
+        return STRING_KEY_PREFIX + record;
+    }
+
+    public String hashKey(long record) {
+        return HASH_KEY_PREFIX + record;
+    }
+
+    public String sortedSetKey(long record) {
+        return SORTED_SET_KEY_PREFIX + record;
+    }
+
+    /** Returns a key which is never written. */
+    public String missingKey() {
+        return MISSING_KEY_PREFIX + ThreadLocalRandom.current().nextLong(workload.recordCount);
+    }
+
+    public List<String> nextStringKeys() {
+        List<String> keys = new ArrayList<>(workload.pipelineSize);
+        for (int i = 0; i < workload.pipelineSize; i++) {
+            keys.add(stringKey(nextRecord()));
+        }
+        return keys;
+    }
+
+    public String nextValue() {
+        if (minValueSize == maxValueSize) {
+            return maxValue;
+        }
+        int size =
+                valueSizeZipfian != null
+                        ? minValueSize + (int) valueSizeZipfian.next()
+                        : ThreadLocalRandom.current().nextInt(minValueSize, maxValueSize + 1);
+        return maxValue.substring(0, size);
+    }
+
+    public Map<String, String> nextHash() {
+        Map<String, String> fields = new HashMap<>(workload.hashFields * 2);
+        for (int i = 0; i < workload.hashFields; i++) {
+            fields.put(FIELD_PREFIX + i, nextValue());
+        }
+        return fields;
+    }
+
+    /** Returns the members and scores of a sorted set as it's loaded. */
+    public Map<String, Double> initialSortedSet() {
+        Map<String, Double> members = new LinkedHashMap<>(workload.sortedSetSize * 2);
+        for (int i = 0; i < workload.sortedSetSize; i++) {
+            members.put(MEMBER_PREFIX + i, (double) i);
+        }
+        return members;
+    }
+
+    /** Returns a single member to add to a sorted set, which may already be a member. */
+    public Map<String, Double> nextMember() {
+        int index = ThreadLocalRandom.current().nextInt(workload.sortedSetSize * 2);
+        return Map.of(MEMBER_PREFIX + index, (double) index);
+    }
+
+    /** Returns the number of members to read from a sorted set. */
+    public int nextRangeLength() {
+        return ThreadLocalRandom.current().nextInt(1, workload.sortedSetSize + 1);
+    }
+
+    /** 64-bit FNV-1a hash of the bytes of a long. */
+    private static long fnvHash(long value) {
+        long hash = 0xCBF29CE484222325L;
+        for (int i = 0; i < Long.BYTES; i++) {
+            hash ^= (value >>> (i * 8)) & 0xFF;
+            hash *= 0x100000001B3L;
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,52 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.benchmarks.workloads;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Generates ranks between 0 and <code>items - 1</code> following a zipfian distribution, where rank
+ * 0 is the most popular, using the algorithm from "Quickly Generating Billion-Record Synthetic
+ * Databases" by Gray et al. This is the same generator YCSB uses. Thread-safe.
+ */
+public class ZipfianGenerator {
+    public static final double DEFAULT_CONSTANT = 0.99;
+
+    private final long items;
+    private final double theta;
+    private final double zetan;
+    private final double alpha;
+    private final double eta;
+
+    /**
+     * @param items The number of ranks. Computing the generator takes time linear in this number.
+     * @param theta The skew of the distribution, between 0 and 1 exclusive.
+     */
+    public ZipfianGenerator(long items, double theta) {
+        this.items = items;
+        this.theta = theta;
+        this.zetan = zeta(items, theta);
+        this.alpha = 1.0 / (1.0 - theta);
+        this.eta = (1 - Math.pow(2.0 / items, 1 - theta)) / (1 - zeta(2, theta) / zetan);
+    }
+
+    private static double zeta(long n, double theta) {
+        double sum = 0;
+        for (long i = 1; i <= n; i++) {
+            sum += 1 / Math.pow(i, theta);
+        }
+        return sum;
+    }
+
+    public long next() {
+        double u = ThreadLocalRandom.current().nextDouble();
+        double uz = u * zetan;
+        if (uz < 1.0) {
+            return 0;
+        }
+        if (uz < 1.0 + Math.pow(0.5, theta)) {
+            return Math.min(1, items - 1);
+        }
+        long rank = (long) (items * Math.pow(eta * u - eta + 1, alpha));
+        return Math.min(rank, items - 1);
+    }
+}
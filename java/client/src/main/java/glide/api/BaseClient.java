@@ -191,7 +191,10 @@ import static glide.utils.ArrayTransformUtils.convertNestedArrayToKeyValueGlideS
 import static glide.utils.ArrayTransformUtils.convertNestedArrayToKeyValueStringArray;
 import static glide.utils.ArrayTransformUtils.mapGeoDataToArray;
 import static glide.utils.ArrayTransformUtils.mapGeoDataToGlideStringArray;
+import static glide.utils.ArrayTransformUtils.toGlideStringArray;
 
+import glide.api.codec.Codec;
+import glide.api.codec.TypedClient;
 import glide.api.commands.BitmapBaseCommands;
 import glide.api.commands.GenericBaseCommands;
 import glide.api.commands.GeospatialIndicesBaseCommands;
@@ -205,6 +208,10 @@ import glide.api.commands.SortedSetBaseCommands;
 import glide.api.commands.StreamBaseCommands;
 import glide.api.commands.StringBaseCommands;
 import glide.api.commands.TransactionsBaseCommands;
+import glide.api.metrics.CircuitBreakerMetrics;
+import glide.api.metrics.CompressionMetrics;
+import glide.api.metrics.ConcurrencyLimitMetrics;
+import glide.api.models.DirectValue;
 import glide.api.models.GlideString;
 import glide.api.models.PubSubMessage;
 import glide.api.models.Script;
@@ -245,6 +252,7 @@ import glide.api.models.commands.scan.HScanOptions;
 import glide.api.models.commands.scan.HScanOptionsBinary;
 import glide.api.models.commands.scan.SScanOptions;
 import glide.api.models.commands.scan.SScanOptionsBinary;
+import glide.api.models.commands.scan.ScanStreamOptions;
 import glide.api.models.commands.scan.ZScanOptions;
 import glide.api.models.commands.scan.ZScanOptionsBinary;
 import glide.api.models.commands.stream.StreamAddOptions;
@@ -259,8 +267,11 @@ import glide.api.models.commands.stream.StreamReadOptions;
 import glide.api.models.commands.stream.StreamTrimOptions;
 import glide.api.models.configuration.BaseClientConfiguration;
 import glide.api.models.configuration.BaseSubscriptionConfiguration;
+import glide.api.models.configuration.GlideClientConfiguration;
+import glide.api.models.configuration.ReadFrom;
 import glide.api.models.exceptions.ConfigurationError;
 import glide.api.models.exceptions.GlideException;
+import glide.api.scan.PrefetchingScan;
 import glide.connectors.handlers.CallbackDispatcher;
 import glide.connectors.handlers.ChannelHandler;
 import glide.connectors.handlers.MessageHandler;
@@ -269,12 +280,21 @@ import glide.connectors.resources.ThreadPoolResource;
 import glide.connectors.resources.ThreadPoolResourceAllocator;
 import glide.ffi.resolvers.GlideValueResolver;
 import glide.managers.BaseResponseResolver;
+import glide.managers.BlockingConnectionPool;
+import glide.managers.BlockingConnectionPool.BlockingConnection;
+import glide.managers.CircuitBreaker;
 import glide.managers.CommandManager;
+import glide.managers.ConcurrencyLimiter;
 import glide.managers.ConnectionManager;
+import glide.managers.RequestCoalescer;
 import glide.utils.ArgsBuilder;
+import glide.utils.ValueCompressor;
+import java.nio.ByteBuffer;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -282,7 +302,9 @@ import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.ArrayUtils;
@@ -314,6 +336,9 @@ public abstract class BaseClient
     protected final MessageHandler messageHandler;
     protected final Optional<BaseSubscriptionConfiguration> subscriptionConfiguration;
 
+    /** Compresses string values, or <code>null</code> if they're stored as is. */
+    protected final ValueCompressor valueCompressor;
+
     /** Helper which extracts data from received {@link Response}s from GLIDE. */
     private static final BaseResponseResolver responseResolver =
             new BaseResponseResolver(GlideValueResolver::valueFromPointer);
@@ -328,6 +353,7 @@ public abstract class BaseClient
         this.commandManager = builder.commandManager;
         this.messageHandler = builder.messageHandler;
         this.subscriptionConfiguration = builder.subscriptionConfiguration;
+        this.valueCompressor = builder.valueCompressor;
     }
 
     /** Auxiliary builder which wraps all fields to be initialized in the constructor. */
@@ -337,6 +363,15 @@ public abstract class BaseClient
         private final CommandManager commandManager;
         private final MessageHandler messageHandler;
         private final Optional<BaseSubscriptionConfiguration> subscriptionConfiguration;
+        private final ValueCompressor valueCompressor;
+
+        public ClientBuilder(
+                ConnectionManager connectionManager,
+                CommandManager commandManager,
+                MessageHandler messageHandler,
+                Optional<BaseSubscriptionConfiguration> subscriptionConfiguration) {
+            this(connectionManager, commandManager, messageHandler, subscriptionConfiguration, null);
+        }
     }
 
     /**
@@ -350,15 +385,15 @@ public abstract class BaseClient
     protected static <T extends BaseClient> CompletableFuture<T> createClient(
             @NonNull BaseClientConfiguration config, Function<ClientBuilder, T> constructor) {
         try {
-            ThreadPoolResource threadPoolResource = config.getThreadPoolResource();
-            if (threadPoolResource == null) {
-                threadPoolResource =
-                        ThreadPoolResourceAllocator.getOrCreate(Platform.getThreadPoolResourceSupplier());
-            }
+            ThreadPoolResource threadPoolResource = getThreadPoolResource(config);
             MessageHandler messageHandler = buildMessageHandler(config);
             ChannelHandler channelHandler = buildChannelHandler(threadPoolResource, messageHandler);
             ConnectionManager connectionManager = buildConnectionManager(channelHandler);
-            CommandManager commandManager = buildCommandManager(channelHandler);
+            CommandManager commandManager = buildCommandManager(channelHandler, config);
+            ValueCompressor valueCompressor =
+                    config.getCompressionConfiguration() == null
+                            ? null
+                            : new ValueCompressor(config.getCompressionConfiguration());
             // TODO: Support exception throwing, including interrupted exceptions
             return connectionManager
                     .connectToValkey(config)
@@ -369,7 +404,8 @@ public abstract class BaseClient
                                                     connectionManager,
                                                     commandManager,
                                                     messageHandler,
-                                                    Optional.ofNullable(config.getSubscriptionConfiguration()))));
+                                                    Optional.ofNullable(config.getSubscriptionConfiguration()),
+                                                    valueCompressor)));
         } catch (InterruptedException e) {
             // Something bad happened while we were establishing netty connection to UDS
             var future = new CompletableFuture<T>();
@@ -421,6 +457,109 @@ public abstract class BaseClient
         return messageHandler.getQueue().popAsync();
     }
 
+    /**
+     * Returns a view of this client which stores objects, converted to bytes and back by the given
+     * codecs. The view sends the binary versions of the commands, so keys and values don't go through
+     * a <code>String</code>. The view shares the connection of this client.
+     *
+     * @param keyCodec Converts keys and hash fields.
+     * @param valueCodec Converts values.
+     * @return A typed view of this client.
+     * @param <K> The type of the keys and hash fields.
+     * @param <V> The type of the values.
+     * @example
+     *     <pre>{@code
+     * TypedClient<String, byte[]> images = client.withCodec(Codec.STRING, Codec.BYTES);
+     * byte[] image = images.get("image:1").get();
+     * }</pre>
+     */
+    public <K, V> TypedClient<K, V> withCodec(
+            @NonNull Codec<K> keyCodec, @NonNull Codec<V> valueCodec) {
+        return new TypedClient<>(this, keyCodec, valueCodec);
+    }
+
+    /**
+     * Creates the parts of a view of this client which sends requests with the given timeout.
+     *
+     * @param timeout The request timeout, at least one millisecond.
+     */
+    protected ClientBuilder viewWithTimeout(@NonNull Duration timeout) {
+        long millis = timeout.toMillis();
+        if (millis < 1 || millis > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("The request timeout must be between 1 and 2^31-1 ms");
+        }
+        return new ClientBuilder(
+                connectionManager,
+                commandManager.withRequestTimeout((int) millis),
+                messageHandler,
+                subscriptionConfiguration,
+                valueCompressor);
+    }
+
+    /**
+     * Sends the requests of an action even if identical reads are in flight, when the client
+     * coalesces reads. See {@link BaseClientConfiguration#isCoalesceReads()}.
+     *
+     * @param action Calls the client from the current thread and returns the result, e.g. <code>
+     *     () -> client.get(key)</code>.
+     * @return The result of the action.
+     * @example
+     *     <pre>{@code
+     * String value = client.withoutCoalescing(() -> client.get("key")).get();
+     * }</pre>
+     */
+    public <T> T withoutCoalescing(@NonNull Supplier<T> action) {
+        return RequestCoalescer.bypass(action);
+    }
+
+    /**
+     * Returns whether the client coalesces identical reads in flight. Coalesced reads share their
+     * immutable result. See {@link BaseClientConfiguration#isCoalesceReads()}.
+     */
+    public boolean isCoalescingReads() {
+        return commandManager.isCoalescingReads();
+    }
+
+    /**
+     * Returns the number of reads which were not sent because an identical read was in flight, when
+     * the client coalesces reads. See {@link BaseClientConfiguration#isCoalesceReads()}.
+     */
+    public long getCoalescedRequestCount() {
+        return commandManager.getCoalescedRequestCount();
+    }
+
+    /**
+     * Returns a snapshot of the adaptive concurrency limit: the requests allowed in flight, the round
+     * trip times and the rejected requests. See {@link
+     * BaseClientConfiguration#getAdaptiveConcurrencyConfiguration()}.
+     *
+     * @return The metrics, or <code>null</code> if the client doesn't limit the requests in flight.
+     */
+    public ConcurrencyLimitMetrics getConcurrencyLimitMetrics() {
+        return commandManager.getConcurrencyLimitMetrics();
+    }
+
+    /**
+     * Returns a snapshot of the per-node circuit breakers: their state, failures and rejected
+     * requests, by node address. Only nodes which failed are reported. See {@link
+     * BaseClientConfiguration#getCircuitBreakerConfiguration()}.
+     *
+     * @return The metrics, or <code>null</code> if the client doesn't use circuit breakers.
+     */
+    public Map<String, CircuitBreakerMetrics> getCircuitBreakerMetrics() {
+        return commandManager.getCircuitBreakerMetrics();
+    }
+
+    /**
+     * Returns a snapshot of the compression of string values: the values compressed and their
+     * compression ratio. See {@link BaseClientConfiguration#getCompressionConfiguration()}.
+     *
+     * @return The metrics, or <code>null</code> if the client doesn't compress values.
+     */
+    public CompressionMetrics getCompressionMetrics() {
+        return valueCompressor == null ? null : valueCompressor.getMetrics();
+    }
+
     /**
      * Closes this resource, relinquishing any underlying resources. This method is invoked
      * automatically on objects managed by the try-with-resources statement.
@@ -431,6 +570,7 @@ public abstract class BaseClient
     @Override
     public void close() throws ExecutionException {
         try {
+            commandManager.closeBlockingConnections();
             connectionManager.closeConnection().get();
         } catch (InterruptedException e) {
             // suppressing the interrupted exception - it is already suppressed in the future
@@ -438,6 +578,15 @@ public abstract class BaseClient
         }
     }
 
+    private static ThreadPoolResource getThreadPoolResource(BaseClientConfiguration config) {
+        ThreadPoolResource threadPoolResource = config.getThreadPoolResource();
+        if (threadPoolResource == null) {
+            threadPoolResource =
+                    ThreadPoolResourceAllocator.getOrCreate(Platform.getThreadPoolResourceSupplier());
+        }
+        return threadPoolResource;
+    }
+
     protected static MessageHandler buildMessageHandler(BaseClientConfiguration config) {
         if (config.getSubscriptionConfiguration() == null) {
             return new MessageHandler(Optional.empty(), Optional.empty(), binaryResponseResolver);
@@ -459,8 +608,71 @@ public abstract class BaseClient
         return new ConnectionManager(channelHandler);
     }
 
-    protected static CommandManager buildCommandManager(ChannelHandler channelHandler) {
-        return new CommandManager(channelHandler);
+    protected static CommandManager buildCommandManager(
+            ChannelHandler channelHandler, BaseClientConfiguration config) {
+        BlockingConnectionPool blockingConnectionPool = null;
+        if (config.getBlockingConnectionPoolSize() != null) {
+            blockingConnectionPool =
+                    new BlockingConnectionPool(
+                            config.getBlockingConnectionPoolSize(), () -> connectBlockingConnection(config));
+        }
+        return CommandManager.builder()
+                .channel(channelHandler)
+                .requestTimingsConfiguration(config.getRequestTimingsConfiguration())
+                .blockingConnectionPool(blockingConnectionPool)
+                .requestCoalescer(config.isCoalesceReads() ? new RequestCoalescer() : null)
+                .concurrencyLimiter(
+                        config.getAdaptiveConcurrencyConfiguration() == null
+                                ? null
+                                : new ConcurrencyLimiter(
+                                        config.getAdaptiveConcurrencyConfiguration(), config.getRequestTimeout()))
+                .circuitBreaker(
+                        config.getCircuitBreakerConfiguration() == null
+                                ? null
+                                : new CircuitBreaker(
+                                        config.getCircuitBreakerConfiguration(),
+                                        // standalone clients send every request to the primary, unless they
+                                        // read from replicas
+                                        config instanceof GlideClientConfiguration
+                                                && config.getReadFrom() == ReadFrom.PRIMARY))
+                .build();
+    }
+
+    /** Opens a dedicated connection for blocking commands, without pubsub subscriptions. */
+    private static CompletableFuture<BlockingConnection> connectBlockingConnection(
+            BaseClientConfiguration config) {
+        try {
+            MessageHandler messageHandler =
+                    new MessageHandler(Optional.empty(), Optional.empty(), binaryResponseResolver);
+            ChannelHandler channelHandler =
+                    buildChannelHandler(getThreadPoolResource(config), messageHandler);
+            ConnectionManager connectionManager = buildConnectionManager(channelHandler);
+            CommandManager commandManager =
+                    CommandManager.builder()
+                            .channel(channelHandler)
+                            .requestTimingsConfiguration(config.getRequestTimingsConfiguration())
+                            .build();
+            CompletableFuture<Void> connected;
+            try {
+                connected = connectionManager.connectBlockingConnection(config);
+            } catch (RuntimeException e) {
+                connected = CompletableFuture.failedFuture(e);
+            }
+            return connected
+                    .whenComplete(
+                            (ignored, error) -> {
+                                // The pool only closes the connections it receives
+                                if (error != null) {
+                                    connectionManager.closeConnection();
+                                }
+                            })
+                    .thenApply(
+                            ignored -> new BlockingConnection(channelHandler, connectionManager, commandManager));
+        } catch (InterruptedException e) {
+            var future = new CompletableFuture<BlockingConnection>();
+            future.completeExceptionally(e);
+            return future;
+        }
     }
 
     /**
@@ -535,6 +747,16 @@ public abstract class BaseClient
         return handleValkeyResponse(GlideString.class, EnumSet.of(ResponseFlags.IS_NULLABLE), response);
     }
 
+    protected DirectValue handleDirectValueOrNullResponse(Response response) throws GlideException {
+        if (!response.hasRespPointer()) {
+            return null;
+        }
+        long handle = GlideValueResolver.bytesFromPointer(response.getRespPointer());
+        return new DirectValue(
+                GlideValueResolver.directBufferFromBytes(handle),
+                () -> GlideValueResolver.releaseBytes(handle));
+    }
+
     protected GlideString handleGlideStringResponse(Response response) throws GlideException {
         return handleValkeyResponse(GlideString.class, EnumSet.noneOf(ResponseFlags.class), response);
     }
@@ -742,6 +964,9 @@ public abstract class BaseClient
 
     @Override
     public CompletableFuture<String> get(@NonNull String key) {
+        if (valueCompressor != null) {
+            return get(gs(key)).thenApply(valueCompressor::decode);
+        }
         return commandManager.submitNewCommand(
                 Get, new String[] {key}, this::handleStringOrNullResponse);
     }
@@ -752,6 +977,30 @@ public abstract class BaseClient
                 Get, new GlideString[] {key}, this::handleGlideStringOrNullResponse);
     }
 
+    /**
+     * Gets the value of <code>key</code> as a read-only direct buffer over native memory, without
+     * copying it to the Java heap. Meant for large values, to spare the garbage collector large
+     * allocations. The memory must be released with {@link DirectValue#release()}.
+     *
+     * <p>The request is never coalesced with identical reads in flight, even if the client is
+     * configured to.
+     *
+     * @see <a href="https://valkey.io/commands/get/">valkey.io</a> for details.
+     * @param key The key to retrieve from the database.
+     * @return Response from Valkey. If <code>key</code> exists, returns the value of <code>key</code>
+     *     . Otherwise, return <code>null</code>.
+     * @example
+     *     <pre>{@code
+     * try (DirectValue value = client.getDirect(gs("key")).get()) {
+     *     channel.write(value.getBuffer());
+     * }
+     * }</pre>
+     */
+    public CompletableFuture<DirectValue> getDirect(@NonNull GlideString key) {
+        return commandManager.submitNewDirectCommand(
+                Get, new GlideString[] {key}, this::handleDirectValueOrNullResponse);
+    }
+
     @Override
     public CompletableFuture<String> getdel(@NonNull String key) {
         return commandManager.submitNewCommand(
@@ -791,6 +1040,9 @@ public abstract class BaseClient
 
     @Override
     public CompletableFuture<String> set(@NonNull String key, @NonNull String value) {
+        if (valueCompressor != null) {
+            return set(gs(key), valueCompressor.encode(value));
+        }
         return commandManager.submitNewCommand(
                 Set, new String[] {key, value}, this::handleStringResponse);
     }
@@ -815,6 +1067,76 @@ public abstract class BaseClient
         return commandManager.submitNewCommand(Set, arguments, this::handleStringOrNullResponse);
     }
 
+    /**
+     * Sets the given <code>key</code> with the given value and returns the value stored before, as
+     * bytes. Unlike {@link #set(GlideString, GlideString, SetOptions)} with options which return the
+     * old value, the old value isn't converted to a <code>String</code>, so binary values are
+     * returned as they were stored.
+     *
+     * @see <a href="https://valkey.io/commands/set/">valkey.io</a> for details.
+     * @param key The key to store.
+     * @param value The value to store with the given <code>key</code>.
+     * @param options The set options. The old value is returned even if they don't ask for it.
+     * @return The old value stored at <code>key</code>, or <code>null</code> if <code>key</code> did
+     *     not exist.
+     * @example
+     *     <pre>{@code
+     * SetOptions options = SetOptions.builder().expiry(Seconds(10L)).build();
+     * GlideString old = client.setGet(gs("key"), gs("new"), options).get();
+     * assert old.equals(gs("old"));
+     * }</pre>
+     */
+    public CompletableFuture<GlideString> setGet(
+            @NonNull GlideString key, @NonNull GlideString value, @NonNull SetOptions options) {
+        String[] optionArgs = options.toArgs();
+        if (!ArrayUtils.contains(optionArgs, SetOptions.RETURN_OLD_VALUE)) {
+            optionArgs = ArrayUtils.add(optionArgs, SetOptions.RETURN_OLD_VALUE);
+        }
+        GlideString[] arguments = new ArgsBuilder().add(key).add(value).add(optionArgs).toArray();
+        return commandManager.submitNewCommand(Set, arguments, this::handleGlideStringOrNullResponse);
+    }
+
+    /**
+     * Sets the given <code>key</code> with the content of a buffer, between its position and its
+     * limit. The content of a direct buffer is copied to the native layer straight from native
+     * memory, without a copy to the Java heap. The buffer isn't modified, and can be reused once this
+     * method returns.
+     *
+     * @see <a href="https://valkey.io/commands/set/">valkey.io</a> for details.
+     * @param key The key to store.
+     * @param value The value to store with the given <code>key</code>.
+     * @return Response from Valkey containing <code>"OK"</code>.
+     * @example
+     *     <pre>{@code
+     * String value = client.setDirect(gs("key"), buffer).get();
+     * assert value.equals("OK");
+     * }</pre>
+     */
+    public CompletableFuture<String> setDirect(@NonNull GlideString key, @NonNull ByteBuffer value) {
+        return commandManager.submitNewDirectCommand(
+                Set, new Object[] {key, value}, this::handleStringOrNullResponse);
+    }
+
+    /**
+     * Sets the given <code>key</code> with the content of a buffer, between its position and its
+     * limit, using options. See {@link #setDirect(GlideString, ByteBuffer)}.
+     *
+     * @see <a href="https://valkey.io/commands/set/">valkey.io</a> for details.
+     * @param key The key to store.
+     * @param value The value to store with the given <code>key</code>.
+     * @param options The Set options.
+     * @return Response from Valkey containing a <code>String</code> or <code>null</code> response. If
+     *     the value is successfully set, return <code>"OK"</code>. If value isn't set because of
+     *     {@link SetOptions.ConditionalSet#ONLY_IF_EXISTS} or {@link
+     *     SetOptions.ConditionalSet#ONLY_IF_DOES_NOT_EXIST} conditions, return <code>null</code>. If
+     *     the options return the old value, return it as a <code>String</code>.
+     */
+    public CompletableFuture<String> setDirect(
+            @NonNull GlideString key, @NonNull ByteBuffer value, @NonNull SetOptions options) {
+        Object[] arguments = ArrayUtils.addAll(new Object[] {key, value}, (Object[]) options.toArgs());
+        return commandManager.submitNewDirectCommand(Set, arguments, this::handleStringOrNullResponse);
+    }
+
     @Override
     public CompletableFuture<Long> append(@NonNull String key, @NonNull String value) {
         return commandManager.submitNewCommand(
@@ -829,6 +1151,11 @@ public abstract class BaseClient
 
     @Override
     public CompletableFuture<String[]> mget(@NonNull String[] keys) {
+        if (valueCompressor != null) {
+            return mget(toGlideStringArray(keys))
+                    .thenApply(
+                            values -> Arrays.stream(values).map(valueCompressor::decode).toArray(String[]::new));
+        }
         return commandManager.submitNewCommand(
                 MGet, keys, response -> castArray(handleArrayOrNullResponse(response), String.class));
     }
@@ -1023,6 +1350,9 @@ public abstract class BaseClient
 
     @Override
     public CompletableFuture<String> hget(@NonNull String key, @NonNull String field) {
+        if (valueCompressor != null) {
+            return hget(gs(key), gs(field)).thenApply(valueCompressor::decode);
+        }
         return commandManager.submitNewCommand(
                 HGet, new String[] {key, field}, this::handleStringOrNullResponse);
     }
@@ -1036,6 +1366,12 @@ public abstract class BaseClient
     @Override
     public CompletableFuture<Long> hset(
             @NonNull String key, @NonNull Map<String, String> fieldValueMap) {
+        if (valueCompressor != null) {
+            Map<GlideString, GlideString> encoded = new LinkedHashMap<>();
+            fieldValueMap.forEach(
+                    (field, value) -> encoded.put(gs(field), valueCompressor.encode(value)));
+            return hset(gs(key), encoded);
+        }
         String[] args = ArrayUtils.addFirst(convertMapToKeyValueStringArray(fieldValueMap), key);
         return commandManager.submitNewCommand(HSet, args, this::handleLongResponse);
     }
@@ -4962,6 +5298,75 @@ public abstract class BaseClient
         return commandManager.submitNewCommand(HScan, arguments, this::handleArrayOrNullResponseBinary);
     }
 
+    @Override
+    public Stream<GlideString> sscanStream(@NonNull GlideString key) {
+        return sscanStream(key, ScanStreamOptions.builder().build());
+    }
+
+    @Override
+    public Stream<GlideString> sscanStream(
+            @NonNull GlideString key, @NonNull ScanStreamOptions options) {
+        return new PrefetchingScan<>(
+                        (cursor, count) ->
+                                commandManager.submitNewCommand(
+                                        SScan,
+                                        new ArgsBuilder()
+                                                .add(key)
+                                                .add(cursor)
+                                                .add(options.toArgs(count, false))
+                                                .toArray(),
+                                        this::handleArrayOrNullResponseBinary),
+                        PrefetchingScan::decodeElements,
+                        options)
+                .stream();
+    }
+
+    @Override
+    public Stream<Map.Entry<GlideString, Double>> zscanStream(@NonNull GlideString key) {
+        return zscanStream(key, ScanStreamOptions.builder().build());
+    }
+
+    @Override
+    public Stream<Map.Entry<GlideString, Double>> zscanStream(
+            @NonNull GlideString key, @NonNull ScanStreamOptions options) {
+        return new PrefetchingScan<>(
+                        (cursor, count) ->
+                                commandManager.submitNewCommand(
+                                        ZScan,
+                                        new ArgsBuilder()
+                                                .add(key)
+                                                .add(cursor)
+                                                .add(options.toArgs(count, false))
+                                                .toArray(),
+                                        this::handleArrayOrNullResponseBinary),
+                        PrefetchingScan::decodeScoredMembers,
+                        options)
+                .stream();
+    }
+
+    @Override
+    public Stream<Map.Entry<GlideString, GlideString>> hscanStream(@NonNull GlideString key) {
+        return hscanStream(key, ScanStreamOptions.builder().build());
+    }
+
+    @Override
+    public Stream<Map.Entry<GlideString, GlideString>> hscanStream(
+            @NonNull GlideString key, @NonNull ScanStreamOptions options) {
+        return new PrefetchingScan<>(
+                        (cursor, count) ->
+                                commandManager.submitNewCommand(
+                                        HScan,
+                                        new ArgsBuilder()
+                                                .add(key)
+                                                .add(cursor)
+                                                .add(options.toArgs(count, false))
+                                                .toArray(),
+                                        this::handleArrayOrNullResponseBinary),
+                        PrefetchingScan::decodePairs,
+                        options)
+                .stream();
+    }
+
     @Override
     public CompletableFuture<Long> wait(long numreplicas, long timeout) {
         return commandManager.submitNewCommand(
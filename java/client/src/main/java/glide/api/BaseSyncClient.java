@@ -0,0 +1,345 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.api;
+
+import glide.api.models.GlideString;
+import glide.api.models.commands.SetOptions;
+import glide.api.models.exceptions.GlideException;
+import glide.managers.CommandManager;
+import glide.utils.CallerExecutor;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+import lombok.NonNull;
+
+/**
+ * Base class of the synchronous clients. Every method sends a command with the client it wraps and
+ * blocks the calling thread until the response arrives, then returns it or throws the error of the
+ * command. The calling thread decodes the response itself rather than handing it to a separate
+ * task, and on Java 21 and newer virtual threads park directly while they wait, so the clients suit
+ * services running a virtual thread per request.
+ *
+ * <p>The synchronous client shares the connection of the client it wraps. Commands which aren't
+ * available synchronously can be sent with {@link #getAsyncClient()}.
+ *
+ * @param <C> The type of the client.
+ */
+public abstract class BaseSyncClient<C extends BaseClient> implements AutoCloseable {
+
+    protected final C client;
+
+    protected BaseSyncClient(@NonNull C client) {
+        this.client = client;
+    }
+
+    /** Returns the asynchronous client this client sends commands with. */
+    public C getAsyncClient() {
+        return client;
+    }
+
+    /**
+     * Sends the requests of an action and waits for the response.
+     *
+     * @param request Sends the requests.
+     * @return The response.
+     * @throws GlideException The error of the command, or if the thread is interrupted while waiting.
+     *     The interrupt status of the thread is kept.
+     */
+    protected static <T> T await(@NonNull Supplier<CompletableFuture<T>> request) {
+        CallerExecutor executor = new CallerExecutor();
+        CompletableFuture<T> response = CommandManager.handleResponsesWith(executor, request);
+        try {
+            executor.runUntilComplete(response);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GlideException("Interrupted while waiting for the response");
+        }
+        try {
+            return response.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Gets the value of a key. See {@link BaseClient#get(String)}.
+     *
+     * @param key The key.
+     * @return The value, or <code>null</code> if the key doesn't exist.
+     */
+    public String get(@NonNull String key) {
+        return await(() -> client.get(key));
+    }
+
+    /**
+     * Gets the value of a key. See {@link BaseClient#get(GlideString)}.
+     *
+     * @param key The key.
+     * @return The value, or <code>null</code> if the key doesn't exist.
+     */
+    public GlideString get(@NonNull GlideString key) {
+        return await(() -> client.get(key));
+    }
+
+    /**
+     * Gets the value of a key and deletes the key. See {@link BaseClient#getdel(String)}.
+     *
+     * @param key The key.
+     * @return The value, or <code>null</code> if the key doesn't exist.
+     */
+    public String getdel(@NonNull String key) {
+        return await(() -> client.getdel(key));
+    }
+
+    /**
+     * Sets the value of a key. See {@link BaseClient#set(String, String)}.
+     *
+     * @param key The key.
+     * @param value The value.
+     * @return <code>OK</code>.
+     */
+    public String set(@NonNull String key, @NonNull String value) {
+        return await(() -> client.set(key, value));
+    }
+
+    /**
+     * Sets the value of a key. See {@link BaseClient#set(GlideString, GlideString)}.
+     *
+     * @param key The key.
+     * @param value The value.
+     * @return <code>OK</code>.
+     */
+    public String set(@NonNull GlideString key, @NonNull GlideString value) {
+        return await(() -> client.set(key, value));
+    }
+
+    /**
+     * Sets the value of a key with options. See {@link BaseClient#set(String, String, SetOptions)}.
+     *
+     * @param key The key.
+     * @param value The value.
+     * @param options The options.
+     * @return <code>OK</code>, or <code>null</code> if the value wasn't set because of a condition.
+     *     If the options return the old value, the old value.
+     */
+    public String set(@NonNull String key, @NonNull String value, @NonNull SetOptions options) {
+        return await(() -> client.set(key, value, options));
+    }
+
+    /**
+     * Gets the values of keys. See {@link BaseClient#mget(String[])}.
+     *
+     * @param keys The keys.
+     * @return The values, in the order of the keys, with <code>null</code> for missing keys.
+     */
+    public String[] mget(@NonNull String[] keys) {
+        return await(() -> client.mget(keys));
+    }
+
+    /**
+     * Sets the values of keys. See {@link BaseClient#mset(Map)}.
+     *
+     * @param keyValueMap The keys and their values.
+     * @return <code>OK</code>.
+     */
+    public String mset(@NonNull Map<String, String> keyValueMap) {
+        return await(() -> client.mset(keyValueMap));
+    }
+
+    /**
+     * Deletes keys. See {@link BaseClient#del(String[])}.
+     *
+     * @param keys The keys.
+     * @return The number of keys deleted.
+     */
+    public long del(@NonNull String[] keys) {
+        return await(() -> client.del(keys));
+    }
+
+    /**
+     * Counts the keys which exist. See {@link BaseClient#exists(String[])}.
+     *
+     * @param keys The keys.
+     * @return The number of keys which exist, counting repeated keys as many times.
+     */
+    public long exists(@NonNull String[] keys) {
+        return await(() -> client.exists(keys));
+    }
+
+    /**
+     * Increments the number stored at a key by one. See {@link BaseClient#incr(String)}.
+     *
+     * @param key The key.
+     * @return The value after the increment.
+     */
+    public long incr(@NonNull String key) {
+        return await(() -> client.incr(key));
+    }
+
+    /**
+     * Increments the number stored at a key. See {@link BaseClient#incrBy(String, long)}.
+     *
+     * @param key The key.
+     * @param amount The increment.
+     * @return The value after the increment.
+     */
+    public long incrBy(@NonNull String key, long amount) {
+        return await(() -> client.incrBy(key, amount));
+    }
+
+    /**
+     * Sets the time to live of a key. See {@link BaseClient#expire(String, long)}.
+     *
+     * @param key The key.
+     * @param seconds The time to live, in seconds.
+     * @return <code>true</code> if the timeout was set, <code>false</code> if the key doesn't exist.
+     */
+    public boolean expire(@NonNull String key, long seconds) {
+        return await(() -> client.expire(key, seconds));
+    }
+
+    /**
+     * Gets the remaining time to live of a key. See {@link BaseClient#ttl(String)}.
+     *
+     * @param key The key.
+     * @return The time to live in seconds, <code>-1</code> if the key has no expiry, or <code>-2
+     *     </code> if the key doesn't exist.
+     */
+    public long ttl(@NonNull String key) {
+        return await(() -> client.ttl(key));
+    }
+
+    /**
+     * Gets the value of a hash field. See {@link BaseClient#hget(String, String)}.
+     *
+     * @param key The key of the hash.
+     * @param field The field.
+     * @return The value, or <code>null</code> if the field or the key doesn't exist.
+     */
+    public String hget(@NonNull String key, @NonNull String field) {
+        return await(() -> client.hget(key, field));
+    }
+
+    /**
+     * Sets hash fields. See {@link BaseClient#hset(String, Map)}.
+     *
+     * @param key The key of the hash.
+     * @param fieldValueMap The fields and their values.
+     * @return The number of fields added.
+     */
+    public long hset(@NonNull String key, @NonNull Map<String, String> fieldValueMap) {
+        return await(() -> client.hset(key, fieldValueMap));
+    }
+
+    /**
+     * Deletes hash fields. See {@link BaseClient#hdel(String, String[])}.
+     *
+     * @param key The key of the hash.
+     * @param fields The fields.
+     * @return The number of fields deleted.
+     */
+    public long hdel(@NonNull String key, @NonNull String[] fields) {
+        return await(() -> client.hdel(key, fields));
+    }
+
+    /**
+     * Gets the fields of a hash. See {@link BaseClient#hgetall(String)}.
+     *
+     * @param key The key of the hash.
+     * @return The fields and their values, empty if the key doesn't exist.
+     */
+    public Map<String, String> hgetall(@NonNull String key) {
+        return await(() -> client.hgetall(key));
+    }
+
+    /**
+     * Inserts elements at the head of a list. See {@link BaseClient#lpush(String, String[])}.
+     *
+     * @param key The key of the list.
+     * @param elements The elements.
+     * @return The length of the list.
+     */
+    public long lpush(@NonNull String key, @NonNull String[] elements) {
+        return await(() -> client.lpush(key, elements));
+    }
+
+    /**
+     * Inserts elements at the tail of a list. See {@link BaseClient#rpush(String, String[])}.
+     *
+     * @param key The key of the list.
+     * @param elements The elements.
+     * @return The length of the list.
+     */
+    public long rpush(@NonNull String key, @NonNull String[] elements) {
+        return await(() -> client.rpush(key, elements));
+    }
+
+    /**
+     * Removes and returns the first element of a list. See {@link BaseClient#lpop(String)}.
+     *
+     * @param key The key of the list.
+     * @return The element, or <code>null</code> if the key doesn't exist.
+     */
+    public String lpop(@NonNull String key) {
+        return await(() -> client.lpop(key));
+    }
+
+    /**
+     * Gets a range of a list. See {@link BaseClient#lrange(String, long, long)}.
+     *
+     * @param key The key of the list.
+     * @param start The index of the first element.
+     * @param end The index of the last element.
+     * @return The elements, empty if the key doesn't exist.
+     */
+    public String[] lrange(@NonNull String key, long start, long end) {
+        return await(() -> client.lrange(key, start, end));
+    }
+
+    /**
+     * Adds members to a set. See {@link BaseClient#sadd(String, String[])}.
+     *
+     * @param key The key of the set.
+     * @param members The members.
+     * @return The number of members added.
+     */
+    public long sadd(@NonNull String key, @NonNull String[] members) {
+        return await(() -> client.sadd(key, members));
+    }
+
+    /**
+     * Removes members from a set. See {@link BaseClient#srem(String, String[])}.
+     *
+     * @param key The key of the set.
+     * @param members The members.
+     * @return The number of members removed.
+     */
+    public long srem(@NonNull String key, @NonNull String[] members) {
+        return await(() -> client.srem(key, members));
+    }
+
+    /**
+     * Gets the members of a set. See {@link BaseClient#smembers(String)}.
+     *
+     * @param key The key of the set.
+     * @return The members, empty if the key doesn't exist.
+     */
+    public Set<String> smembers(@NonNull String key) {
+        return await(() -> client.smembers(key));
+    }
+
+    /**
+     * Closes the client it wraps. See {@link BaseClient#close()}.
+     *
+     * @throws ExecutionException If an error occurs while closing the connection.
+     */
+    @Override
+    public void close() throws ExecutionException {
+        client.close();
+    }
+}
@@ -47,6 +47,7 @@ import glide.api.commands.GenericCommands;
 import glide.api.commands.ScriptingAndFunctionsCommands;
 import glide.api.commands.ServerManagementCommands;
 import glide.api.commands.TransactionsCommands;
+import glide.api.metrics.HedgingMetrics;
 import glide.api.models.GlideString;
 import glide.api.models.Transaction;
 import glide.api.models.commands.FlushMode;
@@ -55,11 +56,15 @@ import glide.api.models.commands.SortOptions;
 import glide.api.models.commands.SortOptionsBinary;
 import glide.api.models.commands.function.FunctionRestorePolicy;
 import glide.api.models.commands.scan.ScanOptions;
+import glide.api.models.commands.scan.ScanStreamOptions;
 import glide.api.models.configuration.GlideClientConfiguration;
+import glide.api.scan.PrefetchingScan;
 import glide.utils.ArgsBuilder;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 import lombok.NonNull;
 import org.apache.commons.lang3.ArrayUtils;
 
@@ -91,6 +96,48 @@ public class GlideClient extends BaseClient
         return createClient(config, GlideClient::new);
     }
 
+    /**
+     * Returns a view of this client which sends requests with the given timeout instead of the
+     * configured request timeout. The timeout also applies to transactions and scripts, as a whole.
+     * Blocking commands still wait for their own timeout. The view shares the connection of this
+     * client: closing either of them closes both.
+     *
+     * @param timeout The request timeout, at least one millisecond.
+     * @return A client which uses the given request timeout.
+     * @example
+     *     <pre>{@code
+     * String value = client.withTimeout(Duration.ofMillis(20)).get("key").get();
+     * }</pre>
+     */
+    public GlideClient withTimeout(@NonNull Duration timeout) {
+        return new GlideClient(viewWithTimeout(timeout));
+    }
+
+    /**
+     * Returns the hedged reads of this client since it connected: the duplicates sent and won. See
+     * {@link GlideClientConfiguration#getHedgingPolicy()}. The counts are kept by GLIDE core, no
+     * request is sent to the server.
+     *
+     * @return The metrics, or <code>null</code> if the client doesn't hedge reads.
+     * @example
+     *     <pre>{@code
+     * HedgingMetrics hedging = client.getHedgingMetrics().get();
+     * double wonRatio = (double) hedging.getHedgesWon() / hedging.getHedgesSent();
+     * }</pre>
+     */
+    public CompletableFuture<HedgingMetrics> getHedgingMetrics() {
+        return commandManager.submitHedgeStatistics(
+                response -> {
+                    Object[] statistics = handleArrayOrNullResponse(response);
+                    return statistics == null
+                            ? null
+                            : HedgingMetrics.builder()
+                                    .hedgesSent((Long) statistics[0])
+                                    .hedgesWon((Long) statistics[1])
+                                    .build();
+                });
+    }
+
     @Override
     public CompletableFuture<Object> customCommand(@NonNull String[] args) {
         return commandManager.submitNewCommand(CustomCommand, args, this::handleObjectOrNullResponse);
@@ -557,4 +604,22 @@ public class GlideClient extends BaseClient
         GlideString[] arguments = new ArgsBuilder().add(cursor).add(options.toArgs()).toArray();
         return commandManager.submitNewCommand(Scan, arguments, this::handleArrayResponseBinary);
     }
+
+    @Override
+    public Stream<GlideString> scanStream() {
+        return scanStream(ScanStreamOptions.builder().build());
+    }
+
+    @Override
+    public Stream<GlideString> scanStream(@NonNull ScanStreamOptions options) {
+        return new PrefetchingScan<>(
+                        (cursor, count) ->
+                                commandManager.submitNewCommand(
+                                        Scan,
+                                        new ArgsBuilder().add(cursor).add(options.toArgs(count, true)).toArray(),
+                                        this::handleArrayResponseBinary),
+                        PrefetchingScan::decodeElements,
+                        options)
+                .stream();
+    }
 }
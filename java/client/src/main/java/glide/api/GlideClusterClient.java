@@ -28,6 +28,7 @@ import static command_request.CommandRequestOuterClass.RequestType.Lolwut;
 import static command_request.CommandRequestOuterClass.RequestType.Ping;
 import static command_request.CommandRequestOuterClass.RequestType.RandomKey;
 import static command_request.CommandRequestOuterClass.RequestType.SPublish;
+import static command_request.CommandRequestOuterClass.RequestType.Scan;
 import static command_request.CommandRequestOuterClass.RequestType.Sort;
 import static command_request.CommandRequestOuterClass.RequestType.SortReadOnly;
 import static command_request.CommandRequestOuterClass.RequestType.Time;
@@ -38,6 +39,7 @@ import static glide.api.models.commands.SortBaseOptions.STORE_COMMAND_STRING;
 import static glide.api.models.commands.function.FunctionListOptions.LIBRARY_NAME_VALKEY_API;
 import static glide.api.models.commands.function.FunctionListOptions.WITH_CODE_VALKEY_API;
 import static glide.api.models.commands.function.FunctionLoadOptions.REPLACE;
+import static glide.api.models.configuration.RequestRoutingConfiguration.SimpleSingleNodeRoute.RANDOM;
 import static glide.utils.ArrayTransformUtils.castArray;
 import static glide.utils.ArrayTransformUtils.castMapOfArrays;
 import static glide.utils.ArrayTransformUtils.concatenateArrays;
@@ -58,17 +60,25 @@ import glide.api.models.commands.InfoOptions;
 import glide.api.models.commands.SortClusterOptions;
 import glide.api.models.commands.function.FunctionRestorePolicy;
 import glide.api.models.commands.scan.ClusterScanCursor;
+import glide.api.models.commands.scan.ParallelScanOptions;
 import glide.api.models.commands.scan.ScanOptions;
 import glide.api.models.configuration.GlideClusterClientConfiguration;
+import glide.api.models.configuration.RequestRoutingConfiguration.ByAddressRoute;
 import glide.api.models.configuration.RequestRoutingConfiguration.Route;
 import glide.api.models.configuration.RequestRoutingConfiguration.SingleNodeRoute;
+import glide.api.scan.ParallelClusterScan;
 import glide.ffi.resolvers.ClusterScanCursorResolver;
 import glide.managers.CommandManager;
 import glide.utils.ArgsBuilder;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.concurrent.CompletableFuture;
 import lombok.NonNull;
 import org.apache.commons.lang3.ArrayUtils;
@@ -99,6 +109,23 @@ public class GlideClusterClient extends BaseClient
         return createClient(config, GlideClusterClient::new);
     }
 
+    /**
+     * Returns a view of this client which sends requests with the given timeout instead of the
+     * configured request timeout. The timeout also applies to transactions and scripts, as a whole.
+     * Blocking commands still wait for their own timeout. The view shares the connection of this
+     * client: closing either of them closes both.
+     *
+     * @param timeout The request timeout, at least one millisecond.
+     * @return A client which uses the given request timeout.
+     * @example
+     *     <pre>{@code
+     * String value = client.withTimeout(Duration.ofMillis(20)).get("key").get();
+     * }</pre>
+     */
+    public GlideClusterClient withTimeout(@NonNull Duration timeout) {
+        return new GlideClusterClient(viewWithTimeout(timeout));
+    }
+
     @Override
     public CompletableFuture<ClusterValue<Object>> customCommand(@NonNull String[] args) {
         // TODO if a command returns a map as a single value, ClusterValue misleads user
@@ -1085,6 +1112,46 @@ public class GlideClusterClient extends BaseClient
                         result -> new Object[] {new NativeClusterScanCursor(result[0].toString()), result[1]});
     }
 
+    @Override
+    public ParallelClusterScan scanParallel() {
+        return scanParallel(ParallelScanOptions.builder().build());
+    }
+
+    @Override
+    public ParallelClusterScan scanParallel(@NonNull ParallelScanOptions options) {
+        String[] optionArgs = options.toArgs();
+        return new ParallelClusterScan(
+                getPrimaryAddresses(),
+                (address, cursor) -> {
+                    int separator = address.lastIndexOf(':');
+                    Route route =
+                            new ByAddressRoute(
+                                    address.substring(0, separator),
+                                    Integer.parseInt(address.substring(separator + 1)));
+                    GlideString[] arguments = new ArgsBuilder().add(cursor).add(optionArgs).toArray();
+                    return commandManager.submitNewCommand(
+                            Scan, arguments, route, this::handleArrayResponseBinary);
+                },
+                options);
+    }
+
+    /** Returns the addresses of the primaries, as <code>"address:port"</code>, in sorted order. */
+    private CompletableFuture<List<String>> getPrimaryAddresses() {
+        return commandManager.submitNewCommand(
+                CustomCommand,
+                new String[] {"CLUSTER", "SLOTS"},
+                RANDOM,
+                response -> {
+                    Set<String> addresses = new TreeSet<>();
+                    for (Object slotRange : handleArrayResponse(response)) {
+                        // [start slot, end slot, [primary host, primary port, ...], replicas...]
+                        Object[] primary = (Object[]) ((Object[]) slotRange)[2];
+                        addresses.add(primary[0] + ":" + primary[1]);
+                    }
+                    return new ArrayList<>(addresses);
+                });
+    }
+
     @Override
     public CompletableFuture<String[]> sort(
             @NonNull String key, @NonNull SortClusterOptions sortClusterOptions) {
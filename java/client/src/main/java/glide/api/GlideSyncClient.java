@@ -0,0 +1,70 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.api;
+
+import glide.api.models.Transaction;
+import glide.api.models.configuration.GlideClientConfiguration;
+import lombok.NonNull;
+
+/**
+ * Synchronous (blocking) client for Standalone mode. Use {@link #createClient} to request a client,
+ * or wrap an existing {@link GlideClient}. See {@link BaseSyncClient}.
+ *
+ * @example
+ *     <pre>{@code
+ * try (GlideSyncClient client = GlideSyncClient.createClient(config)) {
+ *     client.set("key", "value");
+ *     String value = client.get("key");
+ * }
+ * }</pre>
+ */
+public class GlideSyncClient extends BaseSyncClient<GlideClient> {
+
+    /**
+     * Wraps a client. Closing either of them closes both.
+     *
+     * @param client The client to send commands with.
+     */
+    public GlideSyncClient(@NonNull GlideClient client) {
+        super(client);
+    }
+
+    /**
+     * Connects a synchronous client in Standalone mode, blocking until it's connected.
+     *
+     * @param config Glide client Configuration.
+     * @return The client.
+     */
+    public static GlideSyncClient createClient(@NonNull GlideClientConfiguration config) {
+        return new GlideSyncClient(await(() -> GlideClient.createClient(config)));
+    }
+
+    /**
+     * Pings the server. See {@link GlideClient#ping()}.
+     *
+     * @return <code>PONG</code>.
+     */
+    public String ping() {
+        return await(client::ping);
+    }
+
+    /**
+     * Executes a single command, without checking inputs. See {@link
+     * GlideClient#customCommand(String[])}.
+     *
+     * @param args Arguments for the custom command.
+     * @return The response of the command.
+     */
+    public Object customCommand(@NonNull String[] args) {
+        return await(() -> client.customCommand(args));
+    }
+
+    /**
+     * Executes a transaction. See {@link GlideClient#exec(Transaction)}.
+     *
+     * @param transaction The transaction.
+     * @return The responses of the commands, or <code>null</code> if the transaction was aborted.
+     */
+    public Object[] exec(@NonNull Transaction transaction) {
+        return await(() -> client.exec(transaction));
+    }
+}
@@ -0,0 +1,100 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.api;
+
+import glide.api.models.ClusterTransaction;
+import glide.api.models.ClusterValue;
+import glide.api.models.configuration.GlideClusterClientConfiguration;
+import glide.api.models.configuration.RequestRoutingConfiguration.Route;
+import glide.api.models.configuration.RequestRoutingConfiguration.SingleNodeRoute;
+import lombok.NonNull;
+
+/**
+ * Synchronous (blocking) client for Cluster mode. Use {@link #createClient} to request a client, or
+ * wrap an existing {@link GlideClusterClient}. See {@link BaseSyncClient}.
+ */
+public class GlideSyncClusterClient extends BaseSyncClient<GlideClusterClient> {
+
+    /**
+     * Wraps a client. Closing either of them closes both.
+     *
+     * @param client The client to send commands with.
+     */
+    public GlideSyncClusterClient(@NonNull GlideClusterClient client) {
+        super(client);
+    }
+
+    /**
+     * Connects a synchronous client in Cluster mode, blocking until it's connected.
+     *
+     * @param config Glide cluster client Configuration.
+     * @return The client.
+     */
+    public static GlideSyncClusterClient createClient(
+            @NonNull GlideClusterClientConfiguration config) {
+        return new GlideSyncClusterClient(await(() -> GlideClusterClient.createClient(config)));
+    }
+
+    /**
+     * Pings the cluster. See {@link GlideClusterClient#ping()}.
+     *
+     * @return <code>PONG</code>.
+     */
+    public String ping() {
+        return await(client::ping);
+    }
+
+    /**
+     * Pings the nodes of a route. See {@link GlideClusterClient#ping(Route)}.
+     *
+     * @param route Specifies the nodes to ping.
+     * @return <code>PONG</code>.
+     */
+    public String ping(@NonNull Route route) {
+        return await(() -> client.ping(route));
+    }
+
+    /**
+     * Executes a single command, without checking inputs. See {@link
+     * GlideClusterClient#customCommand(String[])}.
+     *
+     * @param args Arguments for the custom command.
+     * @return The response of the command.
+     */
+    public ClusterValue<Object> customCommand(@NonNull String[] args) {
+        return await(() -> client.customCommand(args));
+    }
+
+    /**
+     * Executes a single command on the nodes of a route, without checking inputs. See {@link
+     * GlideClusterClient#customCommand(String[], Route)}.
+     *
+     * @param args Arguments for the custom command.
+     * @param route Specifies the nodes to execute the command on.
+     * @return The response of the command.
+     */
+    public ClusterValue<Object> customCommand(@NonNull String[] args, @NonNull Route route) {
+        return await(() -> client.customCommand(args, route));
+    }
+
+    /**
+     * Executes a transaction. See {@link GlideClusterClient#exec(ClusterTransaction)}.
+     *
+     * @param transaction The transaction.
+     * @return The responses of the commands, or <code>null</code> if the transaction was aborted.
+     */
+    public Object[] exec(@NonNull ClusterTransaction transaction) {
+        return await(() -> client.exec(transaction));
+    }
+
+    /**
+     * Executes a transaction on a node. See {@link GlideClusterClient#exec(ClusterTransaction,
+     * SingleNodeRoute)}.
+     *
+     * @param transaction The transaction.
+     * @param route Specifies the node to execute the transaction on.
+     * @return The responses of the commands, or <code>null</code> if the transaction was aborted.
+     */
+    public Object[] exec(@NonNull ClusterTransaction transaction, @NonNull SingleNodeRoute route) {
+        return await(() -> client.exec(transaction, route));
+    }
+}
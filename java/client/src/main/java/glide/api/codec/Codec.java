@@ -0,0 +1,67 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.api.codec;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Function;
+import lombok.NonNull;
+
+/**
+ * Converts objects to the bytes stored by the server and back. See {@link TypedClient}.
+ *
+ * @param <T> The type of the objects.
+ * @example
+ *     <pre>{@code
+ * Codec<Long> longs =
+ *     Codec.of(n -> ByteBuffer.allocate(8).putLong(n).array(), bytes -> ByteBuffer.wrap(bytes).getLong());
+ * }</pre>
+ */
+public interface Codec<T> {
+
+    /** Encodes strings as UTF-8. */
+    Codec<String> STRING =
+            of(
+                    value -> value.getBytes(StandardCharsets.UTF_8),
+                    bytes -> new String(bytes, StandardCharsets.UTF_8));
+
+    /** Passes bytes as is. */
+    Codec<byte[]> BYTES = of(Function.identity(), Function.identity());
+
+    /**
+     * Converts an object to bytes.
+     *
+     * @param value The object, not <code>null</code>.
+     * @return The bytes to send. The array is sent as is, and mustn't be modified afterwards.
+     */
+    byte[] encode(T value);
+
+    /**
+     * Converts bytes to an object.
+     *
+     * @param bytes The bytes of a reply. The array isn't shared, and may be kept by the object.
+     * @return The object.
+     */
+    T decode(byte[] bytes);
+
+    /**
+     * Creates a codec from a pair of functions.
+     *
+     * @param encoder Converts an object to bytes.
+     * @param decoder Converts bytes to an object.
+     * @return The codec.
+     */
+    static <T> Codec<T> of(
+            @NonNull Function<? super T, byte[]> encoder,
+            @NonNull Function<byte[], ? extends T> decoder) {
+        return new Codec<>() {
+            @Override
+            public byte[] encode(T value) {
+                return encoder.apply(value);
+            }
+
+            @Override
+            public T decode(byte[] bytes) {
+                return decoder.apply(bytes);
+            }
+        };
+    }
+}
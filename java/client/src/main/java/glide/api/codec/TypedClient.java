@@ -0,0 +1,327 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.api.codec;
+
+import static glide.api.models.GlideString.gs;
+
+import glide.api.BaseClient;
+import glide.api.models.GlideString;
+import glide.api.models.commands.SetOptions;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import lombok.NonNull;
+import org.apache.commons.lang3.ArrayUtils;
+
+/**
+ * A view of a client which stores objects of types <code>K</code> and <code>V</code>. Keys and
+ * values are converted to bytes by their {@link Codec} and sent with the binary ({@link
+ * GlideString}) versions of the commands, and replies are decoded from the bytes received, so
+ * objects don't go through a <code>String</code>. Hash fields are converted by the key codec.
+ *
+ * <p>The view shares the connection of its client. Commands which aren't available on the view can
+ * be sent with {@link #getClient()}. Values sent by the view aren't compressed, even if the client
+ * is configured with a {@link glide.api.models.configuration.CompressionConfiguration}.
+ *
+ * <p>If the client coalesces reads, coalesced reads share their reply, so its bytes are copied
+ * before they're decoded. Every object then gets its own array, as {@link Codec#decode(byte[])}
+ * promises.
+ *
+ * @param <K> The type of the keys and hash fields.
+ * @param <V> The type of the values.
+ * @example
+ *     <pre>{@code
+ * TypedClient<String, User> users = client.withCodec(Codec.STRING, userCodec);
+ * users.set("user:1", user).get();
+ * User stored = users.get("user:1").get();
+ * }</pre>
+ */
+public class TypedClient<K, V> {
+
+    private final BaseClient client;
+    private final Codec<K> keyCodec;
+    private final Codec<V> valueCodec;
+    private final boolean copyReplies;
+
+    /**
+     * Creates a view of a client. See {@link BaseClient#withCodec(Codec, Codec)}.
+     *
+     * @param client The client.
+     * @param keyCodec Converts keys and hash fields.
+     * @param valueCodec Converts values.
+     */
+    public TypedClient(
+            @NonNull BaseClient client, @NonNull Codec<K> keyCodec, @NonNull Codec<V> valueCodec) {
+        this.client = client;
+        this.keyCodec = keyCodec;
+        this.valueCodec = valueCodec;
+        this.copyReplies = client.isCoalescingReads();
+    }
+
+    /** Returns the client this view sends commands with. */
+    public BaseClient getClient() {
+        return client;
+    }
+
+    /**
+     * Gets the value of a key. See {@link BaseClient#get(GlideString)}.
+     *
+     * @param key The key.
+     * @return The value, or <code>null</code> if the key doesn't exist.
+     */
+    public CompletableFuture<V> get(@NonNull K key) {
+        return client.get(encodeKey(key)).thenApply(this::decodeValue);
+    }
+
+    /**
+     * Gets the value of a key and deletes the key. See {@link BaseClient#getdel(GlideString)}.
+     *
+     * @param key The key.
+     * @return The value, or <code>null</code> if the key doesn't exist.
+     */
+    public CompletableFuture<V> getdel(@NonNull K key) {
+        return client.getdel(encodeKey(key)).thenApply(this::decodeValue);
+    }
+
+    /**
+     * Sets the value of a key. See {@link BaseClient#set(GlideString, GlideString)}.
+     *
+     * @param key The key.
+     * @param value The value.
+     * @return <code>OK</code>.
+     */
+    public CompletableFuture<String> set(@NonNull K key, @NonNull V value) {
+        return client.set(encodeKey(key), encodeValue(value));
+    }
+
+    /**
+     * Sets the value of a key with options. See {@link BaseClient#set(GlideString, GlideString,
+     * SetOptions)}.
+     *
+     * <p>The old value is returned by {@link #setGet(Object, Object, SetOptions)}.
+     *
+     * @param key The key.
+     * @param value The value.
+     * @param options The options, which don't return the old value.
+     * @return <code>OK</code>, or <code>null</code> if the value wasn't set because of a condition.
+     * @throws IllegalArgumentException If the options return the old value.
+     */
+    public CompletableFuture<String> set(
+            @NonNull K key, @NonNull V value, @NonNull SetOptions options) {
+        if (ArrayUtils.contains(options.toArgs(), SetOptions.RETURN_OLD_VALUE)) {
+            throw new IllegalArgumentException("The old value is returned by setGet");
+        }
+        return client.set(encodeKey(key), encodeValue(value), options);
+    }
+
+    /**
+     * Sets the value of a key and gets the value stored before. See {@link
+     * BaseClient#setGet(GlideString, GlideString, SetOptions)}.
+     *
+     * @param key The key.
+     * @param value The value.
+     * @param options The options. The old value is returned even if they don't ask for it.
+     * @return The old value, or <code>null</code> if the key didn't exist.
+     */
+    public CompletableFuture<V> setGet(
+            @NonNull K key, @NonNull V value, @NonNull SetOptions options) {
+        return client.setGet(encodeKey(key), encodeValue(value), options).thenApply(this::decodeValue);
+    }
+
+    /**
+     * Gets the values of keys. See {@link BaseClient#mget(GlideString[])}.
+     *
+     * @param keys The keys.
+     * @return The values, in the order of the keys, with <code>null</code> for missing keys.
+     */
+    public CompletableFuture<List<V>> mget(@NonNull Collection<K> keys) {
+        return client.mget(encodeKeys(keys)).thenApply(this::decodeValues);
+    }
+
+    /**
+     * Sets the values of keys. See {@link BaseClient#msetBinary(Map)}.
+     *
+     * @param keyValueMap The keys and their values.
+     * @return <code>OK</code>.
+     */
+    public CompletableFuture<String> mset(@NonNull Map<K, V> keyValueMap) {
+        return client.msetBinary(encodeEntries(keyValueMap));
+    }
+
+    /**
+     * Deletes keys. See {@link BaseClient#del(GlideString[])}.
+     *
+     * @param keys The keys.
+     * @return The number of keys deleted.
+     */
+    public CompletableFuture<Long> del(@NonNull Collection<K> keys) {
+        return client.del(encodeKeys(keys));
+    }
+
+    /**
+     * Counts the keys which exist. See {@link BaseClient#exists(GlideString[])}.
+     *
+     * @param keys The keys.
+     * @return The number of keys which exist, counting repeated keys as many times.
+     */
+    public CompletableFuture<Long> exists(@NonNull Collection<K> keys) {
+        return client.exists(encodeKeys(keys));
+    }
+
+    /**
+     * Gets the value of a hash field. See {@link BaseClient#hget(GlideString, GlideString)}.
+     *
+     * @param key The key of the hash.
+     * @param field The field.
+     * @return The value, or <code>null</code> if the field or the key doesn't exist.
+     */
+    public CompletableFuture<V> hget(@NonNull K key, @NonNull K field) {
+        return client.hget(encodeKey(key), encodeKey(field)).thenApply(this::decodeValue);
+    }
+
+    /**
+     * Sets hash fields. See {@link BaseClient#hset(GlideString, Map)}.
+     *
+     * @param key The key of the hash.
+     * @param fieldValueMap The fields and their values.
+     * @return The number of fields added.
+     */
+    public CompletableFuture<Long> hset(@NonNull K key, @NonNull Map<K, V> fieldValueMap) {
+        return client.hset(encodeKey(key), encodeEntries(fieldValueMap));
+    }
+
+    /**
+     * Gets the fields of a hash. See {@link BaseClient#hgetall(GlideString)}.
+     *
+     * @param key The key of the hash.
+     * @return The fields and their values, empty if the key doesn't exist.
+     */
+    public CompletableFuture<Map<K, V>> hgetall(@NonNull K key) {
+        return client
+                .hgetall(encodeKey(key))
+                .thenApply(
+                        fields -> {
+                            Map<K, V> decoded = new LinkedHashMap<>();
+                            fields.forEach(
+                                    (field, value) -> decoded.put(keyCodec.decode(bytes(field)), decodeValue(value)));
+                            return decoded;
+                        });
+    }
+
+    /**
+     * Inserts elements at the head of a list. See {@link BaseClient#lpush(GlideString,
+     * GlideString[])}.
+     *
+     * @param key The key of the list.
+     * @param elements The elements.
+     * @return The length of the list.
+     */
+    public CompletableFuture<Long> lpush(@NonNull K key, @NonNull Collection<V> elements) {
+        return client.lpush(encodeKey(key), encodeValues(elements));
+    }
+
+    /**
+     * Inserts elements at the tail of a list. See {@link BaseClient#rpush(GlideString,
+     * GlideString[])}.
+     *
+     * @param key The key of the list.
+     * @param elements The elements.
+     * @return The length of the list.
+     */
+    public CompletableFuture<Long> rpush(@NonNull K key, @NonNull Collection<V> elements) {
+        return client.rpush(encodeKey(key), encodeValues(elements));
+    }
+
+    /**
+     * Gets a range of a list. See {@link BaseClient#lrange(GlideString, long, long)}.
+     *
+     * @param key The key of the list.
+     * @param start The index of the first element.
+     * @param end The index of the last element.
+     * @return The elements, empty if the key doesn't exist.
+     */
+    public CompletableFuture<List<V>> lrange(@NonNull K key, long start, long end) {
+        return client.lrange(encodeKey(key), start, end).thenApply(this::decodeValues);
+    }
+
+    /**
+     * Adds members to a set. See {@link BaseClient#sadd(GlideString, GlideString[])}.
+     *
+     * @param key The key of the set.
+     * @param members The members.
+     * @return The number of members added.
+     */
+    public CompletableFuture<Long> sadd(@NonNull K key, @NonNull Collection<V> members) {
+        return client.sadd(encodeKey(key), encodeValues(members));
+    }
+
+    /**
+     * Gets the members of a set. See {@link BaseClient#smembers(GlideString)}.
+     *
+     * @param key The key of the set.
+     * @return The members, empty if the key doesn't exist.
+     */
+    public CompletableFuture<Set<V>> smembers(@NonNull K key) {
+        return client
+                .smembers(encodeKey(key))
+                .thenApply(
+                        members -> {
+                            Set<V> decoded = new LinkedHashSet<>();
+                            members.forEach(member -> decoded.add(decodeValue(member)));
+                            return decoded;
+                        });
+    }
+
+    private GlideString encodeKey(K key) {
+        return gs(keyCodec.encode(key));
+    }
+
+    private GlideString encodeValue(V value) {
+        return gs(valueCodec.encode(value));
+    }
+
+    private V decodeValue(GlideString value) {
+        return value == null ? null : valueCodec.decode(bytes(value));
+    }
+
+    /** Returns the bytes of a reply, copied if other reads may share it. */
+    private byte[] bytes(GlideString reply) {
+        return copyReplies ? reply.getBytes().clone() : reply.getBytes();
+    }
+
+    private GlideString[] encodeKeys(Collection<K> keys) {
+        GlideString[] encoded = new GlideString[keys.size()];
+        int i = 0;
+        for (K key : keys) {
+            encoded[i++] = encodeKey(key);
+        }
+        return encoded;
+    }
+
+    private GlideString[] encodeValues(Collection<V> values) {
+        GlideString[] encoded = new GlideString[values.size()];
+        int i = 0;
+        for (V value : values) {
+            encoded[i++] = encodeValue(value);
+        }
+        return encoded;
+    }
+
+    private List<V> decodeValues(GlideString[] values) {
+        List<V> decoded = new ArrayList<>(values.length);
+        for (GlideString value : values) {
+            decoded.add(decodeValue(value));
+        }
+        return decoded;
+    }
+
+    private Map<GlideString, GlideString> encodeEntries(Map<K, V> map) {
+        Map<GlideString, GlideString> encoded = new LinkedHashMap<>();
+        map.forEach((key, value) -> encoded.put(encodeKey(key), encodeValue(value)));
+        return encoded;
+    }
+}
@@ -7,10 +7,12 @@ import glide.api.models.GlideString;
 import glide.api.models.Transaction;
 import glide.api.models.commands.SortClusterOptions;
 import glide.api.models.commands.scan.ClusterScanCursor;
+import glide.api.models.commands.scan.ParallelScanOptions;
 import glide.api.models.commands.scan.ScanOptions;
 import glide.api.models.configuration.ReadFrom;
 import glide.api.models.configuration.RequestRoutingConfiguration.Route;
 import glide.api.models.configuration.RequestRoutingConfiguration.SingleNodeRoute;
+import glide.api.scan.ParallelClusterScan;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -427,6 +429,60 @@ public interface GenericClusterCommands {
      */
     CompletableFuture<Object[]> scanBinary(ClusterScanCursor cursor, ScanOptions options);
 
+    /**
+     * Iterates over the keys in the Cluster by scanning every primary concurrently with <code>SCAN
+     * </code>, and fetching pages ahead of the consumer.
+     *
+     * <p>Unlike {@link #scan(ClusterScanCursor)}, which walks the cluster one page at a time, this
+     * scan keeps a request pending on several primaries at once. The keys are returned in no
+     * particular order, and the same key may be returned more than once. The primaries are those at
+     * the time the scan starts: if slots migrate during the scan, their keys may be missed.
+     *
+     * @see <a href="https://valkey.io/commands/scan">valkey.io</a> for details.
+     * @return A {@link ParallelClusterScan} which provides the keys as a stream, and reports the
+     *     progress of every primary.
+     * @example
+     *     <pre>{@code
+     * try (Stream<GlideString> keys = client.scanParallel().stream()) {
+     *     keys.forEach(key -> System.out.println(key));
+     * }
+     * }</pre>
+     */
+    ParallelClusterScan scanParallel();
+
+    /**
+     * Iterates over the keys in the Cluster by scanning every primary concurrently with <code>SCAN
+     * </code>, and fetching pages ahead of the consumer.
+     *
+     * <p>Unlike {@link #scan(ClusterScanCursor, ScanOptions)}, which walks the cluster one page at a
+     * time, this scan keeps a request pending on several primaries at once. The keys are returned in
+     * no particular order, and the same key may be returned more than once. The primaries are those
+     * at the time the scan starts: if slots migrate during the scan, their keys may be missed.
+     *
+     * <p>A scan can be resumed from the {@link ParallelClusterScan#checkpoint()} of an earlier one
+     * with {@link ParallelScanOptions#getCheckpoint()}.
+     *
+     * @see <a href="https://valkey.io/commands/scan">valkey.io</a> for details.
+     * @param options The {@link ParallelScanOptions}.
+     * @return A {@link ParallelClusterScan} which provides the keys as a stream, and reports the
+     *     progress of every primary.
+     * @example
+     *     <pre>{@code
+     * ParallelScanOptions options = ParallelScanOptions.builder()
+     *     .matchPattern("user:*")
+     *     .count(1000L)
+     *     .parallelism(8)
+     *     .build();
+     * ParallelClusterScan scan = client.scanParallel(options);
+     * try (Stream<GlideString> keys = scan.stream()) {
+     *     keys.forEach(key -> process(key));
+     * } finally {
+     *     saveCheckpoint(scan.checkpoint().encode());
+     * }
+     * }</pre>
+     */
+    ParallelClusterScan scanParallel(ParallelScanOptions options);
+
     /**
      * Sorts the elements in the list, set, or sorted set at <code>key</code> and returns the result.
      * <br>
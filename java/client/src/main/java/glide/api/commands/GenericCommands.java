@@ -6,8 +6,10 @@ import glide.api.models.Transaction;
 import glide.api.models.commands.SortOptions;
 import glide.api.models.commands.SortOptionsBinary;
 import glide.api.models.commands.scan.ScanOptions;
+import glide.api.models.commands.scan.ScanStreamOptions;
 import glide.api.models.configuration.ReadFrom;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 /**
  * Supports commands and transactions for the "Generic Commands" group for a standalone client.
@@ -478,4 +480,39 @@ public interface GenericCommands {
      * }</pre>
      */
     CompletableFuture<Object[]> scan(GlideString cursor, ScanOptions options);
+
+    /**
+     * Iterates over the keys of the database with <code>SCAN</code>, requesting the next page while
+     * the current one is consumed. The same element may be returned more than once.
+     *
+     * @see <a href="https://valkey.io/commands/scan">valkey.io</a> for details.
+     * @return A stream of the keys. Close the stream to stop requesting pages before the end.
+     * @example
+     *     <pre>{@code
+     * try (Stream<GlideString> keys = client.scanStream()) {
+     *     keys.forEach(System.out::println);
+     * }
+     * }</pre>
+     */
+    Stream<GlideString> scanStream();
+
+    /**
+     * Iterates over the keys of the database with <code>SCAN</code>, requesting the next page while
+     * the current one is consumed. The same element may be returned more than once.
+     *
+     * @see <a href="https://valkey.io/commands/scan">valkey.io</a> for details.
+     * @param options The {@link ScanStreamOptions}.
+     * @return A stream of the keys. Close the stream to stop requesting pages before the end.
+     * @example
+     *     <pre>{@code
+     * ScanStreamOptions options = ScanStreamOptions.builder()
+     *     .matchPattern(gs("session:*"))
+     *     .type(ScanOptions.ObjectType.HASH)
+     *     .build();
+     * try (Stream<GlideString> keys = client.scanStream(options)) {
+     *     keys.forEach(System.out::println);
+     * }
+     * }</pre>
+     */
+    Stream<GlideString> scanStream(ScanStreamOptions options);
 }
@@ -4,8 +4,10 @@ package glide.api.commands;
 import glide.api.models.GlideString;
 import glide.api.models.commands.scan.HScanOptions;
 import glide.api.models.commands.scan.HScanOptionsBinary;
+import glide.api.models.commands.scan.ScanStreamOptions;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 /**
  * Supports commands and transactions for the "Hash Commands" group for standalone and cluster
@@ -755,4 +757,44 @@ public interface HashBaseCommands {
      */
     CompletableFuture<Object[]> hscan(
             GlideString key, GlideString cursor, HScanOptionsBinary hScanOptions);
+
+    /**
+     * Iterates over the fields of a hash and their values with <code>HSCAN</code>, requesting the
+     * next page while the current one is consumed. The same element may be returned more than once.
+     *
+     * @see <a href="https://valkey.io/commands/hscan">valkey.io</a> for details.
+     * @param key The key of the hash.
+     * @return A stream of the fields and values. Close the stream to stop requesting pages before the
+     *     end.
+     * @example
+     *     <pre>{@code
+     * try (Stream<Map.Entry<GlideString, GlideString>> fields = client.hscanStream(gs("key"))) {
+     *     fields.forEach(e -> System.out.println(e.getKey() + "=" + e.getValue()));
+     * }
+     * }</pre>
+     */
+    Stream<Map.Entry<GlideString, GlideString>> hscanStream(GlideString key);
+
+    /**
+     * Iterates over the fields of a hash and their values with <code>HSCAN</code>, requesting the
+     * next page while the current one is consumed. The same element may be returned more than once.
+     *
+     * @see <a href="https://valkey.io/commands/hscan">valkey.io</a> for details.
+     * @param key The key of the hash.
+     * @param options The {@link ScanStreamOptions}.
+     * @return A stream of the fields and values. Close the stream to stop requesting pages before the
+     *     end.
+     * @example
+     *     <pre>{@code
+     * ScanStreamOptions options = ScanStreamOptions.builder()
+     *     .matchPattern(gs("user:*"))
+     *     .targetPageLatencyMillis(2L)
+     *     .build();
+     * try (Stream<Map.Entry<GlideString, GlideString>> fields = client.hscanStream(gs("key"), options)) {
+     *     fields.forEach(e -> System.out.println(e.getKey() + "=" + e.getValue()));
+     * }
+     * }</pre>
+     */
+    Stream<Map.Entry<GlideString, GlideString>> hscanStream(
+            GlideString key, ScanStreamOptions options);
 }
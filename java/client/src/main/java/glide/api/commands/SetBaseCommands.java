@@ -4,8 +4,10 @@ package glide.api.commands;
 import glide.api.models.GlideString;
 import glide.api.models.commands.scan.SScanOptions;
 import glide.api.models.commands.scan.SScanOptionsBinary;
+import glide.api.models.commands.scan.ScanStreamOptions;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 /**
  * Supports commands and transactions for the "Set Commands" group for standalone and cluster
@@ -831,4 +833,38 @@ public interface SetBaseCommands {
      */
     CompletableFuture<Object[]> sscan(
             GlideString key, GlideString cursor, SScanOptionsBinary sScanOptions);
+
+    /**
+     * Iterates over the members of a set with <code>SSCAN</code>, requesting the next page while the
+     * current one is consumed. The same element may be returned more than once.
+     *
+     * @see <a href="https://valkey.io/commands/sscan">valkey.io</a> for details.
+     * @param key The key of the set.
+     * @return A stream of the members. Close the stream to stop requesting pages before the end.
+     * @example
+     *     <pre>{@code
+     * try (Stream<GlideString> members = client.sscanStream(gs("key"))) {
+     *     members.forEach(System.out::println);
+     * }
+     * }</pre>
+     */
+    Stream<GlideString> sscanStream(GlideString key);
+
+    /**
+     * Iterates over the members of a set with <code>SSCAN</code>, requesting the next page while the
+     * current one is consumed. The same element may be returned more than once.
+     *
+     * @see <a href="https://valkey.io/commands/sscan">valkey.io</a> for details.
+     * @param key The key of the set.
+     * @param options The {@link ScanStreamOptions}.
+     * @return A stream of the members. Close the stream to stop requesting pages before the end.
+     * @example
+     *     <pre>{@code
+     * ScanStreamOptions options = ScanStreamOptions.builder().count(100L).build();
+     * try (Stream<GlideString> members = client.sscanStream(gs("key"), options)) {
+     *     members.forEach(System.out::println);
+     * }
+     * }</pre>
+     */
+    Stream<GlideString> sscanStream(GlideString key, ScanStreamOptions options);
 }
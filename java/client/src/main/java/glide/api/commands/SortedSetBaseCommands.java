@@ -21,10 +21,12 @@ import glide.api.models.commands.WeightAggregateOptions.KeysOrWeightedKeys;
 import glide.api.models.commands.WeightAggregateOptions.KeysOrWeightedKeysBinary;
 import glide.api.models.commands.WeightAggregateOptions.WeightedKeys;
 import glide.api.models.commands.ZAddOptions;
+import glide.api.models.commands.scan.ScanStreamOptions;
 import glide.api.models.commands.scan.ZScanOptions;
 import glide.api.models.commands.scan.ZScanOptionsBinary;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 /**
  * Supports commands and transactions for the "Sorted Set Commands" group for standalone and cluster
@@ -2850,4 +2852,42 @@ public interface SortedSetBaseCommands {
      */
     CompletableFuture<Object[]> zscan(
             GlideString key, GlideString cursor, ZScanOptionsBinary zScanOptions);
+
+    /**
+     * Iterates over the members of a sorted set and their scores with <code>ZSCAN</code>, requesting
+     * the next page while the current one is consumed. The same element may be returned more than
+     * once.
+     *
+     * @see <a href="https://valkey.io/commands/zscan">valkey.io</a> for details.
+     * @param key The key of the sorted set.
+     * @return A stream of the members and scores. Close the stream to stop requesting pages before
+     *     the end.
+     * @example
+     *     <pre>{@code
+     * try (Stream<Map.Entry<GlideString, Double>> members = client.zscanStream(gs("key"))) {
+     *     members.forEach(e -> System.out.println(e.getKey() + ": " + e.getValue()));
+     * }
+     * }</pre>
+     */
+    Stream<Map.Entry<GlideString, Double>> zscanStream(GlideString key);
+
+    /**
+     * Iterates over the members of a sorted set and their scores with <code>ZSCAN</code>, requesting
+     * the next page while the current one is consumed. The same element may be returned more than
+     * once.
+     *
+     * @see <a href="https://valkey.io/commands/zscan">valkey.io</a> for details.
+     * @param key The key of the sorted set.
+     * @param options The {@link ScanStreamOptions}.
+     * @return A stream of the members and scores. Close the stream to stop requesting pages before
+     *     the end.
+     * @example
+     *     <pre>{@code
+     * ScanStreamOptions options = ScanStreamOptions.builder().targetPageLatencyMillis(2L).build();
+     * try (Stream<Map.Entry<GlideString, Double>> members = client.zscanStream(gs("key"), options)) {
+     *     members.forEach(e -> System.out.println(e.getKey() + ": " + e.getValue()));
+     * }
+     * }</pre>
+     */
+    Stream<Map.Entry<GlideString, Double>> zscanStream(GlideString key, ScanStreamOptions options);
 }
@@ -0,0 +1,213 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.api.logging;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Buffers log records in a bounded lock-free ring and drains them in batches to a {@link LogSink}
+ * from a single background thread. Producers never block: when the ring is full the record is
+ * dropped and counted.
+ *
+ * <p>The ring is a multi-producer single-consumer queue where every slot carries a sequence number.
+ * A producer claims a slot with a CAS on the tail and publishes it by advancing the slot sequence;
+ * the writer thread is the only consumer.
+ */
+final class AsyncLogWriter {
+
+    /** Receives drained batches of log records. */
+    @FunctionalInterface
+    interface LogSink {
+        /** Logs the first <code>count</code> records of the given arrays. */
+        void logBatch(int[] levels, String[] logIdentifiers, String[] messages, int count);
+    }
+
+    static final int DEFAULT_CAPACITY = 8192;
+    static final int MAX_BATCH_SIZE = 256;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final String LOG_IDENTIFIER = "AsyncLogWriter";
+
+    /** The tail of a closed writer, which no producer can claim a slot after. */
+    private static final long CLOSED_TAIL = -1;
+
+    private final LogSink sink;
+    private final int mask;
+    private final AtomicLongArray sequences;
+    private final int[] levels;
+    private final String[] logIdentifiers;
+    private final String[] messages;
+    private final AtomicLong tail = new AtomicLong();
+    private final LongAdder dropped = new LongAdder();
+    private final Thread writerThread;
+
+    // Only accessed by the consumer, which is the writer thread or the thread that closed the writer
+    // after the writer thread has terminated.
+    private long head;
+    private long reportedDrops;
+    private final int[] batchLevels = new int[MAX_BATCH_SIZE];
+    private final String[] batchLogIdentifiers = new String[MAX_BATCH_SIZE];
+    private final String[] batchMessages = new String[MAX_BATCH_SIZE];
+
+    private volatile boolean running = true;
+
+    /**
+     * Creates a writer and starts its background thread.
+     *
+     * @param sink The target of the drained records.
+     * @param capacity The number of records the ring can hold, rounded up to a power of two.
+     */
+    AsyncLogWriter(LogSink sink, int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive, got " + capacity);
+        }
+        int size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.sink = sink;
+        this.mask = size - 1;
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+        this.levels = new int[size];
+        this.logIdentifiers = new String[size];
+        this.messages = new String[size];
+        this.writerThread = new Thread(this::run, "glide-logger");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /**
+     * Enqueues a record without blocking.
+     *
+     * @return <code>false</code> if the record was dropped because the ring is full or the writer is
+     *     closed.
+     */
+    boolean offer(int level, String logIdentifier, String message) {
+        if (!running) {
+            dropped.increment();
+            return false;
+        }
+        long position;
+        while (true) {
+            position = tail.get();
+            if (position == CLOSED_TAIL) {
+                // The writer was closed after the check above
+                dropped.increment();
+                return false;
+            }
+            long difference = sequences.get((int) position & mask) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    break;
+                }
+            } else if (difference < 0) {
+                dropped.increment();
+                return false;
+            }
+        }
+        int index = (int) position & mask;
+        levels[index] = level;
+        logIdentifiers[index] = logIdentifier;
+        messages[index] = message;
+        sequences.lazySet(index, position + 1);
+        return true;
+    }
+
+    /** Returns the number of records dropped since this writer was created. */
+    long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * Stops the background thread and synchronously flushes the records that are still buffered.
+     * Records offered after this call are dropped and counted.
+     */
+    synchronized void close() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(writerThread);
+        if (Thread.currentThread() != writerThread) {
+            try {
+                writerThread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        // A producer may have claimed a slot right before the writer stopped. Drain until the ring
+        // is empty and every claimed slot was published, then close the tail so that producers which
+        // passed the running check can't claim a slot nobody drains: they count their record dropped.
+        while (true) {
+            if (drain() > 0) {
+                continue;
+            }
+            long position = tail.get();
+            if (head == position && tail.compareAndSet(position, CLOSED_TAIL)) {
+                return;
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    private void run() {
+        while (running) {
+            if (drain() == 0) {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            }
+        }
+    }
+
+    /** Drains up to one batch of records to the sink and returns how many were drained. */
+    private int drain() {
+        int count = 0;
+        while (count < MAX_BATCH_SIZE) {
+            int index = (int) head & mask;
+            if (sequences.get(index) != head + 1) {
+                break;
+            }
+            batchLevels[count] = levels[index];
+            batchLogIdentifiers[count] = logIdentifiers[index];
+            batchMessages[count] = messages[index];
+            logIdentifiers[index] = null;
+            messages[index] = null;
+            sequences.lazySet(index, head + mask + 1);
+            head++;
+            count++;
+        }
+        count = appendDropReport(count);
+        if (count > 0) {
+            try {
+                sink.logBatch(batchLevels, batchLogIdentifiers, batchMessages, count);
+            } catch (RuntimeException e) {
+                // The native logger isn't usable; there is nowhere to report this, so the batch is lost.
+            } finally {
+                for (int i = 0; i < count; i++) {
+                    batchLogIdentifiers[i] = null;
+                    batchMessages[i] = null;
+                }
+            }
+        }
+        return count;
+    }
+
+    /** Adds a warning about records dropped since the previous report, if there is room for it. */
+    private int appendDropReport(int count) {
+        if (count == MAX_BATCH_SIZE) {
+            return count;
+        }
+        long totalDrops = dropped.sum();
+        if (totalDrops == reportedDrops) {
+            return count;
+        }
+        batchLevels[count] = Logger.Level.WARN.getLevel();
+        batchLogIdentifiers[count] = LOG_IDENTIFIER;
+        batchMessages[count] =
+                (totalDrops - reportedDrops) + " log records were dropped because the log buffer was full";
+        reportedDrops = totalDrops;
+        return count + 1;
+    }
+}
@@ -4,9 +4,13 @@ package glide.api.logging;
 import static glide.ffi.resolvers.LoggerResolver.initInternal;
 import static glide.ffi.resolvers.LoggerResolver.logInternal;
 
+import glide.ffi.resolvers.LoggerResolver;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MutableCallSite;
 import java.util.function.Supplier;
 import lombok.Getter;
 import lombok.NonNull;
@@ -24,6 +28,11 @@ import lombok.NonNull;
  *
  * If <code>setLoggerConfig</code> wasn't called, the first log attempt will initialize a new logger
  * with default configuration decided by Glide core.
+ *
+ * <p>By default, every log record is passed to the Glide core on the calling thread. Calling <code>
+ * Logger.enableAsyncLogging</code> switches to a mode where records are buffered and written in
+ * batches by a background thread, so that logging from latency sensitive threads (such as the
+ * network event loop) doesn't wait for the log output.
  */
 public final class Logger {
     @Getter
@@ -60,14 +69,67 @@ public final class Logger {
         }
     }
 
-    @Getter private static Level loggerLevel;
+    /** Marks a logger which wasn't initialized yet. */
+    private static final int UNINITIALIZED_LEVEL = Integer.MIN_VALUE;
 
-    private static void initLogger(@NonNull Level level, String fileName) {
-        if (level == Level.DISABLED) {
-            loggerLevel = level;
-            return;
+    /**
+     * Holds the numeric value of the logger level as a constant, so that the JIT can fold the level
+     * check in {@link #isEnabled(Level)}. The target is replaced when the logger is reconfigured,
+     * which deoptimizes the dependent compiled code.
+     */
+    private static final MutableCallSite LEVEL_SITE =
+            new MutableCallSite(MethodHandles.constant(int.class, UNINITIALIZED_LEVEL));
+
+    private static final MethodHandle LEVEL = LEVEL_SITE.dynamicInvoker();
+
+    @Getter private static volatile Level loggerLevel;
+
+    /** Set while asynchronous logging is enabled. */
+    private static volatile AsyncLogWriter asyncLogWriter;
+
+    private static Thread asyncLogShutdownHook;
+
+    private static synchronized void initLogger(@NonNull Level level, String fileName) {
+        Level newLevel =
+                level == Level.DISABLED ? level : Level.fromInt(initInternal(level.getLevel(), fileName));
+        loggerLevel = newLevel;
+        LEVEL_SITE.setTarget(MethodHandles.constant(int.class, newLevel.getLevel()));
+        MutableCallSite.syncAll(new MutableCallSite[] {LEVEL_SITE});
+    }
+
+    private static int currentLevel() {
+        try {
+            return (int) LEVEL.invokeExact();
+        } catch (Throwable e) {
+            // A constant method handle can't throw.
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Checks whether logs of the given level pass the logger level. Initializes the logger with the
+     * default configuration if it wasn't initialized before.
+     */
+    private static boolean isEnabled(Level level) {
+        int current = currentLevel();
+        if (current == UNINITIALIZED_LEVEL) {
+            synchronized (Logger.class) {
+                if (loggerLevel == null) {
+                    initLogger(Level.DEFAULT, null);
+                }
+            }
+            current = currentLevel();
+        }
+        return level != Level.DISABLED && level.getLevel() <= current;
+    }
+
+    private static void write(Level level, String logIdentifier, String message) {
+        AsyncLogWriter writer = asyncLogWriter;
+        if (writer != null) {
+            writer.offer(level.getLevel(), logIdentifier, message);
+        } else {
+            logInternal(level.getLevel(), logIdentifier, message);
         }
-        loggerLevel = Level.fromInt(initInternal(level.getLevel(), fileName));
     }
 
     /**
@@ -84,7 +146,7 @@ public final class Logger {
      * @param fileName If provided, the target of the logs will be the file mentioned. Otherwise, logs
      *     will be printed to the console.
      */
-    public static void init(@NonNull Level level, String fileName) {
+    public static synchronized void init(@NonNull Level level, String fileName) {
         if (loggerLevel == null) {
             initLogger(level, fileName);
         }
@@ -136,18 +198,10 @@ public final class Logger {
             @NonNull Level level,
             @NonNull String logIdentifier,
             @NonNull Supplier<String> messageSupplier) {
-        if (loggerLevel == null) {
-            initLogger(Level.DEFAULT, null);
-        }
-
-        if (level == Level.DISABLED) {
-            return;
-        }
-
-        if (!(level.getLevel() <= loggerLevel.getLevel())) {
+        if (!isEnabled(level)) {
             return;
         }
-        logInternal(level.getLevel(), logIdentifier, messageSupplier.get());
+        write(level, logIdentifier, messageSupplier.get());
     }
 
     /**
@@ -159,18 +213,10 @@ public final class Logger {
      */
     public static void log(
             @NonNull Level level, @NonNull String logIdentifier, @NonNull String message) {
-        if (loggerLevel == null) {
-            initLogger(Level.DEFAULT, null);
-        }
-
-        if (level == Level.DISABLED) {
+        if (!isEnabled(level)) {
             return;
         }
-
-        if (!(level.getLevel() <= loggerLevel.getLevel())) {
-            return;
-        }
-        logInternal(level.getLevel(), logIdentifier, message);
+        write(level, logIdentifier, message);
     }
 
     /**
@@ -264,4 +310,62 @@ public final class Logger {
     public static void setLoggerConfig() {
         setLoggerConfig(Level.DEFAULT, null);
     }
+
+    /**
+     * Switches the logger to asynchronous mode with a buffer of the default capacity. See {@link
+     * #enableAsyncLogging(int)}.
+     */
+    public static void enableAsyncLogging() {
+        enableAsyncLogging(AsyncLogWriter.DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Switches the logger to asynchronous mode. Log records are placed in a bounded buffer and
+     * written to the Glide core logger in batches by a background thread, instead of on the calling
+     * thread. When the buffer is full, new records are dropped and counted in {@link
+     * #getDroppedLogCount()}, and a warning with the number of dropped records is logged once there
+     * is room again.<br>
+     * Records which are still buffered are written when asynchronous logging is disabled or when the
+     * JVM shuts down. If asynchronous logging is already enabled, it is restarted with the new
+     * capacity.
+     *
+     * @param capacity The number of records the buffer can hold. Rounded up to a power of two.
+     */
+    public static synchronized void enableAsyncLogging(int capacity) {
+        disableAsyncLogging();
+        AsyncLogWriter writer = new AsyncLogWriter(LoggerResolver::logBatchInternal, capacity);
+        asyncLogShutdownHook = new Thread(writer::close, "glide-logger-shutdown");
+        Runtime.getRuntime().addShutdownHook(asyncLogShutdownHook);
+        asyncLogWriter = writer;
+    }
+
+    /**
+     * Switches the logger back to synchronous mode. Blocks until the records which are still buffered
+     * are written.
+     */
+    public static synchronized void disableAsyncLogging() {
+        AsyncLogWriter writer = asyncLogWriter;
+        if (writer == null) {
+            return;
+        }
+        asyncLogWriter = null;
+        try {
+            Runtime.getRuntime().removeShutdownHook(asyncLogShutdownHook);
+        } catch (IllegalStateException e) {
+            // The JVM is already shutting down, and the hook flushes the writer.
+        }
+        asyncLogShutdownHook = null;
+        writer.close();
+    }
+
+    /**
+     * Returns the number of log records dropped because the asynchronous logging buffer was full.
+     *
+     * @return The number of dropped records since asynchronous logging was last enabled, or <code>0
+     *     </code> if asynchronous logging is disabled.
+     */
+    public static long getDroppedLogCount() {
+        AsyncLogWriter writer = asyncLogWriter;
+        return writer == null ? 0 : writer.getDroppedCount();
+    }
 }
@@ -0,0 +1,37 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.api.metrics;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * A snapshot of the circuit breaker of a node. See {@link
+ * glide.api.models.configuration.CircuitBreakerConfiguration}.
+ */
+@Getter
+@Builder
+@ToString
+public class CircuitBreakerMetrics {
+    /** The state of a circuit breaker. */
+    public enum State {
+        /** Requests are sent. */
+        CLOSED,
+        /** Requests fail without being sent. */
+        OPEN,
+        /** Trial requests are sent, the others fail without being sent. */
+        HALF_OPEN
+    }
+
+    /** The state of the breaker. */
+    private final State state;
+
+    /** The number of failures in a row. */
+    private final int consecutiveFailures;
+
+    /** The number of times the breaker opened. */
+    private final long openings;
+
+    /** The number of requests which failed without being sent. */
+    private final long rejectedRequests;
+}
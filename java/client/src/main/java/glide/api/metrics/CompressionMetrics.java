@@ -0,0 +1,38 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.api.metrics;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * A snapshot of the value compression of a client. See {@link
+ * glide.api.models.configuration.CompressionConfiguration}.
+ */
+@Getter
+@Builder
+@ToString
+public class CompressionMetrics {
+    /** The number of values which were compressed. */
+    private final long compressedValues;
+
+    /** The number of values which were sent uncompressed, being small or incompressible. */
+    private final long uncompressedValues;
+
+    /** The size of the compressed values before compression, in bytes. */
+    private final long originalBytes;
+
+    /** The size of the compressed values, in bytes. */
+    private final long compressedBytes;
+
+    /** The number of values which were decompressed. */
+    private final long decompressedValues;
+
+    /**
+     * Returns the compression ratio of the compressed values: their original size divided by their
+     * compressed size, or <code>0</code> if no value was compressed.
+     */
+    public double getCompressionRatio() {
+        return compressedBytes == 0 ? 0 : (double) originalBytes / compressedBytes;
+    }
+}
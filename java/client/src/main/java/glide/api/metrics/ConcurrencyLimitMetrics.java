@@ -0,0 +1,33 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.api.metrics;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * A snapshot of the adaptive concurrency limit of a client. See {@link
+ * glide.api.models.configuration.AdaptiveConcurrencyConfiguration}.
+ */
+@Getter
+@Builder
+@ToString
+public class ConcurrencyLimitMetrics {
+    /** The number of requests allowed in flight. */
+    private final int limit;
+
+    /** The number of requests in flight. */
+    private final int inFlight;
+
+    /** The number of requests waiting for the limit. */
+    private final int queued;
+
+    /** The smoothed round trip time of the requests, in nanoseconds. */
+    private final long rttNanos;
+
+    /** The baseline round trip time, the lowest one recently observed, in nanoseconds. */
+    private final long baselineRttNanos;
+
+    /** The number of requests rejected because the queue was full. */
+    private final long rejectedRequests;
+}
@@ -0,0 +1,21 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.api.metrics;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * A snapshot of the hedged reads of a client, counted since it connected. See {@link
+ * glide.api.models.configuration.HedgingPolicy}.
+ */
+@Getter
+@Builder
+@ToString
+public class HedgingMetrics {
+    /** The number of duplicates sent to another node because a reply was slow. */
+    private final long hedgesSent;
+
+    /** The number of duplicates whose reply was used. */
+    private final long hedgesWon;
+}
@@ -0,0 +1,93 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.api.metrics;
+
+import java.time.Instant;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * A latency breakdown of a single request. All timestamps are wall-clock time in nanoseconds since
+ * the Unix epoch: the Java client records when the request was submitted and when its response was
+ * delivered, and <code>GLIDE core</code> reports when it received the request, sent it to the
+ * server and got the reply.
+ *
+ * <p>The breakdown is an approximation: it compares wall-clock readings taken in Java and in the
+ * native layer, and the clock resolution depends on the platform.
+ */
+@Getter
+@Builder
+@ToString
+public class RequestTimings {
+    /**
+     * The request type, e.g. <code>Get</code>, or the kind of the request, e.g. <code>Script</code>.
+     */
+    private final String requestType;
+
+    /** The request was submitted by the application to the Java client. */
+    private final long submittedAt;
+
+    /** <code>GLIDE core</code> received the request from the socket. */
+    private final long coreReceivedAt;
+
+    /** <code>GLIDE core</code> sent the request to the server. */
+    private final long coreSentAt;
+
+    /** <code>GLIDE core</code> received the reply from the server. */
+    private final long coreRepliedAt;
+
+    /** The response was delivered back to the Java client. */
+    private final long completedAt;
+
+    /**
+     * The address of the node which served the request, as <code>host:port</code>, or <code>null
+     * </code> if it was sent to several nodes or the client can't tell. Reported in standalone mode
+     * only.
+     */
+    private final String servedBy;
+
+    /**
+     * A duplicate of the request was sent to another node by the {@link
+     * glide.api.models.configuration.HedgingPolicy}.
+     */
+    private final boolean hedgeSent;
+
+    /** The reply to the duplicate was used. If so, <code>servedBy</code> is the duplicate's node. */
+    private final boolean hedgeWon;
+
+    /** Time spent in Java-side queueing and in the socket hop towards <code>GLIDE core</code>. */
+    public long getClientToCoreNanos() {
+        return coreReceivedAt - submittedAt;
+    }
+
+    /** Time spent in <code>GLIDE core</code> before the request was sent to the server. */
+    public long getCoreNanos() {
+        return coreSentAt - coreReceivedAt;
+    }
+
+    /** Time spent in the network and on the server. */
+    public long getServerNanos() {
+        return coreRepliedAt - coreSentAt;
+    }
+
+    /** Time spent in the socket hop back to the Java client and in response dispatching. */
+    public long getCoreToClientNanos() {
+        return completedAt - coreRepliedAt;
+    }
+
+    /** End-to-end latency of the request as seen by the Java client. */
+    public long getTotalNanos() {
+        return completedAt - submittedAt;
+    }
+
+    /**
+     * Get the current wall-clock time in nanoseconds since the Unix epoch.
+     *
+     * @return The current time in a format comparable with the timestamps reported by <code>
+     *     GLIDE core</code>.
+     */
+    public static long nanosSinceEpoch() {
+        Instant now = Instant.now();
+        return now.getEpochSecond() * 1_000_000_000L + now.getNano();
+    }
+}
@@ -0,0 +1,20 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.api.metrics;
+
+import glide.api.models.configuration.RequestTimingsConfiguration;
+
+/**
+ * Receives latency breakdowns of sampled requests. See {@link RequestTimingsConfiguration}.
+ *
+ * <p>The listener is called on the thread completing the request, so implementations should be fast
+ * and non-blocking, e.g. record into a histogram or hand the data over to a tracing system.
+ */
+@FunctionalInterface
+public interface RequestTimingsListener {
+    /**
+     * Called once a sampled request has completed successfully.
+     *
+     * @param timings The latency breakdown of the request.
+     */
+    void onRequestTimings(RequestTimings timings);
+}
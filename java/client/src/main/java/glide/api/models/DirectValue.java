@@ -0,0 +1,65 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.api.models;
+
+import java.lang.ref.Cleaner;
+import java.nio.ByteBuffer;
+import lombok.NonNull;
+
+/**
+ * A value held in native memory, exposed as a read-only direct {@link ByteBuffer}. Large values are
+ * read this way without being copied to the Java heap. See {@link
+ * glide.api.BaseClient#getDirect(GlideString)}.
+ *
+ * <p>The memory is released by {@link #release()}, or by the garbage collector once neither this
+ * object nor its buffer are reachable. Release values explicitly: the garbage collector doesn't see
+ * the native memory, so it may not run before a lot of it is held. Using the buffer after the value
+ * is released reads freed memory.
+ *
+ * @example
+ *     <pre>{@code
+ * try (DirectValue value = client.getDirect(gs("key")).get()) {
+ *     channel.write(value.getBuffer());
+ * }
+ * }</pre>
+ */
+public class DirectValue implements AutoCloseable {
+
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    private final ByteBuffer buffer;
+    private final Cleaner.Cleanable cleanable;
+
+    /**
+     * Wraps a direct buffer over native memory.
+     *
+     * @param buffer The buffer.
+     * @param release Releases the memory of the buffer. It's called once, and mustn't reference the
+     *     buffer.
+     */
+    public DirectValue(@NonNull ByteBuffer buffer, @NonNull Runnable release) {
+        this.buffer = buffer;
+        // The read-only views of the buffer reference it, so it's only collected after them
+        this.cleanable = CLEANER.register(buffer, release);
+    }
+
+    /** Returns a read-only view of the value, from its first byte to its last. */
+    public ByteBuffer getBuffer() {
+        return buffer.asReadOnlyBuffer();
+    }
+
+    /** Returns the size of the value, in bytes. */
+    public int size() {
+        return buffer.capacity();
+    }
+
+    /** Releases the native memory of the value. Releasing it again has no effect. */
+    public void release() {
+        cleanable.clean();
+    }
+
+    /** Releases the native memory of the value. See {@link #release()}. */
+    @Override
+    public void close() {
+        release();
+    }
+}
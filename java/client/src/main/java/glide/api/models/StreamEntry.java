@@ -0,0 +1,65 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.api.models;
+
+import java.util.Arrays;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+/**
+ * A stream entry delivered by a {@link glide.api.streams.StreamConsumer}. The field-value pairs are
+ * kept in a single flat array, in the order the server returned them.
+ */
+@Getter
+@EqualsAndHashCode
+public class StreamEntry {
+    /** The key of the stream. */
+    private final GlideString key;
+
+    /** The id of the entry. */
+    private final GlideString id;
+
+    /**
+     * The fields and values of the entry, alternating: <code>[field1, value1, field2, ...]</code>.
+     */
+    private final GlideString[] fieldsAndValues;
+
+    public StreamEntry(GlideString key, GlideString id, GlideString[] fieldsAndValues) {
+        this.key = key;
+        this.id = id;
+        this.fieldsAndValues = fieldsAndValues;
+    }
+
+    /** Returns the number of field-value pairs. */
+    public int getFieldCount() {
+        return fieldsAndValues.length / 2;
+    }
+
+    /** Returns the field of the pair at <code>index</code>. */
+    public GlideString getField(int index) {
+        return fieldsAndValues[index * 2];
+    }
+
+    /** Returns the value of the pair at <code>index</code>. */
+    public GlideString getValue(int index) {
+        return fieldsAndValues[index * 2 + 1];
+    }
+
+    /**
+     * Returns the value of the first pair with the given field.
+     *
+     * @return The value, or <code>null</code> if the entry doesn't have the field.
+     */
+    public GlideString get(GlideString field) {
+        for (int i = 0; i < fieldsAndValues.length - 1; i += 2) {
+            if (fieldsAndValues[i].equals(field)) {
+                return fieldsAndValues[i + 1];
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("(%s, id = %s, %s)", key, id, Arrays.toString(fieldsAndValues));
+    }
+}
@@ -0,0 +1,89 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.api.models.commands.scan;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+
+/**
+ * The progress of a parallel cluster scan, which allows to resume it later. It holds the <code>SCAN
+ * </code> cursor of every primary, by address, up to which the keys were consumed.
+ *
+ * <p>Primaries are identified by their address. After a failover, the new primary of a shard isn't
+ * in the checkpoint, and is scanned from the start, so some keys may be returned again.
+ *
+ * @example
+ *     <pre>{@code
+ * String saved = scan.checkpoint().encode();
+ * ...
+ * ParallelScanOptions options = ParallelScanOptions.builder()
+ *     .checkpoint(ClusterScanCheckpoint.decode(saved))
+ *     .build();
+ * }</pre>
+ */
+@EqualsAndHashCode
+public final class ClusterScanCheckpoint {
+    /** The cursor of a primary whose scan is finished. */
+    public static final String FINISHED = "finished";
+
+    private static final String ENTRY_SEPARATOR = ",";
+    private static final String CURSOR_SEPARATOR = "=";
+
+    private final Map<String, String> cursors;
+
+    /**
+     * @param cursors The cursor of every primary, by <code>"address:port"</code>, or {@link
+     *     #FINISHED}.
+     */
+    public ClusterScanCheckpoint(@NonNull Map<String, String> cursors) {
+        this.cursors = Collections.unmodifiableMap(new LinkedHashMap<>(cursors));
+    }
+
+    /**
+     * @return The cursor of every primary, by <code>"address:port"</code>, or {@link #FINISHED}.
+     */
+    public Map<String, String> getCursors() {
+        return cursors;
+    }
+
+    /**
+     * @return <code>true</code> if the scan of every primary is finished.
+     */
+    public boolean isFinished() {
+        return cursors.values().stream().allMatch(FINISHED::equals);
+    }
+
+    /** Returns the checkpoint as a string, which {@link #decode(String)} reads back. */
+    public String encode() {
+        return cursors.entrySet().stream()
+                .map(e -> e.getKey() + CURSOR_SEPARATOR + e.getValue())
+                .collect(Collectors.joining(ENTRY_SEPARATOR));
+    }
+
+    /**
+     * Reads a checkpoint returned by {@link #encode()}.
+     *
+     * @throws IllegalArgumentException If the string is not a valid checkpoint.
+     */
+    public static ClusterScanCheckpoint decode(@NonNull String encoded) {
+        Map<String, String> cursors = new LinkedHashMap<>();
+        if (!encoded.isEmpty()) {
+            for (String entry : encoded.split(ENTRY_SEPARATOR)) {
+                int separator = entry.lastIndexOf(CURSOR_SEPARATOR);
+                if (separator <= 0 || separator == entry.length() - 1) {
+                    throw new IllegalArgumentException("Invalid cluster scan checkpoint: " + encoded);
+                }
+                cursors.put(entry.substring(0, separator), entry.substring(separator + 1));
+            }
+        }
+        return new ClusterScanCheckpoint(cursors);
+    }
+
+    @Override
+    public String toString() {
+        return encode();
+    }
+}
@@ -0,0 +1,31 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.api.models.commands.scan;
+
+import glide.api.commands.GenericClusterCommands;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * Optional arguments for {@link GenericClusterCommands#scanParallel(ParallelScanOptions)}.
+ *
+ * @see <a href="https://valkey.io/commands/scan/">valkey.io</a>
+ */
+@Getter
+@SuperBuilder
+public final class ParallelScanOptions extends ScanOptions {
+    /** The maximum number of primaries scanned concurrently. Defaults to 4. */
+    @Builder.Default private final int parallelism = 4;
+
+    /**
+     * The maximum number of pages fetched ahead of the consumer, including the pending requests.
+     * Defaults to 16.
+     */
+    @Builder.Default private final int prefetchPages = 16;
+
+    /**
+     * A checkpoint of an earlier scan to resume from. If not set, every primary is scanned from the
+     * start.
+     */
+    private final ClusterScanCheckpoint checkpoint;
+}
@@ -0,0 +1,68 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.api.models.commands.scan;
+
+import glide.api.models.GlideString;
+import glide.utils.ArgsBuilder;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Optional arguments for the scan streams, such as {@link
+ * glide.api.commands.HashBaseCommands#hscanStream(GlideString, ScanStreamOptions)}.
+ *
+ * <p>If a target page latency is set, the <code>COUNT</code> of every request adapts to it: it's
+ * halved after a page which took longer than the target, and doubled after a page which took less
+ * than half of it, within the minimum and maximum counts.
+ *
+ * @see <a href="https://valkey.io/commands/scan/">valkey.io</a>
+ */
+@Getter
+@Builder
+public class ScanStreamOptions {
+    /** Only returns the elements which match the pattern, with <code>MATCH</code>. */
+    private final GlideString matchPattern;
+
+    /**
+     * Only returns keys of the given type, with <code>TYPE</code>. Applies to the scan of keys only.
+     */
+    private final ScanOptions.ObjectType type;
+
+    /** The <code>COUNT</code> of the first request. Defaults to 10, the server default. */
+    @Builder.Default private final long count = 10;
+
+    /**
+     * The latency, in milliseconds, the <code>COUNT</code> adapts to. If not set, every request uses
+     * the initial count.
+     */
+    private final Long targetPageLatencyMillis;
+
+    /** The lowest <code>COUNT</code> when adapting to the target latency. Defaults to 10. */
+    @Builder.Default private final long minCount = 10;
+
+    /** The highest <code>COUNT</code> when adapting to the target latency. Defaults to 10000. */
+    @Builder.Default private final long maxCount = 10_000;
+
+    /**
+     * The maximum number of pages fetched ahead of the consumer, including the pending request.
+     * Defaults to 1: the next page is requested as soon as the consumer starts on the current one.
+     */
+    @Builder.Default private final int prefetchPages = 1;
+
+    /**
+     * Creates the arguments to be used in the scan commands, after the key and the cursor.
+     *
+     * @param count The <code>COUNT</code> of the request.
+     * @param withType Whether to include the <code>TYPE</code> filter.
+     */
+    public GlideString[] toArgs(long count, boolean withType) {
+        ArgsBuilder builder = new ArgsBuilder();
+        if (matchPattern != null) {
+            builder.add(BaseScanOptions.MATCH_OPTION_STRING).add(matchPattern);
+        }
+        builder.add(BaseScanOptions.COUNT_OPTION_STRING).add(count);
+        if (withType && type != null) {
+            builder.add(ScanOptions.TYPE_OPTION_STRING).add(type.name());
+        }
+        return builder.toArray();
+    }
+}
@@ -0,0 +1,58 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.api.models.configuration;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Configuration of the adaptive concurrency limit: the client limits the requests in flight, and
+ * adapts the limit to the round trip time of the requests. While the round trip time stays within a
+ * tolerance of its baseline, the lowest one recently observed, the limit grows by about one request
+ * per round trip. When it exceeds the tolerance, or a request times out, the limit shrinks by the
+ * backoff ratio.
+ *
+ * <p>Requests above the limit wait in a queue, and are rejected with a {@link
+ * glide.api.models.exceptions.ConcurrencyLimitExceededException} when the queue is full, or when
+ * they waited in it for the request timeout. The time spent in the queue doesn't count towards the
+ * request timeout once the request is sent. Blocking commands, such as <code>BLPOP</code>, aren't
+ * limited. The current limit, the round trip times and the rejections are reported by {@link
+ * glide.api.BaseClient#getConcurrencyLimitMetrics()}.
+ *
+ * @example
+ *     <pre>{@code
+ * AdaptiveConcurrencyConfiguration concurrency = AdaptiveConcurrencyConfiguration.builder()
+ *     .initialLimit(50)
+ *     .maxLimit(500)
+ *     .maxQueuedRequests(10000)
+ *     .build();
+ * }</pre>
+ */
+@Getter
+@Builder
+@ToString
+public class AdaptiveConcurrencyConfiguration {
+    /** The limit before any request completes. Defaults to 20. */
+    @Builder.Default private final int initialLimit = 20;
+
+    /** The lowest limit. Defaults to 1. */
+    @Builder.Default private final int minLimit = 1;
+
+    /** The highest limit. Defaults to 1000. */
+    @Builder.Default private final int maxLimit = 1000;
+
+    /**
+     * The maximum number of requests waiting for the limit, beyond which requests are rejected. If
+     * <code>0</code>, every request above the limit is rejected. Defaults to 1000.
+     */
+    @Builder.Default private final int maxQueuedRequests = 1000;
+
+    /**
+     * The ratio of the baseline round trip time above which the limit shrinks, greater than 1.
+     * Defaults to 2.
+     */
+    @Builder.Default private final double rttTolerance = 2.0;
+
+    /** The ratio the limit is multiplied by when it shrinks, in range (0, 1). Defaults to 0.9. */
+    @Builder.Default private final double backoffRatio = 0.9;
+}
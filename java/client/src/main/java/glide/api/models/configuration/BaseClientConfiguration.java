@@ -39,6 +39,12 @@ public abstract class BaseClientConfiguration {
     /** Represents the client's read from strategy. */
     @NonNull @Builder.Default private final ReadFrom readFrom = ReadFrom.PRIMARY;
 
+    /**
+     * The availability zone of the client, such as <code>us-east-1a</code>. Required by {@link
+     * ReadFrom#AZ_AFFINITY}, which prefers the replicas in the same zone.
+     */
+    private final String clientAZ;
+
     /**
      * Credentials for authentication process. If none are set, the client will not authenticate
      * itself with the server.
@@ -65,5 +71,51 @@ public abstract class BaseClientConfiguration {
      */
     private final ThreadPoolResource threadPoolResource;
 
+    /**
+     * Per-request latency breakdown configuration. If set, sampled requests report how much time was
+     * spent in the Java client, in <code>GLIDE core</code> and on the server. Disabled by default.
+     */
+    private final RequestTimingsConfiguration requestTimingsConfiguration;
+
+    /**
+     * The maximum number of dedicated connections for blocking commands, such as <code>BLPOP</code>,
+     * <code>BZPOPMIN</code> or <code>XREAD</code> with <code>BLOCK</code>. If set, blocking commands
+     * are sent over their own connections, created on demand, so they don't hold up other commands
+     * while they're blocked. Each dedicated connection connects to every node it routes commands to.
+     * When all of them are busy, further blocking commands wait for one to be available. If not set,
+     * blocking commands are sent over the same connection as other commands.
+     */
+    private final Integer blockingConnectionPoolSize;
+
+    /**
+     * Whether to coalesce identical reads: while a read-only request whose result is a string, a
+     * number or a boolean, such as <code>GET</code> or <code>EXISTS</code>, is in flight, an
+     * identical request attaches to its response instead of being sent. Reads which return arrays,
+     * maps or sets are always sent, so callers never share a mutable result. Individual calls can opt
+     * out with {@link glide.api.BaseClient#withoutCoalescing}. Disabled by default.
+     */
+    @Builder.Default private final boolean coalesceReads = false;
+
+    /**
+     * Adaptive concurrency limit configuration. If set, the client limits the requests in flight,
+     * adapts the limit to their round trip time, and queues or rejects the requests above it. Not
+     * limited by default.
+     */
+    private final AdaptiveConcurrencyConfiguration adaptiveConcurrencyConfiguration;
+
+    /**
+     * Per-node circuit breaker configuration. If set, requests to a node which keeps timing out or
+     * disconnecting fail fast for a while, instead of waiting for the request timeout. Disabled by
+     * default.
+     */
+    private final CircuitBreakerConfiguration circuitBreakerConfiguration;
+
+    /**
+     * String value compression configuration. If set, large string values are compressed before
+     * they're stored and decompressed when they're read, by the commands listed in {@link
+     * CompressionConfiguration}. Disabled by default.
+     */
+    private final CompressionConfiguration compressionConfiguration;
+
     public abstract BaseSubscriptionConfiguration getSubscriptionConfiguration();
 }
@@ -0,0 +1,54 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.api.models.configuration;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Configuration of the per-node circuit breakers. A node's breaker opens after a number of its
+ * requests time out or lose their connection in a row. While it's open, requests to the node fail
+ * with a {@link glide.api.models.exceptions.CircuitBreakerOpenException} without being sent. After
+ * the open duration, the breaker is half-open: a few trial requests are sent, and the breaker
+ * closes if they succeed, or opens again if they fail.
+ *
+ * <p><code>GLIDE core</code> reports the node of a failed request, and requests whose node is known
+ * before they're sent fail fast: requests routed by address, every request of a standalone client
+ * which reads from the primary, and requests of a cluster client routed by key or slot to the
+ * slot's primary, whose node <code>GLIDE core</code> looks up in the cluster's slots. The state of
+ * the breakers is reported by {@link glide.api.BaseClient#getCircuitBreakerMetrics()}.
+ *
+ * <p><b>Limitation in cluster mode:</b> requests sent to several nodes, to a random node, or read
+ * from a replica are sent to a node chosen by <code>GLIDE core</code>, which doesn't report it, so
+ * their failures aren't counted and they're sent even if the node's breaker is open. The slots are
+ * looked up again every few seconds, so requests may briefly be counted against the previous
+ * primary after slots migrate. While a breaker is half-open, requests routed by key or slot to its
+ * node are all sent, not only the trial requests.
+ *
+ * @example
+ *     <pre>{@code
+ * CircuitBreakerConfiguration circuitBreaker = CircuitBreakerConfiguration.builder()
+ *     .failureThreshold(10)
+ *     .openDurationMillis(2000)
+ *     .build();
+ * }</pre>
+ */
+@Getter
+@Builder
+@ToString
+public class CircuitBreakerConfiguration {
+    /**
+     * The number of failures in a row which opens a node's breaker. Failures more than the open
+     * duration apart aren't counted as in a row. Defaults to 5.
+     */
+    @Builder.Default private final int failureThreshold = 5;
+
+    /**
+     * The time a breaker stays open before trial requests are sent, in milliseconds. Defaults to
+     * 1000.
+     */
+    @Builder.Default private final int openDurationMillis = 1000;
+
+    /** The number of trial requests in flight while a breaker is half-open. Defaults to 1. */
+    @Builder.Default private final int halfOpenTrialRequests = 1;
+}
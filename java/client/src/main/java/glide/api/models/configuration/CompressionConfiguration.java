@@ -0,0 +1,35 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.api.models.configuration;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Configuration of the compression of string values. Values of at least the threshold size are
+ * compressed with LZ4 before they're stored, unless that doesn't make them smaller, and
+ * decompressed when they're read. Values which were stored uncompressed, e.g. before compression
+ * was enabled, are read as is.
+ *
+ * <p>Compression applies to the values of the <code>String</code> versions of {@link
+ * glide.api.BaseClient#set(String, String)}, {@link glide.api.BaseClient#get(String)}, {@link
+ * glide.api.BaseClient#mget(String[])}, {@link glide.api.BaseClient#hset(String, java.util.Map)}
+ * and {@link glide.api.BaseClient#hget(String, String)}. Other commands, such as <code>APPEND
+ * </code>, <code>GETRANGE</code> or <code>HGETALL</code>, see the stored bytes, and clients without
+ * compression read compressed values as binary data. The ratio is reported by {@link
+ * glide.api.BaseClient#getCompressionMetrics()}.
+ *
+ * @example
+ *     <pre>{@code
+ * CompressionConfiguration compression = CompressionConfiguration.builder()
+ *     .thresholdBytes(8192)
+ *     .build();
+ * }</pre>
+ */
+@Getter
+@Builder
+@ToString
+public class CompressionConfiguration {
+    /** The size of the smallest value to compress, in bytes of UTF-8. Defaults to 1024. */
+    @Builder.Default private final int thresholdBytes = 1024;
+}
@@ -17,6 +17,7 @@ import lombok.experimental.SuperBuilder;
  *         .address(node2address)
  *         .useTLS(true)
  *         .readFrom(ReadFrom.PREFER_REPLICA)
+ *         .hedgingPolicy(hedgingPolicy)
  *         .credentials(credentialsConfiguration)
  *         .requestTimeout(2000)
  *         .reconnectStrategy(reconnectionConfiguration)
@@ -38,4 +39,10 @@ public class GlideClientConfiguration extends BaseClientConfiguration {
 
     /** Subscription configuration for the current client. */
     private final StandaloneSubscriptionConfiguration subscriptionConfiguration;
+
+    /**
+     * Policy for hedged reads, which requires reading from replicas. If not set, requests are not
+     * hedged.
+     */
+    private final HedgingPolicy hedgingPolicy;
 }
@@ -2,7 +2,9 @@
 package glide.api.models.configuration;
 
 import glide.api.GlideClusterClient;
+import lombok.Builder;
 import lombok.Getter;
+import lombok.NonNull;
 import lombok.experimental.SuperBuilder;
 
 /**
@@ -22,6 +24,7 @@ import lombok.experimental.SuperBuilder;
  *         .requestTimeout(2000)
  *         .clientName("GLIDE")
  *         .subscriptionConfiguration(subscriptionConfiguration)
+ *         .periodicChecks(PeriodicChecks.manualInterval(120))
  *         .build();
  * }</pre>
  */
@@ -31,4 +34,11 @@ public class GlideClusterClientConfiguration extends BaseClientConfiguration {
 
     /** Subscription configuration for the current client. */
     private final ClusterSubscriptionConfiguration subscriptionConfiguration;
+
+    /**
+     * How often the client checks the cluster topology for changes. Defaults to {@link
+     * PeriodicChecks#ENABLED_DEFAULT_CONFIGS}.
+     */
+    @NonNull @Builder.Default
+    private final PeriodicChecks periodicChecks = PeriodicChecks.ENABLED_DEFAULT_CONFIGS;
 }
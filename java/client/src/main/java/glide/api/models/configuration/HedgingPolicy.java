@@ -0,0 +1,45 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.api.models.configuration;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Represents the policy for hedged reads: if the reply to a read-only request doesn't arrive within
+ * a delay, a duplicate is sent to another replica, or to the primary if there's none. The first
+ * reply is used and the other is discarded.
+ *
+ * <p>Hedging applies to standalone clients which read from replicas, see {@link ReadFrom}: a client
+ * configured with {@link ReadFrom#PRIMARY} rejects the policy. Blocking reads, such as <code>XREAD
+ * </code> with <code>BLOCK</code>, aren't hedged. The duplicates are limited to a percentage of the
+ * reads. Hedges sent and won are counted by {@link glide.api.GlideClient#getHedgingMetrics()}, and
+ * reported in the {@link glide.api.metrics.RequestTimings} of the sampled requests.
+ *
+ * @example
+ *     <pre>{@code
+ * HedgingPolicy hedgingPolicy = HedgingPolicy.builder()
+ *     .delayPercentile(95)
+ *     .delayMillis(10)
+ *     .maxExtraLoadPercent(5)
+ *     .build();
+ * }</pre>
+ */
+@Getter
+@Builder
+@ToString
+public class HedgingPolicy {
+    /**
+     * The delay before a duplicate is sent, in milliseconds. Required. If <code>delayPercentile
+     * </code> is set, used until enough reads are tracked.
+     */
+    private final Integer delayMillis;
+
+    /**
+     * If set, the delay follows this percentile of the latencies of recent reads, between 1 and 99.
+     */
+    private final Integer delayPercentile;
+
+    /** The maximum duplicates, as a percentage of the reads. Defaults to 5. */
+    @Builder.Default private final int maxExtraLoadPercent = 5;
+}
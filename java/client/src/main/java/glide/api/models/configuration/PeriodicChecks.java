@@ -0,0 +1,56 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.api.models.configuration;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Represents how often a cluster client checks the cluster topology for changes, such as failovers
+ * or slot migrations. The client also refreshes the topology when it gets a <code>MOVED</code>
+ * error or loses a connection, whether or not periodic checks are enabled.
+ *
+ * <p>Every check sends <code>CLUSTER SLOTS</code> to several nodes. On large clusters with many
+ * clients, a longer interval reduces the load on the servers, at the cost of noticing topology
+ * changes which don't cause errors later.
+ *
+ * @example
+ *     <pre>{@code
+ * GlideClusterClientConfiguration config = GlideClusterClientConfiguration.builder()
+ *     .address(node1address)
+ *     .periodicChecks(PeriodicChecks.manualInterval(300))
+ *     .build();
+ * }</pre>
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PeriodicChecks {
+    /** Periodic checks are enabled, with the default interval of 60 seconds. */
+    public static final PeriodicChecks ENABLED_DEFAULT_CONFIGS = new PeriodicChecks(true, null);
+
+    /** Periodic checks are disabled. */
+    public static final PeriodicChecks DISABLED = new PeriodicChecks(false, null);
+
+    /** Whether periodic checks are enabled. */
+    private final boolean enabled;
+
+    /** The interval between checks in seconds, or <code>null</code> for the default interval. */
+    private final Integer intervalSeconds;
+
+    /**
+     * Enables periodic checks with the given interval.
+     *
+     * @param intervalSeconds The interval between checks in seconds.
+     * @throws IllegalArgumentException If the interval is not positive.
+     */
+    public static PeriodicChecks manualInterval(int intervalSeconds) {
+        if (intervalSeconds < 1) {
+            throw new IllegalArgumentException("The periodic checks interval must be positive");
+        }
+        return new PeriodicChecks(true, intervalSeconds);
+    }
+}
@@ -9,5 +9,25 @@ public enum ReadFrom {
      * Spread the requests between all replicas in a round-robin manner. If no replica is available,
      * route the requests to the primary.
      */
-    PREFER_REPLICA
+    PREFER_REPLICA,
+    /**
+     * Read from the replica with the lowest measured latency. Every few reads go to the other
+     * replicas in a round-robin manner, to keep their latencies up to date. If no replica is
+     * available, route the requests to the primary.
+     *
+     * <p>Supported in standalone mode only. In cluster mode, this behaves like {@link
+     * #PREFER_REPLICA}.
+     */
+    LOWEST_LATENCY,
+    /**
+     * Spread the requests between the replicas in the same availability zone as the client, in a
+     * round-robin manner. If no such replica is available, spread them between all replicas, and if
+     * no replica is available, route them to the primary. Requires {@link
+     * BaseClientConfiguration#getClientAZ()}, and servers which report their availability zone with
+     * the <code>availability-zone</code> configuration, added in Valkey 8.0.
+     *
+     * <p>Supported in standalone mode only. In cluster mode, this behaves like {@link
+     * #PREFER_REPLICA}.
+     */
+    AZ_AFFINITY
 }
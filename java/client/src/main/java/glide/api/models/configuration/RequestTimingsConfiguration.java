@@ -0,0 +1,47 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.api.models.configuration;
+
+import glide.api.metrics.RequestTimings;
+import glide.api.metrics.RequestTimingsListener;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * Configuration of per-request latency breakdowns. For every sampled request the client asks <code>
+ * GLIDE core</code> to report its own timestamps, combines them with the Java side ones and passes
+ * the resulting {@link RequestTimings} to the listener.
+ *
+ * @example
+ *     <pre>{@code
+ * RequestTimingsConfiguration timings = RequestTimingsConfiguration.builder()
+ *     .listener(t -> serverLatency.record(t.getServerNanos()))
+ *     .sampleRate(0.01)
+ *     .build();
+ * }</pre>
+ */
+@Getter
+@Builder
+@ToString
+public class RequestTimingsConfiguration {
+    /** A listener which receives the breakdown of every sampled request. */
+    @NonNull private final RequestTimingsListener listener;
+
+    /**
+     * A ratio of requests to collect timings for, in range <code>[0, 1]</code>. Requests which are
+     * not sampled are sent as is and do not carry any additional overhead. Defaults to <code>1
+     * </code>, which means all requests.
+     */
+    @Builder.Default private final double sampleRate = 1.0;
+
+    /**
+     * Decide whether the next request should be sampled.
+     *
+     * @return <code>true</code> if timings should be collected for the request.
+     */
+    public boolean shouldSample() {
+        return sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+}
@@ -0,0 +1,98 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.api.models.configuration;
+
+import glide.api.models.GlideString;
+import glide.api.streams.StreamConsumer;
+import glide.api.streams.StreamEntryHandler;
+import java.util.concurrent.Executor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * Configuration of a {@link StreamConsumer}. The consumer group must exist before the consumer is
+ * started, see {@link glide.api.commands.StreamBaseCommands#xgroupCreate}.
+ *
+ * @example
+ *     <pre>{@code
+ * StreamConsumerConfiguration config = StreamConsumerConfiguration.builder()
+ *     .key(gs("orders"))
+ *     .group(gs("billing"))
+ *     .consumer(gs("billing-1"))
+ *     .handler(entry -> bill(entry.get(gs("order_id"))))
+ *     .batchSize(200)
+ *     .build();
+ * }</pre>
+ */
+@Getter
+@Builder
+@ToString
+public class StreamConsumerConfiguration {
+    /** The key of the stream. */
+    @NonNull private final GlideString key;
+
+    /** The consumer group name. */
+    @NonNull private final GlideString group;
+
+    /** The name of this consumer in the group. */
+    @NonNull private final GlideString consumer;
+
+    /** Processes the entries. */
+    @NonNull private final StreamEntryHandler handler;
+
+    /** The maximum number of entries read by a single <code>XREADGROUP</code>. Defaults to 100. */
+    @Builder.Default private final int batchSize = 100;
+
+    /**
+     * The maximum number of entries which are read but not processed yet. Reading stops while the
+     * limit is reached. Defaults to 1000.
+     */
+    @Builder.Default private final int maxInFlight = 1000;
+
+    /**
+     * How long, in milliseconds, a read waits for new entries when there are none. Defaults to 1000.
+     */
+    @Builder.Default private final long blockMillis = 1000;
+
+    /**
+     * How often, in milliseconds, the acknowledgements of processed entries are sent in a single
+     * <code>XACK</code>. Defaults to 10.
+     */
+    @Builder.Default private final long ackFlushIntervalMillis = 10;
+
+    /**
+     * The number of pending acknowledgements which triggers an <code>XACK</code> before the flush
+     * interval elapses. Defaults to 1000.
+     */
+    @Builder.Default private final int maxAckBatchSize = 1000;
+
+    /**
+     * How long, in milliseconds, an entry must have been pending before it's claimed with <code>
+     * XAUTOCLAIM</code>, which recovers entries of consumers which failed, as well as entries whose
+     * processing failed. Entries which take longer than this to process may be claimed and processed
+     * twice. If <code>null</code>, pending entries are not claimed. Defaults to 60 seconds.
+     */
+    @Builder.Default private final Long claimMinIdleMillis = 60_000L;
+
+    /** How often, in milliseconds, pending entries are claimed. Defaults to 5 seconds. */
+    @Builder.Default private final long claimIntervalMillis = 5_000;
+
+    /**
+     * The executor which runs the handler. If not set, the consumer creates a pool of {@link
+     * #workerThreads} threads, and shuts it down when closed.
+     */
+    private final Executor executor;
+
+    /**
+     * The number of threads of the pool which runs the handler, if no {@link #executor} is set.
+     * Defaults to the number of available processors.
+     */
+    @Builder.Default private final int workerThreads = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * How long, in milliseconds, closing the consumer waits for entries in flight to be processed.
+     * Defaults to 10 seconds.
+     */
+    @Builder.Default private final long shutdownTimeoutMillis = 10_000;
+}
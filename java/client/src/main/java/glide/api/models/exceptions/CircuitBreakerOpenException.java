@@ -0,0 +1,19 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.api.models.exceptions;
+
+import lombok.Getter;
+
+/**
+ * Circuit breaker error: Errors that are thrown without sending the request, when the circuit
+ * breaker of the node it's sent to is open. See {@link
+ * glide.api.models.configuration.CircuitBreakerConfiguration}.
+ */
+public class CircuitBreakerOpenException extends GlideException {
+    /** The address of the node, as <code>host:port</code>. */
+    @Getter private final String address;
+
+    public CircuitBreakerOpenException(String message, String address) {
+        super(message);
+        this.address = address;
+    }
+}
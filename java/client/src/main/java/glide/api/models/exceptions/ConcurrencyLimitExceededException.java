@@ -0,0 +1,14 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.api.models.exceptions;
+
+/**
+ * Concurrency limit error: Errors that are thrown without sending the request, when the requests in
+ * flight are at the adaptive concurrency limit and the request can't wait for it, because the queue
+ * is full or the wait timed out. Callers may shed the load or retry later. See {@link
+ * glide.api.models.configuration.AdaptiveConcurrencyConfiguration}.
+ */
+public class ConcurrencyLimitExceededException extends RequestException {
+    public ConcurrencyLimitExceededException(String message) {
+        super(message);
+    }
+}
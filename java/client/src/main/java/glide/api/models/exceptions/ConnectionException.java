@@ -1,12 +1,25 @@
 /** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
 package glide.api.models.exceptions;
 
+import lombok.Getter;
+
 /**
  * Connection error: Errors that are thrown when a connection disconnects. These errors can be
  * temporary, as the client will attempt to reconnect.
  */
 public class ConnectionException extends GlideException {
+    /**
+     * The address of the node the request was sent to, as <code>host:port</code>, or <code>null
+     * </code> if unknown.
+     */
+    @Getter private final String address;
+
     public ConnectionException(String message) {
+        this(message, null);
+    }
+
+    public ConnectionException(String message, String address) {
         super(message);
+        this.address = address;
     }
 }
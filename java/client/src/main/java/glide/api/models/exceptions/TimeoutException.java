@@ -1,9 +1,22 @@
 /** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
 package glide.api.models.exceptions;
 
+import lombok.Getter;
+
 /** Timeout error: Errors that are thrown when a request times out. */
 public class TimeoutException extends GlideException {
+    /**
+     * The address of the node the request was sent to, as <code>host:port</code>, or <code>null
+     * </code> if unknown.
+     */
+    @Getter private final String address;
+
     public TimeoutException(String message) {
+        this(message, null);
+    }
+
+    public TimeoutException(String message, String address) {
         super(message);
+        this.address = address;
     }
 }
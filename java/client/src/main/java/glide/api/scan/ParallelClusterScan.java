@@ -0,0 +1,337 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.api.scan;
+
+import static glide.api.models.GlideString.gs;
+
+import glide.api.models.GlideString;
+import glide.api.models.commands.scan.ClusterScanCheckpoint;
+import glide.api.models.commands.scan.ParallelScanOptions;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import lombok.NonNull;
+
+/**
+ * A scan of all keys of a cluster, which scans the primaries concurrently with plain <code>SCAN
+ * </code> commands, and fetches pages ahead of the consumer. The keys are consumed once, through
+ * {@link #stream()} or {@link #spliterator()}, in no particular order.
+ *
+ * <p>As with <code>SCAN</code>, a key may be returned more than once, and keys added or removed
+ * during the scan may or may not be returned. The scan covers the primaries at the time it starts:
+ * if slots migrate during the scan, their keys may be missed or returned twice.
+ *
+ * <p>The progress of every primary is available with {@link #getProgress()}, and a {@link
+ * #checkpoint()} allows to resume the scan later, from the last page consumed.
+ *
+ * @see glide.api.commands.GenericClusterCommands#scanParallel(ParallelScanOptions)
+ */
+public class ParallelClusterScan implements AutoCloseable {
+    private static final GlideString INITIAL_CURSOR = gs("0");
+
+    /** The scan state of a single primary. */
+    private static class Shard {
+        final String address;
+
+        /** The cursor to fetch the next page with. */
+        GlideString fetchCursor;
+
+        /** The cursor of the last page consumed. */
+        GlideString consumedCursor;
+
+        boolean fetching = false;
+
+        /** Whether the last page was fetched. */
+        boolean exhausted;
+
+        /** Whether the last page was consumed. */
+        boolean finished;
+
+        long pages = 0;
+        long keys = 0;
+
+        Shard(String address, String cursor) {
+            this.address = address;
+            this.finished = ClusterScanCheckpoint.FINISHED.equals(cursor);
+            this.exhausted = finished;
+            this.fetchCursor = finished || cursor == null ? INITIAL_CURSOR : gs(cursor);
+            this.consumedCursor = fetchCursor;
+        }
+    }
+
+    /** A page of keys fetched from a primary. */
+    private static class Page {
+        final Shard shard;
+        final GlideString nextCursor;
+        final Object[] keys;
+
+        Page(Shard shard, GlideString nextCursor, Object[] keys) {
+            this.shard = shard;
+            this.nextCursor = nextCursor;
+            this.keys = keys;
+        }
+    }
+
+    private final BiFunction<String, GlideString, CompletableFuture<Object[]>> scanPage;
+    private final int parallelism;
+    private final int prefetchPages;
+    private final ClusterScanCheckpoint resumeFrom;
+
+    /** The primaries, in the order of their addresses, or <code>null</code> until they're known. */
+    private List<Shard> shards = null;
+
+    private final Deque<Page> pages = new ArrayDeque<>();
+    private int fetching = 0;
+    private int nextShard = 0;
+    private Throwable error = null;
+    private boolean closed = false;
+    private boolean consumed = false;
+
+    /**
+     * @param primaries The addresses of the primaries, as <code>"address:port"</code>.
+     * @param scanPage Sends <code>SCAN</code> with the given cursor to the primary with the given
+     *     address, and returns the next cursor and the keys.
+     * @param options The options of the scan.
+     */
+    public ParallelClusterScan(
+            @NonNull CompletableFuture<List<String>> primaries,
+            @NonNull BiFunction<String, GlideString, CompletableFuture<Object[]>> scanPage,
+            @NonNull ParallelScanOptions options) {
+        if (options.getParallelism() < 1 || options.getPrefetchPages() < 1) {
+            throw new IllegalArgumentException("The parallelism and prefetched pages must be positive");
+        }
+        this.scanPage = scanPage;
+        this.parallelism = options.getParallelism();
+        this.prefetchPages = options.getPrefetchPages();
+        this.resumeFrom = options.getCheckpoint();
+        primaries.whenComplete(this::start);
+    }
+
+    private void start(List<String> addresses, Throwable startError) {
+        synchronized (this) {
+            if (startError != null) {
+                error = startError;
+            } else {
+                List<Shard> primaries = new ArrayList<>();
+                for (String address : addresses) {
+                    String cursor = resumeFrom == null ? null : resumeFrom.getCursors().get(address);
+                    primaries.add(new Shard(address, cursor));
+                }
+                shards = primaries;
+            }
+            notifyAll();
+        }
+        fetchPages();
+    }
+
+    /** Sends requests for the next pages, within the parallelism and prefetch limits. */
+    private void fetchPages() {
+        List<Shard> toFetch = new ArrayList<>();
+        synchronized (this) {
+            while (shards != null
+                    && !closed
+                    && error == null
+                    && fetching < parallelism
+                    && pages.size() + fetching < prefetchPages) {
+                Shard shard = nextReadyShard();
+                if (shard == null) {
+                    break;
+                }
+                shard.fetching = true;
+                fetching++;
+                toFetch.add(shard);
+            }
+        }
+        toFetch.forEach(this::fetch);
+    }
+
+    /** Picks the primaries in turn, so they progress evenly. */
+    private Shard nextReadyShard() {
+        for (int i = 0; i < shards.size(); i++) {
+            Shard shard = shards.get((nextShard + i) % shards.size());
+            if (!shard.fetching && !shard.exhausted) {
+                nextShard = (nextShard + i + 1) % shards.size();
+                return shard;
+            }
+        }
+        return null;
+    }
+
+    private void fetch(Shard shard) {
+        CompletableFuture<Object[]> request;
+        try {
+            request = scanPage.apply(shard.address, shard.fetchCursor);
+        } catch (RuntimeException e) {
+            request = CompletableFuture.failedFuture(e);
+        }
+        request.whenComplete(
+                (result, pageError) -> {
+                    synchronized (this) {
+                        fetching--;
+                        shard.fetching = false;
+                        if (pageError != null) {
+                            if (error == null) {
+                                error = pageError;
+                            }
+                        } else if (!closed) {
+                            GlideString cursor = GlideString.of(result[0]);
+                            shard.fetchCursor = cursor;
+                            shard.exhausted = cursor.equals(INITIAL_CURSOR);
+                            pages.add(new Page(shard, cursor, (Object[]) result[1]));
+                        }
+                        notifyAll();
+                    }
+                    fetchPages();
+                });
+    }
+
+    /**
+     * Waits for the next fetched page.
+     *
+     * @return The page, or <code>null</code> if all pages were consumed.
+     */
+    private Page takePage() {
+        Page page;
+        synchronized (this) {
+            while (true) {
+                if (error != null) {
+                    throw asRuntimeException(error);
+                }
+                if (!pages.isEmpty()) {
+                    page = pages.poll();
+                    break;
+                }
+                if (closed || (shards != null && fetching == 0 && isExhausted())) {
+                    return null;
+                }
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new CompletionException(e);
+                }
+            }
+        }
+        fetchPages();
+        return page;
+    }
+
+    /** Unwraps the failure of a request, to be thrown to the consumer. */
+    static RuntimeException asRuntimeException(Throwable error) {
+        Throwable cause =
+                error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        return cause instanceof RuntimeException
+                ? (RuntimeException) cause
+                : new CompletionException(cause);
+    }
+
+    private boolean isExhausted() {
+        return shards.stream().allMatch(shard -> shard.exhausted);
+    }
+
+    private synchronized void pageConsumed(Page page) {
+        Shard shard = page.shard;
+        shard.consumedCursor = page.nextCursor;
+        shard.finished = page.nextCursor.equals(INITIAL_CURSOR);
+        shard.pages++;
+        shard.keys += page.keys.length;
+    }
+
+    /**
+     * Returns the keys of the scan. The keys are <code>GlideString</code>s. Can be called only once,
+     * as an alternative to {@link #stream()}.
+     *
+     * @throws IllegalStateException If the keys were already consumed.
+     */
+    public synchronized Spliterator<GlideString> spliterator() {
+        if (consumed) {
+            throw new IllegalStateException("The keys of a parallel scan can be consumed only once");
+        }
+        consumed = true;
+        return new Spliterators.AbstractSpliterator<>(Long.MAX_VALUE, Spliterator.NONNULL) {
+            private Page current = null;
+            private int index = 0;
+
+            @Override
+            public boolean tryAdvance(Consumer<? super GlideString> action) {
+                while (current == null || index >= current.keys.length) {
+                    if (current != null) {
+                        pageConsumed(current);
+                    }
+                    current = takePage();
+                    index = 0;
+                    if (current == null) {
+                        return false;
+                    }
+                }
+                action.accept(GlideString.of(current.keys[index++]));
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Returns the keys of the scan as a sequential stream, which closes the scan when it's closed.
+     * Can be called only once, as an alternative to {@link #spliterator()}.
+     *
+     * @throws IllegalStateException If the keys were already consumed.
+     */
+    public Stream<GlideString> stream() {
+        return StreamSupport.stream(spliterator(), false).onClose(this::close);
+    }
+
+    /** Returns the progress of every primary, by address. Empty until the primaries are known. */
+    public synchronized Map<String, ShardScanProgress> getProgress() {
+        Map<String, ShardScanProgress> progress = new LinkedHashMap<>();
+        if (shards != null) {
+            for (Shard shard : shards) {
+                progress.put(
+                        shard.address,
+                        new ShardScanProgress(
+                                shard.address,
+                                shard.consumedCursor.toString(),
+                                shard.pages,
+                                shard.keys,
+                                shard.finished));
+            }
+        }
+        return progress;
+    }
+
+    /**
+     * Returns a checkpoint to resume the scan from, with {@link ParallelScanOptions#getCheckpoint()}.
+     * It covers the pages consumed entirely: the keys of a page being consumed are returned again
+     * when resuming. Until the primaries are known, returns the checkpoint the scan was resumed from,
+     * if any.
+     */
+    public synchronized ClusterScanCheckpoint checkpoint() {
+        if (shards == null) {
+            return resumeFrom != null ? resumeFrom : new ClusterScanCheckpoint(Map.of());
+        }
+        Map<String, String> cursors = new LinkedHashMap<>();
+        for (Shard shard : shards) {
+            cursors.put(
+                    shard.address,
+                    shard.finished ? ClusterScanCheckpoint.FINISHED : shard.consumedCursor.toString());
+        }
+        return new ClusterScanCheckpoint(cursors);
+    }
+
+    /** Stops fetching pages. Pending requests complete, and their pages are dropped. */
+    @Override
+    public synchronized void close() {
+        closed = true;
+        pages.clear();
+        notifyAll();
+    }
+}
@@ -0,0 +1,291 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.api.scan;
+
+import static glide.api.models.GlideString.gs;
+
+import glide.api.models.GlideString;
+import glide.api.models.commands.scan.ScanStreamOptions;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import lombok.NonNull;
+
+/**
+ * Iterates over the results of a cursor-based scan command, such as <code>HSCAN</code>, and
+ * requests the next page while the current one is consumed. The <code>COUNT</code> of every request
+ * may adapt to a target page latency, see {@link ScanStreamOptions}. The first page is requested
+ * when the elements are first consumed.
+ *
+ * @param <T> The type of the elements.
+ */
+public class PrefetchingScan<T> implements AutoCloseable {
+    private static final GlideString INITIAL_CURSOR = gs("0");
+
+    /**
+     * The decoded elements of a page, which keeps the values of the reply in arrays and creates an
+     * element only when it's consumed.
+     *
+     * @param <T> The type of the elements.
+     */
+    public interface Page<T> {
+        /** Returns the number of elements. */
+        int size();
+
+        /** Returns the element at the given index. */
+        T get(int index);
+    }
+
+    private final BiFunction<GlideString, Long, CompletableFuture<Object[]>> scanPage;
+    private final Function<Object[], Page<T>> decoder;
+    private final int prefetchPages;
+    private final Long targetPageLatencyNanos;
+    private final long minCount;
+    private final long maxCount;
+
+    private final Deque<Page<T>> pages = new ArrayDeque<>();
+    private GlideString cursor = INITIAL_CURSOR;
+    private long count;
+    private boolean pending = false;
+    private boolean exhausted = false;
+    private boolean closed = false;
+    private boolean consumed = false;
+    private Throwable error = null;
+
+    /**
+     * @param scanPage Sends the scan command with the given cursor and <code>COUNT</code>, and
+     *     returns the next cursor and the elements.
+     * @param decoder Decodes the elements of a page.
+     * @param options The options of the scan.
+     */
+    public PrefetchingScan(
+            @NonNull BiFunction<GlideString, Long, CompletableFuture<Object[]>> scanPage,
+            @NonNull Function<Object[], Page<T>> decoder,
+            @NonNull ScanStreamOptions options) {
+        if (options.getPrefetchPages() < 1 || options.getMinCount() < 1) {
+            throw new IllegalArgumentException("The prefetched pages and minimum count must be positive");
+        }
+        this.scanPage = scanPage;
+        this.decoder = decoder;
+        this.prefetchPages = options.getPrefetchPages();
+        this.targetPageLatencyNanos =
+                options.getTargetPageLatencyMillis() == null
+                        ? null
+                        : TimeUnit.MILLISECONDS.toNanos(options.getTargetPageLatencyMillis());
+        this.minCount = options.getMinCount();
+        this.maxCount = Math.max(options.getMinCount(), options.getMaxCount());
+        this.count = options.getCount();
+    }
+
+    /** Returns the <code>COUNT</code> of the next request. */
+    public synchronized long getCount() {
+        return count;
+    }
+
+    /** Requests the next page, unless a request is pending or enough pages are buffered. */
+    private void fetchPage() {
+        GlideString requestCursor;
+        long requestCount;
+        synchronized (this) {
+            if (pending || exhausted || closed || error != null || pages.size() + 1 > prefetchPages) {
+                return;
+            }
+            pending = true;
+            requestCursor = cursor;
+            requestCount = count;
+        }
+        long start = System.nanoTime();
+        CompletableFuture<Object[]> request;
+        try {
+            request = scanPage.apply(requestCursor, requestCount);
+        } catch (RuntimeException e) {
+            request = CompletableFuture.failedFuture(e);
+        }
+        request.whenComplete(
+                (result, pageError) -> {
+                    synchronized (this) {
+                        pending = false;
+                        if (pageError != null) {
+                            error = pageError;
+                        } else if (!closed) {
+                            try {
+                                if (result == null) {
+                                    exhausted = true;
+                                } else {
+                                    cursor = GlideString.of(result[0]);
+                                    exhausted = cursor.equals(INITIAL_CURSOR);
+                                    pages.add(decoder.apply((Object[]) result[1]));
+                                    adaptCount(System.nanoTime() - start);
+                                }
+                            } catch (RuntimeException e) {
+                                error = e;
+                            }
+                        }
+                        notifyAll();
+                    }
+                    fetchPage();
+                });
+    }
+
+    private void adaptCount(long latencyNanos) {
+        if (targetPageLatencyNanos == null) {
+            return;
+        }
+        if (latencyNanos > targetPageLatencyNanos) {
+            count = Math.max(minCount, count / 2);
+        } else if (latencyNanos < targetPageLatencyNanos / 2) {
+            count = Math.min(maxCount, count * 2);
+        }
+    }
+
+    /**
+     * Waits for the next page.
+     *
+     * @return The page, or <code>null</code> if all pages were consumed.
+     */
+    private Page<T> takePage() {
+        Page<T> page;
+        synchronized (this) {
+            while (pages.isEmpty()) {
+                if (error != null) {
+                    throw ParallelClusterScan.asRuntimeException(error);
+                }
+                if (closed || (exhausted && !pending)) {
+                    return null;
+                }
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new CompletionException(e);
+                }
+            }
+            page = pages.poll();
+        }
+        fetchPage();
+        return page;
+    }
+
+    /**
+     * Returns the elements of the scan, and requests the first page. Can be called only once, as an
+     * alternative to {@link #stream()}.
+     *
+     * @throws IllegalStateException If the elements were already consumed.
+     */
+    public Spliterator<T> spliterator() {
+        synchronized (this) {
+            if (consumed) {
+                throw new IllegalStateException("The elements of a scan can be consumed only once");
+            }
+            consumed = true;
+        }
+        fetchPage();
+        return new Spliterators.AbstractSpliterator<>(Long.MAX_VALUE, Spliterator.NONNULL) {
+            private Page<T> current = null;
+            private int index = 0;
+
+            @Override
+            public boolean tryAdvance(Consumer<? super T> action) {
+                while (current == null || index >= current.size()) {
+                    current = takePage();
+                    index = 0;
+                    if (current == null) {
+                        return false;
+                    }
+                }
+                action.accept(current.get(index++));
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Returns the elements of the scan as a sequential stream, which closes the scan when it's
+     * closed. The first page is requested by the terminal operation of the stream. Can be called only
+     * once, as an alternative to {@link #spliterator()}.
+     *
+     * @throws IllegalStateException If the elements were already consumed, once the stream starts.
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(this::spliterator, Spliterator.NONNULL, false).onClose(this::close);
+    }
+
+    /** Decodes a page of single elements, such as keys or set members. */
+    public static Page<GlideString> decodeElements(Object[] elements) {
+        GlideString[] decoded = new GlideString[elements.length];
+        for (int i = 0; i < elements.length; i++) {
+            decoded[i] = GlideString.of(elements[i]);
+        }
+        return new Page<>() {
+            @Override
+            public int size() {
+                return decoded.length;
+            }
+
+            @Override
+            public GlideString get(int index) {
+                return decoded[index];
+            }
+        };
+    }
+
+    /** Decodes a page of hash fields and values, which alternate. */
+    public static Page<Map.Entry<GlideString, GlideString>> decodePairs(Object[] elements) {
+        GlideString[] fields = new GlideString[elements.length / 2];
+        GlideString[] values = new GlideString[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            fields[i] = GlideString.of(elements[2 * i]);
+            values[i] = GlideString.of(elements[2 * i + 1]);
+        }
+        return new Page<>() {
+            @Override
+            public int size() {
+                return fields.length;
+            }
+
+            @Override
+            public Map.Entry<GlideString, GlideString> get(int index) {
+                return new SimpleImmutableEntry<>(fields[index], values[index]);
+            }
+        };
+    }
+
+    /** Decodes a page of sorted set members and scores, which alternate. */
+    public static Page<Map.Entry<GlideString, Double>> decodeScoredMembers(Object[] elements) {
+        GlideString[] members = new GlideString[elements.length / 2];
+        double[] scores = new double[members.length];
+        for (int i = 0; i < members.length; i++) {
+            members[i] = GlideString.of(elements[2 * i]);
+            scores[i] = Double.parseDouble(elements[2 * i + 1].toString());
+        }
+        return new Page<>() {
+            @Override
+            public int size() {
+                return members.length;
+            }
+
+            @Override
+            public Map.Entry<GlideString, Double> get(int index) {
+                return new SimpleImmutableEntry<>(members[index], scores[index]);
+            }
+        };
+    }
+
+    /** Stops requesting pages. A pending request completes, and its page is dropped. */
+    @Override
+    public synchronized void close() {
+        closed = true;
+        pages.clear();
+        notifyAll();
+    }
+}
@@ -0,0 +1,27 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.api.scan;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/** The progress of the scan of a single primary, as seen by the consumer of a scan. */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class ShardScanProgress {
+    /** The address of the primary, as <code>"address:port"</code>. */
+    private final String address;
+
+    /** The cursor up to which the keys were consumed. */
+    private final String cursor;
+
+    /** The number of pages consumed. */
+    private final long pages;
+
+    /** The number of keys consumed. */
+    private final long keys;
+
+    /** Whether all keys of the primary were consumed. */
+    private final boolean finished;
+}
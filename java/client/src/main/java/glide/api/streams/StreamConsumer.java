@@ -0,0 +1,406 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.api.streams;
+
+import static glide.api.models.GlideString.gs;
+
+import glide.api.commands.StreamBaseCommands;
+import glide.api.logging.Logger;
+import glide.api.models.GlideString;
+import glide.api.models.StreamEntry;
+import glide.api.models.commands.stream.StreamReadGroupOptions;
+import glide.api.models.configuration.StreamConsumerConfiguration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.NonNull;
+
+/**
+ * Consumes a stream as a member of a consumer group, and hands the entries to a {@link
+ * StreamEntryHandler} running on a pool of workers.
+ *
+ * <ul>
+ *   <li>Entries are read in batches with <code>XREADGROUP</code>. The next batch is read while the
+ *       previous one is processed, as long as the number of entries in flight stays within the
+ *       configured limit.
+ *   <li>Processed entries are acknowledged in batches with a single <code>XACK</code> per flush
+ *       interval.
+ *   <li>Entries left pending by failed consumers or failed handlers are periodically claimed with
+ *       <code>XAUTOCLAIM</code> and processed again.
+ * </ul>
+ *
+ * Entries are processed at least once: an entry may be processed again if its acknowledgement is
+ * lost, or if its processing takes longer than the claim idle time.
+ *
+ * <p>Reads block the connection they're sent on for up to the configured block time while the
+ * stream is empty. Configure {@link
+ * glide.api.models.configuration.BaseClientConfiguration#getBlockingConnectionPoolSize()} on the
+ * client so they don't hold up other commands.
+ *
+ * @example
+ *     <pre>{@code
+ * try (StreamConsumer consumer = new StreamConsumer(client, config)) {
+ *     consumer.start();
+ *     ...
+ * }
+ * }</pre>
+ */
+public class StreamConsumer implements AutoCloseable {
+    private static final String LOG_IDENTIFIER = "stream consumer";
+    private static final GlideString NEW_ENTRIES = gs(">");
+    private static final GlideString CLAIM_START = gs("0-0");
+    private static final long RETRY_DELAY_MILLIS = 1000;
+
+    private final StreamBaseCommands client;
+    private final StreamConsumerConfiguration config;
+    private final StreamReadGroupOptions readOptions;
+    private final Executor executor;
+    private final ExecutorService ownedExecutor;
+    private final ScheduledExecutorService scheduler;
+
+    /** The number of entries read but not processed yet. */
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    /** Whether a read is pending or waiting for a retry. */
+    private final AtomicBoolean reading = new AtomicBoolean();
+
+    private final ConcurrentLinkedQueue<GlideString> pendingAcks = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingAckCount = new AtomicInteger();
+    private final AtomicBoolean claiming = new AtomicBoolean();
+    private volatile GlideString claimCursor = CLAIM_START;
+    private final AtomicBoolean started = new AtomicBoolean();
+    private volatile boolean closed = false;
+
+    private final AtomicLong processedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong claimedCount = new AtomicLong();
+    private final AtomicLong acknowledgedCount = new AtomicLong();
+
+    /**
+     * Creates a consumer. It doesn't read any entries until it's started.
+     *
+     * @param client The client to send the stream commands with.
+     * @param config The configuration of the consumer.
+     */
+    public StreamConsumer(
+            @NonNull StreamBaseCommands client, @NonNull StreamConsumerConfiguration config) {
+        if (config.getBatchSize() < 1
+                || config.getMaxInFlight() < 1
+                || config.getMaxAckBatchSize() < 1) {
+            throw new IllegalArgumentException(
+                    "The batch size, in-flight limit and acknowledgement batch size must be positive");
+        }
+        this.client = client;
+        this.config = config;
+        this.readOptions =
+                StreamReadGroupOptions.builder()
+                        .count((long) Math.min(config.getBatchSize(), config.getMaxInFlight()))
+                        .block(config.getBlockMillis())
+                        .build();
+        if (config.getExecutor() != null) {
+            this.executor = config.getExecutor();
+            this.ownedExecutor = null;
+        } else {
+            this.ownedExecutor = Executors.newFixedThreadPool(config.getWorkerThreads());
+            this.executor = ownedExecutor;
+        }
+        this.scheduler =
+                Executors.newSingleThreadScheduledExecutor(
+                        runnable -> {
+                            Thread thread = new Thread(runnable, "glide-stream-consumer");
+                            thread.setDaemon(true);
+                            return thread;
+                        });
+    }
+
+    /** Starts reading and processing entries. */
+    public void start() {
+        if (closed) {
+            throw new IllegalStateException("The stream consumer is closed");
+        }
+        if (!started.compareAndSet(false, true)) {
+            return;
+        }
+        scheduler.scheduleWithFixedDelay(
+                this::flushAcks,
+                config.getAckFlushIntervalMillis(),
+                config.getAckFlushIntervalMillis(),
+                TimeUnit.MILLISECONDS);
+        if (config.getClaimMinIdleMillis() != null) {
+            scheduler.scheduleWithFixedDelay(
+                    this::claim, 0, config.getClaimIntervalMillis(), TimeUnit.MILLISECONDS);
+        }
+        read();
+    }
+
+    /** Returns the number of entries which were processed successfully. */
+    public long getProcessedCount() {
+        return processedCount.get();
+    }
+
+    /** Returns the number of entries whose handler threw. */
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    /** Returns the number of pending entries claimed with <code>XAUTOCLAIM</code>. */
+    public long getClaimedCount() {
+        return claimedCount.get();
+    }
+
+    /** Returns the number of entries the server acknowledged. */
+    public long getAcknowledgedCount() {
+        return acknowledgedCount.get();
+    }
+
+    /** Returns the number of entries read but not processed yet. */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private int readCount() {
+        return Math.min(config.getBatchSize(), config.getMaxInFlight());
+    }
+
+    /** Reads the next batch, unless a read is already pending or too many entries are in flight. */
+    private void read() {
+        while (!closed
+                && config.getMaxInFlight() - inFlight.get() >= readCount()
+                && reading.compareAndSet(false, true)) {
+            // An entry may have been dispatched since the check
+            if (config.getMaxInFlight() - inFlight.get() >= readCount()) {
+                client
+                        .xreadgroup(
+                                Map.of(config.getKey(), NEW_ENTRIES),
+                                config.getGroup(),
+                                config.getConsumer(),
+                                readOptions)
+                        .whenComplete(
+                                (result, error) -> {
+                                    if (error != null) {
+                                        retryRead(error);
+                                        return;
+                                    }
+                                    if (result != null) {
+                                        for (Map<GlideString, GlideString[][]> entries : result.values()) {
+                                            dispatch(entries, false);
+                                        }
+                                    }
+                                    reading.set(false);
+                                    read();
+                                });
+                return;
+            }
+            reading.set(false);
+        }
+    }
+
+    private void retryRead(Throwable error) {
+        if (closed) {
+            return;
+        }
+        Logger.log(Logger.Level.WARN, LOG_IDENTIFIER, "Failed to read stream entries, retrying", error);
+        schedule(
+                () -> {
+                    reading.set(false);
+                    read();
+                },
+                RETRY_DELAY_MILLIS);
+    }
+
+    /**
+     * Hands entries, mapped by id to their field-value pairs, to the workers.
+     *
+     * @param claimed Whether the entries were claimed with <code>XAUTOCLAIM</code>. Claimed entries
+     *     are counted before they are handed over, so the count includes every entry being handled.
+     */
+    private void dispatch(Map<GlideString, ?> entries, boolean claimed) {
+        if (closed) {
+            // The entries stay pending, and are claimed again later
+            return;
+        }
+        for (Map.Entry<GlideString, ?> entry : entries.entrySet()) {
+            if (entry.getValue() == null) {
+                // The entry was deleted from the stream while pending
+                continue;
+            }
+            if (claimed) {
+                claimedCount.incrementAndGet();
+            }
+            dispatch(
+                    new StreamEntry(config.getKey(), entry.getKey(), flatten((Object[]) entry.getValue())));
+        }
+    }
+
+    private void dispatch(StreamEntry entry) {
+        inFlight.incrementAndGet();
+        try {
+            executor.execute(() -> process(entry));
+        } catch (RejectedExecutionException e) {
+            // The executor was shut down; the entry stays pending
+            inFlight.decrementAndGet();
+        }
+    }
+
+    private static GlideString[] flatten(Object[] pairs) {
+        GlideString[] fieldsAndValues = new GlideString[pairs.length * 2];
+        for (int i = 0; i < pairs.length; i++) {
+            Object[] pair = (Object[]) pairs[i];
+            fieldsAndValues[i * 2] = (GlideString) pair[0];
+            fieldsAndValues[i * 2 + 1] = (GlideString) pair[1];
+        }
+        return fieldsAndValues;
+    }
+
+    private void process(StreamEntry entry) {
+        try {
+            config.getHandler().handle(entry);
+            processedCount.incrementAndGet();
+            pendingAcks.add(entry.getId());
+            if (pendingAckCount.incrementAndGet() >= config.getMaxAckBatchSize()) {
+                flushAcks();
+            }
+        } catch (Exception e) {
+            failedCount.incrementAndGet();
+            Logger.log(
+                    Logger.Level.WARN,
+                    LOG_IDENTIFIER,
+                    () -> "Failed to process stream entry " + entry.getId(),
+                    e);
+        } finally {
+            int remaining = inFlight.decrementAndGet();
+            if (remaining == 0 && closed) {
+                synchronized (inFlight) {
+                    inFlight.notifyAll();
+                }
+            }
+            read();
+        }
+    }
+
+    /** Sends up to a batch of pending acknowledgements in a single <code>XACK</code>. */
+    private CompletableFuture<Void> flushAcks() {
+        List<GlideString> ids =
+                new ArrayList<>(Math.max(0, Math.min(pendingAckCount.get(), config.getMaxAckBatchSize())));
+        GlideString id;
+        while (ids.size() < config.getMaxAckBatchSize() && (id = pendingAcks.poll()) != null) {
+            ids.add(id);
+        }
+        if (ids.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        pendingAckCount.addAndGet(-ids.size());
+        return client
+                .xack(config.getKey(), config.getGroup(), ids.toArray(new GlideString[0]))
+                .handle(
+                        (acknowledged, error) -> {
+                            if (error != null) {
+                                // The entries stay pending, and are claimed again later
+                                Logger.log(
+                                        Logger.Level.WARN,
+                                        LOG_IDENTIFIER,
+                                        "Failed to acknowledge stream entries",
+                                        error);
+                            } else {
+                                acknowledgedCount.addAndGet(acknowledged);
+                            }
+                            return null;
+                        });
+    }
+
+    /** Claims pending entries which have been idle for too long, and processes them. */
+    private void claim() {
+        int count = Math.min(config.getBatchSize(), config.getMaxInFlight() - inFlight.get());
+        if (closed || count < 1 || !claiming.compareAndSet(false, true)) {
+            return;
+        }
+        client
+                .xautoclaim(
+                        config.getKey(),
+                        config.getGroup(),
+                        config.getConsumer(),
+                        config.getClaimMinIdleMillis(),
+                        claimCursor,
+                        count)
+                .whenComplete(
+                        (result, error) -> {
+                            try {
+                                if (error != null) {
+                                    if (!closed) {
+                                        Logger.log(
+                                                Logger.Level.WARN,
+                                                LOG_IDENTIFIER,
+                                                "Failed to claim pending stream entries",
+                                                error);
+                                    }
+                                    return;
+                                }
+                                claimCursor = (GlideString) result[0];
+                                @SuppressWarnings("unchecked")
+                                var claimed = (Map<GlideString, ?>) result[1];
+                                dispatch(claimed, true);
+                            } finally {
+                                claiming.set(false);
+                            }
+                        });
+    }
+
+    private void schedule(Runnable task, long delayMillis) {
+        try {
+            scheduler.schedule(task, delayMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // The consumer is closing
+        }
+    }
+
+    /**
+     * Stops reading entries, waits for the entries in flight to be processed, up to the configured
+     * shutdown timeout, and sends their acknowledgements. A pending read isn't cancelled: the entries
+     * it returns stay pending, and are claimed again later.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        scheduler.shutdownNow();
+        long deadline =
+                System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(config.getShutdownTimeoutMillis());
+        try {
+            synchronized (inFlight) {
+                long remaining;
+                while (inFlight.get() > 0 && (remaining = deadline - System.nanoTime()) > 0) {
+                    TimeUnit.NANOSECONDS.timedWait(inFlight, remaining);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (ownedExecutor != null) {
+            ownedExecutor.shutdown();
+        }
+        List<CompletableFuture<Void>> flushes = new ArrayList<>();
+        while (!pendingAcks.isEmpty()) {
+            flushes.add(flushAcks());
+        }
+        try {
+            CompletableFuture.allOf(flushes.toArray(new CompletableFuture[0])).get();
+        } catch (ExecutionException e) {
+            // Failures are logged by the flushes
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,16 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.api.streams;
+
+import glide.api.models.StreamEntry;
+
+/** Processes the entries delivered by a {@link StreamConsumer}. */
+@FunctionalInterface
+public interface StreamEntryHandler {
+    /**
+     * Processes a stream entry. The entry is acknowledged once this method returns. If it throws, the
+     * entry is not acknowledged, and stays pending until it's claimed again.
+     *
+     * @param entry The entry to process.
+     */
+    void handle(StreamEntry entry) throws Exception;
+}
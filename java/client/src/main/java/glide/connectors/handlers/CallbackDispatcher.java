@@ -4,11 +4,13 @@ package glide.connectors.handlers;
 import static glide.api.logging.Logger.Level.ERROR;
 
 import glide.api.logging.Logger;
+import glide.api.models.exceptions.CircuitBreakerOpenException;
 import glide.api.models.exceptions.ClosingException;
 import glide.api.models.exceptions.ConnectionException;
 import glide.api.models.exceptions.ExecAbortException;
 import glide.api.models.exceptions.RequestException;
 import glide.api.models.exceptions.TimeoutException;
+import glide.jfr.ClosingErrorEvent;
 import glide.managers.CommandManager;
 import glide.managers.ConnectionManager;
 import java.util.concurrent.CompletableFuture;
@@ -98,6 +100,7 @@ public class CallbackDispatcher {
             if (response.hasRequestError()) {
                 RequestError error = response.getRequestError();
                 String msg = error.getMessage();
+                String address = error.getAddress().isEmpty() ? null : error.getAddress();
                 switch (error.getType()) {
                     case Unspecified:
                         // Unspecified error on Valkey service-side
@@ -109,11 +112,15 @@ public class CallbackDispatcher {
                         break;
                     case Timeout:
                         // Timeout from Glide to Valkey service
-                        future.completeExceptionally(new TimeoutException(msg));
+                        future.completeExceptionally(new TimeoutException(msg, address));
                         break;
                     case Disconnect:
                         // Connection problem between Glide and Valkey
-                        future.completeExceptionally(new ConnectionException(msg));
+                        future.completeExceptionally(new ConnectionException(msg, address));
+                        break;
+                    case CircuitOpen:
+                        // Not sent by Glide, as the circuit breaker of its node is open
+                        future.completeExceptionally(new CircuitBreakerOpenException(msg, address));
                         break;
                     default:
                         // Request or command error from Valkey
@@ -143,6 +150,12 @@ public class CallbackDispatcher {
      * @param message Exception message
      */
     public void distributeClosingException(String message) {
+        var event = new ClosingErrorEvent();
+        if (event.shouldCommit()) {
+            event.message = message;
+            event.pendingRequests = responses.size();
+            event.commit();
+        }
         responses.values().forEach(f -> f.completeExceptionally(new ClosingException(message)));
         responses.clear();
     }
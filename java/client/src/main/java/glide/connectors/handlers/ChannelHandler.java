@@ -4,6 +4,9 @@ package glide.connectors.handlers;
 import command_request.CommandRequestOuterClass.CommandRequest;
 import connection_request.ConnectionRequestOuterClass.ConnectionRequest;
 import glide.connectors.resources.ThreadPoolResource;
+import glide.jfr.CommandEvent;
+import glide.jfr.CommandSubmitEvent;
+import glide.managers.CommandManager;
 import io.netty.bootstrap.Bootstrap;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
@@ -42,16 +45,21 @@ public class ChannelHandler {
             ThreadPoolResource threadPoolResource)
             throws InterruptedException {
 
-        channel =
+        ChannelFuture connection =
                 new Bootstrap()
                         .group(threadPoolResource.getEventLoopGroup())
                         .channel(threadPoolResource.getDomainSocketChannelClass())
                         .handler(new ProtobufSocketChannelInitializer(callbackDispatcher))
-                        .connect(new DomainSocketAddress(socketPath))
-                        // TODO    .addListener(new NettyFutureErrorHandler())
-                        //   we need to use connection promise here for that ^
-                        .sync()
-                        .channel();
+                        .connect(new DomainSocketAddress(socketPath));
+        // TODO    .addListener(new NettyFutureErrorHandler())
+        //   we need to use connection promise here for that ^
+        try {
+            channel = connection.sync().channel();
+        } catch (InterruptedException e) {
+            // The connection may still be established, nobody would close it
+            connection.channel().close();
+            throw e;
+        }
         this.callbackDispatcher = callbackDispatcher;
     }
 
@@ -64,18 +72,43 @@ public class ChannelHandler {
      */
     public CompletableFuture<Response> write(CommandRequest.Builder request, boolean flush) {
         var commandId = callbackDispatcher.registerRequest();
-        request.setCallbackIdx(commandId.getKey());
+        var message = request.setCallbackIdx(commandId.getKey()).build();
+        recordCommandEvents(message, commandId.getValue());
 
         if (flush) {
-            channel
-                    .writeAndFlush(request.build())
-                    .addListener(new NettyFutureErrorHandler(commandId.getValue()));
+            channel.writeAndFlush(message).addListener(new NettyFutureErrorHandler(commandId.getValue()));
         } else {
-            channel.write(request.build()).addListener(new NettyFutureErrorHandler(commandId.getValue()));
+            channel.write(message).addListener(new NettyFutureErrorHandler(commandId.getValue()));
         }
         return commandId.getValue();
     }
 
+    /**
+     * Emit JFR events for a command being submitted. Does nothing unless the events are enabled in a
+     * running recording.
+     *
+     * @param request The request sent
+     * @param response The response promise
+     */
+    private static void recordCommandEvents(
+            CommandRequest request, CompletableFuture<Response> response) {
+        var submitEvent = new CommandSubmitEvent();
+        if (submitEvent.shouldCommit()) {
+            submitEvent.requestType = CommandManager.getRequestTypeName(request);
+            submitEvent.callbackId = request.getCallbackIdx();
+            submitEvent.requestBytes = request.getSerializedSize();
+            submitEvent.commit();
+        }
+        var commandEvent = new CommandEvent();
+        if (commandEvent.isEnabled()) {
+            commandEvent.requestType = CommandManager.getRequestTypeName(request);
+            commandEvent.callbackId = request.getCallbackIdx();
+            commandEvent.requestBytes = request.getSerializedSize();
+            commandEvent.begin();
+            response.whenComplete((ignored, error) -> commandEvent.complete(error));
+        }
+    }
+
     /**
      * Write a protobuf message to the channel (to UDS).
      *
@@ -8,6 +8,7 @@ import glide.api.models.GlideString;
 import glide.api.models.PubSubMessage;
 import glide.api.models.configuration.BaseSubscriptionConfiguration.MessageCallback;
 import glide.api.models.exceptions.GlideException;
+import glide.jfr.PubSubMessageEvent;
 import glide.managers.BaseResponseResolver;
 import java.util.Arrays;
 import java.util.Map;
@@ -113,15 +114,28 @@ public class MessageHandler {
 
     /** Process a {@link PubSubMessage} received. */
     private void handle(PubSubMessage message) throws MessageCallbackException {
-        if (callback.isPresent()) {
-            try {
-                callback.get().accept(message, context.orElse(null));
-            } catch (Exception callbackException) {
-                throw new MessageCallbackException(callbackException);
+        var event = new PubSubMessageEvent();
+        event.begin();
+        try {
+            if (callback.isPresent()) {
+                try {
+                    callback.get().accept(message, context.orElse(null));
+                } catch (Exception callbackException) {
+                    throw new MessageCallbackException(callbackException);
+                }
+                // Note: Error subclasses are uncaught and will just propagate.
+            } else {
+                queue.push(message);
+            }
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.channel = message.getChannel().toString();
+                event.pattern = message.getPattern().map(GlideString::toString).orElse(null);
+                event.messageBytes = message.getMessage().getBytes().length;
+                event.delivery = callback.isPresent() ? "Callback" : "Queue";
+                event.commit();
             }
-            // Note: Error subclasses are uncaught and will just propagate.
-        } else {
-            queue.push(message);
         }
     }
 
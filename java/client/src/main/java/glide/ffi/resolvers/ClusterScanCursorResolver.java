@@ -10,7 +10,6 @@ import glide.managers.CommandManager;
 public final class ClusterScanCursorResolver {
     public static final String FINISHED_CURSOR_HANDLE;
 
-    // TODO: consider lazy loading the glide_rs library
     static {
         NativeUtils.loadGlideLib();
         FINISHED_CURSOR_HANDLE = getFinishedCursorHandleConstant();
@@ -1,12 +1,12 @@
 /** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
 package glide.ffi.resolvers;
 
+import java.nio.ByteBuffer;
 import response.ResponseOuterClass.Response;
 
 public class GlideValueResolver {
     public static final long MAX_REQUEST_ARGS_LENGTH_IN_BYTES;
 
-    // TODO: consider lazy loading the glide_rs library
     static {
         NativeUtils.loadGlideLib();
 
@@ -43,6 +43,41 @@ public class GlideValueResolver {
      */
     public static native long createLeakedBytesVec(byte[][] args);
 
+    /**
+     * Copy the given arguments to a native series of byte arrays and return a C-style pointer. Direct
+     * buffers are copied straight from native memory.
+     *
+     * @param args The arguments to copy, each a <code>byte[]</code> or a direct {@link ByteBuffer}
+     *     whose content spans its whole capacity.
+     * @return A C-style pointer to a native representation of the arguments.
+     */
+    public static native long createLeakedBytesVecFromBuffers(Object[] args);
+
+    /**
+     * Move the data of a string value received from Valkey to a native buffer, without copying it to
+     * the Java heap. The buffer must be released with {@link #releaseBytes(long)}.
+     *
+     * @param pointer A memory pointer from {@link Response}
+     * @return A handle to the native buffer.
+     */
+    public static native long bytesFromPointer(long pointer);
+
+    /**
+     * Create a direct buffer over a native buffer. The direct buffer must not be used once the native
+     * buffer is released.
+     *
+     * @param handle A handle from {@link #bytesFromPointer(long)}.
+     * @return A direct buffer over the native buffer.
+     */
+    public static native ByteBuffer directBufferFromBytes(long handle);
+
+    /**
+     * Release a native buffer.
+     *
+     * @param handle A handle from {@link #bytesFromPointer(long)}.
+     */
+    public static native void releaseBytes(long handle);
+
     /**
      * Get the maximum length in bytes of all request arguments.
      *
@@ -2,7 +2,6 @@
 package glide.ffi.resolvers;
 
 public class LoggerResolver {
-    // TODO: consider lazy loading the glide_rs library
     static {
         NativeUtils.loadGlideLib();
     }
@@ -10,4 +9,15 @@ public class LoggerResolver {
     public static native int initInternal(int level, String fileName);
 
     public static native void logInternal(int level, String logIdentifier, String message);
+
+    /**
+     * Log the first <code>count</code> records of the given arrays in a single native call.
+     *
+     * @param levels The levels of the records.
+     * @param logIdentifiers The identifiers of the records.
+     * @param messages The messages of the records.
+     * @param count The number of records to log.
+     */
+    public static native void logBatchInternal(
+            int[] levels, String[] logIdentifiers, String[] messages, int count);
 }
@@ -2,17 +2,45 @@
 package glide.ffi.resolvers;
 
 import java.io.*;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.FileSystemNotFoundException;
 import java.nio.file.FileSystems;
 import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
 import java.nio.file.ProviderNotFoundException;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFileAttributes;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.nio.file.attribute.UserPrincipal;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Properties;
 
 /**
  * A simple library class which helps with loading dynamic libraries stored in the JAR archive.
  * These libraries usually contain implementation of some methods in native code (using JNI - Java
  * Native Interface).
  *
+ * <p>The Glide library is loaded once per JVM, when the first class which needs it is initialized.
+ * Its loading can be tuned with the following system properties:
+ *
+ * <ul>
+ *   <li><code>glide.native.useLibraryPath</code> - when <code>true</code>, the library is first
+ *       looked up in <code>java.library.path</code>, and only extracted from the JAR if it isn't
+ *       found there.
+ *   <li><code>glide.native.cacheDir</code> - the directory in which the extracted library is cached
+ *       between runs. The cached copy is keyed by the SHA-256 hash of its content, so different
+ *       versions of the library never overwrite each other. Defaults to a <code>
+ *       glide-native-cache-&lt;user&gt;</code> directory under <code>java.io.tmpdir</code>. The
+ *       directory must be owned by the current user and not writable by anyone else, otherwise the
+ *       library is extracted to a new temporary directory instead.
+ *   <li><code>glide.native.disableCache</code> - when <code>true</code>, the library is extracted
+ *       to a new temporary directory on every run.
+ * </ul>
+ *
  * @see <a
  *     href="https://raw.githubusercontent.com/adamheinrich/native-utils/master/src/main/java/cz/adamh/utils/NativeUtils.java">https://raw.githubusercontent.com/adamheinrich/native-utils/master/src/main/java/cz/adamh/utils/NativeUtils.java</a>
  * @see <a
@@ -28,29 +56,97 @@ public class NativeUtils {
 
     public static final String NATIVE_FOLDER_PATH_PREFIX = "nativeutils";
 
+    public static final String USE_LIBRARY_PATH_PROPERTY = "glide.native.useLibraryPath";
+
+    public static final String CACHE_DIR_PROPERTY = "glide.native.cacheDir";
+
+    public static final String DISABLE_CACHE_PROPERTY = "glide.native.disableCache";
+
+    public static final String DEFAULT_CACHE_FOLDER_NAME = "glide-native-cache";
+
+    /**
+     * Suffix of the resource which describes a library in the JAR. It holds the <code>sha256</code>
+     * hash and the <code>size</code> of the library, computed when the JAR is built.
+     */
+    public static final String MANIFEST_SUFFIX = ".properties";
+
+    private static final String GLIDE_LIB_NAME = "glide_rs";
+
     /** Temporary directory which will contain the dynamic library files. */
     private static File temporaryDir;
 
+    /** Whether the Glide library was already loaded into this JVM. */
+    private static volatile boolean glideLibLoaded = false;
+
     /** Private constructor - this class will never be instanced */
     private NativeUtils() {}
 
+    /**
+     * Loads the Glide library, unless it was already loaded. Safe to call from multiple threads and
+     * from the static initializers of every class that uses the library.
+     */
     public static void loadGlideLib() {
-        String glideLib = "/libglide_rs";
+        if (glideLibLoaded) {
+            return;
+        }
+        synchronized (NativeUtils.class) {
+            if (glideLibLoaded) {
+                return;
+            }
+            loadGlideLibOnce();
+            glideLibLoaded = true;
+        }
+    }
+
+    private static void loadGlideLibOnce() {
+        if (Boolean.getBoolean(USE_LIBRARY_PATH_PROPERTY)) {
+            try {
+                System.loadLibrary(GLIDE_LIB_NAME);
+                return;
+            } catch (UnsatisfiedLinkError e) {
+                // Not found in java.library.path, fall back to the library bundled in the JAR.
+            }
+        }
+
+        String glideLib = "/lib" + GLIDE_LIB_NAME;
         try {
             String osName = System.getProperty("os.name").toLowerCase();
+            String path;
             if (osName.contains("mac")) {
-                NativeUtils.loadLibraryFromJar(glideLib + ".dylib");
+                path = glideLib + ".dylib";
             } else if (osName.contains("linux")) {
-                NativeUtils.loadLibraryFromJar(glideLib + ".so");
+                path = glideLib + ".so";
             } else {
                 throw new UnsupportedOperationException(
                         "OS not supported. Glide is only available on Mac OS and Linux systems.");
             }
-        } catch (java.io.IOException e) {
-            e.printStackTrace();
+            if (!Boolean.getBoolean(DISABLE_CACHE_PROPERTY)) {
+                try {
+                    NativeUtils.loadLibraryFromJarCached(path, getCacheDir());
+                    return;
+                } catch (IOException e) {
+                    // The cache isn't usable, e.g. it isn't private or the disk is read-only. The
+                    // logger needs the library, so fall back to a plain extraction silently.
+                }
+            }
+            NativeUtils.loadLibraryFromJar(path);
+        } catch (IOException e) {
+            UnsatisfiedLinkError error =
+                    new UnsatisfiedLinkError("Failed to load the Glide library: " + e.getMessage());
+            error.initCause(e);
+            throw error;
         }
     }
 
+    private static File getCacheDir() {
+        String cacheDir = System.getProperty(CACHE_DIR_PROPERTY);
+        if (cacheDir != null && !cacheDir.isEmpty()) {
+            return new File(cacheDir);
+        }
+        String user = System.getProperty("user.name", "").replaceAll("[^A-Za-z0-9._-]", "_");
+        return new File(System.getProperty("java.io.tmpdir"), DEFAULT_CACHE_FOLDER_NAME + "-" + user);
+    }
+
     /**
      * Loads library from current JAR archive
      *
@@ -69,19 +165,7 @@ public class NativeUtils {
      */
     public static void loadLibraryFromJar(String path) throws IOException {
 
-        if (null == path || !path.startsWith("/")) {
-            throw new IllegalArgumentException("The path has to be absolute (start with '/').");
-        }
-
-        // Obtain filename from path
-        String[] parts = path.split("/");
-        String filename = (parts.length > 1) ? parts[parts.length - 1] : null;
-
-        // Check if the filename is okay
-        if (filename == null || filename.length() < MIN_PREFIX_LENGTH) {
-            throw new IllegalArgumentException(
-                    "The filename has to be at least " + MIN_PREFIX_LENGTH + " characters long.");
-        }
+        String filename = getFilename(path);
 
         // Prepare temporary file
         if (temporaryDir == null) {
@@ -114,6 +198,189 @@ public class NativeUtils {
         }
     }
 
+    /**
+     * Loads library from current JAR archive through a persistent cache.
+     *
+     * <p>The file from JAR is copied into a subdirectory of <code>cacheDir</code> named after the
+     * SHA-256 hash of its content, and then loaded. The hash and the size of the library are read
+     * from its manifest, the resource named after it with {@link #MANIFEST_SUFFIX}, so later runs
+     * with the same library find the cached copy and load it without reading the library from the
+     * JAR. The cached copy is only checked by its size: the cache directory must be private to the
+     * current user, so nobody else can replace it. A new copy is first written to a temporary file
+     * and then atomically moved into place, so concurrent processes never load a partially written
+     * file.
+     *
+     * <p>Without a manifest, the library is read and hashed on every call.
+     *
+     * @param path The path of file inside JAR as absolute path (beginning with '/'), e.g.
+     *     /package/File.ext
+     * @param cacheDir The directory which holds the cached libraries. Created with owner-only
+     *     permissions if it doesn't exist.
+     * @throws IOException If the cache directory isn't private to the current user, if the library
+     *     doesn't match its manifest, or if the cache directory or file creation or read/write
+     *     operation fails
+     * @throws IllegalArgumentException If the path is not absolute or if the filename is shorter than
+     *     <code>MIN_PREFIX_LENGTH</code>.
+     * @throws FileNotFoundException If the file could not be found inside the JAR.
+     */
+    public static void loadLibraryFromJarCached(String path, File cacheDir) throws IOException {
+        String filename = getFilename(path);
+        Path cache = privateDirectory(cacheDir.toPath());
+
+        byte[] content = null;
+        String hash;
+        long size;
+        Properties manifest = readManifest(path);
+        if (manifest != null) {
+            hash = manifest.getProperty("sha256");
+            try {
+                size = Long.parseLong(manifest.getProperty("size"));
+            } catch (NumberFormatException e) {
+                throw new IOException("Invalid size in the manifest of " + path, e);
+            }
+            if (hash == null || !hash.matches("[0-9a-f]{64}")) {
+                throw new IOException("Invalid hash in the manifest of " + path);
+            }
+        } else {
+            content = readResource(path);
+            hash = sha256Hex(content);
+            size = content.length;
+        }
+
+        Path directory = cache.resolve(hash);
+        Path target = directory.resolve(filename);
+
+        if (!isCachedCopyValid(target, size)) {
+            if (content == null) {
+                content = readResource(path);
+                if (content.length != size || !sha256Hex(content).equals(hash)) {
+                    throw new IOException("File " + path + " doesn't match its manifest.");
+                }
+            }
+            Files.createDirectories(directory);
+            Path temp = Files.createTempFile(directory, filename, ".tmp");
+            try {
+                Files.write(temp, content);
+                try {
+                    Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        }
+
+        System.load(target.toAbsolutePath().toString());
+    }
+
+    /**
+     * Checks that the cached file exists and has the expected size. A partially written or truncated
+     * copy is replaced; its content isn't hashed again, since only the current user can write it.
+     */
+    private static boolean isCachedCopyValid(Path file, long expectedSize) {
+        try {
+            return Files.isRegularFile(file, LinkOption.NOFOLLOW_LINKS)
+                    && Files.size(file) == expectedSize;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Creates a directory with owner-only permissions, or checks that an existing one is owned by the
+     * current user, isn't a symbolic link, and isn't writable by anyone else.
+     *
+     * @return The directory.
+     * @throws IOException If the directory can't be created or isn't private.
+     */
+    private static Path privateDirectory(Path dir) throws IOException {
+        if (!isPosixCompliant()) {
+            throw new IOException("The native library cache needs a POSIX file system.");
+        }
+        Path parent = dir.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try {
+            Files.createDirectory(
+                    dir, PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rwx------")));
+        } catch (FileAlreadyExistsException e) {
+            // Checked below
+        }
+        PosixFileAttributes attributes =
+                Files.readAttributes(dir, PosixFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+        if (!attributes.isDirectory()) {
+            throw new IOException(dir + " is not a directory.");
+        }
+        UserPrincipal user =
+                dir.getFileSystem()
+                        .getUserPrincipalLookupService()
+                        .lookupPrincipalByName(System.getProperty("user.name"));
+        if (!attributes.owner().equals(user)) {
+            throw new IOException(dir + " is not owned by " + user.getName() + ".");
+        }
+        if (attributes.permissions().contains(PosixFilePermission.GROUP_WRITE)
+                || attributes.permissions().contains(PosixFilePermission.OTHERS_WRITE)) {
+            throw new IOException(dir + " is writable by other users.");
+        }
+        return dir;
+    }
+
+    /** Reads the manifest of a library, or returns <code>null</code> if it has none. */
+    private static Properties readManifest(String path) throws IOException {
+        try (InputStream is = NativeUtils.class.getResourceAsStream(path + MANIFEST_SUFFIX)) {
+            if (is == null) {
+                return null;
+            }
+            Properties manifest = new Properties();
+            manifest.load(is);
+            return manifest;
+        }
+    }
+
+    private static byte[] readResource(String path) throws IOException {
+        try (InputStream is = NativeUtils.class.getResourceAsStream(path)) {
+            if (is == null) {
+                throw new FileNotFoundException("File " + path + " was not found inside JAR.");
+            }
+            return is.readAllBytes();
+        }
+    }
+
+    private static String sha256Hex(byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(Character.forDigit((b >> 4) & 0xF, 16));
+                hex.append(Character.forDigit(b & 0xF, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256.
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /** Validates the path of a file inside the JAR and returns its filename. */
+    private static String getFilename(String path) {
+        if (null == path || !path.startsWith("/")) {
+            throw new IllegalArgumentException("The path has to be absolute (start with '/').");
+        }
+
+        // Obtain filename from path
+        String[] parts = path.split("/");
+        String filename = (parts.length > 1) ? parts[parts.length - 1] : null;
+
+        // Check if the filename is okay
+        if (filename == null || filename.length() < MIN_PREFIX_LENGTH) {
+            throw new IllegalArgumentException(
+                    "The filename has to be at least " + MIN_PREFIX_LENGTH + " characters long.");
+        }
+        return filename;
+    }
+
     private static boolean isPosixCompliant() {
         try {
             return FileSystems.getDefault().supportedFileAttributeViews().contains("posix");
@@ -123,12 +390,7 @@ public class NativeUtils {
     }
 
     private static File createTempDirectory(String prefix) throws IOException {
-        String tempDir = System.getProperty("java.io.tmpdir");
-        File generatedDir = new File(tempDir, prefix + System.nanoTime());
-
-        if (!generatedDir.mkdir())
-            throw new IOException("Failed to create temp directory " + generatedDir.getName());
-
-        return generatedDir;
+        // Gets a random name and, on POSIX file systems, owner-only permissions
+        return Files.createTempDirectory(prefix).toFile();
     }
 }
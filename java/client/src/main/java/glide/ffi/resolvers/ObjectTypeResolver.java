@@ -12,7 +12,6 @@ public class ObjectTypeResolver {
     public static final String OBJECT_TYPE_HASH_NATIVE_NAME;
     public static final String OBJECT_TYPE_STREAM_NATIVE_NAME;
 
-    // TODO: consider lazy loading the glide_rs library
     static {
         NativeUtils.loadGlideLib();
         OBJECT_TYPE_STRING_NATIVE_NAME = getTypeStringConstant();
@@ -3,7 +3,6 @@ package glide.ffi.resolvers;
 
 public class ScriptResolver {
 
-    // TODO: consider lazy loading the glide_rs library
     static {
         NativeUtils.loadGlideLib();
     }
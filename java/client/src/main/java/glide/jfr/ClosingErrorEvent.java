@@ -0,0 +1,21 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/** Instant JFR event emitted when a closing error is distributed to all pending requests. */
+@Name("glide.ClosingError")
+@Label("GLIDE Closing Error")
+@Category({"GLIDE", "Connections"})
+@Description("A closing error terminated the client and all its pending requests")
+public final class ClosingErrorEvent extends Event {
+    @Label("Message")
+    public String message;
+
+    @Label("Pending Requests")
+    public int pendingRequests;
+}
@@ -0,0 +1,62 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.jfr;
+
+import java.util.concurrent.CompletionException;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * JFR event which spans a command from its submission to the channel until its response is
+ * dispatched. Recorded with a default threshold, so only slow commands are kept in continuous
+ * recordings unless the threshold is lowered.
+ */
+@Name("glide.Command")
+@Label("GLIDE Command")
+@Category({"GLIDE", "Commands"})
+@Description("A command sent through GLIDE, from submission until its response is dispatched")
+@StackTrace(false)
+@Threshold("20 ms")
+public final class CommandEvent extends Event {
+    @Label("Request Type")
+    public String requestType;
+
+    @Label("Callback ID")
+    public int callbackId;
+
+    @Label("Request Size")
+    @DataAmount
+    public long requestBytes;
+
+    @Label("Outcome")
+    @Description("\"Success\" or the simple name of the exception the command failed with")
+    public String outcome;
+
+    /**
+     * Finish the event and commit it, if it passes the configured threshold.
+     *
+     * @param error The error the command failed with, or <code>null</code> on success.
+     */
+    public void complete(Throwable error) {
+        end();
+        if (shouldCommit()) {
+            outcome = describeOutcome(error);
+            commit();
+        }
+    }
+
+    static String describeOutcome(Throwable error) {
+        if (error == null) {
+            return "Success";
+        }
+        if (error instanceof CompletionException && error.getCause() != null) {
+            error = error.getCause();
+        }
+        return error.getClass().getSimpleName();
+    }
+}
@@ -0,0 +1,33 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Instant JFR event emitted when a command is written to the channel. Disabled by default, since it
+ * is recorded for every command; {@link CommandEvent} covers the command lifecycle.
+ */
+@Name("glide.CommandSubmit")
+@Label("GLIDE Command Submit")
+@Category({"GLIDE", "Commands"})
+@Description("A command was submitted to GLIDE core")
+@StackTrace(false)
+@Enabled(false)
+public final class CommandSubmitEvent extends Event {
+    @Label("Request Type")
+    public String requestType;
+
+    @Label("Callback ID")
+    public int callbackId;
+
+    @Label("Request Size")
+    @DataAmount
+    public long requestBytes;
+}
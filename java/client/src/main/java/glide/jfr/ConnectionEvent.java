@@ -0,0 +1,40 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** JFR event which spans the establishment of a client connection by GLIDE core. */
+@Name("glide.Connection")
+@Label("GLIDE Connection")
+@Category({"GLIDE", "Connections"})
+@Description("A client connection established through GLIDE core")
+@StackTrace(false)
+public final class ConnectionEvent extends Event {
+    @Label("Addresses")
+    public String addresses;
+
+    @Label("Cluster Mode")
+    public boolean clusterMode;
+
+    @Label("Outcome")
+    @Description("\"Success\" or the simple name of the exception the connection failed with")
+    public String outcome;
+
+    /**
+     * Finish the event and commit it, if it passes the configured threshold.
+     *
+     * @param error The error the connection attempt failed with, or <code>null</code> on success.
+     */
+    public void complete(Throwable error) {
+        end();
+        if (shouldCommit()) {
+            outcome = CommandEvent.describeOutcome(error);
+            commit();
+        }
+    }
+}
@@ -0,0 +1,35 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event which spans the delivery of a pub/sub message, including the execution of the user
+ * callback, if one is configured.
+ */
+@Name("glide.PubSubMessage")
+@Label("GLIDE Pub/Sub Message")
+@Category({"GLIDE", "Pub/Sub"})
+@Description("A pub/sub message delivered to a user callback or to the message queue")
+@StackTrace(false)
+public final class PubSubMessageEvent extends Event {
+    @Label("Channel")
+    public String channel;
+
+    @Label("Pattern")
+    public String pattern;
+
+    @Label("Message Size")
+    @DataAmount
+    public long messageBytes;
+
+    @Label("Delivery")
+    @Description("\"Callback\" or \"Queue\"")
+    public String delivery;
+}
@@ -0,0 +1,347 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.managers;
+
+import command_request.CommandRequestOuterClass.Command;
+import command_request.CommandRequestOuterClass.CommandRequest;
+import command_request.CommandRequestOuterClass.RequestType;
+import glide.api.models.GlideString;
+import glide.api.models.exceptions.ClosingException;
+import glide.connectors.handlers.ChannelHandler;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * A pool of dedicated connections for blocking commands, such as <code>BLPOP</code> or <code>
+ * XREADGROUP</code> with <code>BLOCK</code>. A blocked command holds up every command sent after it
+ * on the same connection, so each connection of the pool serves a single blocking command at a
+ * time. Each connection of the pool is a separate <code>GLIDE core</code> client, which connects to
+ * every node it routes commands to.
+ *
+ * <p>Connections are created on demand, up to the configured size. When all of them are blocked,
+ * further blocking commands wait for one to be released, in order. Connections are kept open until
+ * the client is closed.
+ */
+public class BlockingConnectionPool {
+
+    /** A dedicated connection of the pool. */
+    @Getter
+    @RequiredArgsConstructor
+    public static class BlockingConnection {
+        private final ChannelHandler channel;
+        private final ConnectionManager connectionManager;
+        private final CommandManager commandManager;
+    }
+
+    /** The maximum number of connections. */
+    @Getter private final int size;
+
+    /** Creates and connects a new dedicated connection. */
+    private final Supplier<CompletableFuture<BlockingConnection>> connectionFactory;
+
+    private final Deque<BlockingConnection> idle = new ArrayDeque<>();
+    private final Queue<CompletableFuture<BlockingConnection>> waiters = new ArrayDeque<>();
+    private final Set<BlockingConnection> connections = new HashSet<>();
+    private int pendingConnections = 0;
+    private boolean closed = false;
+
+    /**
+     * @param size The maximum number of connections, at least 1.
+     * @param connectionFactory Creates and connects a new dedicated connection.
+     */
+    public BlockingConnectionPool(
+            int size, @NonNull Supplier<CompletableFuture<BlockingConnection>> connectionFactory) {
+        if (size < 1) {
+            throw new IllegalArgumentException("The blocking connection pool size must be positive");
+        }
+        this.size = size;
+        this.connectionFactory = connectionFactory;
+    }
+
+    /**
+     * Checks whether a command may block the connection it's sent on.
+     *
+     * @param requestType Valkey command type
+     * @param arguments Valkey command arguments
+     * @return <code>true</code> for blocking list and sorted set commands, and for stream reads with
+     *     <code>BLOCK</code>.
+     */
+    public static boolean isBlockingCommand(RequestType requestType, String[] arguments) {
+        switch (requestType) {
+            case BLPop:
+            case BRPop:
+            case BLMove:
+            case BLMPop:
+            case BZPopMin:
+            case BZPopMax:
+            case BZMPop:
+                return true;
+            case XRead:
+            case XReadGroup:
+                return hasBlockOption(requestType, arguments.length, index -> arguments[index]);
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Checks whether a command may block the connection it's sent on.
+     *
+     * @param requestType Valkey command type
+     * @param arguments Valkey command arguments
+     * @return <code>true</code> for blocking list and sorted set commands, and for stream reads with
+     *     <code>BLOCK</code>.
+     */
+    public static boolean isBlockingCommand(RequestType requestType, GlideString[] arguments) {
+        switch (requestType) {
+            case XRead:
+            case XReadGroup:
+                return hasBlockOption(
+                        requestType,
+                        arguments.length,
+                        index -> arguments[index].canConvertToString() ? arguments[index].getString() : null);
+            default:
+                return isBlockingCommand(requestType, new String[0]);
+        }
+    }
+
+    /**
+     * Checks whether a command request may block the connection it's sent on.
+     *
+     * @param command The command request
+     * @return <code>true</code> for a single blocking command, see {@link
+     *     #isBlockingCommand(RequestType, String[])}.
+     */
+    public static boolean isBlockingCommand(CommandRequest.Builder command) {
+        if (!command.hasSingleCommand()) {
+            return false;
+        }
+        Command singleCommand = command.getSingleCommand();
+        switch (singleCommand.getRequestType()) {
+            case XRead:
+            case XReadGroup:
+                return singleCommand.hasArgsArray()
+                        && hasBlockOption(
+                                singleCommand.getRequestType(),
+                                singleCommand.getArgsArray().getArgsCount(),
+                                index -> singleCommand.getArgsArray().getArgs(index).toStringUtf8());
+            default:
+                return isBlockingCommand(singleCommand.getRequestType(), new String[0]);
+        }
+    }
+
+    /**
+     * Checks whether the options of a stream read hold <code>BLOCK</code>. Only the options before
+     * <code>STREAMS</code> are inspected, so a group, consumer, key or ID named "block" doesn't make
+     * the read blocking.
+     *
+     * @param requestType {@link RequestType#XRead} or {@link RequestType#XReadGroup}
+     * @param count The number of arguments
+     * @param argument Returns an argument by index, or <code>null</code> if it isn't a string
+     */
+    private static boolean hasBlockOption(
+            RequestType requestType, int count, IntFunction<String> argument) {
+        // XREADGROUP starts with GROUP <group> <consumer>
+        int index = requestType == RequestType.XReadGroup ? 3 : 0;
+        while (index < count) {
+            String option = argument.apply(index);
+            if (option == null || "STREAMS".equalsIgnoreCase(option)) {
+                return false;
+            }
+            if ("BLOCK".equalsIgnoreCase(option)) {
+                return true;
+            }
+            // COUNT takes a value, NOACK doesn't
+            index += "COUNT".equalsIgnoreCase(option) ? 2 : 1;
+        }
+        return false;
+    }
+
+    /**
+     * Sends a request over a dedicated connection, once one is available.
+     *
+     * @param request Sends the request with the command manager of the connection.
+     * @return A result promise of the request.
+     */
+    public <T> CompletableFuture<T> submit(Function<CommandManager, CompletableFuture<T>> request) {
+        return acquire()
+                .thenCompose(
+                        connection -> {
+                            CompletableFuture<T> result;
+                            try {
+                                result = request.apply(connection.getCommandManager());
+                            } catch (RuntimeException e) {
+                                release(connection);
+                                throw e;
+                            }
+                            return result.whenComplete((ignored, error) -> release(connection));
+                        });
+    }
+
+    /** Returns the number of connections which are open or being opened. */
+    public synchronized int getConnectionCount() {
+        return connections.size() + pendingConnections;
+    }
+
+    private CompletableFuture<BlockingConnection> acquire() {
+        List<BlockingConnection> broken = new ArrayList<>();
+        try {
+            synchronized (this) {
+                if (closed) {
+                    return CompletableFuture.failedFuture(
+                            new ClosingException("Client closed: Unable to submit command."));
+                }
+                BlockingConnection connection;
+                while ((connection = idle.pollFirst()) != null) {
+                    if (!connection.getChannel().isClosed()) {
+                        return CompletableFuture.completedFuture(connection);
+                    }
+                    // The connection was lost while idle
+                    connections.remove(connection);
+                    broken.add(connection);
+                }
+                if (getConnectionCount() >= size) {
+                    var waiter = new CompletableFuture<BlockingConnection>();
+                    waiters.add(waiter);
+                    return waiter;
+                }
+                pendingConnections++;
+            }
+        } finally {
+            broken.forEach(this::discard);
+        }
+        return connect();
+    }
+
+    /** Opens a new connection. The caller reserves it by incrementing the pending connections. */
+    private CompletableFuture<BlockingConnection> connect() {
+        CompletableFuture<BlockingConnection> result;
+        try {
+            result = connectionFactory.get();
+        } catch (RuntimeException e) {
+            result = CompletableFuture.failedFuture(e);
+        }
+        return result.whenComplete(
+                (connection, error) -> {
+                    CompletableFuture<BlockingConnection> retry = null;
+                    synchronized (this) {
+                        pendingConnections--;
+                        if (error == null) {
+                            // If the pool was closed meanwhile, the connection is discarded on release
+                            if (!closed) {
+                                connections.add(connection);
+                            }
+                        } else if (!closed && !waiters.isEmpty()) {
+                            // Let the next waiter make its own attempt, rather than waiting for a release
+                            // which never comes if no connection can be opened
+                            pendingConnections++;
+                            retry = waiters.poll();
+                        }
+                    }
+                    if (retry != null) {
+                        connectFor(retry);
+                    }
+                });
+    }
+
+    /** Opens a new connection for a waiter. The caller reserves it. */
+    private void connectFor(CompletableFuture<BlockingConnection> waiter) {
+        connect()
+                .whenComplete(
+                        (connection, error) -> {
+                            if (error != null) {
+                                waiter.completeExceptionally(error);
+                            } else if (!waiter.complete(connection)) {
+                                release(connection);
+                            }
+                        });
+    }
+
+    /** Hands a connection over to the next waiter, or returns it to the idle connections. */
+    private void release(BlockingConnection connection) {
+        while (true) {
+            CompletableFuture<BlockingConnection> waiter;
+            boolean broken;
+            synchronized (this) {
+                broken = closed || connection.getChannel().isClosed();
+                if (broken) {
+                    connections.remove(connection);
+                    waiter = closed ? null : waiters.poll();
+                    if (waiter != null) {
+                        pendingConnections++;
+                    }
+                } else {
+                    waiter = waiters.poll();
+                    if (waiter == null) {
+                        idle.addFirst(connection);
+                        return;
+                    }
+                }
+            }
+            if (broken) {
+                discard(connection);
+                if (waiter != null) {
+                    connectFor(waiter);
+                }
+                return;
+            }
+            // A waiter may have been cancelled, in which case the next one gets the connection
+            if (waiter.complete(connection)) {
+                return;
+            }
+        }
+    }
+
+    private void discard(BlockingConnection connection) {
+        connection.getConnectionManager().closeConnection();
+    }
+
+    /**
+     * Closes all connections, including those with a blocked command, which fails. Requests waiting
+     * for a connection fail as well.
+     */
+    public void close() {
+        List<BlockingConnection> toClose;
+        List<CompletableFuture<BlockingConnection>> toFail;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            toClose = new ArrayList<>(connections);
+            connections.clear();
+            idle.clear();
+            toFail = new ArrayList<>(waiters);
+            waiters.clear();
+        }
+        var exception = new ClosingException("Client closed: Unable to submit command.");
+        toFail.forEach(waiter -> waiter.completeExceptionally(exception));
+        List<Future<Void>> closing = new ArrayList<>();
+        for (BlockingConnection connection : toClose) {
+            closing.add(connection.getConnectionManager().closeConnection());
+        }
+        for (Future<Void> future : closing) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                // The connection is closed either way
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,289 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.managers;
+
+import command_request.CommandRequestOuterClass;
+import command_request.CommandRequestOuterClass.CommandRequest;
+import glide.api.metrics.CircuitBreakerMetrics;
+import glide.api.metrics.CircuitBreakerMetrics.State;
+import glide.api.models.configuration.CircuitBreakerConfiguration;
+import glide.api.models.exceptions.CircuitBreakerOpenException;
+import glide.api.models.exceptions.ConfigurationError;
+import glide.api.models.exceptions.ConnectionException;
+import glide.api.models.exceptions.TimeoutException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import lombok.NonNull;
+import response.ResponseOuterClass.Response;
+
+/**
+ * Tracks the failures of every node, reported by <code>GLIDE core</code>, and fails the requests to
+ * a node whose breaker is open without sending them. See {@link CircuitBreakerConfiguration}.
+ */
+public class CircuitBreaker {
+
+    private final int failureThreshold;
+    private final long openDurationNanos;
+    private final int halfOpenTrialRequests;
+
+    /** Whether every request is sent to the same node, whose address is learned from its failures. */
+    private final boolean singleNode;
+
+    private final LongSupplier nanoClock;
+
+    private final Map<String, NodeCircuit> circuits = new ConcurrentHashMap<>();
+
+    /** The node every request is sent to, once it's known. Only used by single node clients. */
+    private volatile String knownNode = null;
+
+    /** The breaker of a node, guarded by its own lock. */
+    private static class NodeCircuit {
+        private State state = State.CLOSED;
+        private int consecutiveFailures = 0;
+        private long lastFailureAt;
+        private long openedAt;
+        private int trialsInFlight = 0;
+        private long openings = 0;
+        private long rejectedRequests = 0;
+    }
+
+    /**
+     * @param config The configuration of the breakers.
+     * @param singleNode Whether the client sends every request to the same node.
+     */
+    public CircuitBreaker(@NonNull CircuitBreakerConfiguration config, boolean singleNode) {
+        this(config, singleNode, System::nanoTime);
+    }
+
+    CircuitBreaker(CircuitBreakerConfiguration config, boolean singleNode, LongSupplier nanoClock) {
+        if (config.getFailureThreshold() < 1
+                || config.getOpenDurationMillis() < 1
+                || config.getHalfOpenTrialRequests() < 1) {
+            throw new ConfigurationError(
+                    "The circuit breaker failure threshold, open duration and trial requests must be"
+                            + " positive");
+        }
+        this.failureThreshold = config.getFailureThreshold();
+        this.openDurationNanos = TimeUnit.MILLISECONDS.toNanos(config.getOpenDurationMillis());
+        this.halfOpenTrialRequests = config.getHalfOpenTrialRequests();
+        this.singleNode = singleNode;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Sends a request, unless the breaker of the node it's sent to is open.
+     *
+     * @param command The command request
+     * @param request Sends the request
+     * @return A response promise, which fails with a {@link CircuitBreakerOpenException} if the
+     *     request wasn't sent.
+     */
+    public CompletableFuture<Response> submit(
+            CommandRequest.Builder command, Supplier<CompletableFuture<Response>> request) {
+        String node = getTargetNode(command);
+        // GLIDE core reports the node of the request on errors only when asked to
+        command.setReportNode(true);
+        if (node == null && !singleNode) {
+            attachOpenCircuits(command);
+        }
+        NodeCircuit circuit = node == null ? null : circuits.get(node);
+        boolean trial = false;
+        if (circuit != null) {
+            synchronized (circuit) {
+                if (circuit.state == State.OPEN && isOpenDurationOver(circuit)) {
+                    circuit.state = State.HALF_OPEN;
+                    circuit.trialsInFlight = 0;
+                }
+                if (circuit.state == State.OPEN
+                        || (circuit.state == State.HALF_OPEN
+                                && circuit.trialsInFlight >= halfOpenTrialRequests)) {
+                    circuit.rejectedRequests++;
+                    return CompletableFuture.failedFuture(
+                            new CircuitBreakerOpenException("Circuit breaker open for node " + node, node));
+                }
+                if (circuit.state == State.HALF_OPEN) {
+                    circuit.trialsInFlight++;
+                    trial = true;
+                }
+            }
+        }
+
+        CompletableFuture<Response> response;
+        try {
+            response = request.get();
+        } catch (RuntimeException e) {
+            response = CompletableFuture.failedFuture(e);
+        }
+        NodeCircuit trialCircuit = trial ? circuit : null;
+        response.whenComplete((result, error) -> onCompleted(node, trialCircuit, result, error));
+        return response;
+    }
+
+    /**
+     * Returns the node a request is sent to, if it's known before sending it. Cluster clients only
+     * know it for requests routed by address, <code>GLIDE core</code> resolves the node of the
+     * others, see {@link CircuitBreakerConfiguration}.
+     *
+     * @param command The command request
+     * @return The address of the node, as <code>host:port</code>, or <code>null</code>.
+     */
+    private String getTargetNode(CommandRequest.Builder command) {
+        if (command.hasRoute() && command.getRoute().hasByAddressRoute()) {
+            CommandRequestOuterClass.ByAddressRoute route = command.getRoute().getByAddressRoute();
+            return route.getHost() + ":" + route.getPort();
+        }
+        return singleNode ? knownNode : null;
+    }
+
+    /**
+     * Attaches the open breakers to a request whose node is chosen by <code>GLIDE core</code>, which
+     * fails it without sending it if it's routed to one of them. Requests are only tracked by node
+     * when they fail, so while a breaker is half-open the request reports its node on success as
+     * well.
+     *
+     * @param command The command request
+     */
+    private void attachOpenCircuits(CommandRequest.Builder command) {
+        List<String> openNodes = new ArrayList<>();
+        boolean halfOpen = false;
+        for (Map.Entry<String, NodeCircuit> entry : circuits.entrySet()) {
+            NodeCircuit circuit = entry.getValue();
+            synchronized (circuit) {
+                if (circuit.state == State.OPEN && !isOpenDurationOver(circuit)) {
+                    openNodes.add(entry.getKey());
+                } else if (circuit.state != State.CLOSED) {
+                    halfOpen = true;
+                }
+            }
+        }
+        command.addAllOpenCircuitNodes(openNodes);
+        if (halfOpen) {
+            command.setCollectTimings(true);
+        }
+    }
+
+    private boolean isOpenDurationOver(NodeCircuit circuit) {
+        return nanoClock.getAsLong() - circuit.openedAt >= openDurationNanos;
+    }
+
+    /**
+     * Updates the breaker of the node which served a request.
+     *
+     * @param node The node the request was sent to, if it was known before sending it.
+     * @param trialCircuit The breaker which let the request through as a trial, if any.
+     * @param response The response, if the request succeeded.
+     * @param error The error, if the request failed.
+     */
+    private void onCompleted(
+            String node, NodeCircuit trialCircuit, Response response, Throwable error) {
+        if (trialCircuit != null) {
+            synchronized (trialCircuit) {
+                trialCircuit.trialsInFlight--;
+            }
+        }
+        if (error instanceof CircuitBreakerOpenException) {
+            // GLIDE core didn't send the request, as its node is in the request's open breakers
+            NodeCircuit circuit = circuits.get(((CircuitBreakerOpenException) error).getAddress());
+            if (circuit != null) {
+                synchronized (circuit) {
+                    circuit.rejectedRequests++;
+                }
+            }
+            return;
+        }
+        // Errors which come from the server show that the node replies
+        boolean failed = error instanceof TimeoutException || error instanceof ConnectionException;
+        String address = getReportedAddress(response, error);
+        if (address == null) {
+            address = node;
+        }
+        if (address == null) {
+            return;
+        }
+
+        NodeCircuit circuit;
+        if (failed) {
+            if (singleNode) {
+                knownNode = address;
+            }
+            circuit = circuits.computeIfAbsent(address, ignored -> new NodeCircuit());
+        } else {
+            circuit = circuits.get(address);
+            if (circuit == null) {
+                return;
+            }
+        }
+        synchronized (circuit) {
+            long now = nanoClock.getAsLong();
+            if (!failed) {
+                circuit.consecutiveFailures = 0;
+                // A late reply to a request sent before the breaker opened doesn't close it
+                if (circuit.state == State.HALF_OPEN
+                        || (circuit.state == State.OPEN && isOpenDurationOver(circuit))) {
+                    circuit.state = State.CLOSED;
+                }
+                return;
+            }
+            if (now - circuit.lastFailureAt > openDurationNanos) {
+                circuit.consecutiveFailures = 0;
+            }
+            circuit.consecutiveFailures++;
+            circuit.lastFailureAt = now;
+            if (circuit.state == State.OPEN && isOpenDurationOver(circuit)) {
+                // no trial was let through by this client, the request was sent by GLIDE core
+                circuit.state = State.HALF_OPEN;
+            }
+            if (circuit.state == State.HALF_OPEN
+                    || (circuit.state == State.CLOSED && circuit.consecutiveFailures >= failureThreshold)) {
+                circuit.state = State.OPEN;
+                circuit.openedAt = now;
+                circuit.openings++;
+            }
+        }
+    }
+
+    /** Returns the node reported by <code>GLIDE core</code> for a request, if any. */
+    private static String getReportedAddress(Response response, Throwable error) {
+        if (error instanceof TimeoutException) {
+            return ((TimeoutException) error).getAddress();
+        }
+        if (error instanceof ConnectionException) {
+            return ((ConnectionException) error).getAddress();
+        }
+        if (response != null
+                && response.hasTimings()
+                && !response.getTimings().getServedBy().isEmpty()) {
+            return response.getTimings().getServedBy();
+        }
+        return null;
+    }
+
+    /** Returns a snapshot of the breakers, by node address. */
+    public Map<String, CircuitBreakerMetrics> getMetrics() {
+        Map<String, CircuitBreakerMetrics> metrics = new HashMap<>();
+        circuits.forEach(
+                (address, circuit) -> {
+                    synchronized (circuit) {
+                        State state =
+                                circuit.state == State.OPEN && isOpenDurationOver(circuit)
+                                        ? State.HALF_OPEN
+                                        : circuit.state;
+                        metrics.put(
+                                address,
+                                CircuitBreakerMetrics.builder()
+                                        .state(state)
+                                        .consecutiveFailures(circuit.consecutiveFailures)
+                                        .openings(circuit.openings)
+                                        .rejectedRequests(circuit.rejectedRequests)
+                                        .build());
+                    }
+                });
+        return metrics;
+    }
+}
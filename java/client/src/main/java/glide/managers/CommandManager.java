@@ -6,12 +6,17 @@ import command_request.CommandRequestOuterClass;
 import command_request.CommandRequestOuterClass.Command;
 import command_request.CommandRequestOuterClass.Command.ArgsArray;
 import command_request.CommandRequestOuterClass.CommandRequest;
+import command_request.CommandRequestOuterClass.HedgeStatistics;
 import command_request.CommandRequestOuterClass.RequestType;
 import command_request.CommandRequestOuterClass.Routes;
 import command_request.CommandRequestOuterClass.ScriptInvocation;
 import command_request.CommandRequestOuterClass.ScriptInvocationPointers;
 import command_request.CommandRequestOuterClass.SimpleRoutes;
 import command_request.CommandRequestOuterClass.SlotTypes;
+import glide.api.logging.Logger;
+import glide.api.metrics.CircuitBreakerMetrics;
+import glide.api.metrics.ConcurrencyLimitMetrics;
+import glide.api.metrics.RequestTimings;
 import glide.api.models.ClusterTransaction;
 import glide.api.models.GlideString;
 import glide.api.models.Script;
@@ -24,30 +29,88 @@ import glide.api.models.configuration.RequestRoutingConfiguration.SimpleMultiNod
 import glide.api.models.configuration.RequestRoutingConfiguration.SimpleSingleNodeRoute;
 import glide.api.models.configuration.RequestRoutingConfiguration.SlotIdRoute;
 import glide.api.models.configuration.RequestRoutingConfiguration.SlotKeyRoute;
+import glide.api.models.configuration.RequestTimingsConfiguration;
 import glide.api.models.exceptions.ClosingException;
 import glide.api.models.exceptions.RequestException;
 import glide.connectors.handlers.CallbackDispatcher;
 import glide.connectors.handlers.ChannelHandler;
 import glide.ffi.resolvers.GlideValueResolver;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
 import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
 import response.ResponseOuterClass.Response;
+import response.ResponseOuterClass.ResponseTimings;
 
 /**
  * Service responsible for submitting command requests to a socket channel handler and unpack
  * responses from the same socket channel handler.
  */
-@RequiredArgsConstructor
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder(toBuilder = true)
 public class CommandManager {
 
+    /**
+     * The executor which handles the responses to requests sent by the current thread, or <code>null
+     * </code> for the common pool.
+     */
+    private static final ThreadLocal<Executor> RESPONSE_EXECUTOR = new ThreadLocal<>();
+
     /** UDS connection representation. */
     private final ChannelHandler channel;
 
+    /** Per-request latency breakdown settings, or <code>null</code> if disabled. */
+    private final RequestTimingsConfiguration requestTimingsConfiguration;
+
+    /**
+     * Dedicated connections for blocking commands, or <code>null</code> if blocking commands share
+     * the connection with other commands.
+     */
+    private final BlockingConnectionPool blockingConnectionPool;
+
+    /** Coalesces identical reads in flight, or <code>null</code> if reads aren't coalesced. */
+    private final RequestCoalescer requestCoalescer;
+
+    /**
+     * Timeout of every request in milliseconds, replacing the client's request timeout, or <code>
+     * null</code> to use the client's.
+     */
+    private final Integer requestTimeout;
+
+    /** Limits the requests in flight, or <code>null</code> if they aren't limited. */
+    private final ConcurrencyLimiter concurrencyLimiter;
+
+    /** Fails the requests to unhealthy nodes fast, or <code>null</code> if they're always sent. */
+    private final CircuitBreaker circuitBreaker;
+
+    /** Creates a command manager without the optional collaborators, see {@link #builder()}. */
+    public CommandManager(ChannelHandler channel) {
+        this(channel, null, null, null, null, null, null);
+    }
+
+    /**
+     * Creates a command manager which sends requests over the same connections with the given
+     * timeout, replacing the client's request timeout. Blocking commands still wait for their own
+     * timeout.
+     *
+     * @param requestTimeout The timeout in milliseconds
+     */
+    public CommandManager withRequestTimeout(int requestTimeout) {
+        if (requestTimeout <= 0) {
+            throw new IllegalArgumentException("The request timeout must be positive");
+        }
+        return toBuilder().requestTimeout(requestTimeout).build();
+    }
+
     /**
      * Internal interface for exposing implementation details about a ClusterScanCursor. This is an
      * interface so that it can be mocked in tests.
@@ -61,6 +124,25 @@ public class CommandManager {
         String getCursorHandle();
     }
 
+    /**
+     * Runs an action whose responses are handled by the given executor, instead of the common pool. A
+     * caller which blocks on the responses anyway can handle them itself, which saves a hop through
+     * the common pool. Requests must be submitted by the calling thread, as the client methods do.
+     *
+     * @param executor Handles the responses.
+     * @param action Submits the requests.
+     * @return The result of the action.
+     */
+    public static <T> T handleResponsesWith(@NonNull Executor executor, @NonNull Supplier<T> action) {
+        Executor previous = RESPONSE_EXECUTOR.get();
+        RESPONSE_EXECUTOR.set(executor);
+        try {
+            return action.get();
+        } finally {
+            RESPONSE_EXECUTOR.set(previous);
+        }
+    }
+
     /**
      * Build a command and send.
      *
@@ -75,7 +157,11 @@ public class CommandManager {
             GlideExceptionCheckedFunction<Response, T> responseHandler) {
 
         CommandRequest.Builder command = prepareCommandRequest(requestType, arguments);
-        return submitCommandToChannel(command, responseHandler);
+        if (blockingConnectionPool != null
+                && BlockingConnectionPool.isBlockingCommand(requestType, arguments)) {
+            return submitToBlockingConnection(command, responseHandler);
+        }
+        return submitCommand(command, responseHandler);
     }
 
     /**
@@ -92,7 +178,11 @@ public class CommandManager {
             GlideExceptionCheckedFunction<Response, T> responseHandler) {
 
         CommandRequest.Builder command = prepareCommandRequest(requestType, arguments);
-        return submitCommandToChannel(command, responseHandler);
+        if (blockingConnectionPool != null
+                && BlockingConnectionPool.isBlockingCommand(requestType, arguments)) {
+            return submitToBlockingConnection(command, responseHandler);
+        }
+        return submitCommand(command, responseHandler);
     }
 
     /**
@@ -111,7 +201,11 @@ public class CommandManager {
             GlideExceptionCheckedFunction<Response, T> responseHandler) {
 
         CommandRequest.Builder command = prepareCommandRequest(requestType, arguments, route);
-        return submitCommandToChannel(command, responseHandler);
+        if (blockingConnectionPool != null
+                && BlockingConnectionPool.isBlockingCommand(requestType, arguments)) {
+            return submitToBlockingConnection(command, responseHandler);
+        }
+        return submitCommand(command, responseHandler);
     }
 
     /**
@@ -130,6 +224,29 @@ public class CommandManager {
             GlideExceptionCheckedFunction<Response, T> responseHandler) {
 
         CommandRequest.Builder command = prepareCommandRequest(requestType, arguments, route);
+        if (blockingConnectionPool != null
+                && BlockingConnectionPool.isBlockingCommand(requestType, arguments)) {
+            return submitToBlockingConnection(command, responseHandler);
+        }
+        return submitCommand(command, responseHandler);
+    }
+
+    /**
+     * Build a command whose arguments may be buffers and send. The command is never coalesced with an
+     * identical read in flight, so its response is handled exactly once.
+     *
+     * @param requestType Valkey command type
+     * @param arguments Valkey command arguments, each a {@link ByteBuffer} or an argument of {@link
+     *     GlideString#of(Object)}
+     * @param responseHandler The handler for the response object
+     * @return A result promise of type T
+     */
+    public <T> CompletableFuture<T> submitNewDirectCommand(
+            RequestType requestType,
+            Object[] arguments,
+            GlideExceptionCheckedFunction<Response, T> responseHandler) {
+
+        CommandRequest.Builder command = prepareDirectCommandRequest(requestType, arguments);
         return submitCommandToChannel(command, responseHandler);
     }
 
@@ -200,6 +317,29 @@ public class CommandManager {
         return submitCommandToChannel(command, responseHandler);
     }
 
+    /**
+     * Submits a request for the hedging statistics of the client. GLIDE core replies without sending
+     * a request to the server, so the request is neither limited nor tracked by the circuit breaker.
+     *
+     * @param responseHandler The handler for the response object
+     * @return A result promise of type T
+     */
+    public <T> CompletableFuture<T> submitHedgeStatistics(
+            GlideExceptionCheckedFunction<Response, T> responseHandler) {
+        if (channel.isClosed()) {
+            var errorFuture = new CompletableFuture<T>();
+            errorFuture.completeExceptionally(
+                    new ClosingException("Channel closed: Unable to submit command."));
+            return errorFuture;
+        }
+        CommandRequest.Builder command =
+                CommandRequest.newBuilder().setHedgeStatistics(HedgeStatistics.newBuilder());
+        return channel
+                .write(command, true)
+                .exceptionally(this::exceptionHandler)
+                .thenApplyAsync(responseHandler::apply);
+    }
+
     /**
      * Take a command request and send to channel.
      *
@@ -215,13 +355,199 @@ public class CommandManager {
                     new ClosingException("Channel closed: Unable to submit command."));
             return errorFuture;
         }
+        setRequestTimeout(command);
 
         // write command request to channel
         // when complete, convert the response to our expected type T using the given responseHandler
+        // blocking commands are neither limited nor tracked by the circuit breaker, as their round
+        // trip time depends on the blocking timeout
+        CompletableFuture<Response> response =
+                BlockingConnectionPool.isBlockingCommand(command)
+                        ? write(command)
+                        : circuitBreaker == null
+                                ? writeLimited(command)
+                                : circuitBreaker.submit(command, () -> writeLimited(command));
+        response = response.exceptionally(this::exceptionHandler);
+        // responses are decoded off the thread which completes them, which may be the I/O thread
+        Executor executor = RESPONSE_EXECUTOR.get();
+        return executor == null
+                ? response.thenApplyAsync(responseHandler::apply)
+                : response.thenApplyAsync(responseHandler::apply, executor);
+    }
+
+    /**
+     * Write a command request to the channel once the concurrency limit allows it, if there is one.
+     *
+     * @param command The command request as a builder to execute
+     * @return A response promise
+     */
+    private CompletableFuture<Response> writeLimited(CommandRequest.Builder command) {
+        return concurrencyLimiter == null
+                ? write(command)
+                : concurrencyLimiter.submit(() -> write(command));
+    }
+
+    /**
+     * Write a command request to the channel, with timings if the request is sampled.
+     *
+     * @param command The command request as a builder to execute
+     * @return A response promise
+     */
+    private CompletableFuture<Response> write(CommandRequest.Builder command) {
+        return requestTimingsConfiguration != null && requestTimingsConfiguration.shouldSample()
+                ? writeWithTimings(command)
+                : channel.write(command, true);
+    }
+
+    /**
+     * Take a command request and send it to channel, unless it's a read which can be coalesced with
+     * an identical one in flight.
+     *
+     * @param command The command request as a builder to execute
+     * @param responseHandler The handler for the response object
+     * @return A result promise of type T
+     */
+    private <T> CompletableFuture<T> submitCommand(
+            CommandRequest.Builder command, GlideExceptionCheckedFunction<Response, T> responseHandler) {
+        if (requestCoalescer == null) {
+            return submitCommandToChannel(command, responseHandler);
+        }
+        // the request timeout is only set once the request is sent, but requests with different
+        // timeouts mustn't be coalesced
+        return requestCoalescer.submit(
+                command,
+                requestTimeout == null ? 0 : requestTimeout,
+                responseHandler,
+                () -> submitCommandToChannel(command, responseHandler));
+    }
+
+    /** Returns whether identical reads in flight are coalesced. */
+    public boolean isCoalescingReads() {
+        return requestCoalescer != null;
+    }
+
+    /** Returns the number of reads which were coalesced with an identical read in flight. */
+    public long getCoalescedRequestCount() {
+        return requestCoalescer == null ? 0 : requestCoalescer.getCoalescedRequestCount();
+    }
+
+    /**
+     * Returns a snapshot of the adaptive concurrency limit, or <code>null</code> if requests aren't
+     * limited.
+     */
+    public ConcurrencyLimitMetrics getConcurrencyLimitMetrics() {
+        return concurrencyLimiter == null ? null : concurrencyLimiter.getMetrics();
+    }
+
+    /**
+     * Returns a snapshot of the circuit breakers by node address, or <code>null</code> if requests
+     * are always sent.
+     */
+    public Map<String, CircuitBreakerMetrics> getCircuitBreakerMetrics() {
+        return circuitBreaker == null ? null : circuitBreaker.getMetrics();
+    }
+
+    /**
+     * Take a blocking command request and send it over a dedicated connection, so it doesn't hold up
+     * other commands while it's blocked.
+     *
+     * @param command The command request as a builder to execute
+     * @param responseHandler The handler for the response object
+     * @return A result promise of type T
+     */
+    private <T> CompletableFuture<T> submitToBlockingConnection(
+            CommandRequest.Builder command, GlideExceptionCheckedFunction<Response, T> responseHandler) {
+        if (channel.isClosed()) {
+            var errorFuture = new CompletableFuture<T>();
+            errorFuture.completeExceptionally(
+                    new ClosingException("Channel closed: Unable to submit command."));
+            return errorFuture;
+        }
+        // The dedicated connection's command manager uses the client's timeout
+        setRequestTimeout(command);
+        return blockingConnectionPool.submit(
+                connection -> connection.submitCommandToChannel(command, responseHandler));
+    }
+
+    /** Sets the request timeout of this command manager on a request, if it has one. */
+    private void setRequestTimeout(CommandRequest.Builder command) {
+        if (requestTimeout != null) {
+            command.setRequestTimeout(requestTimeout);
+        }
+    }
+
+    /** Closes the dedicated connections for blocking commands, if there are any. */
+    public void closeBlockingConnections() {
+        if (blockingConnectionPool != null) {
+            blockingConnectionPool.close();
+        }
+    }
+
+    /**
+     * Send a command request and ask <code>GLIDE core</code> to report its timestamps for it. Once
+     * the response is received, the timings are combined with the Java side ones and reported to the
+     * configured listener.
+     *
+     * @param command The command request as a builder to execute
+     * @return A response promise
+     */
+    private CompletableFuture<Response> writeWithTimings(CommandRequest.Builder command) {
+        String requestType = getRequestTypeName(command);
+        long submittedAt = RequestTimings.nanosSinceEpoch();
         return channel
-                .write(command, true)
-                .exceptionally(this::exceptionHandler)
-                .thenApplyAsync(responseHandler::apply);
+                .write(command.setCollectTimings(true), true)
+                .thenApply(
+                        response -> {
+                            if (response.hasTimings()) {
+                                reportTimings(requestType, submittedAt, response.getTimings());
+                            }
+                            return response;
+                        });
+    }
+
+    private void reportTimings(String requestType, long submittedAt, ResponseTimings coreTimings) {
+        var timings =
+                RequestTimings.builder()
+                        .requestType(requestType)
+                        .submittedAt(submittedAt)
+                        .coreReceivedAt(coreTimings.getReceivedAt())
+                        .coreSentAt(coreTimings.getSentAt())
+                        .coreRepliedAt(coreTimings.getRepliedAt())
+                        .completedAt(RequestTimings.nanosSinceEpoch())
+                        .servedBy(coreTimings.getServedBy().isEmpty() ? null : coreTimings.getServedBy())
+                        .hedgeSent(coreTimings.getHedgeSent())
+                        .hedgeWon(coreTimings.getHedgeWon())
+                        .build();
+        try {
+            requestTimingsConfiguration.getListener().onRequestTimings(timings);
+        } catch (Exception e) {
+            Logger.log(Logger.Level.WARN, "request timings", "Request timings listener failed", e);
+        }
+    }
+
+    /**
+     * Get a human-readable name of the request type, used for diagnostics.
+     *
+     * @param command The command request
+     * @return The request type for single commands, or the kind of the request otherwise.
+     */
+    public static String getRequestTypeName(
+            CommandRequestOuterClass.CommandRequestOrBuilder command) {
+        switch (command.getCommandCase()) {
+            case SINGLE_COMMAND:
+                return command.getSingleCommand().getRequestType().name();
+            case TRANSACTION:
+                return "Transaction";
+            case SCRIPT_INVOCATION:
+            case SCRIPT_INVOCATION_POINTERS:
+                return "Script";
+            case CLUSTER_SCAN:
+                return "ClusterScan";
+            case HEDGE_STATISTICS:
+                return "HedgeStatistics";
+            default:
+                return "Unknown";
+        }
     }
 
     /**
@@ -411,6 +737,24 @@ public class CommandManager {
                 .setSingleCommand(commandBuilder.setRequestType(requestType).build());
     }
 
+    /**
+     * Build a protobuf command request object whose arguments may be buffers.
+     *
+     * @param requestType Valkey command type
+     * @param arguments Valkey command arguments, each a {@link ByteBuffer} or an argument of {@link
+     *     GlideString#of(Object)}
+     * @return An uncompleted request. {@link CallbackDispatcher} is responsible to complete it by
+     *     adding a callback id.
+     */
+    protected CommandRequest.Builder prepareDirectCommandRequest(
+            RequestType requestType, Object[] arguments) {
+        final Command.Builder commandBuilder = Command.newBuilder();
+        populateCommandWithDirectArgs(arguments, commandBuilder);
+
+        return CommandRequest.newBuilder()
+                .setSingleCommand(commandBuilder.setRequestType(requestType).build());
+    }
+
     private CommandRequest.Builder prepareCommandRequestRoute(
             CommandRequest.Builder builder, Route route) {
 
@@ -523,4 +867,52 @@ public class CommandManager {
                     GlideValueResolver.createLeakedBytesVec(arguments.toArray(new byte[][] {})));
         }
     }
+
+    /**
+     * Add the given set of arguments, which may be buffers, to the output Command.Builder. The bytes
+     * of a buffer are those between its position and its limit, and the buffer isn't modified.
+     *
+     * <p>Implementation note: Like {@link #populateCommandWithArgs(List, Command.Builder)}, large
+     * arguments are passed to the native layer as a handle to a leaked vector of byte arrays. Direct
+     * buffers are copied to that vector straight from native memory, without a copy to the Java heap.
+     *
+     * @param arguments The arguments to add to the builder.
+     * @param outputBuilder The builder to populate with arguments.
+     */
+    private static void populateCommandWithDirectArgs(
+            Object[] arguments, Command.Builder outputBuilder) {
+        // each argument becomes a byte[] or a direct buffer spanning its capacity
+        Object[] nativeArguments = new Object[arguments.length];
+        long totalArgSize = 0;
+        for (int i = 0; i < arguments.length; i++) {
+            if (arguments[i] instanceof ByteBuffer) {
+                ByteBuffer buffer = ((ByteBuffer) arguments[i]).slice();
+                totalArgSize += buffer.remaining();
+                if (buffer.isDirect()) {
+                    nativeArguments[i] = buffer;
+                } else {
+                    byte[] bytes = new byte[buffer.remaining()];
+                    buffer.get(bytes);
+                    nativeArguments[i] = bytes;
+                }
+            } else {
+                byte[] bytes = GlideString.of(arguments[i]).getBytes();
+                totalArgSize += bytes.length;
+                nativeArguments[i] = bytes;
+            }
+        }
+        if (totalArgSize < GlideValueResolver.MAX_REQUEST_ARGS_LENGTH_IN_BYTES) {
+            ArgsArray.Builder commandArgs = ArgsArray.newBuilder();
+            for (Object arg : nativeArguments) {
+                commandArgs.addArgs(
+                        arg instanceof ByteBuffer
+                                ? ByteString.copyFrom((ByteBuffer) arg)
+                                : ByteString.copyFrom((byte[]) arg));
+            }
+            outputBuilder.setArgsArray(commandArgs);
+        } else {
+            outputBuilder.setArgsVecPointer(
+                    GlideValueResolver.createLeakedBytesVecFromBuffers(nativeArguments));
+        }
+    }
 }
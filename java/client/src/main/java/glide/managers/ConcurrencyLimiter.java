@@ -0,0 +1,260 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.managers;
+
+import glide.api.metrics.ConcurrencyLimitMetrics;
+import glide.api.models.configuration.AdaptiveConcurrencyConfiguration;
+import glide.api.models.exceptions.ConcurrencyLimitExceededException;
+import glide.api.models.exceptions.ConfigurationError;
+import glide.api.models.exceptions.ExecAbortException;
+import glide.api.models.exceptions.RequestException;
+import glide.api.models.exceptions.TimeoutException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import response.ResponseOuterClass.Response;
+
+/**
+ * Limits the requests in flight, and adapts the limit to their round trip time: additive increase
+ * while it's within the tolerance of the baseline, multiplicative decrease when it exceeds it or a
+ * request times out. Requests above the limit are queued, and rejected when the queue is full or
+ * they waited for the queue timeout. Queued requests are sent from the dispatcher, rather than from
+ * the thread which completed the request that made room for them. See {@link
+ * AdaptiveConcurrencyConfiguration}.
+ */
+public class ConcurrencyLimiter {
+
+    /** The number of round trips after which the baseline is measured again. */
+    private static final int BASELINE_WINDOW = 500;
+
+    /** The weight of a round trip in the smoothed round trip time. */
+    private static final double RTT_SMOOTHING = 0.1;
+
+    /** The longest wait in the queue if none is given: the default request timeout of GLIDE core. */
+    private static final long DEFAULT_QUEUE_TIMEOUT_MILLIS = 250;
+
+    /** A request waiting in the queue. */
+    @RequiredArgsConstructor
+    private static class QueuedRequest {
+        private final Supplier<CompletableFuture<Response>> request;
+        private final CompletableFuture<Response> response;
+    }
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final int maxQueuedRequests;
+    private final double rttTolerance;
+    private final double backoffRatio;
+    private final long queueTimeoutMillis;
+    private final LongSupplier nanoClock;
+
+    /** Sends the queued requests once the limit allows them. */
+    private final Executor dispatcher;
+
+    private final Deque<QueuedRequest> queue = new ArrayDeque<>();
+    private double limit;
+    private int inFlight = 0;
+    private long rejectedRequests = 0;
+
+    private double smoothedRtt = 0;
+    private long baselineRtt = Long.MAX_VALUE;
+    private long windowMinRtt = Long.MAX_VALUE;
+    private int windowRoundTrips = 0;
+
+    /** When the limit last shrank. Round trips of requests sent before then don't shrink it again. */
+    private long lastDecreaseAt = Long.MIN_VALUE;
+
+    public ConcurrencyLimiter(@NonNull AdaptiveConcurrencyConfiguration config) {
+        this(config, null);
+    }
+
+    /**
+     * @param config The configuration of the limit.
+     * @param requestTimeout The request timeout of the client, in milliseconds, which is also the
+     *     longest time a request waits in the queue. If not set, the default of GLIDE core is used.
+     */
+    public ConcurrencyLimiter(
+            @NonNull AdaptiveConcurrencyConfiguration config, Integer requestTimeout) {
+        this(
+                config,
+                requestTimeout == null ? DEFAULT_QUEUE_TIMEOUT_MILLIS : requestTimeout,
+                System::nanoTime,
+                ForkJoinPool.commonPool());
+    }
+
+    ConcurrencyLimiter(
+            AdaptiveConcurrencyConfiguration config,
+            long queueTimeoutMillis,
+            LongSupplier nanoClock,
+            Executor dispatcher) {
+        if (config.getMinLimit() < 1 || config.getMaxLimit() < config.getMinLimit()) {
+            throw new ConfigurationError(
+                    "The concurrency limits must be positive, and the maximum at least the minimum");
+        }
+        if (config.getInitialLimit() < config.getMinLimit()
+                || config.getInitialLimit() > config.getMaxLimit()) {
+            throw new ConfigurationError("The initial concurrency limit must be between the limits");
+        }
+        if (config.getMaxQueuedRequests() < 0) {
+            throw new ConfigurationError("The maximum queued requests can't be negative");
+        }
+        if (queueTimeoutMillis < 1) {
+            throw new ConfigurationError("The queue timeout must be positive");
+        }
+        if (config.getRttTolerance() <= 1) {
+            throw new ConfigurationError("The round trip time tolerance must be greater than 1");
+        }
+        if (config.getBackoffRatio() <= 0 || config.getBackoffRatio() >= 1) {
+            throw new ConfigurationError("The backoff ratio must be between 0 and 1");
+        }
+        this.minLimit = config.getMinLimit();
+        this.maxLimit = config.getMaxLimit();
+        this.maxQueuedRequests = config.getMaxQueuedRequests();
+        this.rttTolerance = config.getRttTolerance();
+        this.backoffRatio = config.getBackoffRatio();
+        this.queueTimeoutMillis = queueTimeoutMillis;
+        this.nanoClock = nanoClock;
+        this.dispatcher = dispatcher;
+        this.limit = config.getInitialLimit();
+    }
+
+    /**
+     * Sends a request once the limit allows it.
+     *
+     * @param request Writes the request to the channel.
+     * @return A response promise, which fails with a {@link ConcurrencyLimitExceededException} if the
+     *     queue is full or the request waited in it for the queue timeout.
+     */
+    public CompletableFuture<Response> submit(Supplier<CompletableFuture<Response>> request) {
+        CompletableFuture<Response> response = new CompletableFuture<>();
+        synchronized (this) {
+            if (inFlight >= (int) limit) {
+                if (queue.size() >= maxQueuedRequests) {
+                    rejectedRequests++;
+                    response.completeExceptionally(
+                            new ConcurrencyLimitExceededException(
+                                    "Too many requests in flight, the concurrency limit is " + (int) limit));
+                } else {
+                    QueuedRequest queued = new QueuedRequest(request, response);
+                    queue.add(queued);
+                    CompletableFuture.delayedExecutor(queueTimeoutMillis, TimeUnit.MILLISECONDS)
+                            .execute(() -> expire(queued));
+                }
+                return response;
+            }
+            inFlight++;
+        }
+        send(request, response);
+        return response;
+    }
+
+    /** Fails a request which is still queued once the queue timeout is over. */
+    private void expire(QueuedRequest queued) {
+        int currentLimit;
+        synchronized (this) {
+            if (!queue.remove(queued)) {
+                return;
+            }
+            rejectedRequests++;
+            currentLimit = (int) limit;
+        }
+        queued.response.completeExceptionally(
+                new ConcurrencyLimitExceededException(
+                        "Timed out after "
+                                + queueTimeoutMillis
+                                + " ms waiting for the concurrency limit of "
+                                + currentLimit));
+    }
+
+    private void send(
+            Supplier<CompletableFuture<Response>> request, CompletableFuture<Response> response) {
+        long sentAt = nanoClock.getAsLong();
+        CompletableFuture<Response> sent;
+        try {
+            sent = request.get();
+        } catch (RuntimeException e) {
+            sent = CompletableFuture.failedFuture(e);
+        }
+        sent.whenComplete(
+                (result, error) -> {
+                    release(sentAt, error);
+                    if (error != null) {
+                        response.completeExceptionally(error);
+                    } else {
+                        response.complete(result);
+                    }
+                });
+    }
+
+    /**
+     * Adapts the limit to a completed request and sends the queued requests the limit allows.
+     *
+     * @param sentAt When the request was sent.
+     * @param error The error the request failed with, if any.
+     */
+    private void release(long sentAt, Throwable error) {
+        List<QueuedRequest> ready = new ArrayList<>();
+        synchronized (this) {
+            // Requests which didn't get a reply, other than by timing out, say nothing about the round
+            // trip time
+            if (error == null
+                    || error instanceof TimeoutException
+                    || error instanceof RequestException
+                    || error instanceof ExecAbortException) {
+                adaptLimit(sentAt, nanoClock.getAsLong() - sentAt, error instanceof TimeoutException);
+            }
+            inFlight--;
+            while (!queue.isEmpty() && inFlight < (int) limit) {
+                ready.add(queue.poll());
+                inFlight++;
+            }
+        }
+        // This runs on the thread which completed the request, possibly the I/O thread
+        for (QueuedRequest queued : ready) {
+            dispatcher.execute(() -> send(queued.request, queued.response));
+        }
+    }
+
+    private void adaptLimit(long sentAt, long rtt, boolean timedOut) {
+        smoothedRtt = smoothedRtt == 0 ? rtt : smoothedRtt + RTT_SMOOTHING * (rtt - smoothedRtt);
+        // The baseline follows the lowest round trip time of the latest window
+        windowMinRtt = Math.min(windowMinRtt, rtt);
+        baselineRtt = Math.min(baselineRtt, rtt);
+        if (++windowRoundTrips >= BASELINE_WINDOW) {
+            baselineRtt = windowMinRtt;
+            windowMinRtt = Long.MAX_VALUE;
+            windowRoundTrips = 0;
+        }
+
+        if (timedOut || rtt > baselineRtt * rttTolerance) {
+            // Shrink once per round trip, the requests sent before saw the previous load
+            if (sentAt > lastDecreaseAt) {
+                limit = Math.max(minLimit, limit * backoffRatio);
+                lastDecreaseAt = nanoClock.getAsLong();
+            }
+        } else if (inFlight * 2 >= limit) {
+            // Grow only while the limit is in use, by about one request per round trip
+            limit = Math.min(maxLimit, limit + 1 / limit);
+        }
+    }
+
+    /** Returns a snapshot of the limit, the round trip times and the rejections. */
+    public synchronized ConcurrencyLimitMetrics getMetrics() {
+        return ConcurrencyLimitMetrics.builder()
+                .limit((int) limit)
+                .inFlight(inFlight)
+                .queued(queue.size())
+                .rttNanos((long) smoothedRtt)
+                .baselineRttNanos(baselineRtt == Long.MAX_VALUE ? 0 : baselineRtt)
+                .rejectedRequests(rejectedRequests)
+                .build();
+    }
+}
@@ -5,18 +5,25 @@ import com.google.protobuf.ByteString;
 import connection_request.ConnectionRequestOuterClass;
 import connection_request.ConnectionRequestOuterClass.AuthenticationInfo;
 import connection_request.ConnectionRequestOuterClass.ConnectionRequest;
+import connection_request.ConnectionRequestOuterClass.PeriodicChecksDisabled;
+import connection_request.ConnectionRequestOuterClass.PeriodicChecksManualInterval;
 import connection_request.ConnectionRequestOuterClass.PubSubChannelsOrPatterns;
 import connection_request.ConnectionRequestOuterClass.PubSubSubscriptions;
 import connection_request.ConnectionRequestOuterClass.TlsMode;
 import glide.api.models.configuration.BaseClientConfiguration;
 import glide.api.models.configuration.GlideClientConfiguration;
 import glide.api.models.configuration.GlideClusterClientConfiguration;
+import glide.api.models.configuration.HedgingPolicy;
 import glide.api.models.configuration.NodeAddress;
+import glide.api.models.configuration.PeriodicChecks;
 import glide.api.models.configuration.ReadFrom;
 import glide.api.models.exceptions.ClosingException;
+import glide.api.models.exceptions.ConfigurationError;
 import glide.connectors.handlers.ChannelHandler;
+import glide.jfr.ConnectionEvent;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Future;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import response.ResponseOuterClass.Response;
 
@@ -39,11 +46,41 @@ public class ConnectionManager {
      * @param configuration Connection Request Configuration
      */
     public CompletableFuture<Void> connectToValkey(BaseClientConfiguration configuration) {
-        ConnectionRequest request = createConnectionRequest(configuration);
-        return channel
-                .connect(request)
-                .exceptionally(this::exceptionHandler)
-                .thenApplyAsync(this::checkGlideRsResponse);
+        return connect(createConnectionRequest(configuration), configuration);
+    }
+
+    /**
+     * Make a connection request to Valkey Rust-core client for a connection which serves blocking
+     * commands only. The connection doesn't subscribe to the pub/sub channels of the configuration.
+     *
+     * @param configuration Connection Request Configuration
+     */
+    public CompletableFuture<Void> connectBlockingConnection(BaseClientConfiguration configuration) {
+        ConnectionRequest request =
+                createConnectionRequest(configuration).toBuilder().clearPubsubSubscriptions().build();
+        return connect(request, configuration);
+    }
+
+    private CompletableFuture<Void> connect(
+            ConnectionRequest request, BaseClientConfiguration configuration) {
+        var event = new ConnectionEvent();
+        if (event.isEnabled()) {
+            event.addresses =
+                    configuration.getAddresses().stream()
+                            .map(address -> address.getHost() + ":" + address.getPort())
+                            .collect(Collectors.joining(","));
+            event.clusterMode = request.getClusterModeEnabled();
+            event.begin();
+        }
+        var result =
+                channel
+                        .connect(request)
+                        .exceptionally(this::exceptionHandler)
+                        .thenApplyAsync(this::checkGlideRsResponse);
+        if (event.isEnabled()) {
+            result.whenComplete((ignored, error) -> event.complete(error));
+        }
+        return result;
     }
 
     /**
@@ -100,6 +137,14 @@ public class ConnectionManager {
                 .setTlsMode(configuration.isUseTLS() ? TlsMode.SecureTls : TlsMode.NoTls)
                 .setReadFrom(mapReadFromEnum(configuration.getReadFrom()));
 
+        if (configuration.getReadFrom() == ReadFrom.AZ_AFFINITY
+                && configuration.getClientAZ() == null) {
+            throw new ConfigurationError("AZ_AFFINITY requires the client AZ to be set");
+        }
+        if (configuration.getClientAZ() != null) {
+            connectionRequestBuilder.setClientAz(configuration.getClientAZ());
+        }
+
         if (configuration.getCredentials() != null) {
             AuthenticationInfo.Builder authenticationInfoBuilder = AuthenticationInfo.newBuilder();
             if (configuration.getCredentials().getUsername() != null) {
@@ -144,6 +189,15 @@ public class ConnectionManager {
             connectionRequestBuilder.setDatabaseId(configuration.getDatabaseId());
         }
 
+        if (configuration.getHedgingPolicy() != null) {
+            // only reads from replicas are hedged, the policy would be silently ignored otherwise
+            if (configuration.getReadFrom() == null || configuration.getReadFrom() == ReadFrom.PRIMARY) {
+                throw new ConfigurationError(
+                        "Hedging requires reading from replicas, not ReadFrom.PRIMARY");
+            }
+            connectionRequestBuilder.setHedgingPolicy(mapHedgingPolicy(configuration.getHedgingPolicy()));
+        }
+
         if (configuration.getSubscriptionConfiguration() != null) {
             // TODO throw ConfigurationError if RESP2
             var subscriptionsBuilder = PubSubSubscriptions.newBuilder();
@@ -172,6 +226,17 @@ public class ConnectionManager {
                 setupConnectionRequestBuilderBaseConfiguration(configuration);
         connectionRequestBuilder.setClusterModeEnabled(true);
 
+        PeriodicChecks periodicChecks = configuration.getPeriodicChecks();
+        if (!periodicChecks.isEnabled()) {
+            connectionRequestBuilder.setPeriodicChecksDisabled(
+                    PeriodicChecksDisabled.getDefaultInstance());
+        } else if (periodicChecks.getIntervalSeconds() != null) {
+            connectionRequestBuilder.setPeriodicChecksManualInterval(
+                    PeriodicChecksManualInterval.newBuilder()
+                            .setDurationInSec(periodicChecks.getIntervalSeconds())
+                            .build());
+        }
+
         if (configuration.getSubscriptionConfiguration() != null) {
             // TODO throw ConfigurationError if RESP2
             var subscriptionsBuilder = PubSubSubscriptions.newBuilder();
@@ -196,11 +261,47 @@ public class ConnectionManager {
      * @return Protobuf defined ReadFrom enum
      */
     private ConnectionRequestOuterClass.ReadFrom mapReadFromEnum(ReadFrom readFrom) {
-        if (readFrom == ReadFrom.PREFER_REPLICA) {
-            return ConnectionRequestOuterClass.ReadFrom.PreferReplica;
+        switch (readFrom) {
+            case PREFER_REPLICA:
+                return ConnectionRequestOuterClass.ReadFrom.PreferReplica;
+            case LOWEST_LATENCY:
+                return ConnectionRequestOuterClass.ReadFrom.LowestLatency;
+            case AZ_AFFINITY:
+                return ConnectionRequestOuterClass.ReadFrom.AZAffinity;
+            default:
+                return ConnectionRequestOuterClass.ReadFrom.Primary;
         }
+    }
 
-        return ConnectionRequestOuterClass.ReadFrom.Primary;
+    /**
+     * Maps the hedging policy to its protobuf message.
+     *
+     * @param policy Hedging policy
+     * @throws ConfigurationError if the policy has no delay, or its values are out of range.
+     */
+    private ConnectionRequestOuterClass.HedgingPolicy mapHedgingPolicy(HedgingPolicy policy) {
+        // A percentile is only known after enough reads, the delay applies until then
+        if (policy.getDelayMillis() == null) {
+            throw new ConfigurationError("Hedging requires a delay, also when it follows a percentile");
+        }
+        if (policy.getDelayMillis() < 0) {
+            throw new ConfigurationError("Hedging delay can't be negative");
+        }
+        if (policy.getDelayPercentile() != null
+                && (policy.getDelayPercentile() < 1 || policy.getDelayPercentile() > 99)) {
+            throw new ConfigurationError("Hedging delay percentile must be between 1 and 99");
+        }
+        if (policy.getMaxExtraLoadPercent() < 0 || policy.getMaxExtraLoadPercent() > 100) {
+            throw new ConfigurationError("Hedging extra load must be between 0 and 100 percent");
+        }
+        var builder =
+                ConnectionRequestOuterClass.HedgingPolicy.newBuilder()
+                        .setDelayInMs(policy.getDelayMillis())
+                        .setMaxExtraLoadPercent(policy.getMaxExtraLoadPercent());
+        if (policy.getDelayPercentile() != null) {
+            builder.setDelayPercentile(policy.getDelayPercentile());
+        }
+        return builder.build();
     }
 
     /** Check a response received from Glide. */
@@ -0,0 +1,163 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.managers;
+
+import command_request.CommandRequestOuterClass.Command;
+import command_request.CommandRequestOuterClass.CommandRequest;
+import command_request.CommandRequestOuterClass.RequestType;
+import command_request.CommandRequestOuterClass.Routes;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Coalesces identical read-only requests: while a request is in flight, a request with the same
+ * type, arguments, route, timeout and response handler attaches to its response instead of being
+ * sent. Only idempotent reads are coalesced, see {@link #isCoalescable(RequestType)}.
+ *
+ * <p>A response is decoded once and the result is handed to every coalesced caller, so only reads
+ * whose result is immutable, a string, a number or a boolean, are coalesced. Reads which return
+ * arrays, maps or sets are always sent, so that no caller sees another caller's changes.
+ */
+public class RequestCoalescer {
+
+    /** Reads which return a string, a number or a boolean. */
+    private static final Set<RequestType> COALESCABLE_REQUEST_TYPES =
+            EnumSet.of(
+                    RequestType.Get,
+                    RequestType.Strlen,
+                    RequestType.GetRange,
+                    RequestType.HGet,
+                    RequestType.HLen,
+                    RequestType.HExists,
+                    RequestType.HStrlen,
+                    RequestType.SIsMember,
+                    RequestType.SCard,
+                    RequestType.ZScore,
+                    RequestType.ZCard,
+                    RequestType.ZCount,
+                    RequestType.LLen,
+                    RequestType.LIndex,
+                    RequestType.Exists,
+                    RequestType.Type,
+                    RequestType.TTL,
+                    RequestType.PTTL);
+
+    /** Whether requests sent by the current thread bypass coalescing. */
+    private static final ThreadLocal<Boolean> BYPASSED = ThreadLocal.withInitial(() -> false);
+
+    /** Identifies identical requests. */
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    private static class RequestKey {
+        private final Command command;
+        private final Routes route;
+        private final int requestTimeout;
+
+        /**
+         * The class of the response handler, so that requests whose responses are decoded differently,
+         * e.g. as binary data, are never merged. Handlers created by the same call site share it.
+         */
+        private final Class<?> responseHandler;
+    }
+
+    private final Map<RequestKey, CompletableFuture<?>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder coalescedRequests = new LongAdder();
+
+    /**
+     * Checks whether requests of a type may be coalesced.
+     *
+     * @param requestType Valkey command type
+     * @return <code>true</code> for idempotent reads with an immutable result, such as <code>GET
+     *     </code> or <code>EXISTS</code>.
+     */
+    public static boolean isCoalescable(RequestType requestType) {
+        return COALESCABLE_REQUEST_TYPES.contains(requestType);
+    }
+
+    /**
+     * Runs an action whose requests are always sent, even if an identical request is in flight.
+     * Requests must be submitted by the calling thread, as the client methods do.
+     *
+     * @param action Submits the requests.
+     * @return The result of the action.
+     */
+    public static <T> T bypass(@NonNull Supplier<T> action) {
+        if (BYPASSED.get()) {
+            return action.get();
+        }
+        BYPASSED.set(true);
+        try {
+            return action.get();
+        } finally {
+            BYPASSED.set(false);
+        }
+    }
+
+    /**
+     * Sends a request, unless an identical request is in flight, in which case its response is
+     * shared.
+     *
+     * @param command The command request
+     * @param requestTimeout The timeout of the request in milliseconds, or 0 for the client's
+     * @param responseHandler Decodes the response of the request
+     * @param request Sends the request and decodes its response
+     * @return A result promise of type T
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> submit(
+            CommandRequest.Builder command,
+            int requestTimeout,
+            @NonNull Object responseHandler,
+            Supplier<CompletableFuture<T>> request) {
+        if (BYPASSED.get()
+                || !command.hasSingleCommand()
+                || !command.getSingleCommand().hasArgsArray()
+                || !isCoalescable(command.getSingleCommand().getRequestType())) {
+            return request.get();
+        }
+        RequestKey key =
+                new RequestKey(
+                        command.getSingleCommand(),
+                        command.hasRoute() ? command.getRoute() : null,
+                        requestTimeout,
+                        responseHandler.getClass());
+        CompletableFuture<T> response = new CompletableFuture<>();
+        CompletableFuture<?> existing = inFlight.putIfAbsent(key, response);
+        if (existing != null) {
+            coalescedRequests.increment();
+            return ((CompletableFuture<T>) existing).copy();
+        }
+
+        CompletableFuture<T> sent;
+        try {
+            sent = request.get();
+        } catch (RuntimeException e) {
+            sent = CompletableFuture.failedFuture(e);
+        }
+        sent.whenComplete(
+                (result, error) -> {
+                    // Requests submitted from now on are sent
+                    inFlight.remove(key, response);
+                    if (error != null) {
+                        response.completeExceptionally(error);
+                    } else {
+                        response.complete(result);
+                    }
+                });
+        // Callers may cancel or complete their own copy without affecting the others
+        return response.copy();
+    }
+
+    /** Returns the number of requests which attached to an identical request in flight. */
+    public long getCoalescedRequestCount() {
+        return coalescedRequests.sum();
+    }
+}
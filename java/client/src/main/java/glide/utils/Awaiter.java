@@ -0,0 +1,30 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.utils;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Blocks the threads of synchronous clients until a future completes, e.g. until a response
+ * arrives. The JAR holds another version of this class for Java 21 and newer, which parks virtual
+ * threads directly.
+ */
+public final class Awaiter {
+
+    private Awaiter() {}
+
+    /**
+     * Waits until a future completes, successfully or not.
+     *
+     * @param response The future.
+     * @throws InterruptedException If the thread is interrupted while waiting.
+     */
+    public static void awaitCompletion(CompletableFuture<?> response) throws InterruptedException {
+        try {
+            response.get();
+        } catch (ExecutionException | CancellationException e) {
+            // The caller reads the failure from the future
+        }
+    }
+}
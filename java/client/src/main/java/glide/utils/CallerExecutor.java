@@ -0,0 +1,72 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.utils;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Runs tasks on the thread which waits for a request, so synchronous clients decode their responses
+ * themselves instead of on the thread which completes them. Tasks submitted once nobody waits, e.g.
+ * after the waiting thread was interrupted, run on the common pool.
+ */
+public final class CallerExecutor implements Executor {
+
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+
+    /** Completed when a task is submitted or the request completes, to wake the waiting thread. */
+    private volatile CompletableFuture<Void> signal = new CompletableFuture<>();
+
+    private volatile boolean abandoned = false;
+
+    @Override
+    public void execute(Runnable task) {
+        if (abandoned) {
+            ForkJoinPool.commonPool().execute(task);
+            return;
+        }
+        tasks.add(task);
+        signal.complete(null);
+        if (abandoned) {
+            // The waiting thread left while the task was added
+            runOnCommonPool();
+        }
+    }
+
+    /**
+     * Runs the submitted tasks on the calling thread until a request completes, successfully or not.
+     *
+     * @param response The response promise.
+     * @throws InterruptedException If the thread is interrupted while waiting.
+     */
+    public void runUntilComplete(CompletableFuture<?> response) throws InterruptedException {
+        response.whenComplete((result, error) -> signal.complete(null));
+        try {
+            while (true) {
+                // Replaced before the queue is checked, so a task added after the check wakes us
+                CompletableFuture<Void> current = new CompletableFuture<>();
+                signal = current;
+                Runnable task;
+                while ((task = tasks.poll()) != null) {
+                    task.run();
+                }
+                if (response.isDone()) {
+                    return;
+                }
+                Awaiter.awaitCompletion(current);
+            }
+        } finally {
+            abandoned = true;
+            runOnCommonPool();
+        }
+    }
+
+    private void runOnCommonPool() {
+        Runnable task;
+        while ((task = tasks.poll()) != null) {
+            ForkJoinPool.commonPool().execute(task);
+        }
+    }
+}
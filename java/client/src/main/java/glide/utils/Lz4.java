@@ -0,0 +1,215 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.utils;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+/**
+ * A compressor and decompressor of the <a
+ * href="https://github.com/lz4/lz4/blob/dev/doc/lz4_Block_format.md">LZ4 block format</a>. The
+ * compressor is greedy and favours speed over ratio, like the default level of the reference
+ * implementation.
+ */
+public final class Lz4 {
+
+    private static final int MIN_MATCH = 4;
+
+    /** A match must start at least this many bytes before the end of the input. */
+    private static final int MF_LIMIT = 12;
+
+    /** The last bytes of the input are always literals. */
+    private static final int LAST_LITERALS = 5;
+
+    private static final int MAX_OFFSET = 65535;
+
+    /** Every input byte expands to at most this many output bytes. */
+    private static final int MAX_RATIO = 255;
+
+    private static final int HASH_LOG = 12;
+
+    /** The step between match attempts grows after every 2^SKIP_TRIGGER misses in a row. */
+    private static final int SKIP_TRIGGER = 6;
+
+    private static final VarHandle INT =
+            MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private Lz4() {}
+
+    /** Returns the maximum size of the compressed form of an input. */
+    public static int maxCompressedLength(int length) {
+        return length + length / 255 + 16;
+    }
+
+    /**
+     * Compresses bytes into a block.
+     *
+     * @param src The input.
+     * @param dst The output, of at least {@link #maxCompressedLength(int)} bytes after <code>dstOff
+     *     </code>.
+     * @param dstOff The position of the block in the output.
+     * @return The size of the block.
+     */
+    public static int compress(byte[] src, byte[] dst, int dstOff) {
+        int length = src.length;
+        int anchor = 0;
+        int op = dstOff;
+        if (length > MF_LIMIT) {
+            int[] table = new int[1 << HASH_LOG];
+            Arrays.fill(table, -1);
+            int matchLimit = length - MF_LIMIT;
+            int matchEnd = length - LAST_LITERALS;
+            int ip = 0;
+            int searches = 1 << SKIP_TRIGGER;
+            while (ip < matchLimit) {
+                int sequence = (int) INT.get(src, ip);
+                int hash = hash(sequence);
+                int ref = table[hash];
+                table[hash] = ip;
+                if (ref < 0 || ip - ref > MAX_OFFSET || (int) INT.get(src, ref) != sequence) {
+                    ip += searches++ >>> SKIP_TRIGGER;
+                    continue;
+                }
+                searches = 1 << SKIP_TRIGGER;
+                while (ip > anchor && ref > 0 && src[ip - 1] == src[ref - 1]) {
+                    ip--;
+                    ref--;
+                }
+                int matchLength = MIN_MATCH;
+                while (ip + matchLength < matchEnd && src[ip + matchLength] == src[ref + matchLength]) {
+                    matchLength++;
+                }
+                op = writeSequence(src, anchor, ip - anchor, ip - ref, matchLength, dst, op);
+                ip += matchLength;
+                anchor = ip;
+                if (ip - 2 < matchLimit) {
+                    table[hash((int) INT.get(src, ip - 2))] = ip - 2;
+                }
+            }
+        }
+        // The last sequence only has literals
+        int literals = length - anchor;
+        int token = op++;
+        if (literals >= 15) {
+            dst[token] = (byte) 0xF0;
+            op = writeLength(literals - 15, dst, op);
+        } else {
+            dst[token] = (byte) (literals << 4);
+        }
+        System.arraycopy(src, anchor, dst, op, literals);
+        return op + literals - dstOff;
+    }
+
+    /**
+     * Decompresses a block.
+     *
+     * @param src The input.
+     * @param srcOff The position of the block in the input.
+     * @param srcLength The size of the block.
+     * @param length The size of the decompressed data. Checked against the size of the block before
+     *     it's allocated, since it's read from untrusted input.
+     * @return The decompressed data.
+     * @throws IllegalArgumentException If the block is malformed.
+     */
+    public static byte[] decompress(byte[] src, int srcOff, int srcLength, int length) {
+        if (length < 0) {
+            throw new IllegalArgumentException("Invalid LZ4 block: negative size");
+        }
+        if (length > (long) srcLength * MAX_RATIO) {
+            throw new IllegalArgumentException(
+                    "Invalid LZ4 block: " + srcLength + " bytes can't decompress to " + length);
+        }
+        byte[] dst = new byte[length];
+        int ip = srcOff;
+        int end = srcOff + srcLength;
+        int op = 0;
+        try {
+            while (true) {
+                int token = src[ip++] & 0xFF;
+                int literals = token >>> 4;
+                if (literals == 15) {
+                    int b;
+                    do {
+                        b = src[ip++] & 0xFF;
+                        literals += b;
+                    } while (b == 255);
+                }
+                System.arraycopy(src, ip, dst, op, literals);
+                ip += literals;
+                op += literals;
+                if (ip >= end) {
+                    break;
+                }
+
+                int offset = (src[ip++] & 0xFF) | (src[ip++] & 0xFF) << 8;
+                int matchLength = token & 0x0F;
+                if (matchLength == 15) {
+                    int b;
+                    do {
+                        b = src[ip++] & 0xFF;
+                        matchLength += b;
+                    } while (b == 255);
+                }
+                matchLength += MIN_MATCH;
+                int ref = op - offset;
+                if (offset == 0 || ref < 0) {
+                    throw new IllegalArgumentException("Invalid LZ4 block: offset out of range");
+                }
+                if (offset >= matchLength) {
+                    System.arraycopy(dst, ref, dst, op, matchLength);
+                } else {
+                    // The match overlaps the bytes it repeats
+                    for (int i = 0; i < matchLength; i++) {
+                        dst[op + i] = dst[ref + i];
+                    }
+                }
+                op += matchLength;
+            }
+        } catch (IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Invalid LZ4 block: truncated or too long", e);
+        }
+        if (ip != end || op != length) {
+            throw new IllegalArgumentException("Invalid LZ4 block: unexpected size");
+        }
+        return dst;
+    }
+
+    private static int hash(int sequence) {
+        return (sequence * -1640531535) >>> (32 - HASH_LOG);
+    }
+
+    private static int writeSequence(
+            byte[] src, int anchor, int literals, int offset, int matchLength, byte[] dst, int op) {
+        int token = op++;
+        int tokenValue;
+        if (literals >= 15) {
+            tokenValue = 0xF0;
+            op = writeLength(literals - 15, dst, op);
+        } else {
+            tokenValue = literals << 4;
+        }
+        System.arraycopy(src, anchor, dst, op, literals);
+        op += literals;
+        dst[op++] = (byte) offset;
+        dst[op++] = (byte) (offset >>> 8);
+        int extraLength = matchLength - MIN_MATCH;
+        if (extraLength >= 15) {
+            tokenValue |= 0x0F;
+            op = writeLength(extraLength - 15, dst, op);
+        } else {
+            tokenValue |= extraLength;
+        }
+        dst[token] = (byte) tokenValue;
+        return op;
+    }
+
+    private static int writeLength(int length, byte[] dst, int op) {
+        while (length >= 255) {
+            dst[op++] = (byte) 255;
+            length -= 255;
+        }
+        dst[op++] = (byte) length;
+        return op;
+    }
+}
@@ -0,0 +1,129 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.utils;
+
+import static glide.api.models.GlideString.gs;
+
+import glide.api.metrics.CompressionMetrics;
+import glide.api.models.GlideString;
+import glide.api.models.configuration.CompressionConfiguration;
+import glide.api.models.exceptions.ConfigurationError;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.NonNull;
+
+/**
+ * Compresses string values above a size threshold with {@link Lz4}, and decompresses them when
+ * they're read. A compressed value starts with a magic header followed by the size of the original
+ * value, so values which were stored uncompressed are read as is. The UTF-8 encoding of a string
+ * never contains the first byte of the header, <code>0xFF</code>.
+ */
+public class ValueCompressor {
+
+    private static final byte[] MAGIC = {(byte) 0xFF, 'G', 'L', 'Z'};
+
+    /** The magic header and the size of the original value, as a big-endian int. */
+    private static final int HEADER_LENGTH = MAGIC.length + Integer.BYTES;
+
+    private final int thresholdBytes;
+
+    private final LongAdder compressedValues = new LongAdder();
+    private final LongAdder uncompressedValues = new LongAdder();
+    private final LongAdder originalBytes = new LongAdder();
+    private final LongAdder compressedBytes = new LongAdder();
+    private final LongAdder decompressedValues = new LongAdder();
+
+    public ValueCompressor(@NonNull CompressionConfiguration config) {
+        if (config.getThresholdBytes() < 0) {
+            throw new ConfigurationError("The compression threshold can't be negative");
+        }
+        this.thresholdBytes = config.getThresholdBytes();
+    }
+
+    /**
+     * Encodes a value to be stored, compressed if it's at least the threshold and compression makes
+     * it smaller.
+     *
+     * @param value The value.
+     * @return The bytes to store.
+     */
+    public GlideString encode(@NonNull String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length < thresholdBytes) {
+            uncompressedValues.increment();
+            return gs(bytes);
+        }
+        byte[] compressed = new byte[HEADER_LENGTH + Lz4.maxCompressedLength(bytes.length)];
+        int length = HEADER_LENGTH + Lz4.compress(bytes, compressed, HEADER_LENGTH);
+        if (length >= bytes.length) {
+            uncompressedValues.increment();
+            return gs(bytes);
+        }
+        System.arraycopy(MAGIC, 0, compressed, 0, MAGIC.length);
+        writeInt(compressed, MAGIC.length, bytes.length);
+        compressedValues.increment();
+        originalBytes.add(bytes.length);
+        compressedBytes.add(length);
+        return gs(Arrays.copyOf(compressed, length));
+    }
+
+    /**
+     * Decodes a stored value.
+     *
+     * @param value The stored bytes, or <code>null</code>.
+     * @return The value, or <code>null</code> if there's none.
+     * @throws IllegalArgumentException If a compressed value is malformed.
+     */
+    public String decode(GlideString value) {
+        if (value == null) {
+            return null;
+        }
+        byte[] bytes = value.getBytes();
+        if (!isCompressed(bytes)) {
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+        decompressedValues.increment();
+        byte[] original =
+                Lz4.decompress(
+                        bytes, HEADER_LENGTH, bytes.length - HEADER_LENGTH, readInt(bytes, MAGIC.length));
+        return new String(original, StandardCharsets.UTF_8);
+    }
+
+    /** Checks whether stored bytes are a compressed value. */
+    public static boolean isCompressed(byte[] bytes) {
+        if (bytes.length <= HEADER_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (bytes[i] != MAGIC[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Returns a snapshot of the compressed values and their sizes. */
+    public CompressionMetrics getMetrics() {
+        return CompressionMetrics.builder()
+                .compressedValues(compressedValues.sum())
+                .uncompressedValues(uncompressedValues.sum())
+                .originalBytes(originalBytes.sum())
+                .compressedBytes(compressedBytes.sum())
+                .decompressedValues(decompressedValues.sum())
+                .build();
+    }
+
+    private static void writeInt(byte[] bytes, int offset, int value) {
+        bytes[offset] = (byte) (value >>> 24);
+        bytes[offset + 1] = (byte) (value >>> 16);
+        bytes[offset + 2] = (byte) (value >>> 8);
+        bytes[offset + 3] = (byte) value;
+    }
+
+    private static int readInt(byte[] bytes, int offset) {
+        return (bytes[offset] & 0xFF) << 24
+                | (bytes[offset + 1] & 0xFF) << 16
+                | (bytes[offset + 2] & 0xFF) << 8
+                | (bytes[offset + 3] & 0xFF);
+    }
+}
@@ -1,7 +1,9 @@
 module glide.api {
     exports glide.api;
+    exports glide.api.codec;
     exports glide.api.commands;
     exports glide.api.logging;
+    exports glide.api.metrics;
     exports glide.api.models;
     exports glide.api.models.commands;
     exports glide.api.models.commands.bitmap;
@@ -11,6 +13,8 @@ module glide.api {
     exports glide.api.models.commands.stream;
     exports glide.api.models.configuration;
     exports glide.api.models.exceptions;
+    exports glide.api.scan;
+    exports glide.api.streams;
 
     requires com.google.protobuf;
     requires io.netty.codec;
@@ -19,6 +23,7 @@ module glide.api {
     requires io.netty.transport.classes.epoll;
     requires io.netty.transport.classes.kqueue;
     requires io.netty.transport.unix.common;
+    requires jdk.jfr;
     requires lombok;
     requires org.apache.commons.lang3;
 }
@@ -0,0 +1,46 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.utils;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Blocks the threads of synchronous clients until a future completes, e.g. until a response
+ * arrives. Virtual threads park with {@link LockSupport} until a completion callback unparks them,
+ * which unmounts them from their carrier without going through the blocking machinery of {@link
+ * CompletableFuture#get()}. Platform threads wait as they do on Java 11.
+ */
+public final class Awaiter {
+
+    private Awaiter() {}
+
+    /**
+     * Waits until a future completes, successfully or not.
+     *
+     * @param response The future.
+     * @throws InterruptedException If the thread is interrupted while waiting.
+     */
+    public static void awaitCompletion(CompletableFuture<?> response) throws InterruptedException {
+        if (response.isDone()) {
+            return;
+        }
+        Thread thread = Thread.currentThread();
+        if (!thread.isVirtual()) {
+            try {
+                response.get();
+            } catch (ExecutionException | CancellationException e) {
+                // The caller reads the failure from the future
+            }
+            return;
+        }
+        response.whenComplete((result, error) -> LockSupport.unpark(thread));
+        while (!response.isDone()) {
+            LockSupport.park(response);
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+    }
+}
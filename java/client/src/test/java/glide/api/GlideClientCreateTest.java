@@ -51,7 +51,9 @@ public class GlideClientCreateTest {
 
         mockedClient.when(() -> buildChannelHandler(any(), any())).thenReturn(channelHandler);
         mockedClient.when(() -> buildConnectionManager(channelHandler)).thenReturn(connectionManager);
-        mockedClient.when(() -> buildCommandManager(channelHandler)).thenReturn(commandManager);
+        mockedClient
+                .when(() -> buildCommandManager(eq(channelHandler), any()))
+                .thenReturn(commandManager);
         mockedClient.when(() -> buildMessageHandler(any())).thenReturn(messageHandler);
         mockedClient.when(() -> createClient(any(), any())).thenCallRealMethod();
 
@@ -364,6 +364,8 @@ import glide.api.models.commands.stream.StreamTrimOptions.MaxLen;
 import glide.api.models.commands.stream.StreamTrimOptions.MinId;
 import glide.managers.CommandManager;
 import glide.utils.ArgsBuilder;
+import java.nio.ByteBuffer;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -371,6 +373,8 @@ import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.SneakyThrows;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.tuple.Pair;
@@ -893,6 +897,28 @@ public class GlideClientTest {
         assertNull(response.get());
     }
 
+    @SneakyThrows
+    @Test
+    public void setDirect_with_SetOptions_returns_success() {
+        // setup
+        GlideString key = gs("testKey");
+        ByteBuffer value = ByteBuffer.allocateDirect(16);
+        SetOptions setOptions = SetOptions.builder().conditionalSet(ONLY_IF_EXISTS).build();
+        Object[] arguments = new Object[] {key, value, ONLY_IF_EXISTS.getValkeyApi()};
+
+        CompletableFuture<String> testResponse = new CompletableFuture<>();
+        testResponse.complete(OK);
+        when(commandManager.<String>submitNewDirectCommand(eq(pSet), eq(arguments), any()))
+                .thenReturn(testResponse);
+
+        // exercise
+        CompletableFuture<String> response = service.setDirect(key, value, setOptions);
+
+        // verify
+        assertEquals(testResponse, response);
+        assertEquals(OK, response.get());
+    }
+
     @SneakyThrows
     @Test
     public void set_with_SetOptions_OnlyIfDoesNotExist_returns_success() {
@@ -922,6 +948,28 @@ public class GlideClientTest {
         assertEquals(value, response.get());
     }
 
+    @SneakyThrows
+    @Test
+    public void setGet_adds_the_return_old_value_option() {
+        // setup
+        GlideString key = gs("testKey");
+        GlideString value = gs("testValue");
+        SetOptions setOptions = SetOptions.builder().expiry(Expiry.Seconds(60L)).build();
+        GlideString[] arguments =
+                new GlideString[] {key, value, gs("EX"), gs("60"), gs(RETURN_OLD_VALUE)};
+        GlideString oldValue = gs(new byte[] {(byte) 0xff, 0});
+        CompletableFuture<GlideString> testResponse = new CompletableFuture<>();
+        testResponse.complete(oldValue);
+        when(commandManager.<GlideString>submitNewCommand(eq(pSet), eq(arguments), any()))
+                .thenReturn(testResponse);
+
+        // exercise
+        CompletableFuture<GlideString> response = service.setGet(key, value, setOptions);
+
+        // verify
+        assertEquals(oldValue, response.get());
+    }
+
     @SneakyThrows
     @Test
     public void exists_returns_long_success() {
@@ -14347,6 +14395,54 @@ public class GlideClientTest {
         assertEquals(value, payload);
     }
 
+    @SneakyThrows
+    @Test
+    public void hscanStream_requests_every_page() {
+        // setup
+        GlideString key = gs("testKey");
+        GlideString[] firstArguments =
+                new GlideString[] {key, gs("0"), COUNT_OPTION_GLIDE_STRING, gs("10")};
+        GlideString[] secondArguments =
+                new GlideString[] {key, gs("5"), COUNT_OPTION_GLIDE_STRING, gs("10")};
+
+        // match on protobuf request
+        when(commandManager.<Object[]>submitNewCommand(eq(HScan), eq(firstArguments), any()))
+                .thenReturn(
+                        CompletableFuture.completedFuture(
+                                new Object[] {gs("5"), new Object[] {gs("a"), gs("1")}}));
+        when(commandManager.<Object[]>submitNewCommand(eq(HScan), eq(secondArguments), any()))
+                .thenReturn(
+                        CompletableFuture.completedFuture(
+                                new Object[] {gs("0"), new Object[] {gs("b"), gs("2")}}));
+
+        // exercise
+        List<Map.Entry<GlideString, GlideString>> fields;
+        try (Stream<Map.Entry<GlideString, GlideString>> stream = service.hscanStream(key)) {
+            fields = stream.collect(Collectors.toList());
+        }
+
+        // verify
+        assertEquals(List.of(Map.entry(gs("a"), gs("1")), Map.entry(gs("b"), gs("2"))), fields);
+    }
+
+    @SneakyThrows
+    @Test
+    public void withTimeout_sends_requests_with_the_timeout() {
+        // setup
+        String key = "testKey";
+        CommandManager timeoutCommandManager = mock(CommandManager.class);
+        when(commandManager.withRequestTimeout(20)).thenReturn(timeoutCommandManager);
+        when(timeoutCommandManager.<String>submitNewCommand(eq(Get), eq(new String[] {key}), any()))
+                .thenReturn(CompletableFuture.completedFuture("value"));
+
+        // exercise
+        GlideClient view = service.withTimeout(Duration.ofMillis(20));
+
+        // verify
+        assertEquals("value", view.get(key).get());
+        assertThrows(IllegalArgumentException.class, () -> service.withTimeout(Duration.ZERO));
+    }
+
     private static List<Arguments> getGeoSearchArguments() {
         return List.of(
                 Arguments.of(
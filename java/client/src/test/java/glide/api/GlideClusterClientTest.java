@@ -7,6 +7,7 @@ import static command_request.CommandRequestOuterClass.RequestType.ConfigGet;
 import static command_request.CommandRequestOuterClass.RequestType.ConfigResetStat;
 import static command_request.CommandRequestOuterClass.RequestType.ConfigRewrite;
 import static command_request.CommandRequestOuterClass.RequestType.ConfigSet;
+import static command_request.CommandRequestOuterClass.RequestType.CustomCommand;
 import static command_request.CommandRequestOuterClass.RequestType.DBSize;
 import static command_request.CommandRequestOuterClass.RequestType.Echo;
 import static command_request.CommandRequestOuterClass.RequestType.FCall;
@@ -27,6 +28,7 @@ import static command_request.CommandRequestOuterClass.RequestType.Lolwut;
 import static command_request.CommandRequestOuterClass.RequestType.Ping;
 import static command_request.CommandRequestOuterClass.RequestType.RandomKey;
 import static command_request.CommandRequestOuterClass.RequestType.SPublish;
+import static command_request.CommandRequestOuterClass.RequestType.Scan;
 import static command_request.CommandRequestOuterClass.RequestType.Sort;
 import static command_request.CommandRequestOuterClass.RequestType.SortReadOnly;
 import static command_request.CommandRequestOuterClass.RequestType.Time;
@@ -65,16 +67,21 @@ import glide.api.models.commands.SortClusterOptions;
 import glide.api.models.commands.function.FunctionLoadOptions;
 import glide.api.models.commands.function.FunctionRestorePolicy;
 import glide.api.models.commands.scan.ClusterScanCursor;
+import glide.api.models.commands.scan.ParallelScanOptions;
 import glide.api.models.commands.scan.ScanOptions;
+import glide.api.models.configuration.RequestRoutingConfiguration.ByAddressRoute;
 import glide.api.models.configuration.RequestRoutingConfiguration.Route;
 import glide.api.models.configuration.RequestRoutingConfiguration.SingleNodeRoute;
 import glide.managers.CommandManager;
 import glide.managers.GlideExceptionCheckedFunction;
 import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -3211,4 +3218,33 @@ public class GlideClusterClientTest {
                 ((CommandManager.ClusterScanCursorDetail) payload[0]).getCursorHandle());
         assertArrayEquals(new Object[] {gs("foo")}, (Object[]) payload[1]);
     }
+
+    @SneakyThrows
+    @Test
+    public void scanParallel_scans_every_primary() {
+        // setup
+        when(commandManager.<List<String>>submitNewCommand(
+                        eq(CustomCommand), eq(new String[] {"CLUSTER", "SLOTS"}), eq(RANDOM), any()))
+                .thenReturn(CompletableFuture.completedFuture(List.of("10.0.0.1:6379", "10.0.0.2:6379")));
+        when(commandManager.<Object[]>submitNewCommand(
+                        eq(Scan), any(GlideString[].class), any(Route.class), any()))
+                .thenAnswer(
+                        invocation -> {
+                            ByAddressRoute route = invocation.getArgument(2);
+                            GlideString[] arguments = invocation.getArgument(1);
+                            assertArrayEquals(new GlideString[] {gs("0"), gs("MATCH"), gs("user:*")}, arguments);
+                            return CompletableFuture.completedFuture(
+                                    new Object[] {gs("0"), new Object[] {gs(route.getHost())}});
+                        });
+
+        // exercise
+        ParallelScanOptions options = ParallelScanOptions.builder().matchPattern("user:*").build();
+        List<GlideString> keys;
+        try (Stream<GlideString> stream = service.scanParallel(options).stream()) {
+            keys = stream.sorted().collect(Collectors.toList());
+        }
+
+        // verify
+        assertEquals(List.of(gs("10.0.0.1"), gs("10.0.0.2")), keys);
+    }
 }
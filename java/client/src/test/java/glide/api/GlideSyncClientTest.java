@@ -0,0 +1,73 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import glide.api.models.exceptions.GlideException;
+import glide.api.models.exceptions.RequestException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class GlideSyncClientTest {
+
+    GlideClient client;
+
+    GlideSyncClient service;
+
+    @BeforeEach
+    void init() {
+        client = mock(GlideClient.class);
+        service = new GlideSyncClient(client);
+    }
+
+    @Test
+    @SneakyThrows
+    public void get_waits_for_the_response() {
+        CompletableFuture<String> response = new CompletableFuture<>();
+        when(client.get("key")).thenReturn(response);
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+        try {
+            executor.schedule(() -> response.complete("value"), 50, TimeUnit.MILLISECONDS);
+            assertEquals("value", service.get("key"));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void errors_of_commands_are_thrown_as_is() {
+        RequestException error = new RequestException("WRONGTYPE");
+        when(client.incr("key")).thenReturn(CompletableFuture.failedFuture(error));
+        assertSame(error, assertThrows(RequestException.class, () -> service.incr("key")));
+    }
+
+    @Test
+    public void interrupted_wait_throws_and_keeps_the_interrupt_status() {
+        when(client.ping()).thenReturn(new CompletableFuture<>());
+        Thread.currentThread().interrupt();
+        try {
+            assertThrows(GlideException.class, service::ping);
+            assertTrue(Thread.currentThread().isInterrupted());
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    public void close_closes_the_async_client() {
+        service.close();
+        verify(client).close();
+    }
+}
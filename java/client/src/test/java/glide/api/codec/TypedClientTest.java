@@ -0,0 +1,127 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.api.codec;
+
+import static glide.api.models.GlideString.gs;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import glide.api.BaseClient;
+import glide.api.models.GlideString;
+import glide.api.models.commands.SetOptions;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+public class TypedClientTest {
+
+    private static final Codec<Long> LONG =
+            Codec.of(
+                    value -> ByteBuffer.allocate(Long.BYTES).putLong(value).array(),
+                    bytes -> ByteBuffer.wrap(bytes).getLong());
+
+    BaseClient client;
+
+    TypedClient<String, Long> typed;
+
+    @BeforeEach
+    void init() {
+        client = mock(BaseClient.class);
+        when(client.withCodec(any(), any())).thenCallRealMethod();
+        typed = client.withCodec(Codec.STRING, LONG);
+    }
+
+    private static GlideString encoded(long value) {
+        return gs(LONG.encode(value));
+    }
+
+    @Test
+    @SneakyThrows
+    public void values_are_sent_and_read_as_bytes() {
+        when(client.set(gs("key"), encoded(42))).thenReturn(CompletableFuture.completedFuture("OK"));
+        assertEquals("OK", typed.set("key", 42L).get());
+
+        when(client.get(gs("key"))).thenReturn(CompletableFuture.completedFuture(encoded(42)));
+        when(client.get(gs("missing"))).thenReturn(CompletableFuture.completedFuture(null));
+        assertEquals(42L, typed.get("key").get());
+        assertNull(typed.get("missing").get());
+
+        when(client.mget(new GlideString[] {gs("a"), gs("b")}))
+                .thenReturn(CompletableFuture.completedFuture(new GlideString[] {encoded(1), null}));
+        assertEquals(Arrays.asList(1L, null), typed.mget(List.of("a", "b")).get());
+    }
+
+    @Test
+    @SneakyThrows
+    public void old_values_are_read_as_bytes() {
+        SetOptions options = SetOptions.builder().returnOldValue(true).build();
+        when(client.setGet(gs("key"), encoded(43), options))
+                .thenReturn(CompletableFuture.completedFuture(encoded(42)));
+        assertEquals(42L, typed.setGet("key", 43L, options).get());
+        assertThrows(IllegalArgumentException.class, () -> typed.set("key", 43L, options));
+    }
+
+    @Test
+    @SneakyThrows
+    @SuppressWarnings("unchecked")
+    public void hashes_encode_fields_with_the_key_codec() {
+        Map<String, Long> fields = new LinkedHashMap<>();
+        fields.put("f1", 1L);
+        fields.put("f2", 2L);
+        ArgumentCaptor<Map<GlideString, GlideString>> sent = ArgumentCaptor.forClass(Map.class);
+        when(client.hset(any(GlideString.class), sent.capture()))
+                .thenReturn(CompletableFuture.completedFuture(2L));
+        assertEquals(2L, typed.hset("hash", fields).get());
+        assertArrayEquals(new GlideString[] {gs("f1"), gs("f2")}, sent.getValue().keySet().toArray());
+        assertEquals(encoded(2), sent.getValue().get(gs("f2")));
+
+        when(client.hgetall(gs("hash")))
+                .thenReturn(CompletableFuture.completedFuture(Map.of(gs("f1"), encoded(1))));
+        assertEquals(Map.of("f1", 1L), typed.hgetall("hash").get());
+    }
+
+    @Test
+    @SneakyThrows
+    public void lists_keep_the_order_of_elements() {
+        when(client.rpush(any(GlideString.class), any(GlideString[].class)))
+                .thenReturn(CompletableFuture.completedFuture(3L));
+        typed.rpush("list", List.of(3L, 1L, 2L));
+        verify(client).rpush(gs("list"), new GlideString[] {encoded(3), encoded(1), encoded(2)});
+
+        when(client.lrange(gs("list"), 0, -1))
+                .thenReturn(
+                        CompletableFuture.completedFuture(
+                                new GlideString[] {encoded(3), encoded(1), encoded(2)}));
+        assertEquals(List.of(3L, 1L, 2L), typed.lrange("list", 0, -1).get());
+    }
+
+    @Test
+    @SneakyThrows
+    public void coalesced_replies_are_copied_before_decoding() {
+        when(client.isCoalescingReads()).thenReturn(true);
+        TypedClient<String, byte[]> bytes = client.withCodec(Codec.STRING, Codec.BYTES);
+        // coalesced reads complete with the same reply
+        GlideString reply = gs(new byte[] {1, 2, 3});
+        when(client.get(gs("key"))).thenReturn(CompletableFuture.completedFuture(reply));
+
+        byte[] first = bytes.get("key").get();
+        byte[] second = bytes.get("key").get();
+
+        assertArrayEquals(new byte[] {1, 2, 3}, first);
+        assertNotSame(first, second);
+        assertNotSame(reply.getBytes(), first);
+    }
+}
@@ -0,0 +1,166 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.api.logging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+
+public class AsyncLogWriterTest {
+
+    /** Collects the records written to the sink. */
+    private static class RecordingSink implements AsyncLogWriter.LogSink {
+        final List<String> messages = Collections.synchronizedList(new ArrayList<>());
+        final List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public void logBatch(int[] levels, String[] logIdentifiers, String[] messages, int count) {
+            batchSizes.add(count);
+            for (int i = 0; i < count; i++) {
+                this.messages.add(levels[i] + ":" + logIdentifiers[i] + ":" + messages[i]);
+            }
+        }
+    }
+
+    @Test
+    public void close_flushes_all_records_in_order() {
+        RecordingSink sink = new RecordingSink();
+        AsyncLogWriter writer = new AsyncLogWriter(sink, 1024);
+
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(writer.offer(Logger.Level.INFO.getLevel(), "id", "message" + i));
+        }
+        writer.close();
+
+        assertEquals(1000, sink.messages.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals("2:id:message" + i, sink.messages.get(i));
+        }
+        assertTrue(sink.batchSizes.stream().allMatch(size -> size <= AsyncLogWriter.MAX_BATCH_SIZE));
+        assertEquals(0, writer.getDroppedCount());
+    }
+
+    @SneakyThrows
+    @Test
+    public void full_buffer_drops_and_reports_records() {
+        CountDownLatch sinkBlocked = new CountDownLatch(1);
+        CountDownLatch releaseSink = new CountDownLatch(1);
+        RecordingSink recordingSink = new RecordingSink();
+        AsyncLogWriter writer =
+                new AsyncLogWriter(
+                        (levels, logIdentifiers, messages, count) -> {
+                            sinkBlocked.countDown();
+                            try {
+                                releaseSink.await();
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                            }
+                            recordingSink.logBatch(levels, logIdentifiers, messages, count);
+                        },
+                        4);
+
+        // The first record is taken by the writer thread, which then blocks in the sink.
+        assertTrue(writer.offer(Logger.Level.INFO.getLevel(), "id", "first"));
+        assertTrue(sinkBlocked.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 4; i++) {
+            assertTrue(writer.offer(Logger.Level.INFO.getLevel(), "id", "buffered" + i));
+        }
+        assertFalse(writer.offer(Logger.Level.INFO.getLevel(), "id", "dropped0"));
+        assertFalse(writer.offer(Logger.Level.INFO.getLevel(), "id", "dropped1"));
+        assertEquals(2, writer.getDroppedCount());
+
+        releaseSink.countDown();
+        writer.close();
+
+        assertEquals(6, recordingSink.messages.size());
+        assertEquals("2:id:first", recordingSink.messages.get(0));
+        assertEquals("2:id:buffered3", recordingSink.messages.get(4));
+        assertEquals(
+                "1:AsyncLogWriter:2 log records were dropped because the log buffer was full",
+                recordingSink.messages.get(5));
+        assertFalse(writer.offer(Logger.Level.INFO.getLevel(), "id", "after close"));
+    }
+
+    @SneakyThrows
+    @Test
+    public void concurrent_producers_lose_no_records() {
+        RecordingSink sink = new RecordingSink();
+        AsyncLogWriter writer = new AsyncLogWriter(sink, 1 << 16);
+        int producers = 4;
+        int recordsPerProducer = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch done = new CountDownLatch(producers);
+
+        for (int p = 0; p < producers; p++) {
+            String identifier = "producer" + p;
+            executor.execute(
+                    () -> {
+                        for (int i = 0; i < recordsPerProducer; i++) {
+                            writer.offer(Logger.Level.DEBUG.getLevel(), identifier, Integer.toString(i));
+                        }
+                        done.countDown();
+                    });
+        }
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        executor.shutdown();
+        writer.close();
+
+        assertEquals(0, writer.getDroppedCount());
+        assertEquals(producers * recordsPerProducer, sink.messages.size());
+        for (int p = 0; p < producers; p++) {
+            // Records of a single producer keep their order.
+            String prefix = "3:producer" + p + ":";
+            int expected = 0;
+            for (String message : sink.messages) {
+                if (message.startsWith(prefix)) {
+                    assertEquals(prefix + expected++, message);
+                }
+            }
+            assertEquals(recordsPerProducer, expected);
+        }
+    }
+
+    @SneakyThrows
+    @Test
+    public void records_offered_while_closing_are_written_or_counted_as_dropped() {
+        RecordingSink sink = new RecordingSink();
+        AsyncLogWriter writer = new AsyncLogWriter(sink, 1 << 16);
+        int producers = 4;
+        int recordsPerProducer = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch started = new CountDownLatch(producers);
+
+        for (int p = 0; p < producers; p++) {
+            executor.execute(
+                    () -> {
+                        started.countDown();
+                        for (int i = 0; i < recordsPerProducer; i++) {
+                            writer.offer(Logger.Level.DEBUG.getLevel(), "producer", Integer.toString(i));
+                        }
+                    });
+        }
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+        writer.close();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        long written =
+                sink.messages.stream().filter(message -> message.startsWith("3:producer")).count();
+        assertEquals(producers * recordsPerProducer, written + writer.getDroppedCount());
+    }
+
+    @Test
+    public void capacity_must_be_positive() {
+        assertThrows(IllegalArgumentException.class, () -> new AsyncLogWriter((l, i, m, c) -> {}, 0));
+    }
+}
@@ -0,0 +1,215 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.api.scan;
+
+import static glide.api.models.GlideString.gs;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import glide.api.models.GlideString;
+import glide.api.models.commands.scan.ClusterScanCheckpoint;
+import glide.api.models.commands.scan.ParallelScanOptions;
+import glide.api.models.exceptions.RequestException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ParallelClusterScanTest {
+
+    /** Pending SCAN requests, completed by the tests. */
+    List<Request> requests;
+
+    /** The pages of every primary, by cursor. */
+    Map<String, Map<String, Object[]>> pages;
+
+    static class Request {
+        final String address;
+        final GlideString cursor;
+        final CompletableFuture<Object[]> response = new CompletableFuture<>();
+
+        Request(String address, GlideString cursor) {
+            this.address = address;
+            this.cursor = cursor;
+        }
+    }
+
+    @BeforeEach
+    void init() {
+        requests = new ArrayList<>();
+        pages = new HashMap<>();
+        // Every primary has 3 pages of 2 keys
+        for (String address : List.of("a:1", "b:2", "c:3")) {
+            Map<String, Object[]> shardPages = new HashMap<>();
+            shardPages.put("0", page("10", address, 0));
+            shardPages.put("10", page("20", address, 1));
+            shardPages.put("20", page("0", address, 2));
+            pages.put(address, shardPages);
+        }
+    }
+
+    private static Object[] page(String nextCursor, String address, int page) {
+        return new Object[] {
+            gs(nextCursor), new Object[] {gs(address + "/" + page + "a"), gs(address + "/" + page + "b")}
+        };
+    }
+
+    private ParallelClusterScan scan(ParallelScanOptions options) {
+        return new ParallelClusterScan(
+                CompletableFuture.completedFuture(List.of("a:1", "b:2", "c:3")),
+                (address, cursor) -> {
+                    Request request = new Request(address, cursor);
+                    synchronized (requests) {
+                        requests.add(request);
+                    }
+                    return request.response;
+                },
+                options);
+    }
+
+    /** Completes the pending requests in order. */
+    private void respond(int count) {
+        for (int i = 0; i < count; i++) {
+            Request request;
+            synchronized (requests) {
+                request = requests.stream().filter(r -> !r.response.isDone()).findFirst().get();
+            }
+            request.response.complete(pages.get(request.address).get(request.cursor.toString()));
+        }
+    }
+
+    private long pendingRequests() {
+        synchronized (requests) {
+            return requests.stream().filter(r -> !r.response.isDone()).count();
+        }
+    }
+
+    /** A scan whose requests are answered as soon as they're sent. */
+    private ParallelClusterScan immediateScan(ParallelScanOptions options) {
+        return new ParallelClusterScan(
+                CompletableFuture.completedFuture(List.of("a:1", "b:2", "c:3")),
+                (address, cursor) ->
+                        CompletableFuture.completedFuture(pages.get(address).get(cursor.toString())),
+                options);
+    }
+
+    @Test
+    public void scan_returns_keys_of_all_primaries() {
+        Set<GlideString> keys;
+        try (Stream<GlideString> stream =
+                immediateScan(ParallelScanOptions.builder().build()).stream()) {
+            keys = stream.collect(Collectors.toSet());
+        }
+
+        assertEquals(18, keys.size());
+        assertTrue(keys.contains(gs("b:2/1a")));
+    }
+
+    @Test
+    public void scan_limits_pending_requests_and_prefetched_pages() {
+        ParallelClusterScan scan =
+                scan(ParallelScanOptions.builder().parallelism(2).prefetchPages(3).build());
+
+        // parallelism
+        assertEquals(2, pendingRequests());
+        respond(2);
+        // one more request fits in the prefetched pages
+        assertEquals(1, pendingRequests());
+        respond(1);
+        assertEquals(0, pendingRequests());
+
+        // taking a page frees room for the next one
+        Spliterator<GlideString> keys = scan.spliterator();
+        keys.tryAdvance(key -> {});
+        assertEquals(1, pendingRequests());
+        keys.tryAdvance(key -> {});
+        assertEquals(1, pendingRequests());
+        scan.close();
+    }
+
+    @Test
+    public void scan_reports_progress_and_resumes_from_checkpoint() {
+        ParallelClusterScan scan =
+                immediateScan(ParallelScanOptions.builder().parallelism(1).prefetchPages(1).build());
+        Iterator<GlideString> keys = Spliterators.iterator(scan.spliterator());
+        List<GlideString> consumed = new ArrayList<>();
+        // 4 pages, plus the first key of the 5th page
+        for (int i = 0; i < 9; i++) {
+            consumed.add(keys.next());
+        }
+
+        Map<String, ShardScanProgress> progress = scan.getProgress();
+        assertEquals(Set.of("a:1", "b:2", "c:3"), progress.keySet());
+        assertEquals(4, progress.values().stream().mapToLong(ShardScanProgress::getPages).sum());
+        assertEquals(8, progress.values().stream().mapToLong(ShardScanProgress::getKeys).sum());
+
+        ClusterScanCheckpoint checkpoint = ClusterScanCheckpoint.decode(scan.checkpoint().encode());
+        assertEquals(scan.checkpoint(), checkpoint);
+        assertFalse(checkpoint.isFinished());
+        scan.close();
+
+        List<GlideString> resumed;
+        try (Stream<GlideString> stream =
+                immediateScan(ParallelScanOptions.builder().checkpoint(checkpoint).build()).stream()) {
+            resumed = stream.collect(Collectors.toList());
+        }
+        // the keys of the page which was partially consumed are returned again
+        assertEquals(10, resumed.size());
+        Set<GlideString> all = consumed.stream().collect(Collectors.toSet());
+        all.addAll(resumed);
+        assertEquals(18, all.size());
+    }
+
+    @Test
+    public void scan_checkpoint_marks_finished_primaries() {
+        ParallelClusterScan scan = immediateScan(ParallelScanOptions.builder().build());
+        assertEquals(18, scan.stream().count());
+
+        ClusterScanCheckpoint checkpoint = scan.checkpoint();
+        assertTrue(checkpoint.isFinished());
+        assertEquals(
+                0,
+                immediateScan(ParallelScanOptions.builder().checkpoint(checkpoint).build()).stream()
+                        .count());
+    }
+
+    @Test
+    public void scan_fails_when_a_request_fails() {
+        var error = new RequestException("failed");
+        ParallelClusterScan scan =
+                new ParallelClusterScan(
+                        CompletableFuture.completedFuture(List.of("a:1")),
+                        (address, cursor) -> CompletableFuture.failedFuture(error),
+                        ParallelScanOptions.builder().build());
+
+        assertSame(error, assertThrows(RequestException.class, () -> scan.stream().count()));
+    }
+
+    @Test
+    @SneakyThrows
+    public void scan_keys_can_be_consumed_once() {
+        ParallelClusterScan scan = immediateScan(ParallelScanOptions.builder().build());
+        scan.spliterator();
+        assertThrows(IllegalStateException.class, scan::stream);
+    }
+
+    @Test
+    public void checkpoint_decode_rejects_invalid_input() {
+        assertThrows(IllegalArgumentException.class, () -> ClusterScanCheckpoint.decode("a:1"));
+        assertEquals(
+                Map.of("a:1", "10", "b:2", ClusterScanCheckpoint.FINISHED),
+                ClusterScanCheckpoint.decode("a:1=10,b:2=finished").getCursors());
+    }
+}
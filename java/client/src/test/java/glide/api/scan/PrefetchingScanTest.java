@@ -0,0 +1,200 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.api.scan;
+
+import static glide.api.models.GlideString.gs;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import glide.api.models.GlideString;
+import glide.api.models.commands.scan.ScanStreamOptions;
+import glide.api.models.exceptions.RequestException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class PrefetchingScanTest {
+
+    /** Scan requests, completed by the tests. */
+    List<Request> requests;
+
+    static class Request {
+        final GlideString cursor;
+        final long count;
+        final CompletableFuture<Object[]> response = new CompletableFuture<>();
+
+        Request(GlideString cursor, long count) {
+            this.cursor = cursor;
+            this.count = count;
+        }
+    }
+
+    @BeforeEach
+    void init() {
+        requests = new ArrayList<>();
+    }
+
+    private PrefetchingScan<GlideString> scan(ScanStreamOptions options) {
+        return new PrefetchingScan<>(
+                (cursor, count) -> {
+                    Request request = new Request(cursor, count);
+                    requests.add(request);
+                    return request.response;
+                },
+                PrefetchingScan::decodeElements,
+                options);
+    }
+
+    private static Object[] page(String nextCursor, String... elements) {
+        Object[] page = new Object[elements.length];
+        for (int i = 0; i < elements.length; i++) {
+            page[i] = gs(elements[i]);
+        }
+        return new Object[] {gs(nextCursor), page};
+    }
+
+    @Test
+    public void scan_requests_next_page_while_current_is_consumed() {
+        PrefetchingScan<GlideString> scan = scan(ScanStreamOptions.builder().build());
+        assertEquals(0, requests.size());
+        Spliterator<GlideString> elements = scan.spliterator();
+        assertEquals(1, requests.size());
+        assertEquals(gs("0"), requests.get(0).cursor);
+
+        // the buffer is full until the page is taken
+        requests.get(0).response.complete(page("5", "a", "b"));
+        assertEquals(1, requests.size());
+
+        List<GlideString> consumed = new ArrayList<>();
+        elements.tryAdvance(consumed::add);
+        assertEquals(2, requests.size());
+        assertEquals(gs("5"), requests.get(1).cursor);
+
+        requests.get(1).response.complete(page("0", "c"));
+        elements.forEachRemaining(consumed::add);
+        assertEquals(List.of(gs("a"), gs("b"), gs("c")), consumed);
+        assertEquals(2, requests.size());
+    }
+
+    @Test
+    public void scan_adapts_count_to_target_latency() {
+        ScanStreamOptions options =
+                ScanStreamOptions.builder()
+                        .count(100)
+                        .minCount(50)
+                        .maxCount(400)
+                        .targetPageLatencyMillis(60_000L)
+                        .build();
+        int[] pages = {0};
+        PrefetchingScan<GlideString> fast =
+                new PrefetchingScan<>(
+                        (cursor, count) ->
+                                CompletableFuture.completedFuture(
+                                        page(++pages[0] < 4 ? String.valueOf(pages[0]) : "0", "a")),
+                        PrefetchingScan::decodeElements,
+                        options);
+        assertEquals(4, fast.stream().count());
+        // doubled after every page, up to the maximum
+        assertEquals(400, fast.getCount());
+
+        PrefetchingScan<GlideString> slow =
+                scan(
+                        ScanStreamOptions.builder()
+                                .count(100)
+                                .minCount(50)
+                                .targetPageLatencyMillis(0L)
+                                .build());
+        Spliterator<GlideString> elements = slow.spliterator();
+        requests.get(0).response.complete(page("1", "a"));
+        elements.tryAdvance(element -> {});
+        assertEquals(50, requests.get(1).count);
+        requests.get(1).response.complete(page("0", "b"));
+        elements.tryAdvance(element -> {});
+        // halved, down to the minimum
+        assertEquals(50, slow.getCount());
+    }
+
+    @Test
+    public void scan_keeps_count_without_target_latency() {
+        PrefetchingScan<GlideString> scan = scan(ScanStreamOptions.builder().count(25).build());
+        Spliterator<GlideString> elements = scan.spliterator();
+        requests.get(0).response.complete(page("1", "a"));
+        elements.tryAdvance(element -> {});
+        assertEquals(25, requests.get(1).count);
+    }
+
+    @Test
+    public void scan_ends_on_null_result() {
+        Spliterator<GlideString> elements = scan(ScanStreamOptions.builder().build()).spliterator();
+        requests.get(0).response.complete(null);
+        assertFalse(elements.tryAdvance(element -> {}));
+    }
+
+    @Test
+    public void scan_fails_when_a_request_fails() {
+        var error = new RequestException("failed");
+        Spliterator<GlideString> elements = scan(ScanStreamOptions.builder().build()).spliterator();
+        requests.get(0).response.completeExceptionally(error);
+        assertSame(
+                error, assertThrows(RequestException.class, () -> elements.tryAdvance(element -> {})));
+    }
+
+    @Test
+    public void scan_stops_requesting_pages_when_closed() {
+        PrefetchingScan<GlideString> scan = scan(ScanStreamOptions.builder().build());
+        Spliterator<GlideString> elements = scan.spliterator();
+        scan.close();
+        requests.get(0).response.complete(page("5", "a"));
+        assertFalse(elements.tryAdvance(element -> {}));
+        assertEquals(1, requests.size());
+    }
+
+    @Test
+    public void scan_elements_are_consumed_only_once() {
+        PrefetchingScan<GlideString> scan = scan(ScanStreamOptions.builder().build());
+        Stream<GlideString> stream = scan.stream();
+        assertEquals(0, requests.size());
+        scan.spliterator();
+        assertThrows(IllegalStateException.class, scan::spliterator);
+        assertThrows(IllegalStateException.class, stream::count);
+        assertEquals(1, requests.size());
+    }
+
+    @Test
+    public void options_create_arguments() {
+        ScanStreamOptions options = ScanStreamOptions.builder().matchPattern(gs("a*")).build();
+        assertEquals(
+                List.of(gs("MATCH"), gs("a*"), gs("COUNT"), gs("20")), List.of(options.toArgs(20, true)));
+        assertEquals(
+                List.of(gs("COUNT"), gs("10")),
+                List.of(ScanStreamOptions.builder().build().toArgs(10, false)));
+    }
+
+    @Test
+    public void decoders_create_typed_elements() {
+        Object[] elements = {gs("a"), gs("1.5"), gs("b"), gs("2")};
+        assertEquals(
+                List.of(gs("a"), gs("1.5"), gs("b"), gs("2")),
+                toList(PrefetchingScan.decodeElements(elements)));
+        assertEquals(
+                List.of(Map.entry(gs("a"), gs("1.5")), Map.entry(gs("b"), gs("2"))),
+                toList(PrefetchingScan.decodePairs(elements)));
+        assertEquals(
+                List.of(Map.entry(gs("a"), 1.5), Map.entry(gs("b"), 2.0)),
+                toList(PrefetchingScan.decodeScoredMembers(elements)));
+    }
+
+    private static <T> List<T> toList(PrefetchingScan.Page<T> page) {
+        List<T> elements = new ArrayList<>();
+        for (int i = 0; i < page.size(); i++) {
+            elements.add(page.get(i));
+        }
+        return elements;
+    }
+}
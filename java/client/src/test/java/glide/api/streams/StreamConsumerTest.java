@@ -0,0 +1,225 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.api.streams;
+
+import static glide.api.models.GlideString.gs;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import glide.api.commands.StreamBaseCommands;
+import glide.api.models.GlideString;
+import glide.api.models.StreamEntry;
+import glide.api.models.commands.stream.StreamReadGroupOptions;
+import glide.api.models.configuration.StreamConsumerConfiguration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+public class StreamConsumerTest {
+
+    private static final GlideString KEY = gs("stream");
+    private static final GlideString GROUP = gs("group");
+    private static final GlideString CONSUMER = gs("consumer");
+
+    StreamBaseCommands client;
+
+    List<StreamEntry> handled;
+
+    @BeforeEach
+    void init() {
+        client = mock(StreamBaseCommands.class);
+        handled = new CopyOnWriteArrayList<>();
+        when(client.xack(any(GlideString.class), any(GlideString.class), any(GlideString[].class)))
+                .thenAnswer(
+                        invocation ->
+                                CompletableFuture.completedFuture(
+                                        (long) invocation.getArgument(2, GlideString[].class).length));
+    }
+
+    private StreamConsumerConfiguration.StreamConsumerConfigurationBuilder config() {
+        return StreamConsumerConfiguration.builder()
+                .key(KEY)
+                .group(GROUP)
+                .consumer(CONSUMER)
+                .handler(handled::add)
+                .executor(Runnable::run)
+                .claimMinIdleMillis(null)
+                .ackFlushIntervalMillis(60_000);
+    }
+
+    private static Map<GlideString, Map<GlideString, GlideString[][]>> readResult(String... ids) {
+        Map<GlideString, GlideString[][]> entries = new LinkedHashMap<>();
+        for (String id : ids) {
+            entries.put(gs(id), new GlideString[][] {{gs("field"), gs("value-" + id)}});
+        }
+        return Map.of(KEY, entries);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubReads(
+            CompletableFuture<Map<GlideString, Map<GlideString, GlideString[][]>>> first,
+            CompletableFuture<Map<GlideString, Map<GlideString, GlideString[][]>>>... next) {
+        when(client.xreadgroup(
+                        anyMap(),
+                        any(GlideString.class),
+                        any(GlideString.class),
+                        any(StreamReadGroupOptions.class)))
+                .thenReturn(first, next);
+    }
+
+    private Set<GlideString> acknowledgedIds() {
+        ArgumentCaptor<GlideString[]> ids = ArgumentCaptor.forClass(GlideString[].class);
+        verify(client, atLeast(0)).xack(eq(KEY), eq(GROUP), ids.capture());
+        return ids.getAllValues().stream().flatMap(Arrays::stream).collect(Collectors.toSet());
+    }
+
+    @Test
+    @SneakyThrows
+    public void consumer_processes_and_acknowledges_entries_in_batch() {
+        stubReads(
+                CompletableFuture.completedFuture(readResult("1-0", "2-0", "3-0")),
+                new CompletableFuture<>());
+
+        StreamConsumer consumer = new StreamConsumer(client, config().build());
+        consumer.start();
+
+        assertEquals(3, handled.size());
+        StreamEntry entry = handled.stream().filter(e -> e.getId().equals(gs("2-0"))).findAny().get();
+        assertEquals(KEY, entry.getKey());
+        assertEquals(1, entry.getFieldCount());
+        assertEquals(gs("value-2-0"), entry.get(gs("field")));
+        verify(client, never()).xack(any(GlideString.class), any(GlideString.class), any());
+
+        consumer.close();
+        verify(client, times(1)).xack(eq(KEY), eq(GROUP), any(GlideString[].class));
+        assertEquals(Set.of(gs("1-0"), gs("2-0"), gs("3-0")), acknowledgedIds());
+        assertEquals(3, consumer.getProcessedCount());
+        assertEquals(3, consumer.getAcknowledgedCount());
+    }
+
+    @Test
+    @SneakyThrows
+    public void consumer_flushes_acknowledgements_when_batch_is_full() {
+        stubReads(
+                CompletableFuture.completedFuture(readResult("1-0", "2-0", "3-0", "4-0")),
+                new CompletableFuture<>());
+
+        StreamConsumer consumer = new StreamConsumer(client, config().maxAckBatchSize(2).build());
+        consumer.start();
+
+        verify(client, times(2)).xack(eq(KEY), eq(GROUP), any(GlideString[].class));
+        assertEquals(4, acknowledgedIds().size());
+        consumer.close();
+    }
+
+    @Test
+    @SneakyThrows
+    public void consumer_stops_reading_at_in_flight_limit() {
+        List<Runnable> queued = new ArrayList<>();
+        stubReads(
+                CompletableFuture.completedFuture(readResult("1-0", "2-0")), new CompletableFuture<>());
+
+        StreamConsumer consumer =
+                new StreamConsumer(
+                        client, config().batchSize(2).maxInFlight(2).executor(queued::add).build());
+        consumer.start();
+
+        assertEquals(2, queued.size());
+        assertEquals(2, consumer.getInFlight());
+        verify(client, times(1))
+                .xreadgroup(anyMap(), any(GlideString.class), any(GlideString.class), any());
+
+        // a batch is read only once there's room for all of it
+        queued.get(0).run();
+        verify(client, times(1))
+                .xreadgroup(anyMap(), any(GlideString.class), any(GlideString.class), any());
+        queued.get(1).run();
+        verify(client, times(2))
+                .xreadgroup(anyMap(), any(GlideString.class), any(GlideString.class), any());
+        assertEquals(0, consumer.getInFlight());
+        consumer.close();
+    }
+
+    @Test
+    @SneakyThrows
+    public void consumer_does_not_acknowledge_failed_entries() {
+        stubReads(
+                CompletableFuture.completedFuture(readResult("1-0", "2-0")), new CompletableFuture<>());
+
+        StreamConsumer consumer =
+                new StreamConsumer(
+                        client,
+                        config()
+                                .handler(
+                                        entry -> {
+                                            if (entry.getId().equals(gs("1-0"))) {
+                                                throw new IllegalStateException("failed");
+                                            }
+                                        })
+                                .build());
+        consumer.start();
+        consumer.close();
+
+        assertEquals(1, consumer.getFailedCount());
+        assertEquals(Set.of(gs("2-0")), acknowledgedIds());
+    }
+
+    @Test
+    @SneakyThrows
+    public void consumer_claims_idle_pending_entries() {
+        stubReads(new CompletableFuture<>());
+        Map<GlideString, Object> claimed = new LinkedHashMap<>();
+        claimed.put(gs("1-0"), new Object[] {new Object[] {gs("f1"), gs("v1")}});
+        // deleted from the stream while pending
+        claimed.put(gs("2-0"), null);
+        when(client.xautoclaim(
+                        eq(KEY), eq(GROUP), eq(CONSUMER), anyLong(), any(GlideString.class), anyLong()))
+                .thenReturn(
+                        CompletableFuture.completedFuture(
+                                new Object[] {gs("0-0"), claimed, new Object[] {gs("2-0")}}));
+        CountDownLatch latch = new CountDownLatch(1);
+
+        StreamConsumer consumer =
+                new StreamConsumer(
+                        client,
+                        config()
+                                .claimMinIdleMillis(1000L)
+                                .handler(
+                                        entry -> {
+                                            handled.add(entry);
+                                            latch.countDown();
+                                        })
+                                .build());
+        consumer.start();
+
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        consumer.close();
+        verify(client).xautoclaim(KEY, GROUP, CONSUMER, 1000L, gs("0-0"), 100L);
+        assertEquals(1, handled.size());
+        assertArrayEquals(new GlideString[] {gs("f1"), gs("v1")}, handled.get(0).getFieldsAndValues());
+        assertEquals(1, consumer.getClaimedCount());
+        assertEquals(Set.of(gs("1-0")), acknowledgedIds());
+    }
+}
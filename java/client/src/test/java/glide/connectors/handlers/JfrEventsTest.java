@@ -0,0 +1,244 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.connectors.handlers;
+
+import static command_request.CommandRequestOuterClass.RequestType.Get;
+import static command_request.CommandRequestOuterClass.RequestType.Ping;
+import static glide.api.models.GlideString.gs;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import command_request.CommandRequestOuterClass.Command;
+import command_request.CommandRequestOuterClass.CommandRequest;
+import command_request.CommandRequestOuterClass.RequestType;
+import connection_request.ConnectionRequestOuterClass.ConnectionRequest;
+import glide.api.models.configuration.GlideClientConfiguration;
+import glide.api.models.configuration.NodeAddress;
+import glide.connectors.resources.Platform;
+import glide.managers.BaseResponseResolver;
+import glide.managers.ConnectionManager;
+import glide.utils.RustCoreMock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import response.ResponseOuterClass.Response;
+
+/** Tests for JFR events emitted by the handlers. */
+public class JfrEventsTest {
+
+    /** How long the mocked core takes to reply to {@link RequestType#Get}, in milliseconds. */
+    private static final long SLOW_COMMAND_MILLIS = 100;
+
+    private static List<RecordedEvent> record(String eventName, Runnable action) {
+        return record(eventName, false, action);
+    }
+
+    /**
+     * Records the events of an action, until the first one arrives. Events are committed by callbacks
+     * of the response futures, which may run after the action returns, on another thread.
+     *
+     * @param eventName The name of the events to record.
+     * @param defaultThreshold Whether to keep the threshold of the event. Otherwise, every event is
+     *     recorded.
+     * @param action The action.
+     * @return The events recorded.
+     */
+    @SneakyThrows
+    private static List<RecordedEvent> record(
+            String eventName, boolean defaultThreshold, Runnable action) {
+        try (var recording = new Recording()) {
+            if (defaultThreshold) {
+                recording.enable(eventName);
+            } else {
+                recording.enable(eventName).withoutThreshold();
+            }
+            recording.start();
+            action.run();
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            List<RecordedEvent> events = readEvents(recording, eventName);
+            while (events.isEmpty() && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+                events = readEvents(recording, eventName);
+            }
+            return events;
+        }
+    }
+
+    /** Reads the events of a running recording. */
+    @SneakyThrows
+    private static List<RecordedEvent> readEvents(Recording recording, String eventName) {
+        Path file = Files.createTempFile("glide", ".jfr");
+        try {
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file).stream()
+                    .filter(e -> e.getEventType().getName().equals(eventName))
+                    .collect(Collectors.toList());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void closing_error_event_is_recorded() {
+        var dispatcher = new CallbackDispatcher(mock(MessageHandler.class));
+        dispatcher.registerRequest();
+        dispatcher.registerRequest();
+
+        var events = record("glide.ClosingError", () -> dispatcher.distributeClosingException("boom"));
+
+        assertEquals(1, events.size());
+        assertEquals("boom", events.get(0).getString("message"));
+        assertEquals(2, events.get(0).getInt("pendingRequests"));
+    }
+
+    @Test
+    @SneakyThrows
+    public void pubsub_message_event_is_recorded() {
+        var resolver =
+                new BaseResponseResolver(null) {
+                    @Override
+                    public Object apply(Response response) {
+                        return Map.of(
+                                "kind",
+                                MessageHandler.PushKind.Message,
+                                "values",
+                                new byte[][] {gs("channel").getBytes(), gs("message").getBytes()});
+                    }
+                };
+        var handler = new MessageHandler(Optional.empty(), Optional.empty(), resolver);
+
+        var events =
+                record(
+                        "glide.PubSubMessage",
+                        () -> {
+                            try {
+                                handler.handle(null);
+                            } catch (Exception e) {
+                                throw new RuntimeException(e);
+                            }
+                        });
+
+        assertEquals(1, events.size());
+        RecordedEvent event = events.get(0);
+        assertEquals("channel", event.getString("channel"));
+        assertNull(event.getString("pattern"));
+        assertEquals(7, event.getLong("messageBytes"));
+        assertEquals("Queue", event.getString("delivery"));
+        assertNotNull(handler.getQueue().popSync());
+    }
+
+    @SneakyThrows
+    private static ChannelHandler startCore() {
+        String socketPath =
+                RustCoreMock.start(
+                        new RustCoreMock.GlideMockProtobuf() {
+                            @Override
+                            public Response connection(ConnectionRequest request) {
+                                return OK().build();
+                            }
+
+                            @Override
+                            @SneakyThrows
+                            public Response.Builder commandRequest(CommandRequest request) {
+                                if (request.getSingleCommand().getRequestType() == Get) {
+                                    Thread.sleep(SLOW_COMMAND_MILLIS);
+                                }
+                                return OK();
+                            }
+                        });
+        return new ChannelHandler(
+                new CallbackDispatcher(mock(MessageHandler.class)),
+                socketPath,
+                Platform.getThreadPoolResourceSupplier().get());
+    }
+
+    private static CommandRequest.Builder command(RequestType requestType) {
+        return CommandRequest.newBuilder()
+                .setSingleCommand(Command.newBuilder().setRequestType(requestType));
+    }
+
+    @Test
+    @SneakyThrows
+    public void command_event_is_recorded() {
+        ChannelHandler channelHandler = startCore();
+        try {
+            var events = record("glide.Command", () -> channelHandler.write(command(Ping), true).join());
+
+            assertEquals(1, events.size());
+            RecordedEvent event = events.get(0);
+            assertEquals("Ping", event.getString("requestType"));
+            assertEquals(
+                    command(Ping).setCallbackIdx(event.getInt("callbackId")).build().getSerializedSize(),
+                    event.getLong("requestBytes"));
+            assertEquals("Success", event.getString("outcome"));
+        } finally {
+            channelHandler.close();
+            RustCoreMock.stop();
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    public void command_event_keeps_only_slow_commands_by_default() {
+        ChannelHandler channelHandler = startCore();
+        try {
+            // Warms up the channel, so the fast command stays below the threshold
+            channelHandler.write(command(Ping), true).join();
+
+            var events =
+                    record(
+                            "glide.Command",
+                            true,
+                            () -> {
+                                channelHandler.write(command(Ping), true).join();
+                                channelHandler.write(command(Get), true).join();
+                            });
+
+            assertEquals(1, events.size());
+            assertEquals("Get", events.get(0).getString("requestType"));
+            assertTrue(events.get(0).getDuration().toMillis() >= SLOW_COMMAND_MILLIS);
+        } finally {
+            channelHandler.close();
+            RustCoreMock.stop();
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    public void connection_event_is_recorded() {
+        ChannelHandler channelHandler = startCore();
+        try {
+            var configuration =
+                    GlideClientConfiguration.builder()
+                            .address(NodeAddress.builder().host("host1").port(1234).build())
+                            .address(NodeAddress.builder().host("host2").port(5678).build())
+                            .build();
+
+            var events =
+                    record(
+                            "glide.Connection",
+                            () -> new ConnectionManager(channelHandler).connectToValkey(configuration).join());
+
+            assertEquals(1, events.size());
+            RecordedEvent event = events.get(0);
+            assertEquals("host1:1234,host2:5678", event.getString("addresses"));
+            assertFalse(event.getBoolean("clusterMode"));
+            assertEquals("Success", event.getString("outcome"));
+        } finally {
+            channelHandler.close();
+            RustCoreMock.stop();
+        }
+    }
+}
@@ -9,6 +9,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import glide.ffi.resolvers.GlideValueResolver;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -104,6 +105,28 @@ public class FfiTest {
         assertEquals(input, bulkStringValue);
     }
 
+    @Test
+    public void redisValueToDirectBuffer_BulkString() {
+        byte[] bulkString = new byte[] {(byte) 0xCE, (byte) 0xB1, 0, 1};
+        long handle = GlideValueResolver.bytesFromPointer(FfiTest.createLeakedBulkString(bulkString));
+        ByteBuffer buffer = GlideValueResolver.directBufferFromBytes(handle);
+        assertTrue(buffer.isDirect());
+        byte[] content = new byte[buffer.remaining()];
+        buffer.get(content);
+        assertArrayEquals(bulkString, content);
+        GlideValueResolver.releaseBytes(handle);
+
+        long empty = GlideValueResolver.bytesFromPointer(FfiTest.createLeakedBulkString(new byte[0]));
+        assertEquals(0, GlideValueResolver.directBufferFromBytes(empty).capacity());
+        GlideValueResolver.releaseBytes(empty);
+    }
+
+    @Test
+    public void redisValueToDirectBuffer_rejects_non_strings() {
+        long ptr = FfiTest.createLeakedInt(1);
+        assertThrows(Exception.class, () -> GlideValueResolver.bytesFromPointer(ptr));
+    }
+
     @Test
     public void redisValueToJavaValue_Array() {
         long[] array = {1L, 2L, 3L};
@@ -0,0 +1,185 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.ffi.resolvers;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class NativeUtilsTest {
+
+    // Any resource works to exercise the cache, loading it as a library is expected to fail.
+    private static final String RESOURCE = "/glide/ffi/resolvers/NativeUtils.class";
+
+    /** A resource with a manifest, like the libraries packaged in the JAR. */
+    private static final String RESOURCE_WITH_MANIFEST = "/glide/ffi/resolvers/libfake.txt";
+
+    /** A resource whose manifest describes different content. */
+    private static final String RESOURCE_WITH_WRONG_MANIFEST = "/glide/ffi/resolvers/libmismatch.txt";
+
+    private Path cacheDir;
+
+    @BeforeEach
+    @SneakyThrows
+    public void setUp() {
+        cacheDir = Files.createTempDirectory("glide-cache-test");
+    }
+
+    @AfterEach
+    @SneakyThrows
+    public void tearDown() {
+        try (Stream<Path> paths = Files.walk(cacheDir)) {
+            paths.map(Path::toFile).sorted((a, b) -> b.compareTo(a)).forEach(File::delete);
+        }
+    }
+
+    @SneakyThrows
+    private static byte[] resourceContent() {
+        return resourceContent(RESOURCE);
+    }
+
+    @SneakyThrows
+    private static byte[] resourceContent(String resource) {
+        try (InputStream is = NativeUtils.class.getResourceAsStream(resource)) {
+            return is.readAllBytes();
+        }
+    }
+
+    @SneakyThrows
+    private List<Path> cachedFiles() {
+        try (Stream<Path> paths = Files.walk(cacheDir)) {
+            return paths.filter(Files::isRegularFile).collect(Collectors.toList());
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    public void loadLibraryFromJarCached_installs_library_keyed_by_content_hash() {
+        assertThrows(
+                UnsatisfiedLinkError.class,
+                () -> NativeUtils.loadLibraryFromJarCached(RESOURCE, cacheDir.toFile()));
+
+        List<Path> files = cachedFiles();
+        assertEquals(1, files.size());
+        Path cached = files.get(0);
+        assertEquals("NativeUtils.class", cached.getFileName().toString());
+        // The directory name is a hex encoded SHA-256 hash
+        assertEquals(64, cached.getParent().getFileName().toString().length());
+        assertEquals(cacheDir, cached.getParent().getParent());
+        assertArrayEquals(resourceContent(), Files.readAllBytes(cached));
+    }
+
+    @Test
+    @SneakyThrows
+    public void loadLibraryFromJarCached_reuses_valid_cached_copy() {
+        assertThrows(
+                UnsatisfiedLinkError.class,
+                () -> NativeUtils.loadLibraryFromJarCached(RESOURCE, cacheDir.toFile()));
+        Path cached = cachedFiles().get(0);
+        FileTime marker = FileTime.fromMillis(1_000_000L);
+        Files.setLastModifiedTime(cached, marker);
+
+        assertThrows(
+                UnsatisfiedLinkError.class,
+                () -> NativeUtils.loadLibraryFromJarCached(RESOURCE, cacheDir.toFile()));
+
+        assertEquals(List.of(cached), cachedFiles());
+        assertEquals(marker, Files.getLastModifiedTime(cached));
+    }
+
+    @Test
+    @SneakyThrows
+    public void loadLibraryFromJarCached_replaces_truncated_cached_copy() {
+        assertThrows(
+                UnsatisfiedLinkError.class,
+                () -> NativeUtils.loadLibraryFromJarCached(RESOURCE, cacheDir.toFile()));
+        Path cached = cachedFiles().get(0);
+        byte[] content = resourceContent();
+        Files.write(cached, Arrays.copyOf(content, content.length / 2));
+
+        assertThrows(
+                UnsatisfiedLinkError.class,
+                () -> NativeUtils.loadLibraryFromJarCached(RESOURCE, cacheDir.toFile()));
+
+        assertEquals(List.of(cached), cachedFiles());
+        assertArrayEquals(resourceContent(), Files.readAllBytes(cached));
+    }
+
+    @Test
+    public void loadLibraryFromJarCached_throws_on_missing_resource() {
+        assertThrows(
+                FileNotFoundException.class,
+                () -> NativeUtils.loadLibraryFromJarCached("/libmissing.so", cacheDir.toFile()));
+    }
+
+    @Test
+    @SneakyThrows
+    public void loadLibraryFromJarCached_keys_cache_on_manifest() {
+        assertThrows(
+                UnsatisfiedLinkError.class,
+                () -> NativeUtils.loadLibraryFromJarCached(RESOURCE_WITH_MANIFEST, cacheDir.toFile()));
+
+        Path cached = cachedFiles().get(0);
+        assertEquals(
+                "1e6b62ba51f1b685d844b6b473a7518e5d4630c045f203e3fe3be2ce30b2a174",
+                cached.getParent().getFileName().toString());
+        assertArrayEquals(resourceContent(RESOURCE_WITH_MANIFEST), Files.readAllBytes(cached));
+    }
+
+    @Test
+    public void loadLibraryFromJarCached_rejects_library_not_matching_manifest() {
+        assertThrows(
+                IOException.class,
+                () ->
+                        NativeUtils.loadLibraryFromJarCached(RESOURCE_WITH_WRONG_MANIFEST, cacheDir.toFile()));
+        assertEquals(List.of(), cachedFiles());
+    }
+
+    @Test
+    @SneakyThrows
+    public void loadLibraryFromJarCached_creates_private_cache_directory() {
+        Path newCacheDir = cacheDir.resolve("nested").resolve("cache");
+        assertThrows(
+                UnsatisfiedLinkError.class,
+                () -> NativeUtils.loadLibraryFromJarCached(RESOURCE, newCacheDir.toFile()));
+
+        assertEquals(
+                "rwx------", PosixFilePermissions.toString(Files.getPosixFilePermissions(newCacheDir)));
+    }
+
+    @Test
+    @SneakyThrows
+    public void loadLibraryFromJarCached_rejects_cache_directory_writable_by_others() {
+        Files.setPosixFilePermissions(cacheDir, PosixFilePermissions.fromString("rwxrwxrwx"));
+
+        assertThrows(
+                IOException.class, () -> NativeUtils.loadLibraryFromJarCached(RESOURCE, cacheDir.toFile()));
+        assertEquals(List.of(), cachedFiles());
+    }
+
+    @Test
+    @SneakyThrows
+    public void loadLibraryFromJarCached_rejects_symbolic_link_to_cache_directory() {
+        Path link = Files.createSymbolicLink(cacheDir.resolve("link"), cacheDir);
+
+        assertThrows(
+                IOException.class, () -> NativeUtils.loadLibraryFromJarCached(RESOURCE, link.toFile()));
+        assertEquals(List.of(), cachedFiles());
+    }
+}
@@ -0,0 +1,268 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.managers;
+
+import static command_request.CommandRequestOuterClass.RequestType.BLPop;
+import static command_request.CommandRequestOuterClass.RequestType.BZPopMin;
+import static command_request.CommandRequestOuterClass.RequestType.Get;
+import static command_request.CommandRequestOuterClass.RequestType.XRead;
+import static command_request.CommandRequestOuterClass.RequestType.XReadGroup;
+import static glide.api.models.GlideString.gs;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.protobuf.ByteString;
+import command_request.CommandRequestOuterClass.Command;
+import command_request.CommandRequestOuterClass.Command.ArgsArray;
+import command_request.CommandRequestOuterClass.CommandRequest;
+import glide.api.models.GlideString;
+import glide.api.models.exceptions.ClosingException;
+import glide.connectors.handlers.ChannelHandler;
+import glide.managers.BlockingConnectionPool.BlockingConnection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import response.ResponseOuterClass.Response;
+
+public class BlockingConnectionPoolTest {
+
+    List<BlockingConnection> created;
+
+    @BeforeEach
+    void init() {
+        created = new ArrayList<>();
+    }
+
+    private CompletableFuture<BlockingConnection> createConnection() {
+        ChannelHandler channel = mock(ChannelHandler.class);
+        ConnectionManager connectionManager = mock(ConnectionManager.class);
+        when(connectionManager.closeConnection()).thenReturn(CompletableFuture.completedFuture(null));
+        CommandManager commandManager = mock(CommandManager.class);
+        BlockingConnection connection =
+                new BlockingConnection(channel, connectionManager, commandManager);
+        created.add(connection);
+        return CompletableFuture.completedFuture(connection);
+    }
+
+    @Test
+    public void isBlockingCommand_detects_blocking_commands() {
+        assertTrue(BlockingConnectionPool.isBlockingCommand(BLPop, new String[] {"key", "0"}));
+        assertTrue(BlockingConnectionPool.isBlockingCommand(BZPopMin, new GlideString[] {gs("key")}));
+        assertTrue(
+                BlockingConnectionPool.isBlockingCommand(
+                        XRead, new String[] {"block", "100", "STREAMS", "key", "0"}));
+        assertTrue(
+                BlockingConnectionPool.isBlockingCommand(
+                        XReadGroup,
+                        new GlideString[] {
+                            gs("GROUP"), gs("group"), gs("consumer"), gs("BLOCK"), gs("0"), gs("STREAMS")
+                        }));
+        assertFalse(
+                BlockingConnectionPool.isBlockingCommand(XRead, new String[] {"STREAMS", "key", "0"}));
+        assertFalse(BlockingConnectionPool.isBlockingCommand(Get, new String[] {"key"}));
+    }
+
+    @Test
+    public void isBlockingCommand_only_inspects_the_options_of_stream_reads() {
+        // keys and IDs named "block"
+        assertFalse(
+                BlockingConnectionPool.isBlockingCommand(
+                        XRead, new String[] {"COUNT", "10", "STREAMS", "block", "BLOCK", "0", "0"}));
+        // group and consumer named "block"
+        assertFalse(
+                BlockingConnectionPool.isBlockingCommand(
+                        XReadGroup,
+                        new GlideString[] {
+                            gs("GROUP"), gs("block"), gs("block"), gs("NOACK"), gs("STREAMS"), gs("key"), gs(">")
+                        }));
+        assertTrue(
+                BlockingConnectionPool.isBlockingCommand(
+                        XReadGroup,
+                        new String[] {
+                            "GROUP", "block", "consumer", "COUNT", "1", "BLOCK", "0", "STREAMS", "key", ">"
+                        }));
+        assertFalse(
+                BlockingConnectionPool.isBlockingCommand(
+                        CommandRequest.newBuilder()
+                                .setSingleCommand(
+                                        Command.newBuilder()
+                                                .setRequestType(XRead)
+                                                .setArgsArray(
+                                                        ArgsArray.newBuilder()
+                                                                .addArgs(ByteString.copyFromUtf8("STREAMS"))
+                                                                .addArgs(ByteString.copyFromUtf8("block"))
+                                                                .addArgs(ByteString.copyFromUtf8("0"))))));
+    }
+
+    @Test
+    public void constructor_rejects_non_positive_size() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new BlockingConnectionPool(0, this::createConnection));
+    }
+
+    @Test
+    @SneakyThrows
+    public void submit_creates_connections_lazily_up_to_size() {
+        BlockingConnectionPool pool = new BlockingConnectionPool(2, this::createConnection);
+        assertEquals(0, pool.getConnectionCount());
+
+        var first = new CompletableFuture<String>();
+        var second = new CompletableFuture<String>();
+        List<CommandManager> used = new ArrayList<>();
+        CompletableFuture<String> firstResult =
+                pool.submit(
+                        manager -> {
+                            used.add(manager);
+                            return first;
+                        });
+        pool.submit(
+                manager -> {
+                    used.add(manager);
+                    return second;
+                });
+        CompletableFuture<String> third =
+                pool.submit(
+                        manager -> {
+                            used.add(manager);
+                            return CompletableFuture.completedFuture("third");
+                        });
+
+        // the third request waits for a connection
+        assertEquals(2, created.size());
+        assertEquals(2, pool.getConnectionCount());
+        assertEquals(2, used.size());
+        assertFalse(third.isDone());
+
+        // it's sent over the first connection to be released
+        first.complete("first");
+        assertEquals("first", firstResult.get());
+        assertEquals("third", third.get());
+        assertEquals(3, used.size());
+        assertSame(used.get(0), used.get(2));
+        assertEquals(2, created.size());
+    }
+
+    @Test
+    @SneakyThrows
+    public void submit_reuses_idle_connection() {
+        BlockingConnectionPool pool = new BlockingConnectionPool(2, this::createConnection);
+
+        List<CommandManager> used = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            pool.submit(
+                            manager -> {
+                                used.add(manager);
+                                return CompletableFuture.completedFuture(null);
+                            })
+                    .get();
+        }
+
+        assertEquals(1, created.size());
+        assertSame(used.get(0), used.get(2));
+    }
+
+    @Test
+    @SneakyThrows
+    public void submit_discards_closed_connection() {
+        BlockingConnectionPool pool = new BlockingConnectionPool(1, this::createConnection);
+        pool.submit(manager -> CompletableFuture.completedFuture(null)).get();
+        BlockingConnection lost = created.get(0);
+        when(lost.getChannel().isClosed()).thenReturn(true);
+
+        pool.submit(manager -> CompletableFuture.completedFuture(null)).get();
+
+        assertEquals(2, created.size());
+        assertEquals(1, pool.getConnectionCount());
+        verify(lost.getConnectionManager()).closeConnection();
+    }
+
+    @Test
+    @SneakyThrows
+    public void submit_retries_connection_for_waiter_when_connecting_fails() {
+        var failed = new CompletableFuture<BlockingConnection>();
+        BlockingConnectionPool pool =
+                new BlockingConnectionPool(
+                        1, () -> created.isEmpty() && !failed.isDone() ? failed : createConnection());
+
+        CompletableFuture<String> first =
+                pool.submit(manager -> CompletableFuture.completedFuture("first"));
+        CompletableFuture<String> second =
+                pool.submit(manager -> CompletableFuture.completedFuture("second"));
+        failed.completeExceptionally(new ClosingException("Connection refused"));
+
+        ExecutionException exception = assertThrows(ExecutionException.class, first::get);
+        assertInstanceOf(ClosingException.class, exception.getCause());
+        assertEquals("second", second.get());
+        assertEquals(1, created.size());
+    }
+
+    @Test
+    @SneakyThrows
+    public void close_fails_waiters_and_closes_connections() {
+        BlockingConnectionPool pool = new BlockingConnectionPool(1, this::createConnection);
+        pool.submit(manager -> new CompletableFuture<>());
+        CompletableFuture<Object> waiting =
+                pool.submit(manager -> CompletableFuture.completedFuture(null));
+
+        pool.close();
+
+        ExecutionException exception = assertThrows(ExecutionException.class, waiting::get);
+        assertInstanceOf(ClosingException.class, exception.getCause());
+        verify(created.get(0).getConnectionManager()).closeConnection();
+
+        exception =
+                assertThrows(
+                        ExecutionException.class,
+                        () -> pool.submit(manager -> CompletableFuture.completedFuture(null)).get());
+        assertInstanceOf(ClosingException.class, exception.getCause());
+        assertEquals(1, created.size());
+    }
+
+    @Test
+    @SneakyThrows
+    public void commandManager_routes_blocking_commands_to_pool() {
+        ChannelHandler channel = mock(ChannelHandler.class);
+        when(channel.isClosed()).thenReturn(false);
+        ChannelHandler blockingChannel = mock(ChannelHandler.class);
+        when(blockingChannel.isClosed()).thenReturn(false);
+        var response = Response.newBuilder().build();
+        when(blockingChannel.write(any(), anyBoolean()))
+                .thenReturn(CompletableFuture.completedFuture(response));
+        when(channel.write(any(), anyBoolean()))
+                .thenReturn(CompletableFuture.completedFuture(response));
+        BlockingConnectionPool pool =
+                new BlockingConnectionPool(
+                        1,
+                        () ->
+                                CompletableFuture.completedFuture(
+                                        new BlockingConnection(
+                                                blockingChannel,
+                                                mock(ConnectionManager.class),
+                                                new CommandManager(blockingChannel))));
+        CommandManager service =
+                CommandManager.builder().channel(channel).blockingConnectionPool(pool).build();
+
+        assertSame(response, service.submitNewCommand(BLPop, new String[] {"key", "0"}, r -> r).get());
+        verify(blockingChannel, times(1)).write(any(), anyBoolean());
+        verify(channel, never()).write(any(), anyBoolean());
+
+        assertSame(response, service.submitNewCommand(Get, new String[] {"key"}, r -> r).get());
+        verify(blockingChannel, times(1)).write(any(), anyBoolean());
+        verify(channel, times(1)).write(any(), anyBoolean());
+    }
+}
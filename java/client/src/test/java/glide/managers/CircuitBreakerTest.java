@@ -0,0 +1,240 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.managers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import command_request.CommandRequestOuterClass.ByAddressRoute;
+import command_request.CommandRequestOuterClass.CommandRequest;
+import command_request.CommandRequestOuterClass.Routes;
+import glide.api.metrics.CircuitBreakerMetrics;
+import glide.api.metrics.CircuitBreakerMetrics.State;
+import glide.api.models.configuration.CircuitBreakerConfiguration;
+import glide.api.models.exceptions.CircuitBreakerOpenException;
+import glide.api.models.exceptions.ConfigurationError;
+import glide.api.models.exceptions.ConnectionException;
+import glide.api.models.exceptions.RequestException;
+import glide.api.models.exceptions.TimeoutException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import response.ResponseOuterClass.Response;
+import response.ResponseOuterClass.ResponseTimings;
+
+public class CircuitBreakerTest {
+
+    private static final CircuitBreakerConfiguration CONFIG =
+            CircuitBreakerConfiguration.builder().failureThreshold(2).openDurationMillis(100).build();
+
+    /** Requests which were sent, completed by the tests. */
+    List<CompletableFuture<Response>> sent;
+
+    /** The time of the breaker, in nanoseconds. */
+    long now;
+
+    @BeforeEach
+    void init() {
+        sent = new ArrayList<>();
+        now = 0;
+    }
+
+    private CircuitBreaker breaker(boolean singleNode) {
+        return new CircuitBreaker(CONFIG, singleNode, () -> now);
+    }
+
+    private static CommandRequest.Builder routedTo(String host, int port) {
+        return CommandRequest.newBuilder()
+                .setRoute(
+                        Routes.newBuilder()
+                                .setByAddressRoute(ByAddressRoute.newBuilder().setHost(host).setPort(port)));
+    }
+
+    private CompletableFuture<Response> submit(
+            CircuitBreaker breaker, CommandRequest.Builder command) {
+        return breaker.submit(
+                command,
+                () -> {
+                    var response = new CompletableFuture<Response>();
+                    sent.add(response);
+                    return response;
+                });
+    }
+
+    private static void assertFailsFast(CompletableFuture<Response> response, String address) {
+        var error = assertThrows(ExecutionException.class, response::get);
+        assertTrue(error.getCause() instanceof CircuitBreakerOpenException);
+        assertEquals(address, ((CircuitBreakerOpenException) error.getCause()).getAddress());
+    }
+
+    @Test
+    public void requests_ask_core_to_report_their_node() {
+        CommandRequest.Builder command = CommandRequest.newBuilder();
+        submit(breaker(false), command);
+        assertTrue(command.getReportNode());
+    }
+
+    @Test
+    public void breaker_opens_after_failures_in_a_row_and_fails_fast() {
+        CircuitBreaker breaker = breaker(false);
+        submit(breaker, routedTo("a", 1));
+        submit(breaker, routedTo("a", 1));
+        sent.get(0).completeExceptionally(new TimeoutException("timed out", "a:1"));
+        assertEquals(State.CLOSED, breaker.getMetrics().get("a:1").getState());
+        sent.get(1).completeExceptionally(new ConnectionException("disconnected", "a:1"));
+
+        assertFailsFast(submit(breaker, routedTo("a", 1)), "a:1");
+        assertEquals(2, sent.size());
+        CircuitBreakerMetrics metrics = breaker.getMetrics().get("a:1");
+        assertEquals(State.OPEN, metrics.getState());
+        assertEquals(2, metrics.getConsecutiveFailures());
+        assertEquals(1, metrics.getOpenings());
+        assertEquals(1, metrics.getRejectedRequests());
+
+        // other nodes are not affected
+        submit(breaker, routedTo("b", 2));
+        assertEquals(3, sent.size());
+    }
+
+    @Test
+    public void half_open_breaker_sends_trial_requests() {
+        CircuitBreaker breaker = breaker(false);
+        for (int i = 0; i < 2; i++) {
+            submit(breaker, routedTo("a", 1));
+            sent.get(i).completeExceptionally(new TimeoutException("timed out", "a:1"));
+        }
+
+        now = TimeUnit.MILLISECONDS.toNanos(100);
+        assertEquals(State.HALF_OPEN, breaker.getMetrics().get("a:1").getState());
+        submit(breaker, routedTo("a", 1));
+        assertEquals(3, sent.size());
+        // a single trial at a time
+        assertFailsFast(submit(breaker, routedTo("a", 1)), "a:1");
+
+        // a failed trial opens the breaker again
+        sent.get(2).completeExceptionally(new TimeoutException("timed out", "a:1"));
+        assertEquals(State.OPEN, breaker.getMetrics().get("a:1").getState());
+        assertEquals(2, breaker.getMetrics().get("a:1").getOpenings());
+        assertFailsFast(submit(breaker, routedTo("a", 1)), "a:1");
+
+        // a successful trial closes it
+        now += TimeUnit.MILLISECONDS.toNanos(100);
+        submit(breaker, routedTo("a", 1));
+        sent.get(3).complete(Response.newBuilder().build());
+        assertEquals(State.CLOSED, breaker.getMetrics().get("a:1").getState());
+        submit(breaker, routedTo("a", 1));
+        submit(breaker, routedTo("a", 1));
+        assertEquals(6, sent.size());
+    }
+
+    @Test
+    public void single_node_client_learns_the_node_from_failures() {
+        CircuitBreaker breaker = breaker(true);
+        CommandRequest.Builder command = CommandRequest.newBuilder();
+        submit(breaker, command);
+        submit(breaker, command);
+        sent.get(0).completeExceptionally(new TimeoutException("timed out", "primary:6379"));
+        sent.get(1).completeExceptionally(new TimeoutException("timed out", "primary:6379"));
+
+        assertFailsFast(submit(breaker, command), "primary:6379");
+        assertEquals(2, sent.size());
+
+        // without a single node, the node of unrouted requests isn't known
+        CircuitBreaker cluster = breaker(false);
+        for (int i = 0; i < 3; i++) {
+            submit(cluster, command).completeExceptionally(new TimeoutException("timed out", "a:1"));
+        }
+        assertEquals(State.OPEN, cluster.getMetrics().get("a:1").getState());
+        assertFalse(submit(cluster, command).isDone());
+    }
+
+    @Test
+    public void cluster_breaker_trips_on_key_routed_failures_and_core_fails_fast() {
+        CircuitBreaker breaker = breaker(false);
+        // GLIDE core reports the primary of the key's slot
+        for (int i = 0; i < 2; i++) {
+            submit(breaker, CommandRequest.newBuilder())
+                    .completeExceptionally(new TimeoutException("timed out", "node:6379"));
+        }
+        assertEquals(State.OPEN, breaker.getMetrics().get("node:6379").getState());
+
+        // the open breakers are sent with the request, which GLIDE core fails without sending it
+        CommandRequest.Builder command = CommandRequest.newBuilder();
+        submit(breaker, command)
+                .completeExceptionally(
+                        new CircuitBreakerOpenException("Circuit breaker open", "node:6379"));
+        assertEquals(List.of("node:6379"), command.getOpenCircuitNodesList());
+        CircuitBreakerMetrics metrics = breaker.getMetrics().get("node:6379");
+        assertEquals(State.OPEN, metrics.getState());
+        assertEquals(1, metrics.getRejectedRequests());
+        assertEquals(2, metrics.getConsecutiveFailures());
+
+        // once half-open, requests are sent, and a failure opens the breaker again
+        now = TimeUnit.MILLISECONDS.toNanos(100);
+        command = CommandRequest.newBuilder();
+        submit(breaker, command).completeExceptionally(new TimeoutException("timed out", "node:6379"));
+        assertTrue(command.getOpenCircuitNodesList().isEmpty());
+        assertEquals(State.OPEN, breaker.getMetrics().get("node:6379").getState());
+        assertEquals(2, breaker.getMetrics().get("node:6379").getOpenings());
+
+        // requests report their node on success while the breaker is half-open
+        now += TimeUnit.MILLISECONDS.toNanos(100);
+        command = CommandRequest.newBuilder();
+        submit(breaker, command)
+                .complete(
+                        Response.newBuilder()
+                                .setTimings(ResponseTimings.newBuilder().setServedBy("node:6379"))
+                                .build());
+        assertTrue(command.getCollectTimings());
+        assertEquals(State.CLOSED, breaker.getMetrics().get("node:6379").getState());
+        command = CommandRequest.newBuilder();
+        submit(breaker, command);
+        assertFalse(command.getCollectTimings());
+        assertTrue(command.getOpenCircuitNodesList().isEmpty());
+    }
+
+    @Test
+    public void only_failures_in_a_row_of_unresponsive_nodes_count() {
+        CircuitBreaker breaker = breaker(false);
+        submit(breaker, routedTo("a", 1));
+        submit(breaker, routedTo("a", 1));
+        submit(breaker, routedTo("a", 1));
+        // the server replied
+        sent.get(0).completeExceptionally(new RequestException("WRONGTYPE"));
+        sent.get(1).completeExceptionally(new TimeoutException("timed out", "a:1"));
+        assertEquals(1, breaker.getMetrics().get("a:1").getConsecutiveFailures());
+
+        // too long after the previous failure
+        now = TimeUnit.MILLISECONDS.toNanos(200);
+        sent.get(2).completeExceptionally(new TimeoutException("timed out", "a:1"));
+        assertEquals(State.CLOSED, breaker.getMetrics().get("a:1").getState());
+
+        // a success resets the failures
+        submit(breaker, routedTo("a", 1)).complete(Response.newBuilder().build());
+        assertEquals(0, breaker.getMetrics().get("a:1").getConsecutiveFailures());
+
+        // failures of an unknown node are ignored
+        submit(breaker, CommandRequest.newBuilder())
+                .completeExceptionally(new TimeoutException("timed out"));
+        assertEquals(1, breaker.getMetrics().size());
+    }
+
+    @Test
+    public void invalid_configuration_is_rejected() {
+        assertThrows(
+                ConfigurationError.class,
+                () ->
+                        new CircuitBreaker(
+                                CircuitBreakerConfiguration.builder().failureThreshold(0).build(), false));
+        assertThrows(
+                ConfigurationError.class,
+                () ->
+                        new CircuitBreaker(
+                                CircuitBreakerConfiguration.builder().halfOpenTrialRequests(0).build(), false));
+    }
+}
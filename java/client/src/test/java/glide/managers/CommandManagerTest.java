@@ -2,6 +2,8 @@
 package glide.managers;
 
 import static command_request.CommandRequestOuterClass.RequestType.CustomCommand;
+import static command_request.CommandRequestOuterClass.RequestType.Set;
+import static glide.api.models.GlideString.gs;
 import static glide.api.models.configuration.RequestRoutingConfiguration.SimpleMultiNodeRoute.ALL_NODES;
 import static glide.api.models.configuration.RequestRoutingConfiguration.SimpleMultiNodeRoute.ALL_PRIMARIES;
 import static glide.api.models.configuration.RequestRoutingConfiguration.SimpleSingleNodeRoute.RANDOM;
@@ -21,18 +23,25 @@ import com.google.protobuf.ByteString;
 import command_request.CommandRequestOuterClass.CommandRequest;
 import command_request.CommandRequestOuterClass.SimpleRoutes;
 import command_request.CommandRequestOuterClass.SlotTypes;
+import glide.api.metrics.RequestTimings;
 import glide.api.models.ClusterTransaction;
 import glide.api.models.Transaction;
+import glide.api.models.commands.scan.ClusterScanCursor;
+import glide.api.models.commands.scan.ScanOptions;
 import glide.api.models.configuration.RequestRoutingConfiguration.ByAddressRoute;
 import glide.api.models.configuration.RequestRoutingConfiguration.Route;
 import glide.api.models.configuration.RequestRoutingConfiguration.SlotIdRoute;
 import glide.api.models.configuration.RequestRoutingConfiguration.SlotKeyRoute;
 import glide.api.models.configuration.RequestRoutingConfiguration.SlotType;
+import glide.api.models.configuration.RequestTimingsConfiguration;
 import glide.api.models.exceptions.RequestException;
 import glide.connectors.handlers.ChannelHandler;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.LinkedList;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.CompletableFuture;
 import java.util.stream.Stream;
 import lombok.SneakyThrows;
@@ -44,6 +53,7 @@ import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.ArgumentCaptor;
 import response.ResponseOuterClass.Response;
+import response.ResponseOuterClass.ResponseTimings;
 
 public class CommandManagerTest {
 
@@ -83,6 +93,29 @@ public class CommandManagerTest {
         assertEquals(respObject, respPointer);
     }
 
+    @Test
+    @SneakyThrows
+    public void submitHedgeStatistics_asks_core_for_the_statistics() {
+        long pointer = -1;
+        Object[] statistics = new Object[] {2L, 1L};
+        CompletableFuture<Response> future =
+                CompletableFuture.completedFuture(Response.newBuilder().setRespPointer(pointer).build());
+        ArgumentCaptor<CommandRequest.Builder> captor =
+                ArgumentCaptor.forClass(CommandRequest.Builder.class);
+        when(channelHandler.write(captor.capture(), anyBoolean())).thenReturn(future);
+        when(channelHandler.isClosed()).thenReturn(false);
+
+        Object result =
+                service
+                        .submitHedgeStatistics(
+                                new BaseResponseResolver((ptr) -> ptr == pointer ? statistics : null))
+                        .get();
+
+        assertEquals(statistics, result);
+        assertTrue(captor.getValue().hasHedgeStatistics());
+        assertEquals("HedgeStatistics", CommandManager.getRequestTypeName(captor.getValue()));
+    }
+
     @Test
     @SneakyThrows
     public void submitNewCommand_return_Null_result() {
@@ -313,6 +346,30 @@ public class CommandManagerTest {
         }
     }
 
+    @Test
+    public void submitNewDirectCommand_sends_the_content_of_buffers() {
+        when(channelHandler.write(any(), anyBoolean())).thenReturn(new CompletableFuture<>());
+        when(channelHandler.isClosed()).thenReturn(false);
+        ByteBuffer direct = ByteBuffer.allocateDirect(6);
+        direct.put("xdirxx".getBytes(StandardCharsets.UTF_8)).position(1).limit(4);
+        ByteBuffer heap = ByteBuffer.wrap("heap".getBytes(StandardCharsets.UTF_8));
+
+        service.submitNewDirectCommand(Set, new Object[] {gs("key"), direct, heap}, r -> null);
+
+        ArgumentCaptor<CommandRequest.Builder> captor =
+                ArgumentCaptor.forClass(CommandRequest.Builder.class);
+        verify(channelHandler).write(captor.capture(), anyBoolean());
+        var command = captor.getValue().getSingleCommand();
+        assertEquals(Set, command.getRequestType());
+        assertEquals(ByteString.copyFromUtf8("key"), command.getArgsArray().getArgs(0));
+        assertEquals(ByteString.copyFromUtf8("dir"), command.getArgsArray().getArgs(1));
+        assertEquals(ByteString.copyFromUtf8("heap"), command.getArgsArray().getArgs(2));
+        // the buffers are left as they were
+        assertEquals(1, direct.position());
+        assertEquals(4, direct.limit());
+        assertEquals(0, heap.position());
+    }
+
     @ParameterizedTest
     @MethodSource("getEnumRoutes")
     public void submitNewCommand_with_ClusterTransaction_with_route_sends_protobuf_request(
@@ -351,4 +408,73 @@ public class CommandManagerTest {
                 () -> assertFalse(requestBuilder.getRoute().hasSlotIdRoute()),
                 () -> assertFalse(requestBuilder.getRoute().hasSlotKeyRoute()));
     }
+
+    @Test
+    @SneakyThrows
+    public void submitCommand_with_request_timings_reports_breakdown() {
+        // setup
+        var reported = new ArrayBlockingQueue<RequestTimings>(1);
+        service =
+                CommandManager.builder()
+                        .channel(channelHandler)
+                        .requestTimingsConfiguration(
+                                RequestTimingsConfiguration.builder().listener(reported::add).build())
+                        .build();
+        long now = RequestTimings.nanosSinceEpoch();
+        ResponseTimings coreTimings =
+                ResponseTimings.newBuilder()
+                        .setReceivedAt(now + 1_000)
+                        .setSentAt(now + 3_000)
+                        .setRepliedAt(now + 10_000)
+                        .build();
+        CompletableFuture<Response> future = new CompletableFuture<>();
+        future.complete(Response.newBuilder().setTimings(coreTimings).build());
+        when(channelHandler.write(any(), anyBoolean())).thenReturn(future);
+        when(channelHandler.isClosed()).thenReturn(false);
+        ArgumentCaptor<CommandRequest.Builder> captor =
+                ArgumentCaptor.forClass(CommandRequest.Builder.class);
+
+        // exercise
+        service
+                .submitClusterScan(
+                        ClusterScanCursor.INITIAL_CURSOR_INSTANCE,
+                        ScanOptions.builder().build(),
+                        response -> null)
+                .get();
+
+        // verify
+        verify(channelHandler).write(captor.capture(), anyBoolean());
+        assertTrue(captor.getValue().getCollectTimings());
+        RequestTimings timings = reported.poll();
+        assertAll(
+                () -> assertEquals("ClusterScan", timings.getRequestType()),
+                () -> assertEquals(now + 1_000, timings.getCoreReceivedAt()),
+                () -> assertEquals(2_000, timings.getCoreNanos()),
+                () -> assertEquals(7_000, timings.getServerNanos()),
+                () -> assertTrue(timings.getSubmittedAt() <= timings.getCompletedAt()));
+    }
+
+    @Test
+    @SneakyThrows
+    public void submitCommand_without_request_timings_does_not_collect_them() {
+        // setup
+        CompletableFuture<Response> future = new CompletableFuture<>();
+        future.complete(Response.newBuilder().build());
+        when(channelHandler.write(any(), anyBoolean())).thenReturn(future);
+        when(channelHandler.isClosed()).thenReturn(false);
+        ArgumentCaptor<CommandRequest.Builder> captor =
+                ArgumentCaptor.forClass(CommandRequest.Builder.class);
+
+        // exercise
+        service
+                .submitClusterScan(
+                        ClusterScanCursor.INITIAL_CURSOR_INSTANCE,
+                        ScanOptions.builder().build(),
+                        response -> null)
+                .get();
+
+        // verify
+        verify(channelHandler).write(captor.capture(), anyBoolean());
+        assertFalse(captor.getValue().getCollectTimings());
+    }
 }
@@ -0,0 +1,200 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.managers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import glide.api.metrics.ConcurrencyLimitMetrics;
+import glide.api.models.configuration.AdaptiveConcurrencyConfiguration;
+import glide.api.models.exceptions.ConcurrencyLimitExceededException;
+import glide.api.models.exceptions.ConfigurationError;
+import glide.api.models.exceptions.TimeoutException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import response.ResponseOuterClass.Response;
+
+public class ConcurrencyLimiterTest {
+
+    /** Requests which were sent, completed by the tests. */
+    List<CompletableFuture<Response>> sent;
+
+    /** The time of the limiter, in nanoseconds. */
+    long now;
+
+    @BeforeEach
+    void init() {
+        sent = new ArrayList<>();
+        now = 0;
+    }
+
+    private ConcurrencyLimiter limiter(AdaptiveConcurrencyConfiguration config) {
+        return new ConcurrencyLimiter(config, 10_000, () -> now, Runnable::run);
+    }
+
+    private CompletableFuture<Response> submit(ConcurrencyLimiter limiter) {
+        return limiter.submit(
+                () -> {
+                    var response = new CompletableFuture<Response>();
+                    sent.add(response);
+                    return response;
+                });
+    }
+
+    private static Response response() {
+        return Response.newBuilder().build();
+    }
+
+    @Test
+    public void requests_above_the_limit_are_queued_then_rejected() {
+        ConcurrencyLimiter limiter =
+                limiter(
+                        AdaptiveConcurrencyConfiguration.builder()
+                                .initialLimit(2)
+                                .maxLimit(2)
+                                .maxQueuedRequests(1)
+                                .build());
+        var first = submit(limiter);
+        submit(limiter);
+        var queued = submit(limiter);
+        var rejected = submit(limiter);
+
+        assertEquals(2, sent.size());
+        assertFalse(queued.isDone());
+        var error = assertThrows(ExecutionException.class, rejected::get);
+        assertTrue(error.getCause() instanceof ConcurrencyLimitExceededException);
+        ConcurrencyLimitMetrics metrics = limiter.getMetrics();
+        assertEquals(2, metrics.getInFlight());
+        assertEquals(1, metrics.getQueued());
+        assertEquals(1, metrics.getRejectedRequests());
+
+        // completing a request sends the queued one
+        Response response = response();
+        sent.get(0).complete(response);
+        assertEquals(response, first.join());
+        assertEquals(3, sent.size());
+        assertEquals(0, limiter.getMetrics().getQueued());
+        sent.get(2).complete(response);
+        assertEquals(response, queued.join());
+    }
+
+    @Test
+    @SneakyThrows
+    public void queued_requests_are_rejected_after_the_queue_timeout() {
+        ConcurrencyLimiter limiter =
+                new ConcurrencyLimiter(
+                        AdaptiveConcurrencyConfiguration.builder().initialLimit(1).maxLimit(1).build(),
+                        50,
+                        () -> now,
+                        Runnable::run);
+        submit(limiter);
+        var queued = submit(limiter);
+
+        var error = assertThrows(ExecutionException.class, () -> queued.get(5, TimeUnit.SECONDS));
+        assertTrue(error.getCause() instanceof ConcurrencyLimitExceededException);
+        ConcurrencyLimitMetrics metrics = limiter.getMetrics();
+        assertEquals(0, metrics.getQueued());
+        assertEquals(1, metrics.getRejectedRequests());
+
+        // the expired request isn't sent once the limit allows it
+        sent.get(0).complete(response());
+        assertEquals(1, sent.size());
+        assertEquals(0, limiter.getMetrics().getInFlight());
+    }
+
+    @Test
+    public void limit_shrinks_once_per_round_trip_when_rtt_exceeds_tolerance() {
+        ConcurrencyLimiter limiter =
+                limiter(AdaptiveConcurrencyConfiguration.builder().initialLimit(10).build());
+        submit(limiter);
+        now = 100;
+        sent.get(0).complete(response());
+        assertEquals(100, limiter.getMetrics().getBaselineRttNanos());
+
+        // sent at the same time, so only the first slow round trip shrinks the limit
+        for (int i = 0; i < 3; i++) {
+            submit(limiter);
+        }
+        now = 1000;
+        for (int i = 1; i < 4; i++) {
+            sent.get(i).complete(response());
+        }
+        assertEquals(9, limiter.getMetrics().getLimit());
+
+        now = 1500;
+        submit(limiter);
+        now = 2500;
+        sent.get(4).complete(response());
+        assertEquals(8, limiter.getMetrics().getLimit());
+        assertEquals(100, limiter.getMetrics().getBaselineRttNanos());
+    }
+
+    @Test
+    public void limit_shrinks_on_timeouts() {
+        ConcurrencyLimiter limiter =
+                limiter(AdaptiveConcurrencyConfiguration.builder().initialLimit(10).build());
+        var request = submit(limiter);
+        now = 10;
+        sent.get(0).completeExceptionally(new TimeoutException("timed out"));
+
+        var error = assertThrows(ExecutionException.class, request::get);
+        assertTrue(error.getCause() instanceof TimeoutException);
+        assertEquals(9, limiter.getMetrics().getLimit());
+        assertEquals(0, limiter.getMetrics().getInFlight());
+    }
+
+    @Test
+    public void limit_grows_while_in_use_up_to_the_maximum() {
+        ConcurrencyLimiter limiter =
+                limiter(AdaptiveConcurrencyConfiguration.builder().initialLimit(2).maxLimit(3).build());
+        for (int round = 0; round < 3; round++) {
+            int first = sent.size();
+            submit(limiter);
+            submit(limiter);
+            now += 100;
+            sent.get(first).complete(response());
+            sent.get(first + 1).complete(response());
+        }
+        assertEquals(3, limiter.getMetrics().getLimit());
+        assertEquals(100, limiter.getMetrics().getRttNanos());
+
+        // a single request in flight doesn't use the limit
+        ConcurrencyLimiter idle =
+                limiter(AdaptiveConcurrencyConfiguration.builder().initialLimit(4).build());
+        for (int i = 0; i < 10; i++) {
+            submit(idle);
+            sent.get(sent.size() - 1).complete(response());
+        }
+        assertEquals(4, idle.getMetrics().getLimit());
+    }
+
+    @Test
+    public void invalid_configuration_is_rejected() {
+        assertThrows(
+                ConfigurationError.class,
+                () ->
+                        new ConcurrencyLimiter(AdaptiveConcurrencyConfiguration.builder().minLimit(0).build()));
+        assertThrows(
+                ConfigurationError.class,
+                () ->
+                        new ConcurrencyLimiter(
+                                AdaptiveConcurrencyConfiguration.builder().initialLimit(2000).build()));
+        assertThrows(
+                ConfigurationError.class,
+                () ->
+                        new ConcurrencyLimiter(
+                                AdaptiveConcurrencyConfiguration.builder().rttTolerance(1).build()));
+        assertThrows(
+                ConfigurationError.class,
+                () ->
+                        new ConcurrencyLimiter(
+                                AdaptiveConcurrencyConfiguration.builder().backoffRatio(1).build()));
+    }
+}
@@ -21,17 +21,22 @@ import connection_request.ConnectionRequestOuterClass;
 import connection_request.ConnectionRequestOuterClass.AuthenticationInfo;
 import connection_request.ConnectionRequestOuterClass.ConnectionRequest;
 import connection_request.ConnectionRequestOuterClass.ConnectionRetryStrategy;
+import connection_request.ConnectionRequestOuterClass.PeriodicChecksDisabled;
+import connection_request.ConnectionRequestOuterClass.PeriodicChecksManualInterval;
 import connection_request.ConnectionRequestOuterClass.PubSubChannelsOrPatterns;
 import connection_request.ConnectionRequestOuterClass.PubSubSubscriptions;
 import connection_request.ConnectionRequestOuterClass.TlsMode;
 import glide.api.models.configuration.BackoffStrategy;
 import glide.api.models.configuration.GlideClientConfiguration;
 import glide.api.models.configuration.GlideClusterClientConfiguration;
+import glide.api.models.configuration.HedgingPolicy;
 import glide.api.models.configuration.NodeAddress;
+import glide.api.models.configuration.PeriodicChecks;
 import glide.api.models.configuration.ReadFrom;
 import glide.api.models.configuration.ServerCredentials;
 import glide.api.models.configuration.StandaloneSubscriptionConfiguration;
 import glide.api.models.exceptions.ClosingException;
+import glide.api.models.exceptions.ConfigurationError;
 import glide.connectors.handlers.ChannelHandler;
 import io.netty.channel.ChannelFuture;
 import java.util.Map;
@@ -207,6 +212,192 @@ public class ConnectionManagerTest {
         verify(channel).connect(eq(expectedProtobufConnectionRequest));
     }
 
+    @SneakyThrows
+    @Test
+    public void connection_request_protobuf_generation_with_az_affinity() {
+        // setup
+        GlideClientConfiguration glideClientConfiguration =
+                GlideClientConfiguration.builder()
+                        .readFrom(ReadFrom.AZ_AFFINITY)
+                        .clientAZ("us-east-1a")
+                        .build();
+        ConnectionRequest expectedProtobufConnectionRequest =
+                ConnectionRequest.newBuilder()
+                        .setTlsMode(TlsMode.NoTls)
+                        .setReadFrom(ConnectionRequestOuterClass.ReadFrom.AZAffinity)
+                        .setClientAz("us-east-1a")
+                        .setClusterModeEnabled(false)
+                        .build();
+        CompletableFuture<Response> completedFuture = new CompletableFuture<>();
+        Response response = Response.newBuilder().setConstantResponse(ConstantResponse.OK).build();
+        completedFuture.complete(response);
+
+        // execute
+        when(channel.connect(eq(expectedProtobufConnectionRequest))).thenReturn(completedFuture);
+        CompletableFuture<Void> result = connectionManager.connectToValkey(glideClientConfiguration);
+
+        // verify
+        assertNull(result.get());
+        verify(channel).connect(eq(expectedProtobufConnectionRequest));
+    }
+
+    @SneakyThrows
+    @Test
+    public void connection_request_protobuf_generation_with_lowest_latency() {
+        // setup
+        GlideClusterClientConfiguration glideClusterClientConfiguration =
+                GlideClusterClientConfiguration.builder().readFrom(ReadFrom.LOWEST_LATENCY).build();
+        ConnectionRequest expectedProtobufConnectionRequest =
+                ConnectionRequest.newBuilder()
+                        .setTlsMode(TlsMode.NoTls)
+                        .setReadFrom(ConnectionRequestOuterClass.ReadFrom.LowestLatency)
+                        .setClusterModeEnabled(true)
+                        .build();
+        CompletableFuture<Response> completedFuture = new CompletableFuture<>();
+        Response response = Response.newBuilder().setConstantResponse(ConstantResponse.OK).build();
+        completedFuture.complete(response);
+
+        // execute
+        when(channel.connect(eq(expectedProtobufConnectionRequest))).thenReturn(completedFuture);
+        CompletableFuture<Void> result =
+                connectionManager.connectToValkey(glideClusterClientConfiguration);
+
+        // verify
+        assertNull(result.get());
+        verify(channel).connect(eq(expectedProtobufConnectionRequest));
+    }
+
+    @SneakyThrows
+    @Test
+    public void connection_request_protobuf_generation_with_periodic_checks() {
+        // setup
+        GlideClusterClientConfiguration manualInterval =
+                GlideClusterClientConfiguration.builder()
+                        .periodicChecks(PeriodicChecks.manualInterval(300))
+                        .build();
+        GlideClusterClientConfiguration disabled =
+                GlideClusterClientConfiguration.builder().periodicChecks(PeriodicChecks.DISABLED).build();
+        ConnectionRequest.Builder expectedBuilder =
+                ConnectionRequest.newBuilder()
+                        .setTlsMode(TlsMode.NoTls)
+                        .setClusterModeEnabled(true)
+                        .setReadFrom(ConnectionRequestOuterClass.ReadFrom.Primary);
+        ConnectionRequest expectedManualInterval =
+                expectedBuilder
+                        .clone()
+                        .setPeriodicChecksManualInterval(
+                                PeriodicChecksManualInterval.newBuilder().setDurationInSec(300).build())
+                        .build();
+        ConnectionRequest expectedDisabled =
+                expectedBuilder
+                        .clone()
+                        .setPeriodicChecksDisabled(PeriodicChecksDisabled.getDefaultInstance())
+                        .build();
+        CompletableFuture<Response> completedFuture = new CompletableFuture<>();
+        Response response = Response.newBuilder().setConstantResponse(ConstantResponse.OK).build();
+        completedFuture.complete(response);
+
+        // execute
+        when(channel.connect(any())).thenReturn(completedFuture);
+        connectionManager.connectToValkey(manualInterval).get();
+        connectionManager.connectToValkey(disabled).get();
+
+        // verify
+        verify(channel).connect(eq(expectedManualInterval));
+        verify(channel).connect(eq(expectedDisabled));
+        assertThrows(IllegalArgumentException.class, () -> PeriodicChecks.manualInterval(0));
+    }
+
+    @Test
+    public void az_affinity_without_client_az_throws_ConfigurationError() {
+        GlideClientConfiguration glideClientConfiguration =
+                GlideClientConfiguration.builder().readFrom(ReadFrom.AZ_AFFINITY).build();
+
+        assertThrows(
+                ConfigurationError.class,
+                () -> connectionManager.connectToValkey(glideClientConfiguration));
+    }
+
+    @SneakyThrows
+    @Test
+    public void connection_request_protobuf_generation_with_hedging_policy() {
+        // setup
+        GlideClientConfiguration glideClientConfiguration =
+                GlideClientConfiguration.builder()
+                        .readFrom(ReadFrom.PREFER_REPLICA)
+                        .hedgingPolicy(HedgingPolicy.builder().delayMillis(10).delayPercentile(95).build())
+                        .build();
+        ConnectionRequest expectedProtobufConnectionRequest =
+                ConnectionRequest.newBuilder()
+                        .setTlsMode(TlsMode.NoTls)
+                        .setClusterModeEnabled(false)
+                        .setReadFrom(ConnectionRequestOuterClass.ReadFrom.PreferReplica)
+                        .setHedgingPolicy(
+                                ConnectionRequestOuterClass.HedgingPolicy.newBuilder()
+                                        .setDelayInMs(10)
+                                        .setDelayPercentile(95)
+                                        .setMaxExtraLoadPercent(5)
+                                        .build())
+                        .build();
+        CompletableFuture<Response> completedFuture = new CompletableFuture<>();
+        Response response = Response.newBuilder().setConstantResponse(ConstantResponse.OK).build();
+        completedFuture.complete(response);
+
+        // execute
+        when(channel.connect(eq(expectedProtobufConnectionRequest))).thenReturn(completedFuture);
+        CompletableFuture<Void> result = connectionManager.connectToValkey(glideClientConfiguration);
+
+        // verify
+        assertNull(result.get());
+        verify(channel).connect(eq(expectedProtobufConnectionRequest));
+    }
+
+    @Test
+    public void hedging_policy_without_delay_throws_ConfigurationError() {
+        GlideClientConfiguration glideClientConfiguration =
+                GlideClientConfiguration.builder()
+                        .readFrom(ReadFrom.PREFER_REPLICA)
+                        .hedgingPolicy(HedgingPolicy.builder().build())
+                        .build();
+
+        assertThrows(
+                ConfigurationError.class,
+                () -> connectionManager.connectToValkey(glideClientConfiguration));
+    }
+
+    @Test
+    public void hedging_policy_reading_from_primary_throws_ConfigurationError() {
+        GlideClientConfiguration glideClientConfiguration =
+                GlideClientConfiguration.builder()
+                        .hedgingPolicy(HedgingPolicy.builder().delayMillis(10).build())
+                        .build();
+
+        assertThrows(
+                ConfigurationError.class,
+                () -> connectionManager.connectToValkey(glideClientConfiguration));
+        assertThrows(
+                ConfigurationError.class,
+                () ->
+                        connectionManager.connectToValkey(
+                                GlideClientConfiguration.builder()
+                                        .readFrom(ReadFrom.PRIMARY)
+                                        .hedgingPolicy(HedgingPolicy.builder().delayMillis(10).build())
+                                        .build()));
+    }
+
+    @Test
+    public void hedging_policy_with_only_delay_percentile_throws_ConfigurationError() {
+        GlideClientConfiguration glideClientConfiguration =
+                GlideClientConfiguration.builder()
+                        .readFrom(ReadFrom.PREFER_REPLICA)
+                        .hedgingPolicy(HedgingPolicy.builder().delayPercentile(95).build())
+                        .build();
+
+        assertThrows(
+                ConfigurationError.class,
+                () -> connectionManager.connectToValkey(glideClientConfiguration));
+    }
+
     @SneakyThrows
     @Test
     public void response_validation_on_constant_response_returns_successfully() {
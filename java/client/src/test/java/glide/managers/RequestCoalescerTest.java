@@ -0,0 +1,145 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.managers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.protobuf.ByteString;
+import command_request.CommandRequestOuterClass.Command;
+import command_request.CommandRequestOuterClass.Command.ArgsArray;
+import command_request.CommandRequestOuterClass.CommandRequest;
+import command_request.CommandRequestOuterClass.RequestType;
+import command_request.CommandRequestOuterClass.Routes;
+import command_request.CommandRequestOuterClass.SimpleRoutes;
+import glide.api.models.exceptions.RequestException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import response.ResponseOuterClass.Response;
+
+public class RequestCoalescerTest {
+
+    /** Response handlers of two call sites, which decode the same request differently. */
+    private static final Function<Response, String> STRING_HANDLER = response -> "string";
+
+    private static final Function<Response, String> BINARY_HANDLER = response -> "binary";
+
+    RequestCoalescer coalescer;
+
+    /** Requests which were sent, completed by the tests. */
+    List<CompletableFuture<String>> sent;
+
+    @BeforeEach
+    void init() {
+        coalescer = new RequestCoalescer();
+        sent = new ArrayList<>();
+    }
+
+    private static CommandRequest.Builder command(RequestType requestType, String... args) {
+        ArgsArray.Builder argsArray = ArgsArray.newBuilder();
+        for (String arg : args) {
+            argsArray.addArgs(ByteString.copyFromUtf8(arg));
+        }
+        return CommandRequest.newBuilder()
+                .setSingleCommand(
+                        Command.newBuilder().setRequestType(requestType).setArgsArray(argsArray).build());
+    }
+
+    private CompletableFuture<String> submit(CommandRequest.Builder command) {
+        return submit(command, STRING_HANDLER);
+    }
+
+    private CompletableFuture<String> submit(CommandRequest.Builder command, Object responseHandler) {
+        return coalescer.submit(
+                command,
+                0,
+                responseHandler,
+                () -> {
+                    var response = new CompletableFuture<String>();
+                    sent.add(response);
+                    return response;
+                });
+    }
+
+    @Test
+    public void identical_reads_share_the_response() {
+        CompletableFuture<String> first = submit(command(RequestType.Get, "key"));
+        CompletableFuture<String> second = submit(command(RequestType.Get, "key"));
+        assertEquals(1, sent.size());
+        assertEquals(1, coalescer.getCoalescedRequestCount());
+
+        sent.get(0).complete("value");
+        assertEquals("value", first.join());
+        assertEquals("value", second.join());
+
+        // the response arrived, the next read is sent
+        submit(command(RequestType.Get, "key"));
+        assertEquals(2, sent.size());
+    }
+
+    @Test
+    public void different_reads_are_sent() {
+        submit(command(RequestType.Get, "key"));
+        submit(command(RequestType.Get, "other"));
+        submit(command(RequestType.Get, "key"), BINARY_HANDLER);
+        submit(
+                command(RequestType.Get, "key")
+                        .setRoute(Routes.newBuilder().setSimpleRoutes(SimpleRoutes.Random)));
+        // not a read
+        submit(command(RequestType.Set, "key", "value"));
+        submit(command(RequestType.Set, "key", "value"));
+
+        assertEquals(6, sent.size());
+        assertEquals(0, coalescer.getCoalescedRequestCount());
+    }
+
+    @Test
+    public void reads_with_mutable_results_are_sent() {
+        for (RequestType requestType :
+                new RequestType[] {
+                    RequestType.MGet, RequestType.HGetAll, RequestType.SMembers, RequestType.LRange
+                }) {
+            submit(command(requestType, "key"));
+            submit(command(requestType, "key"));
+        }
+        assertEquals(8, sent.size());
+        assertEquals(0, coalescer.getCoalescedRequestCount());
+    }
+
+    @Test
+    public void coalescing_can_be_bypassed() {
+        submit(command(RequestType.Get, "key"));
+        RequestCoalescer.bypass(() -> submit(command(RequestType.Get, "key")));
+        assertEquals(2, sent.size());
+    }
+
+    @Test
+    public void coalesced_reads_fail_together() {
+        CompletableFuture<String> first = submit(command(RequestType.HGet, "key", "field"));
+        CompletableFuture<String> second = submit(command(RequestType.HGet, "key", "field"));
+        var error = new RequestException("failed");
+        sent.get(0).completeExceptionally(error);
+
+        assertSame(error, assertThrows(ExecutionException.class, first::get).getCause());
+        assertSame(error, assertThrows(ExecutionException.class, second::get).getCause());
+    }
+
+    @Test
+    public void cancelling_a_coalesced_read_does_not_affect_others() {
+        CompletableFuture<String> first = submit(command(RequestType.Get, "key"));
+        CompletableFuture<String> second = submit(command(RequestType.Get, "key"));
+        first.cancel(false);
+        sent.get(0).complete("value");
+
+        assertTrue(first.isCancelled());
+        assertFalse(second.isCancelled());
+        assertEquals("value", second.join());
+    }
+}
@@ -0,0 +1,51 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.utils;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+
+public class CallerExecutorTest {
+
+    @Test
+    @SneakyThrows
+    public void responses_are_handled_by_the_waiting_thread() {
+        CallerExecutor executor = new CallerExecutor();
+        CompletableFuture<String> raw = new CompletableFuture<>();
+        CompletableFuture<Thread> response = raw.thenApplyAsync(v -> Thread.currentThread(), executor);
+        ScheduledExecutorService completer = Executors.newSingleThreadScheduledExecutor();
+        try {
+            completer.schedule(() -> raw.complete("value"), 50, TimeUnit.MILLISECONDS);
+            executor.runUntilComplete(response);
+            assertSame(Thread.currentThread(), response.get());
+        } finally {
+            completer.shutdownNow();
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    public void tasks_submitted_after_an_interrupt_run_on_the_common_pool() {
+        CallerExecutor executor = new CallerExecutor();
+        CompletableFuture<String> raw = new CompletableFuture<>();
+        CompletableFuture<Thread> response = raw.thenApplyAsync(v -> Thread.currentThread(), executor);
+        Thread.currentThread().interrupt();
+        try {
+            assertThrows(InterruptedException.class, () -> executor.runUntilComplete(response));
+        } finally {
+            Thread.interrupted();
+        }
+        raw.complete("value");
+        Thread handler = response.get(5, TimeUnit.SECONDS);
+        assertTrue(handler.getName().contains("ForkJoinPool"));
+        assertNotSame(Thread.currentThread(), handler);
+    }
+}
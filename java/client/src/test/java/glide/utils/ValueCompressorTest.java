@@ -0,0 +1,108 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.utils;
+
+import static glide.api.models.GlideString.gs;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import glide.api.metrics.CompressionMetrics;
+import glide.api.models.GlideString;
+import glide.api.models.configuration.CompressionConfiguration;
+import glide.api.models.exceptions.ConfigurationError;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+public class ValueCompressorTest {
+
+    private final ValueCompressor compressor =
+            new ValueCompressor(CompressionConfiguration.builder().thresholdBytes(64).build());
+
+    private static String repetitive(int length) {
+        StringBuilder value = new StringBuilder();
+        for (int i = 0; value.length() < length; i++) {
+            value.append("{\"id\":").append(i % 100).append(",\"name\":\"value\"},");
+        }
+        return value.substring(0, length);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {13, 64, 100, 1000, 65535, 70000, 300000})
+    public void lz4_round_trips(int length) {
+        Random random = new Random(length);
+        byte[] text = repetitive(length).getBytes(StandardCharsets.UTF_8);
+        byte[] noise = new byte[length];
+        random.nextBytes(noise);
+        byte[] runs = new byte[length];
+        for (int i = 0; i < length; i++) {
+            runs[i] = (byte) (i / 1000);
+        }
+        for (byte[] src : new byte[][] {text, noise, runs}) {
+            byte[] dst = new byte[Lz4.maxCompressedLength(src.length) + 3];
+            int blockLength = Lz4.compress(src, dst, 3);
+            assertTrue(blockLength <= Lz4.maxCompressedLength(src.length));
+            assertArrayEquals(src, Lz4.decompress(dst, 3, blockLength, src.length));
+        }
+    }
+
+    @Test
+    public void large_values_are_compressed() {
+        String value = repetitive(10000);
+        GlideString encoded = compressor.encode(value);
+        assertTrue(ValueCompressor.isCompressed(encoded.getBytes()));
+        assertTrue(encoded.getBytes().length < value.length() / 4);
+        assertEquals(value, compressor.decode(encoded));
+
+        CompressionMetrics metrics = compressor.getMetrics();
+        assertEquals(1, metrics.getCompressedValues());
+        assertEquals(10000, metrics.getOriginalBytes());
+        assertEquals(encoded.getBytes().length, metrics.getCompressedBytes());
+        assertEquals(1, metrics.getDecompressedValues());
+        assertTrue(metrics.getCompressionRatio() > 4);
+    }
+
+    @Test
+    public void small_and_incompressible_values_are_stored_as_is() {
+        assertEquals(gs("value"), compressor.encode("value"));
+        Random random = new Random(0);
+        StringBuilder noise = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            noise.append((char) ('!' + random.nextInt(90)));
+        }
+        assertEquals(gs(noise.toString()), compressor.encode(noise.toString()));
+        assertEquals(2, compressor.getMetrics().getUncompressedValues());
+        assertEquals(0, compressor.getMetrics().getCompressionRatio());
+
+        // values which were stored uncompressed are read as is
+        assertEquals("ünïcødé", compressor.decode(gs("ünïcødé")));
+        assertNull(compressor.decode(null));
+        assertFalse(ValueCompressor.isCompressed("ünïcødé".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    public void malformed_values_are_rejected() {
+        byte[] encoded = compressor.encode(repetitive(1000)).getBytes();
+        byte[] truncated = Arrays.copyOf(encoded, encoded.length - 10);
+        assertThrows(IllegalArgumentException.class, () -> compressor.decode(gs(truncated)));
+        byte[] badLength = encoded.clone();
+        badLength[4] = (byte) 0x80;
+        assertThrows(IllegalArgumentException.class, () -> compressor.decode(gs(badLength)));
+
+        // a size no block of this length decompresses to is rejected before it's allocated
+        byte[] hugeLength = encoded.clone();
+        hugeLength[4] = (byte) 0x7F;
+        hugeLength[5] = (byte) 0xFF;
+        assertThrows(IllegalArgumentException.class, () -> compressor.decode(gs(hugeLength)));
+
+        assertThrows(
+                ConfigurationError.class,
+                () -> new ValueCompressor(CompressionConfiguration.builder().thresholdBytes(-1).build()));
+    }
+}
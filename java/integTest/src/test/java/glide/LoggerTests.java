@@ -100,4 +100,95 @@ public class LoggerTests {
             logFolder.delete();
         }
     }
+
+    @SneakyThrows
+    @Test
+    public void async_log_to_file() {
+        String filename = UUID.randomUUID() + "async-log.txt";
+        String identifier = "Async";
+
+        Logger.setLoggerConfig(Logger.Level.INFO, filename);
+        Logger.enableAsyncLogging();
+        for (int i = 0; i < 1000; i++) {
+            Logger.log(Logger.Level.INFO, identifier, "message" + i);
+        }
+        Logger.log(Logger.Level.DEBUG, identifier, "filtered");
+        // The count is reset once asynchronous logging is disabled
+        assertEquals(0, Logger.getDroppedLogCount());
+        // Disabling flushes the buffered records
+        Logger.disableAsyncLogging();
+
+        File logFolder = new File("glide-logs");
+
+        // Initialize a new logger to force closing of existing files
+        String dummyFilename = "async-dummy.txt";
+        Logger.setLoggerConfig(Logger.Level.DEFAULT, dummyFilename);
+        File[] dummyLogFiles = logFolder.listFiles((dir, name) -> name.startsWith(dummyFilename + "."));
+        assertNotNull(dummyLogFiles);
+        File dummyLogFile = dummyLogFiles[0];
+
+        File[] logFiles = logFolder.listFiles((dir, name) -> name.startsWith(filename + "."));
+        assertNotNull(logFiles);
+        File logFile = logFiles[0];
+        try (Scanner reader = new Scanner(logFile)) {
+            for (int i = 0; i < 1000; i++) {
+                assertTrue(reader.nextLine().contains(identifier + " - message" + i));
+            }
+            assertFalse(reader.hasNextLine());
+        } finally {
+            logFile.delete();
+            dummyLogFile.delete();
+            logFolder.delete();
+        }
+    }
+
+    @SneakyThrows
+    @Test
+    public void async_log_counts_dropped_records() {
+        String filename = UUID.randomUUID() + "async-drop-log.txt";
+        String identifier = "AsyncDrop";
+        int records = 10_000;
+
+        Logger.setLoggerConfig(Logger.Level.INFO, filename);
+        // A tiny buffer fills up faster than the writer drains it
+        Logger.enableAsyncLogging(2);
+        for (int i = 0; i < records; i++) {
+            Logger.log(Logger.Level.INFO, identifier, "message" + i);
+        }
+        long dropped = Logger.getDroppedLogCount();
+        assertTrue(dropped > 0);
+        Logger.disableAsyncLogging();
+
+        File logFolder = new File("glide-logs");
+
+        // Initialize a new logger to force closing of existing files
+        String dummyFilename = "async-drop-dummy.txt";
+        Logger.setLoggerConfig(Logger.Level.DEFAULT, dummyFilename);
+        File[] dummyLogFiles = logFolder.listFiles((dir, name) -> name.startsWith(dummyFilename + "."));
+        assertNotNull(dummyLogFiles);
+        File dummyLogFile = dummyLogFiles[0];
+
+        File[] logFiles = logFolder.listFiles((dir, name) -> name.startsWith(filename + "."));
+        assertNotNull(logFiles);
+        File logFile = logFiles[0];
+        try (Scanner reader = new Scanner(logFile)) {
+            long written = 0;
+            boolean dropReported = false;
+            while (reader.hasNextLine()) {
+                String line = reader.nextLine();
+                if (line.contains(identifier + " - message")) {
+                    written++;
+                } else if (line.contains("log records were dropped")) {
+                    dropReported = true;
+                }
+            }
+            // Every record was either written or counted as dropped
+            assertEquals(records, written + dropped);
+            assertTrue(dropReported);
+        } finally {
+            logFile.delete();
+            dummyLogFile.delete();
+            logFolder.delete();
+        }
+    }
 }
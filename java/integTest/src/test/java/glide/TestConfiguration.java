@@ -7,6 +7,9 @@ import java.util.Arrays;
 public final class TestConfiguration {
     // All servers are hosted on localhost
     public static final int[] STANDALONE_PORTS = getPortsFromProperty("test.server.standalone.ports");
+    // A primary, followed by its replicas
+    public static final int[] STANDALONE_REPLICAS_PORTS =
+            getPortsFromProperty("test.server.standalone.replicas.ports");
     public static final int[] CLUSTER_PORTS = getPortsFromProperty("test.server.cluster.ports");
     public static final Semver SERVER_VERSION = new Semver(System.getProperty("test.server.version"));
 
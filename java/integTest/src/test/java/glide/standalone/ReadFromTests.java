@@ -0,0 +1,163 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.standalone;
+
+import static glide.TestConfiguration.SERVER_VERSION;
+import static glide.TestConfiguration.STANDALONE_REPLICAS_PORTS;
+import static glide.TestUtilities.getRandomString;
+import static glide.api.BaseClient.OK;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import glide.api.GlideClient;
+import glide.api.metrics.RequestTimings;
+import glide.api.models.configuration.GlideClientConfiguration;
+import glide.api.models.configuration.NodeAddress;
+import glide.api.models.configuration.ReadFrom;
+import glide.api.models.configuration.RequestTimingsConfiguration;
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+/** Read strategies, against a standalone primary with two replicas. */
+@Timeout(10) // seconds
+public class ReadFromTests {
+
+    private static final String PRIMARY = "localhost:" + STANDALONE_REPLICAS_PORTS[0];
+
+    private static final Set<String> REPLICAS =
+            Arrays.stream(STANDALONE_REPLICAS_PORTS)
+                    .skip(1)
+                    .mapToObj(port -> "localhost:" + port)
+                    .collect(Collectors.toSet());
+
+    private static GlideClientConfiguration.GlideClientConfigurationBuilder<?, ?> config(
+            ReadFrom readFrom, Queue<RequestTimings> timings) {
+        var builder =
+                GlideClientConfiguration.builder()
+                        .readFrom(readFrom)
+                        .requestTimingsConfiguration(
+                                RequestTimingsConfiguration.builder().listener(timings::add).build());
+        for (int port : STANDALONE_REPLICAS_PORTS) {
+            builder.address(NodeAddress.builder().port(port).build());
+        }
+        return builder;
+    }
+
+    /**
+     * Sets a config parameter on a single node. Config changes aren't replicated, and a standalone
+     * client only sends commands to the primary, so this talks RESP to the node directly.
+     */
+    @SneakyThrows
+    private static void configSet(int port, String parameter, String value) {
+        try (Socket socket = new Socket("localhost", port)) {
+            StringBuilder command = new StringBuilder("*4\r\n");
+            for (String arg : new String[] {"CONFIG", "SET", parameter, value}) {
+                command
+                        .append('$')
+                        .append(arg.getBytes(StandardCharsets.UTF_8).length)
+                        .append("\r\n")
+                        .append(arg)
+                        .append("\r\n");
+            }
+            OutputStream out = socket.getOutputStream();
+            out.write(command.toString().getBytes(StandardCharsets.UTF_8));
+            out.flush();
+            var reader =
+                    new BufferedReader(
+                            new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            assertEquals("+OK", reader.readLine());
+        }
+    }
+
+    /** Sends reads and returns the nodes which served them. */
+    @SneakyThrows
+    private static List<String> read(GlideClient client, Queue<RequestTimings> timings, int count) {
+        timings.clear();
+        String key = getRandomString(10);
+        for (int i = 0; i < count; i++) {
+            client.get(key).get();
+        }
+        return timings.stream().map(RequestTimings::getServedBy).collect(Collectors.toList());
+    }
+
+    @SneakyThrows
+    @Test
+    public void primary_serves_reads_and_writes() {
+        Queue<RequestTimings> timings = new ConcurrentLinkedQueue<>();
+        try (GlideClient client =
+                GlideClient.createClient(config(ReadFrom.PRIMARY, timings).build()).get()) {
+            assertEquals(List.of(PRIMARY, PRIMARY, PRIMARY), read(client, timings, 3));
+        }
+    }
+
+    @SneakyThrows
+    @ParameterizedTest
+    @EnumSource(
+            value = ReadFrom.class,
+            names = {"PREFER_REPLICA", "LOWEST_LATENCY"})
+    public void replicas_serve_reads(ReadFrom readFrom) {
+        Queue<RequestTimings> timings = new ConcurrentLinkedQueue<>();
+        try (GlideClient client = GlideClient.createClient(config(readFrom, timings).build()).get()) {
+            List<String> servedBy = read(client, timings, 10);
+            assertEquals(10, servedBy.size());
+            assertTrue(REPLICAS.containsAll(servedBy), servedBy.toString());
+            // every replica is tried at least once
+            assertEquals(REPLICAS, Set.copyOf(servedBy));
+
+            // writes are still served by the primary
+            timings.clear();
+            assertEquals(OK, client.set(getRandomString(10), "value").get());
+            assertEquals(PRIMARY, timings.peek().getServedBy());
+        }
+    }
+
+    @SneakyThrows
+    @Test
+    public void az_affinity_reads_from_replicas_in_client_az() {
+        assumeTrue(SERVER_VERSION.isGreaterThanOrEqualTo("8.0.0"), "This feature added in version 8");
+        int replica1 = STANDALONE_REPLICAS_PORTS[1];
+        int replica2 = STANDALONE_REPLICAS_PORTS[2];
+        Queue<RequestTimings> timings = new ConcurrentLinkedQueue<>();
+        configSet(replica1, "availability-zone", "az-1");
+        configSet(replica2, "availability-zone", "az-2");
+        try {
+            // only the replica in the client's AZ serves the reads
+            try (GlideClient client =
+                    GlideClient.createClient(config(ReadFrom.AZ_AFFINITY, timings).clientAZ("az-1").build())
+                            .get()) {
+                assertEquals(Set.of("localhost:" + replica1), Set.copyOf(read(client, timings, 4)));
+            }
+            try (GlideClient client =
+                    GlideClient.createClient(config(ReadFrom.AZ_AFFINITY, timings).clientAZ("az-2").build())
+                            .get()) {
+                assertEquals(Set.of("localhost:" + replica2), Set.copyOf(read(client, timings, 4)));
+            }
+
+            // no replica in the client's AZ, any replica serves the reads
+            try (GlideClient client =
+                    GlideClient.createClient(config(ReadFrom.AZ_AFFINITY, timings).clientAZ("az-3").build())
+                            .get()) {
+                List<String> servedBy = read(client, timings, 4);
+                assertEquals(4, servedBy.size());
+                assertTrue(REPLICAS.containsAll(servedBy), servedBy.toString());
+            }
+        } finally {
+            configSet(replica1, "availability-zone", "");
+            configSet(replica2, "availability-zone", "");
+        }
+    }
+}
@@ -0,0 +1,144 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.api;
+
+import command_request.CommandRequestOuterClass.CommandRequest;
+import connection_request.ConnectionRequestOuterClass.ConnectionRequest;
+import glide.api.logging.Logger;
+import glide.connectors.handlers.CallbackDispatcher;
+import glide.connectors.handlers.ChannelHandler;
+import glide.connectors.handlers.MessageHandler;
+import glide.connectors.resources.Platform;
+import glide.managers.CommandManager;
+import glide.managers.ConnectionManager;
+import glide.utils.RustCoreMock;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import response.ResponseOuterClass.Response;
+
+/**
+ * Benchmarks for {@value #CALLERS} concurrent callers of a client, each sending one request to a
+ * mocked core which replies <code>OK</code> at once. Compares callers blocking on virtual threads,
+ * with the synchronous client and with the futures of the asynchronous client, against a single
+ * thread sending every request with the asynchronous client.
+ *
+ * <p>The virtual thread benchmarks need Java 21 or newer, and fail on older versions.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SyncClientBenchmark {
+
+    private static final int CALLERS = 10_000;
+
+    private ChannelHandler channelHandler;
+    private GlideClient client;
+    private GlideSyncClient syncClient;
+    private ExecutorService virtualThreads;
+
+    @Setup
+    public void setup() throws Exception {
+        Logger.setLoggerConfig(Logger.Level.DISABLED);
+        String socketPath =
+                RustCoreMock.start(
+                        new RustCoreMock.GlideMockProtobuf() {
+                            @Override
+                            public Response connection(ConnectionRequest request) {
+                                return Response.newBuilder().build();
+                            }
+
+                            @Override
+                            public Response.Builder commandRequest(CommandRequest request) {
+                                return OK();
+                            }
+                        });
+        channelHandler =
+                new ChannelHandler(
+                        new CallbackDispatcher(new MessageHandler(Optional.empty(), Optional.empty(), null)),
+                        socketPath,
+                        Platform.getThreadPoolResourceSupplier().get());
+        client =
+                new GlideClient(
+                        new BaseClient.ClientBuilder(
+                                new ConnectionManager(channelHandler),
+                                new CommandManager(channelHandler),
+                                null,
+                                null));
+        syncClient = new GlideSyncClient(client);
+        try {
+            // Looked up reflectively, as the benchmarks are compiled for Java 11
+            virtualThreads =
+                    (ExecutorService)
+                            Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (NoSuchMethodException e) {
+            virtualThreads = null;
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (virtualThreads != null) {
+            virtualThreads.shutdown();
+        }
+        channelHandler.close();
+        RustCoreMock.stop();
+    }
+
+    private void runOnVirtualThreads(Runnable caller) throws InterruptedException {
+        if (virtualThreads == null) {
+            throw new UnsupportedOperationException("Virtual threads need Java 21 or newer");
+        }
+        CountDownLatch done = new CountDownLatch(CALLERS);
+        for (int i = 0; i < CALLERS; i++) {
+            virtualThreads.execute(
+                    () -> {
+                        try {
+                            caller.run();
+                        } finally {
+                            done.countDown();
+                        }
+                    });
+        }
+        done.await();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CALLERS)
+    public void syncClient_onVirtualThreads() throws InterruptedException {
+        runOnVirtualThreads(syncClient::ping);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CALLERS)
+    public void asyncClientGet_onVirtualThreads() throws InterruptedException {
+        runOnVirtualThreads(() -> client.ping().join());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CALLERS)
+    public void asyncClient_allOf() {
+        CompletableFuture<?>[] responses = new CompletableFuture<?>[CALLERS];
+        for (int i = 0; i < CALLERS; i++) {
+            responses[i] = client.ping();
+        }
+        CompletableFuture.allOf(responses).join();
+    }
+}
@@ -0,0 +1,75 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.api.models;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Benchmarks for the conversions between {@link GlideString}, {@link String} and bytes. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GlideStringBenchmark {
+
+    /** The length of the string, in characters. */
+    @Param({"16", "1024"})
+    public int length;
+
+    private String string;
+    private byte[] bytes;
+    private Object stringAsObject;
+
+    @Setup
+    public void setup() {
+        char[] chars = new char[length];
+        Arrays.fill(chars, 'a');
+        string = new String(chars);
+        bytes = string.getBytes(StandardCharsets.UTF_8);
+        stringAsObject = string;
+    }
+
+    @Benchmark
+    public GlideString ofString() {
+        return GlideString.of(string);
+    }
+
+    @Benchmark
+    public GlideString ofBytes() {
+        return GlideString.of(bytes);
+    }
+
+    @Benchmark
+    public GlideString ofObject() {
+        return GlideString.of(stringAsObject);
+    }
+
+    @Benchmark
+    public String bytesToString() {
+        // A new instance every time, because the string representation is cached
+        return GlideString.of(bytes).getString();
+    }
+
+    @Benchmark
+    public boolean canConvertToString() {
+        return GlideString.of(bytes).canConvertToString();
+    }
+
+    @Benchmark
+    public int hashCodeOfBytes() {
+        return GlideString.of(bytes).hashCode();
+    }
+}
@@ -0,0 +1,65 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.api.models;
+
+import static glide.api.models.GlideString.gs;
+
+import command_request.CommandRequestOuterClass;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Benchmarks for building a transaction and its protobuf message. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TransactionBenchmark {
+
+    /** The number of commands in the transaction. */
+    @Param({"10", "100"})
+    public int commands;
+
+    private String[] keys;
+
+    @Setup
+    public void setup() {
+        keys = new String[commands];
+        for (int i = 0; i < commands; i++) {
+            keys[i] = "key" + i;
+        }
+    }
+
+    @Benchmark
+    public CommandRequestOuterClass.Transaction buildTransaction() {
+        Transaction transaction = new Transaction();
+        for (int i = 0; i < commands; i++) {
+            if (i % 2 == 0) {
+                transaction.set(keys[i], "value");
+            } else {
+                transaction.get(keys[i]);
+            }
+        }
+        return transaction.getProtobufTransaction().build();
+    }
+
+    @Benchmark
+    public CommandRequestOuterClass.Transaction buildBinaryTransaction() {
+        Transaction transaction = new Transaction().withBinaryOutput();
+        for (int i = 0; i < commands; i++) {
+            transaction.hset(gs(keys[i]), Map.of(gs("field"), gs("value")));
+        }
+        return transaction.getProtobufTransaction().build();
+    }
+}
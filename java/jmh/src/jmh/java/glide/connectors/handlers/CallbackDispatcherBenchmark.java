@@ -0,0 +1,64 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.connectors.handlers;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.lang3.tuple.Pair;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import response.ResponseOuterClass.ConstantResponse;
+import response.ResponseOuterClass.Response;
+
+/**
+ * Benchmarks for the callback id bookkeeping done for every request: registering the request before
+ * it is written, and completing it when the response is read.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CallbackDispatcherBenchmark {
+
+    private CallbackDispatcher dispatcher;
+
+    @Setup
+    public void setup() {
+        dispatcher =
+                new CallbackDispatcher(new MessageHandler(Optional.empty(), Optional.empty(), null));
+    }
+
+    private CompletableFuture<Response> roundTrip() throws MessageHandler.MessageCallbackException {
+        Pair<Integer, CompletableFuture<Response>> request = dispatcher.registerRequest();
+        dispatcher.completeRequest(
+                Response.newBuilder()
+                        .setCallbackIdx(request.getKey())
+                        .setConstantResponse(ConstantResponse.OK)
+                        .build());
+        return request.getValue();
+    }
+
+    @Benchmark
+    public CompletableFuture<Response> registerAndCompleteRequest()
+            throws MessageHandler.MessageCallbackException {
+        return roundTrip();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public CompletableFuture<Response> registerAndCompleteRequest_contended()
+            throws MessageHandler.MessageCallbackException {
+        return roundTrip();
+    }
+}
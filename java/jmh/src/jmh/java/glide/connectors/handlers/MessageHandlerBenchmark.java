@@ -0,0 +1,77 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.connectors.handlers;
+
+import glide.api.models.PubSubMessage;
+import glide.managers.BaseResponseResolver;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import response.ResponseOuterClass.Response;
+
+/**
+ * Benchmarks for dispatching a pubsub message to a user callback and to the message queue. The
+ * native value conversion is replaced with a prebuilt push, see {@link
+ * glide.ffi.GlideValueResolverBenchmark} for its cost.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MessageHandlerBenchmark {
+
+    /** The size of the message payload, in bytes. */
+    @Param({"16", "1024"})
+    public int messageSize;
+
+    private MessageHandler callbackHandler;
+    private MessageHandler queueHandler;
+    private Response response;
+    private Blackhole blackhole;
+
+    @Setup
+    public void setup(Blackhole blackhole) {
+        this.blackhole = blackhole;
+        Map<String, Object> push =
+                Map.of(
+                        "kind",
+                        MessageHandler.PushKind.Message,
+                        "values",
+                        new Object[] {"channel".getBytes(StandardCharsets.UTF_8), new byte[messageSize]});
+        var resolver = new BaseResponseResolver(pointer -> push);
+        response = Response.newBuilder().setIsPush(true).setRespPointer(1).build();
+
+        callbackHandler =
+                new MessageHandler(Optional.of(this::consume), Optional.of(new Object()), resolver);
+        queueHandler = new MessageHandler(Optional.empty(), Optional.empty(), resolver);
+    }
+
+    private void consume(PubSubMessage message, Object context) {
+        blackhole.consume(message);
+    }
+
+    @Benchmark
+    public void handle_callback() throws MessageHandler.MessageCallbackException {
+        callbackHandler.handle(response);
+    }
+
+    @Benchmark
+    public PubSubMessage handle_queue() throws MessageHandler.MessageCallbackException {
+        queueHandler.handle(response);
+        return queueHandler.getQueue().popSync();
+    }
+}
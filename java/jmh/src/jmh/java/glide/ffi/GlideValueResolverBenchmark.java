@@ -0,0 +1,119 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.ffi;
+
+import glide.ffi.resolvers.GlideValueResolver;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for converting native values to Java objects. Every conversion consumes its native
+ * value, so a new value is leaked through the {@link FfiTest} hooks before every invocation. This
+ * requires the native library to be built with <code>--cfg ffi_test</code>.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GlideValueResolverBenchmark {
+
+    /** A bulk string of the given size in bytes. */
+    @State(Scope.Thread)
+    public static class BulkStringValue {
+        @Param({"16", "1024"})
+        public int size;
+
+        private byte[] value;
+        private long pointer;
+
+        @Setup
+        public void setup() {
+            value = new byte[size];
+        }
+
+        @Setup(Level.Invocation)
+        public void leak() {
+            pointer = FfiTest.createLeakedBulkString(value);
+        }
+    }
+
+    /** An array of integers with the given number of elements. */
+    @State(Scope.Thread)
+    public static class ArrayValue {
+        @Param({"16", "1024"})
+        public int size;
+
+        private long[] value;
+        private long pointer;
+
+        @Setup
+        public void setup() {
+            value = new long[size];
+            for (int i = 0; i < size; i++) {
+                value[i] = i;
+            }
+        }
+
+        @Setup(Level.Invocation)
+        public void leak() {
+            pointer = FfiTest.createLeakedLongArray(value);
+        }
+    }
+
+    /** A map of integers with the given number of entries. */
+    @State(Scope.Thread)
+    public static class MapValue {
+        @Param({"16", "1024"})
+        public int size;
+
+        private long[] keys;
+        private long[] values;
+        private long pointer;
+
+        @Setup
+        public void setup() {
+            keys = new long[size];
+            values = new long[size];
+            for (int i = 0; i < size; i++) {
+                keys[i] = i;
+                values[i] = -i;
+            }
+        }
+
+        @Setup(Level.Invocation)
+        public void leak() {
+            pointer = FfiTest.createLeakedMap(keys, values);
+        }
+    }
+
+    @Benchmark
+    public Object bulkString(BulkStringValue value) {
+        return GlideValueResolver.valueFromPointer(value.pointer);
+    }
+
+    @Benchmark
+    public Object bulkStringBinary(BulkStringValue value) {
+        return GlideValueResolver.valueFromPointerBinary(value.pointer);
+    }
+
+    @Benchmark
+    public Object array(ArrayValue value) {
+        return GlideValueResolver.valueFromPointer(value.pointer);
+    }
+
+    @Benchmark
+    public Object map(MapValue value) {
+        return GlideValueResolver.valueFromPointer(value.pointer);
+    }
+}
@@ -0,0 +1,98 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.managers;
+
+import static command_request.CommandRequestOuterClass.RequestType.MSet;
+import static command_request.CommandRequestOuterClass.RequestType.Set;
+import static glide.api.models.GlideString.gs;
+
+import command_request.CommandRequestOuterClass.Command;
+import command_request.CommandRequestOuterClass.CommandRequest;
+import glide.api.models.GlideString;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for building the protobuf request of a single command. The argument sizes stay below
+ * {@link glide.ffi.resolvers.GlideValueResolver#MAX_REQUEST_ARGS_LENGTH_IN_BYTES}, so the arguments
+ * are serialized into the request instead of being leaked to the native layer.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CommandManagerBenchmark {
+
+    /** The size of every value, in bytes. */
+    @Param({"16", "512"})
+    public int valueSize;
+
+    /** The number of key/value pairs in the multi-key command. */
+    @Param({"1", "4"})
+    public int pairs;
+
+    private CommandManager commandManager;
+    private String[] setArgs;
+    private GlideString[] binarySetArgs;
+    private String[] msetArgs;
+
+    @Setup
+    public void setup() {
+        // Preparing requests doesn't touch the channel
+        commandManager = new CommandManager(null);
+        char[] value = new char[valueSize];
+        Arrays.fill(value, 'v');
+        String valueString = new String(value);
+
+        setArgs = new String[] {"key", valueString};
+        binarySetArgs = new GlideString[] {gs("key"), gs(valueString)};
+        msetArgs = new String[pairs * 2];
+        for (int i = 0; i < pairs; i++) {
+            msetArgs[i * 2] = "key" + i;
+            msetArgs[i * 2 + 1] = valueString;
+        }
+    }
+
+    @Benchmark
+    public CommandRequest.Builder prepareCommandRequest_string() {
+        return commandManager.prepareCommandRequest(Set, setArgs);
+    }
+
+    @Benchmark
+    public CommandRequest.Builder prepareCommandRequest_glideString() {
+        return commandManager.prepareCommandRequest(Set, binarySetArgs);
+    }
+
+    @Benchmark
+    public CommandRequest.Builder prepareCommandRequest_multiKey() {
+        return commandManager.prepareCommandRequest(MSet, msetArgs);
+    }
+
+    @Benchmark
+    public Command.Builder populateCommandWithArgs() {
+        Command.Builder builder = Command.newBuilder();
+        CommandManager.populateCommandWithArgs(msetArgs, builder);
+        return builder;
+    }
+
+    @Benchmark
+    public byte[] serializeCommandRequest() {
+        return commandManager
+                .prepareCommandRequest(Set, setArgs)
+                .setCallbackIdx(1)
+                .build()
+                .toByteArray();
+    }
+}
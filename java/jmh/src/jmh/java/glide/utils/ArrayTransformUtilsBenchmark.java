@@ -0,0 +1,84 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.utils;
+
+import glide.api.models.GlideString;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the array casts applied to command responses and the conversions applied to
+ * command arguments.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ArrayTransformUtilsBenchmark {
+
+    /** The number of elements in the response or arguments. */
+    @Param({"10", "1000"})
+    public int size;
+
+    private Object[] stringResponse;
+    private Object[] nestedResponse;
+    private Map<String, Object[]> mapOfArraysResponse;
+    private Map<String, String> argumentsMap;
+
+    @Setup
+    public void setup() {
+        stringResponse = new Object[size];
+        nestedResponse = new Object[size];
+        mapOfArraysResponse = new LinkedHashMap<>();
+        argumentsMap = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            stringResponse[i] = "value" + i;
+            nestedResponse[i] = new Object[] {"field" + i, "value" + i};
+            mapOfArraysResponse.put("key" + i, new Object[] {"value" + i});
+            argumentsMap.put("key" + i, "value" + i);
+        }
+    }
+
+    @Benchmark
+    public String[] castArray() {
+        return ArrayTransformUtils.castArray(stringResponse, String.class);
+    }
+
+    @Benchmark
+    public String[][] castArrayofArrays() {
+        return ArrayTransformUtils.castArrayofArrays(nestedResponse, String.class);
+    }
+
+    @Benchmark
+    public Map<String, String[]> castMapOfArrays() {
+        return ArrayTransformUtils.castMapOfArrays(mapOfArraysResponse, String.class);
+    }
+
+    @Benchmark
+    public String[] convertMapToKeyValueStringArray() {
+        return ArrayTransformUtils.convertMapToKeyValueStringArray(argumentsMap);
+    }
+
+    @Benchmark
+    public GlideString[] flattenMapToGlideStringArray() {
+        return ArrayTransformUtils.flattenMapToGlideStringArray(argumentsMap);
+    }
+
+    @Benchmark
+    public GlideString[] toGlideStringArray() {
+        return ArrayTransformUtils.toGlideStringArray(stringResponse);
+    }
+}
@@ -0,0 +1,77 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.utils;
+
+import glide.api.models.GlideString;
+import glide.api.models.configuration.CompressionConfiguration;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the compression of string values, with JSON documents of growing sizes. The
+ * compression ratio is printed once per trial.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ValueCompressorBenchmark {
+
+    /** The size of the value, in bytes. */
+    @Param({"1024", "8192", "65536", "204800"})
+    public int size;
+
+    private ValueCompressor compressor;
+    private String value;
+    private GlideString encoded;
+
+    @Setup
+    public void setup() {
+        compressor = new ValueCompressor(CompressionConfiguration.builder().build());
+        Random random = new Random(0);
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; json.length() < size; i++) {
+            json.append(i == 0 ? "" : ",")
+                    .append("{\"id\":")
+                    .append(random.nextInt(1_000_000))
+                    .append(",\"name\":\"user")
+                    .append(random.nextInt(10_000))
+                    .append("\",\"active\":")
+                    .append(random.nextBoolean())
+                    .append(",\"tags\":[\"alpha\",\"beta\"]}");
+        }
+        value = json.substring(0, size - 1) + "]";
+        encoded = compressor.encode(value);
+    }
+
+    @TearDown(Level.Trial)
+    public void printRatio() {
+        System.out.printf(
+                "%nsize %d: compressed to %d bytes, ratio %.2f%n",
+                size, encoded.getBytes().length, (double) size / encoded.getBytes().length);
+    }
+
+    @Benchmark
+    public GlideString encode() {
+        return compressor.encode(value);
+    }
+
+    @Benchmark
+    public String decode() {
+        return compressor.decode(encoded);
+    }
+}
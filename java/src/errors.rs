@@ -10,6 +10,7 @@ pub enum FFIError {
     Uds(String),
     Utf8(FromUtf8Error),
     Logger(String),
+    Value(String),
 }
 
 impl From<jni::errors::Error> for FFIError {
@@ -31,6 +32,7 @@ impl std::fmt::Display for FFIError {
             FFIError::Uds(err) => write!(f, "{}", err),
             FFIError::Utf8(err) => write!(f, "{}", err),
             FFIError::Logger(err) => write!(f, "{}", err),
+            FFIError::Value(err) => write!(f, "{}", err),
         }
     }
 }
@@ -15,7 +15,7 @@ use glide_core::ZSET as TYPE_ZSET;
 
 use bytes::Bytes;
 use jni::errors::Error as JniError;
-use jni::objects::{JByteArray, JClass, JObject, JObjectArray, JString};
+use jni::objects::{JByteArray, JByteBuffer, JClass, JIntArray, JObject, JObjectArray, JString};
 use jni::sys::{jint, jlong, jsize};
 use jni::JNIEnv;
 use redis::Value;
@@ -242,6 +242,144 @@ pub extern "system" fn Java_glide_ffi_resolvers_GlideValueResolver_createLeakedB
     .unwrap_or(0)
 }
 
+/// Creates a leaked vector of byte arrays representing the args and returns a handle to it, like
+/// `createLeakedBytesVec`, but also accepts direct `ByteBuffer`s. Their content is copied straight
+/// from native memory, without a copy to the Java heap.
+///
+/// This function is meant to be invoked by Java using JNI.
+///
+/// * `env`     - The JNI environment.
+/// * `_class`  - The class object. Not used.
+/// * `args`    - The arguments. This should be an Object[] of byte[] and direct ByteBuffer, whose
+///               content spans their whole capacity.
+#[no_mangle]
+pub extern "system" fn Java_glide_ffi_resolvers_GlideValueResolver_createLeakedBytesVecFromBuffers<
+    'local,
+>(
+    mut env: JNIEnv<'local>,
+    _class: JClass<'local>,
+    args: JObjectArray<'local>,
+) -> jlong {
+    handle_panics(
+        move || {
+            fn create_leaked_bytes_vec_from_buffers<'a>(
+                env: &mut JNIEnv<'a>,
+                args: JObjectArray<'a>,
+            ) -> Result<jlong, FFIError> {
+                let num_elements = env.get_array_length(&args)?;
+                let mut bytes_vec = Vec::with_capacity(num_elements as usize);
+
+                for index in 0..num_elements {
+                    let value = env.get_object_array_element(&args, index as jsize)?;
+                    if env.is_instance_of(&value, "java/nio/ByteBuffer")? {
+                        let buffer = JByteBuffer::from(value);
+                        let address = env.get_direct_buffer_address(&buffer)?;
+                        let capacity = env.get_direct_buffer_capacity(&buffer)?;
+                        let data = unsafe { std::slice::from_raw_parts(address, capacity) };
+                        bytes_vec.push(Bytes::copy_from_slice(data));
+                    } else {
+                        bytes_vec.push(Bytes::from(
+                            env.convert_byte_array(JByteArray::from(value))?,
+                        ));
+                    }
+                }
+                Ok(Box::leak(Box::new(bytes_vec)) as *mut Vec<Bytes> as jlong)
+            }
+            let result = create_leaked_bytes_vec_from_buffers(&mut env, args);
+            handle_errors(&mut env, result)
+        },
+        "createLeakedBytesVecFromBuffers",
+    )
+    .unwrap_or(0)
+}
+
+/// Moves the data of a string value received from Valkey to a native buffer and returns a handle
+/// to it. The buffer must be released with `releaseBytes`.
+///
+/// This function is meant to be invoked by Java using JNI.
+///
+/// * `env`     - The JNI environment.
+/// * `_class`  - The class object. Not used.
+/// * `pointer` - A pointer to the value. The value is consumed.
+#[no_mangle]
+pub extern "system" fn Java_glide_ffi_resolvers_GlideValueResolver_bytesFromPointer<'local>(
+    mut env: JNIEnv<'local>,
+    _class: JClass<'local>,
+    pointer: jlong,
+) -> jlong {
+    handle_panics(
+        move || {
+            fn bytes_from_pointer(pointer: jlong) -> Result<jlong, FFIError> {
+                let value = unsafe { Box::from_raw(pointer as *mut Value) };
+                let bytes = match *value {
+                    Value::BulkString(data) => data,
+                    Value::SimpleString(data) => data.into_bytes(),
+                    Value::VerbatimString { format: _, text } => text.into_bytes(),
+                    value => {
+                        return Err(FFIError::Value(format!(
+                            "Expected a string value, got {value:?}"
+                        )))
+                    }
+                };
+                Ok(Box::leak(Box::new(bytes)) as *mut Vec<u8> as jlong)
+            }
+            let result = bytes_from_pointer(pointer);
+            handle_errors(&mut env, result)
+        },
+        "bytesFromPointer",
+    )
+    .unwrap_or(0)
+}
+
+/// Creates a direct `ByteBuffer` over a native buffer created by `bytesFromPointer`. The
+/// `ByteBuffer` must not be used once the native buffer is released.
+///
+/// This function is meant to be invoked by Java using JNI.
+///
+/// * `env`     - The JNI environment.
+/// * `_class`  - The class object. Not used.
+/// * `handle`  - The handle of the native buffer.
+#[no_mangle]
+pub extern "system" fn Java_glide_ffi_resolvers_GlideValueResolver_directBufferFromBytes<'local>(
+    mut env: JNIEnv<'local>,
+    _class: JClass<'local>,
+    handle: jlong,
+) -> JObject<'local> {
+    handle_panics(
+        move || {
+            fn direct_buffer_from_bytes<'a>(
+                env: &mut JNIEnv<'a>,
+                handle: jlong,
+            ) -> Result<JObject<'a>, FFIError> {
+                let bytes = unsafe { &mut *(handle as *mut Vec<u8>) };
+                let buffer =
+                    unsafe { env.new_direct_byte_buffer(bytes.as_mut_ptr(), bytes.len())? };
+                Ok(JObject::from(buffer))
+            }
+            let result = direct_buffer_from_bytes(&mut env, handle);
+            handle_errors(&mut env, result)
+        },
+        "directBufferFromBytes",
+    )
+    .unwrap_or(JObject::null())
+}
+
+/// Releases a native buffer created by `bytesFromPointer`.
+///
+/// This function is meant to be invoked by Java using JNI.
+///
+/// * `_env`    - The JNI environment. Not used.
+/// * `_class`  - The class object. Not used.
+/// * `handle`  - The handle of the native buffer.
+#[no_mangle]
+pub extern "system" fn Java_glide_ffi_resolvers_GlideValueResolver_releaseBytes<'local>(
+    _env: JNIEnv<'local>,
+    _class: JClass<'local>,
+    handle: jlong,
+) {
+    drop(unsafe { Box::from_raw(handle as *mut Vec<u8>) });
+}
+
 /// Returns the maximum total length in bytes of request arguments.
 ///
 /// This function is meant to be invoked by Java using JNI. This is used to ensure
@@ -405,6 +543,63 @@ pub extern "system" fn Java_glide_ffi_resolvers_LoggerResolver_logInternal<'loca
     .unwrap_or(())
 }
 
+/// Logs a batch of records collected by the asynchronous Java logger.
+///
+/// This function is meant to be invoked by Java using JNI.
+///
+/// * `env`             - The JNI environment.
+/// * `_class`          - The class object. Not used.
+/// * `levels`          - The levels of the records.
+/// * `log_identifiers` - The identifiers of the records.
+/// * `messages`        - The messages of the records.
+/// * `count`           - The number of records to log, starting from the beginning of the arrays.
+#[no_mangle]
+pub extern "system" fn Java_glide_ffi_resolvers_LoggerResolver_logBatchInternal<'local>(
+    mut env: JNIEnv<'local>,
+    _class: JClass<'local>,
+    levels: JIntArray<'local>,
+    log_identifiers: JObjectArray<'local>,
+    messages: JObjectArray<'local>,
+    count: jint,
+) {
+    handle_panics(
+        move || {
+            fn log_batch_internal(
+                env: &mut JNIEnv<'_>,
+                levels: JIntArray<'_>,
+                log_identifiers: JObjectArray<'_>,
+                messages: JObjectArray<'_>,
+                count: jint,
+            ) -> Result<(), FFIError> {
+                let mut level_values = vec![0; count.max(0) as usize];
+                env.get_int_array_region(&levels, 0, &mut level_values)?;
+                for (index, level) in level_values.into_iter().enumerate() {
+                    let log_identifier = JString::from(
+                        env.get_object_array_element(&log_identifiers, index as jsize)?,
+                    );
+                    let message =
+                        JString::from(env.get_object_array_element(&messages, index as jsize)?);
+                    let log_identifier_value: String = env.get_string(&log_identifier)?.into();
+                    let message_value: String = env.get_string(&message)?.into();
+                    // Release the local references eagerly, a batch may hold many records.
+                    env.delete_local_ref(log_identifier)?;
+                    env.delete_local_ref(message)?;
+                    logger_core::log(
+                        Level(level).try_into()?,
+                        log_identifier_value,
+                        message_value,
+                    );
+                }
+                Ok(())
+            }
+            let result = log_batch_internal(&mut env, levels, log_identifiers, messages, count);
+            handle_errors(&mut env, result)
+        },
+        "logBatchInternal",
+    )
+    .unwrap_or(())
+}
+
 #[no_mangle]
 pub extern "system" fn Java_glide_ffi_resolvers_LoggerResolver_initInternal<'local>(
     mut env: JNIEnv<'local>,